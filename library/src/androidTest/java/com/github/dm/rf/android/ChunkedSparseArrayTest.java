@@ -0,0 +1,103 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android;
+
+import android.test.AndroidTestCase;
+import android.util.SparseArray;
+
+import com.github.dm.rf.android.collection.ChunkedSparseArray;
+import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.v18.SparseCollections;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for {@link com.github.dm.rf.android.collection.ChunkedSparseArray} class.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public class ChunkedSparseArrayTest extends AndroidTestCase {
+
+    private ChunkedSparseArray<String> mArray;
+
+    public void testIterate() {
+
+        assertThat(SparseCollections.iterate(mArray).only().to(1).values()).containsExactly("0",
+                                                                                          "1");
+
+        final ChunkedSparseArray<String> clone = mArray.clone();
+
+        SparseCollections.iterate(mArray).only().last(2).remove();
+        mArray.setValueAt(0, "a");
+        mArray.removeAtRange(1, 1);
+
+        assertThat(SparseCollections.iterate(mArray).toImmutableList()).containsExactly(
+                SparseEntries.entry(0, "a"), SparseEntries.entry(2, "2"));
+        assertThat(mArray.toString()).isEqualTo("{0=a, 2=2}");
+        assertThat(SparseCollections.iterate(clone).toImmutableList()).containsExactly(
+                SparseEntries.entry(0, "0"), SparseEntries.entry(1, "1"),
+                SparseEntries.entry(2, "2"), SparseEntries.entry(3, "3"),
+                SparseEntries.entry(4, "4"));
+    }
+
+    public void testRandom() {
+
+        final Random random = new Random(41);
+
+        final ChunkedSparseArray<Integer> array = new ChunkedSparseArray<Integer>();
+
+        final SparseArray<Integer> reference = new SparseArray<Integer>();
+
+        for (int i = 0; i < 30000; i++) {
+
+            final int key = random.nextInt(8000);
+
+            if (random.nextInt(3) == 0) {
+
+                array.remove(key);
+                reference.remove(key);
+
+            } else {
+
+                array.put(key, i);
+                reference.put(key, i);
+            }
+        }
+
+        assertThat(SparseCollections.iterate(array).isEqualTo(reference)).isTrue();
+
+        final Integer value = array.valueAt(reference.size() / 2);
+
+        assertThat(array.indexOfValue(value)).isEqualTo(reference.size() / 2);
+        assertThat(array.get(-1)).isNull();
+        assertThat(array.get(-1, 3)).isEqualTo(3);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+
+        super.setUp();
+
+        final ChunkedSparseArray<String> array = new ChunkedSparseArray<String>();
+
+        for (int i = 0; i < 5; i++) {
+
+            array.append(i, String.valueOf(i));
+        }
+
+        mArray = array;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android;
+
+import android.test.AndroidTestCase;
+import android.util.SparseIntArray;
+
+import com.github.dm.rf.android.collection.ChunkedSparseIntArray;
+import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.v18.SparseCollections;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for {@link com.github.dm.rf.android.collection.ChunkedSparseIntArray} class.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public class ChunkedSparseIntArrayTest extends AndroidTestCase {
+
+    private ChunkedSparseIntArray mArray;
+
+    public void testAppend() {
+
+        final ChunkedSparseIntArray array = new ChunkedSparseIntArray();
+
+        for (int i = 0; i < 100000; i++) {
+
+            array.append(i * 2, i);
+        }
+
+        array.append(7, -1);
+
+        assertThat(array.size()).isEqualTo(100001);
+        assertThat(array.keyAt(4)).isEqualTo(7);
+        assertThat(array.valueAt(4)).isEqualTo(-1);
+        assertThat(array.keyAt(99999)).isEqualTo(199996);
+        assertThat(array.indexOfKey(199998)).isEqualTo(100000);
+        assertThat(array.indexOfKey(199999)).isEqualTo(~100001);
+        assertThat(array.indexOfValue(5)).isEqualTo(6);
+        assertThat(SparseCollections.iterate(array).only().keyRange(6, 9).toImmutableList())
+                .containsExactly(SparseEntries.entry(6, 3), SparseEntries.entry(7, -1),
+                                 SparseEntries.entry(8, 4));
+
+        try {
+
+            array.keyAt(100001);
+
+            fail();
+
+        } catch (final ArrayIndexOutOfBoundsException e) {
+
+        }
+    }
+
+    public void testClone() {
+
+        final ChunkedSparseIntArray clone = mArray.clone();
+
+        clone.put(5, 5);
+        mArray.delete(0);
+        mArray.put(1, 11);
+
+        assertThat(SparseCollections.iterate(clone).toImmutableList()).containsExactly(
+                SparseEntries.entry(0, 0), SparseEntries.entry(1, 1), SparseEntries.entry(2, 2),
+                SparseEntries.entry(3, 3), SparseEntries.entry(4, 4), SparseEntries.entry(5, 5));
+        assertThat(SparseCollections.iterate(mArray).toImmutableList()).containsExactly(
+                SparseEntries.entry(1, 11), SparseEntries.entry(2, 2), SparseEntries.entry(3, 3),
+                SparseEntries.entry(4, 4));
+        assertThat(mArray.toString()).isEqualTo("{1=11, 2=2, 3=3, 4=4}");
+    }
+
+    public void testIterate() {
+
+        assertThat(SparseCollections.iterate(mArray).values().sum()).isEqualTo(10);
+        assertThat(SparseCollections.iterate(mArray).only().from(3).reverse().keys())
+                .containsExactly(4, 3);
+
+        SparseCollections.iterate(mArray).only().first(2).remove();
+
+        assertThat(SparseCollections.iterate(mArray).keys()).containsExactly(2, 3, 4);
+
+        final ChunkedSparseIntArray array = new ChunkedSparseIntArray();
+
+        SparseCollections.iterate(mArray).reverse().putInto(array);
+
+        assertThat(SparseCollections.iterate(array).isEqualTo(mArray)).isTrue();
+
+        mArray.clear();
+
+        assertThat(mArray.size()).isZero();
+        assertThat(mArray.toString()).isEqualTo("{}");
+    }
+
+    public void testRandom() {
+
+        final Random random = new Random(23);
+
+        final ChunkedSparseIntArray array = new ChunkedSparseIntArray();
+
+        final SparseIntArray reference = new SparseIntArray();
+
+        for (int i = 0; i < 50000; i++) {
+
+            final int key = random.nextInt(10000);
+
+            final int operation = random.nextInt(4);
+
+            if (operation == 0) {
+
+                array.delete(key);
+                reference.delete(key);
+
+            } else if ((operation == 1) && (reference.size() > 0)) {
+
+                final int index = random.nextInt(reference.size());
+
+                array.removeAt(index);
+                reference.removeAt(index);
+
+            } else {
+
+                array.put(key, i);
+                reference.put(key, i);
+            }
+        }
+
+        assertThat(SparseCollections.iterate(array).isEqualTo(reference)).isTrue();
+
+        for (int i = 0; i < reference.size(); i++) {
+
+            assertThat(array.indexOfKey(reference.keyAt(i))).isEqualTo(i);
+            assertThat(array.get(reference.keyAt(i))).isEqualTo(reference.valueAt(i));
+        }
+
+        assertThat(array.get(-1, -2)).isEqualTo(-2);
+        assertThat(array.indexOfKey(-1)).isEqualTo(~0);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+
+        super.setUp();
+
+        final ChunkedSparseIntArray array = new ChunkedSparseIntArray();
+
+        for (int i = 0; i < 5; i++) {
+
+            array.append(i, i);
+        }
+
+        mArray = array;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android;
+
+import android.test.AndroidTestCase;
+import android.util.SparseArray;
+
+import com.github.dm.rf.android.collection.ImmutableSparseArray;
+import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.v18.SparseCollections;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for {@link com.github.dm.rf.android.collection.ImmutableSparseArray} class.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public class ImmutableSparseArrayTest extends AndroidTestCase {
+
+    private ImmutableSparseArray<String> mArray;
+
+    public void testIterate() {
+
+        assertThat(SparseCollections.iterate(mArray).toImmutableList()).containsExactly(
+                SparseEntries.entry(0, "0"), SparseEntries.entry(1, "1"),
+                SparseEntries.entry(2, "2"), SparseEntries.entry(3, "3"),
+                SparseEntries.entry(4, "4"));
+        assertThat(SparseCollections.iterate(mArray).only().to(1).values()).containsExactly("0",
+                                                                                          "1");
+        assertThat(mArray.toString()).isEqualTo("{0=0, 1=1, 2=2, 3=3, 4=4}");
+
+        try {
+
+            SparseCollections.iterate(mArray).only().first(1).remove();
+
+            fail();
+
+        } catch (final UnsupportedOperationException e) {
+
+        }
+
+        try {
+
+            mArray.setValueAt(0, "a");
+
+            fail();
+
+        } catch (final UnsupportedOperationException e) {
+
+        }
+
+        try {
+
+            mArray.remove(0);
+
+            fail();
+
+        } catch (final UnsupportedOperationException e) {
+
+        }
+
+        assertThat(mArray.size()).isEqualTo(5);
+    }
+
+    public void testVersions() {
+
+        final String value = "3";
+
+        final ImmutableSparseArray<String> array =
+                mArray.with(7, "7").with(2, "22").without(0).with(3, value);
+
+        assertThat(SparseCollections.iterate(array).toImmutableList()).containsExactly(
+                SparseEntries.entry(1, "1"), SparseEntries.entry(2, "22"),
+                SparseEntries.entry(3, "3"), SparseEntries.entry(4, "4"),
+                SparseEntries.entry(7, "7"));
+        assertThat(array.with(3, value)).isSameAs(array);
+        assertThat(array.indexOfValue(value)).isEqualTo(2);
+        assertThat(array.get(0)).isNull();
+        assertThat(array.get(0, "none")).isEqualTo("none");
+        assertThat(mArray.get(0)).isEqualTo("0");
+        assertThat(ImmutableSparseArray.from(array)).isSameAs(array);
+
+        final Random random = new Random(31);
+
+        final ArrayList<ImmutableSparseArray<Integer>> history =
+                new ArrayList<ImmutableSparseArray<Integer>>();
+
+        final ArrayList<SparseArray<Integer>> expected = new ArrayList<SparseArray<Integer>>();
+
+        ImmutableSparseArray<Integer> current = ImmutableSparseArray.empty();
+
+        final SparseArray<Integer> reference = new SparseArray<Integer>();
+
+        for (int i = 0; i < 10000; i++) {
+
+            final int key = random.nextInt(3000);
+
+            if (random.nextInt(3) == 0) {
+
+                current = current.without(key);
+                reference.delete(key);
+
+            } else {
+
+                current = current.with(key, i);
+                reference.put(key, i);
+            }
+
+            if ((i % 500) == 0) {
+
+                history.add(current);
+                expected.add(reference.clone());
+            }
+        }
+
+        assertThat(SparseCollections.iterate(current).isEqualTo(reference)).isTrue();
+        assertThat(SparseCollections.iterate(ImmutableSparseArray.from(reference))
+                                    .isEqualTo(reference)).isTrue();
+
+        for (int i = 0; i < history.size(); i++) {
+
+            assertThat(SparseCollections.iterate(history.get(i)).isEqualTo(expected.get(i)))
+                    .isTrue();
+        }
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+
+        super.setUp();
+
+        ImmutableSparseArray<String> array = ImmutableSparseArray.empty();
+
+        for (int i = 0; i < 5; i++) {
+
+            array = array.with(i, String.valueOf(i));
+        }
+
+        mArray = array;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,241 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android;
+
+import android.test.AndroidTestCase;
+import android.util.SparseIntArray;
+
+import com.github.dm.rf.android.collection.ImmutableSparseIntArray;
+import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.v18.SparseCollections;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for {@link com.github.dm.rf.android.collection.ImmutableSparseIntArray} class.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public class ImmutableSparseIntArrayTest extends AndroidTestCase {
+
+    private ImmutableSparseIntArray mArray;
+
+    public void testFrom() {
+
+        final SparseIntArray array = new SparseIntArray();
+
+        for (int i = 0; i < 1000; i++) {
+
+            array.append(i * 3, i);
+        }
+
+        final ImmutableSparseIntArray immutable = ImmutableSparseIntArray.from(array);
+
+        assertThat(immutable.size()).isEqualTo(1000);
+        assertThat(immutable.keyAt(500)).isEqualTo(1500);
+        assertThat(immutable.valueAt(500)).isEqualTo(500);
+        assertThat(immutable.indexOfKey(1501)).isEqualTo(~501);
+        assertThat(immutable.indexOfValue(999)).isEqualTo(999);
+        assertThat(SparseCollections.iterate(immutable).isEqualTo(array)).isTrue();
+        assertThat(ImmutableSparseIntArray.from(immutable)).isSameAs(immutable);
+        assertThat(ImmutableSparseIntArray.from(new SparseIntArray())).isSameAs(
+                ImmutableSparseIntArray.empty());
+        assertThat(ImmutableSparseIntArray.empty().toString()).isEqualTo("{}");
+        assertThat(mArray.toString()).isEqualTo("{0=0, 1=1, 2=2, 3=3, 4=4}");
+
+        try {
+
+            ImmutableSparseIntArray.from(null);
+
+            fail();
+
+        } catch (final IllegalArgumentException e) {
+
+        }
+    }
+
+    public void testIterate() {
+
+        assertThat(SparseCollections.iterate(mArray).toImmutableList()).containsExactly(
+                SparseEntries.entry(0, 0), SparseEntries.entry(1, 1), SparseEntries.entry(2, 2),
+                SparseEntries.entry(3, 3), SparseEntries.entry(4, 4));
+        assertThat(SparseCollections.iterate(mArray).only().from(2).reverse().keys())
+                .containsExactly(4, 3, 2);
+        assertThat(SparseCollections.iterate(mArray).values().sum()).isEqualTo(10);
+
+        try {
+
+            SparseCollections.iterate(mArray).only().first(1).remove();
+
+            fail();
+
+        } catch (final UnsupportedOperationException e) {
+
+        }
+
+        assertThat(mArray.size()).isEqualTo(5);
+    }
+
+    public void testUnsupported() {
+
+        final ArrayList<Runnable> mutators = new ArrayList<Runnable>();
+
+        mutators.add(new Runnable() {
+
+            @Override
+            public void run() {
+
+                mArray.append(5, 5);
+            }
+        });
+        mutators.add(new Runnable() {
+
+            @Override
+            public void run() {
+
+                mArray.clear();
+            }
+        });
+        mutators.add(new Runnable() {
+
+            @Override
+            public void run() {
+
+                mArray.delete(1);
+            }
+        });
+        mutators.add(new Runnable() {
+
+            @Override
+            public void run() {
+
+                mArray.put(1, 3);
+            }
+        });
+        mutators.add(new Runnable() {
+
+            @Override
+            public void run() {
+
+                mArray.removeAt(1);
+            }
+        });
+
+        for (final Runnable mutator : mutators) {
+
+            try {
+
+                mutator.run();
+
+                fail();
+
+            } catch (final UnsupportedOperationException e) {
+
+            }
+        }
+
+        assertThat(mArray.clone()).isSameAs(mArray);
+        assertThat(mArray.size()).isEqualTo(5);
+    }
+
+    public void testVersions() {
+
+        final ImmutableSparseIntArray array = mArray.with(7, 7).with(2, 22).without(0);
+
+        assertThat(SparseCollections.iterate(array).toImmutableList()).containsExactly(
+                SparseEntries.entry(1, 1), SparseEntries.entry(2, 22), SparseEntries.entry(3, 3),
+                SparseEntries.entry(4, 4), SparseEntries.entry(7, 7));
+        assertThat(SparseCollections.iterate(mArray).toImmutableList()).containsExactly(
+                SparseEntries.entry(0, 0), SparseEntries.entry(1, 1), SparseEntries.entry(2, 2),
+                SparseEntries.entry(3, 3), SparseEntries.entry(4, 4));
+        assertThat(mArray.with(3, 3)).isSameAs(mArray);
+        assertThat(mArray.without(5)).isSameAs(mArray);
+        assertThat(array.get(2)).isEqualTo(22);
+        assertThat(array.get(0)).isEqualTo(0);
+        assertThat(array.get(0, -1)).isEqualTo(-1);
+
+        final Random random = new Random(17);
+
+        final ArrayList<ImmutableSparseIntArray> history = new ArrayList<ImmutableSparseIntArray>();
+
+        final ArrayList<SparseIntArray> expected = new ArrayList<SparseIntArray>();
+
+        ImmutableSparseIntArray current = ImmutableSparseIntArray.empty();
+
+        final SparseIntArray reference = new SparseIntArray();
+
+        for (int i = 0; i < 20000; i++) {
+
+            final int key = random.nextInt(5000);
+
+            if (random.nextInt(3) == 0) {
+
+                current = current.without(key);
+                reference.delete(key);
+
+            } else {
+
+                current = current.with(key, i);
+                reference.put(key, i);
+            }
+
+            if ((i % 1000) == 0) {
+
+                history.add(current);
+                expected.add(reference.clone());
+            }
+        }
+
+        assertThat(SparseCollections.iterate(current).isEqualTo(reference)).isTrue();
+
+        for (int i = 0; i < history.size(); i++) {
+
+            assertThat(SparseCollections.iterate(history.get(i)).isEqualTo(expected.get(i)))
+                    .isTrue();
+        }
+
+        for (int i = 0; i < reference.size(); i++) {
+
+            assertThat(current.indexOfKey(reference.keyAt(i))).isEqualTo(i);
+        }
+
+        assertThat(current.indexOfKey(-1)).isEqualTo(~0);
+        assertThat(current.indexOfKey(5000)).isEqualTo(~reference.size());
+
+        for (int i = 0; i < 5000; i++) {
+
+            current = current.without(i);
+        }
+
+        assertThat(current.size()).isZero();
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+
+        super.setUp();
+
+        ImmutableSparseIntArray array = ImmutableSparseIntArray.empty();
+
+        for (int i = 0; i < 5; i++) {
+
+            array = array.with(i, i);
+        }
+
+        mArray = array;
+    }
+}
\ No newline at end of file
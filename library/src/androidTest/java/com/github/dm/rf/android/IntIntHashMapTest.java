@@ -0,0 +1,199 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android;
+
+import android.test.AndroidTestCase;
+import android.util.SparseIntArray;
+
+import com.github.dm.rf.android.collection.IntIntHashMap;
+import com.github.dm.rf.android.entry.IntIntHashMapEntry;
+import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.v18.SparseCollections;
+
+import java.util.HashMap;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for {@link com.github.dm.rf.android.collection.IntIntHashMap} class.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public class IntIntHashMapTest extends AndroidTestCase {
+
+    private IntIntHashMap mMap;
+
+    public void testClone() {
+
+        final IntIntHashMap clone = mMap.clone();
+
+        clone.put(5, 5);
+        mMap.delete(0);
+        mMap.put(1, 11);
+
+        assertThat(SparseCollections.iterate(clone).toImmutableList()).containsExactly(
+                SparseEntries.entry(0, 0), SparseEntries.entry(1, 1), SparseEntries.entry(2, 2),
+                SparseEntries.entry(3, 3), SparseEntries.entry(4, 4), SparseEntries.entry(5, 5));
+        assertThat(SparseCollections.iterate(mMap).toImmutableList()).containsExactly(
+                SparseEntries.entry(4, 4), SparseEntries.entry(1, 11), SparseEntries.entry(2, 2),
+                SparseEntries.entry(3, 3));
+        assertThat(mMap.toString()).isEqualTo("{4=4, 1=11, 2=2, 3=3}");
+    }
+
+    public void testFrom() {
+
+        final SparseIntArray array = new SparseIntArray();
+
+        for (int i = 0; i < 100; i++) {
+
+            array.append(i * 3, -i);
+        }
+
+        final IntIntHashMap map = IntIntHashMap.from(array);
+
+        assertThat(map.size()).isEqualTo(100);
+        assertThat(map.get(297)).isEqualTo(-99);
+        assertThat(map.get(298, 7)).isEqualTo(7);
+        assertThat(SparseCollections.iterate(map).isEqualTo(array)).isTrue();
+
+        try {
+
+            IntIntHashMap.from(null);
+
+            fail();
+
+        } catch (final IllegalArgumentException e) {
+
+        }
+    }
+
+    public void testIterate() {
+
+        assertThat(SparseCollections.iterate(mMap).values().sum()).isEqualTo(10);
+        assertThat(SparseCollections.iterate(mMap).only().key(3).toImmutableList())
+                .containsExactly(SparseEntries.entry(3, 3));
+        assertThat(SparseCollections.iterate(mMap).only().key(7).toImmutableList()).isEmpty();
+        assertThat(SparseCollections.iterate(mMap).only().keys(4, 1).reverse().keys())
+                .containsExactly(4, 1);
+        assertThat(SparseCollections.iterate(mMap).containsAllKeys(0, 2, 4)).isTrue();
+        assertThat(SparseCollections.iterate(mMap).containsAnyKey(5, 6)).isFalse();
+        assertThat(SparseCollections.iterate(mMap).reverse().positionOfKey(1)).isEqualTo(3);
+
+        for (final IntIntHashMapEntry entry : SparseCollections.iterate(mMap)) {
+
+            entry.setValue(entry.getValue() * 10);
+        }
+
+        assertThat(mMap.get(4)).isEqualTo(40);
+
+        SparseCollections.iterate(mMap).only().value(10).remove();
+
+        assertThat(SparseCollections.iterate(mMap).keys()).containsExactly(0, 4, 2, 3);
+
+        SparseCollections.iterate(mMap).only().keys(0, 2).retain();
+
+        assertThat(SparseCollections.iterate(mMap).keys()).containsExactly(0, 2);
+
+        final IntIntHashMap map = new IntIntHashMap();
+
+        SparseCollections.iterate(mMap).reverse().putInto(map);
+
+        assertThat(map.toString()).isEqualTo("{2=20, 0=0}");
+    }
+
+    public void testRandom() {
+
+        final Random random = new Random(23);
+
+        final IntIntHashMap map = new IntIntHashMap();
+
+        final HashMap<Integer, Integer> reference = new HashMap<Integer, Integer>();
+
+        for (int i = 0; i < 50000; i++) {
+
+            final int key = random.nextInt(10000) - 5000;
+
+            final int operation = random.nextInt(4);
+
+            if (operation == 0) {
+
+                map.delete(key);
+                reference.remove(key);
+
+            } else if ((operation == 1) && (map.size() > 0)) {
+
+                final int index = random.nextInt(map.size());
+
+                reference.remove(map.keyAt(index));
+                map.removeAt(index);
+
+            } else {
+
+                map.put(key, i);
+                reference.put(key, i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(reference.size());
+        assertThat(SparseCollections.iterate(map).isEqualTo(reference)).isTrue();
+
+        for (final Entry<Integer, Integer> entry : reference.entrySet()) {
+
+            final int index = map.indexOfKey(entry.getKey());
+
+            assertThat(map.keyAt(index)).isEqualTo(entry.getKey());
+            assertThat(map.valueAt(index)).isEqualTo(entry.getValue());
+        }
+
+        assertThat(map.indexOfKey(5001)).isEqualTo(-1);
+        assertThat(map.get(5001, -2)).isEqualTo(-2);
+    }
+
+    public void testToSparseArray() {
+
+        final IntIntHashMap map = new IntIntHashMap();
+
+        map.put(7, 1);
+        map.put(-3, 2);
+        map.put(Integer.MIN_VALUE, 3);
+        map.put(0, 4);
+        map.put(Integer.MAX_VALUE, 5);
+
+        final SparseIntArray array = SparseCollections.iterate(map).toSparseArray();
+
+        assertThat(SparseCollections.iterate(array).keys()).containsExactly(Integer.MIN_VALUE, -3,
+                                                                           0, 7,
+                                                                           Integer.MAX_VALUE);
+        assertThat(SparseCollections.iterate(array).values()).containsExactly(3, 2, 4, 1, 5);
+        assertThat(SparseCollections.iterate(map).only().value(4).toSparseArray().size())
+                .isEqualTo(1);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+
+        super.setUp();
+
+        final IntIntHashMap map = new IntIntHashMap();
+
+        for (int i = 0; i < 5; i++) {
+
+            map.put(i, i);
+        }
+
+        mMap = map;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android;
+
+import android.test.AndroidTestCase;
+
+import com.github.dm.rf.android.collection.LongLongHashMap;
+import com.github.dm.rf.android.entry.LongLongHashMapEntry;
+import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.v18.SparseCollections;
+
+import java.util.HashMap;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for {@link com.github.dm.rf.android.collection.LongLongHashMap} class.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public class LongLongHashMapTest extends AndroidTestCase {
+
+    private LongLongHashMap mMap;
+
+    public void testClone() {
+
+        final LongLongHashMap clone = mMap.clone();
+
+        clone.put(5, 5);
+        mMap.delete(0);
+        mMap.put(1L << 40, 11);
+
+        assertThat(clone.size()).isEqualTo(6);
+        assertThat(clone.get(1L << 40)).isEqualTo(1);
+        assertThat(SparseCollections.iterate(mMap).toImmutableList()).containsExactly(
+                SparseEntries.entry(4L << 40, 4L), SparseEntries.entry(1L << 40, 11L),
+                SparseEntries.entry(2L << 40, 2L), SparseEntries.entry(3L << 40, 3L));
+    }
+
+    public void testIterate() {
+
+        assertThat(SparseCollections.iterate(mMap).values().sum()).isEqualTo(10);
+        assertThat(SparseCollections.iterate(mMap).only().key(3L << 40).toImmutableList())
+                .containsExactly(SparseEntries.entry(3L << 40, 3L));
+        assertThat(SparseCollections.iterate(mMap).only().key(3).toImmutableList()).isEmpty();
+        assertThat(SparseCollections.iterate(mMap).containsAllValues(0, 4)).isTrue();
+
+        for (final LongLongHashMapEntry entry : SparseCollections.iterate(mMap)) {
+
+            entry.setValue(-entry.getValue());
+        }
+
+        assertThat(mMap.get(2L << 40)).isEqualTo(-2);
+
+        SparseCollections.iterate(mMap).only().first(2).remove();
+
+        assertThat(SparseCollections.iterate(mMap).values()).containsExactly(-3L, -4L, -2L);
+        assertThat(SparseCollections.iterate(mMap).only().value(-4).toParcelableList())
+                .containsExactly(SparseEntries.parcelableEntry(4L << 40, -4L));
+    }
+
+    public void testRandom() {
+
+        final Random random = new Random(29);
+
+        final LongLongHashMap map = new LongLongHashMap();
+
+        final HashMap<Long, Long> reference = new HashMap<Long, Long>();
+
+        for (int i = 0; i < 50000; i++) {
+
+            final long key = (random.nextInt(10000) - 5000) * 0x100000001L;
+
+            final int operation = random.nextInt(4);
+
+            if (operation == 0) {
+
+                map.delete(key);
+                reference.remove(key);
+
+            } else if ((operation == 1) && (map.size() > 0)) {
+
+                final int index = random.nextInt(map.size());
+
+                reference.remove(map.keyAt(index));
+                map.removeAt(index);
+
+            } else {
+
+                map.put(key, i);
+                reference.put(key, (long) i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(reference.size());
+        assertThat(SparseCollections.iterate(map).isEqualTo(reference)).isTrue();
+
+        for (final Entry<Long, Long> entry : reference.entrySet()) {
+
+            final int index = map.indexOfKey(entry.getKey());
+
+            assertThat(map.keyAt(index)).isEqualTo(entry.getKey());
+            assertThat(map.valueAt(index)).isEqualTo(entry.getValue());
+        }
+
+        assertThat(map.indexOfKey(1)).isEqualTo(-1);
+        assertThat(map.get(1, -2)).isEqualTo(-2);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+
+        super.setUp();
+
+        final LongLongHashMap map = new LongLongHashMap();
+
+        for (int i = 0; i < 5; i++) {
+
+            map.put((long) i << 40, i);
+        }
+
+        mMap = map;
+    }
+}
\ No newline at end of file
@@ -161,6 +161,20 @@ public class LongSparseArrayTest extends AndroidTestCase {
                 SparseCollections.iterate(mArray).but().to(2).containsAnyKey(Arrays.asList(2L, 3L)))
                 .isTrue();
 
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 0, 4, 2)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 7, 0)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7, 3)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAllKeys(Arrays.asList(3L, 1L))).isTrue();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAnyKey(Arrays.asList(9L, 5L))).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().containsKey(7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().positionOfKey(7)).isEqualTo(-1);
+        assertThat(SparseCollections.iterate(mArray).reverse().indexOfKey(7)).isEqualTo(-1);
+
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue("3")).isTrue();
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue(3)).isFalse();
         assertThat(SparseCollections.iterate(mArray)
@@ -792,6 +806,75 @@ public class LongSparseArrayTest extends AndroidTestCase {
         }
     }
 
+    public void testKeyRange() {
+
+        if (VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN) {
+
+            return;
+        }
+
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(1, 3).keys()).containsExactly(
+                1L, 2L, 3L);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .reverse()
+                                    .keys()).containsExactly(3L, 2L, 1L);
+        assertThat(SparseCollections.iterate(mArray).reverse().only().keyRange(3, 10).keys())
+                .containsExactly(4L, 3L);
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(3, 1).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(5, 10).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().keyRange(1, 3).keys()).containsExactly(
+                0L, 4L);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .only()
+                                    .first(2)
+                                    .keys()).containsExactly(1L, 2L);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .keys()).containsExactly(1L);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(2, 10)
+                                    .only()
+                                    .keys(1, 3, 4)
+                                    .keys()).containsExactly(3L, 4L);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(0, 3)
+                                    .reverse()
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .keys()).containsExactly(3L, 2L);
+
+        assertThat(SparseCollections.iterate(mArray).only().key(3).positionOfKey(3)).isZero();
+        assertThat(SparseCollections.iterate(mArray).only().key(3).indexOfKey(3)).isEqualTo(3);
+        assertThat(SparseCollections.iterate(mArray).only().keys(4, 1).keys()).containsExactly(
+                1L, 4L);
+        assertThat(SparseCollections.iterate(mArray).only().keys().keys()).isEmpty();
+
+        assertThat(SparseCollections.iterate(mArray).translateKeys(new LongTranslator() {
+
+            @Override
+            public long translate(final long value) {
+
+                return 4 - value;
+            }
+
+        }).only().keyRange(0, 1).keys()).containsExactly(1L, 0L);
+
+        SparseCollections.iterate(mArray).only().keyRange(1, 2).remove();
+
+        assertThat(SparseCollections.iterate(mArray).keys()).containsExactly(0L, 3L, 4L);
+    }
+
     public void testParcelable() {
 
         if (VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN) {
@@ -929,6 +1012,33 @@ public class LongSparseArrayTest extends AndroidTestCase {
                                     .reverse()).containsExactly("0", "1", "2");
     }
 
+    public void testSetOperations() {
+
+        if (VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN) {
+
+            return;
+        }
+
+        final LongSparseArray<String> array = new LongSparseArray<String>();
+
+        for (int i = 3; i < 7; i++) {
+
+            array.append(i, String.valueOf(i * 10));
+        }
+
+        assertThat(SparseCollections.iterate(SparseCollections.iterate(mArray).union(array))
+                                    .values()).containsExactly("0", "1", "2", "3", "4", "50",
+                                                               "60");
+        assertThat(SparseCollections.iterate(
+                SparseCollections.iterate(mArray).only().from(1).reverse().intersect(array))
+                                    .values()).containsExactly("3", "4");
+        assertThat(SparseCollections.iterate(SparseCollections.iterate(mArray).subtract(array))
+                                    .keys()).containsExactly(0L, 1L, 2L);
+        assertThat(SparseCollections.iterate(
+                SparseCollections.iterate(mArray).but().key(0).symmetricDifference(array))
+                                    .keys()).containsExactly(1L, 2L, 5L, 6L);
+    }
+
     public void testTranslations() {
 
         if (VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN) {
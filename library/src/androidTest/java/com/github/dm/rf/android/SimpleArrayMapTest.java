@@ -20,9 +20,11 @@ import android.support.v4.util.SimpleArrayMap;
 import android.test.AndroidTestCase;
 
 import com.github.dm.rf.android.entry.ObjectSparseObjectEntry;
+import com.github.dm.rf.android.entry.ObjectSparseObjectJoinEntry;
 import com.github.dm.rf.android.entry.ParcelableObjectSparseObjectEntry;
 import com.github.dm.rf.android.entry.SimpleArrayMapEntry;
 import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.iterator.SparseDiff;
 import com.github.dm.rf.android.iterator.SparseIterable.Action;
 import com.github.dm.rf.android.iterator.SparseIterable.Condition;
 import com.github.dm.rf.android.translator.Translator;
@@ -48,6 +50,32 @@ public class SimpleArrayMapTest extends AndroidTestCase {
 
     private SimpleArrayMap<Integer, String> mArray;
 
+    public void testBulkRemove() throws Exception {
+
+        final SimpleArrayMap<Integer, Integer> arrayMap = new SimpleArrayMap<Integer, Integer>();
+
+        for (int i = 0; i < 100000; ++i) {
+
+            arrayMap.put(i, i & 1);
+        }
+
+        SparseCollections.iterate(arrayMap).only().value(1).remove();
+
+        assertThat(arrayMap.size()).isEqualTo(50000);
+        assertThat(arrayMap.containsValue(1)).isFalse();
+        assertThat(arrayMap.get(99998)).isEqualTo(0);
+
+        SparseCollections.iterate(arrayMap).only().first(20000).reverse().retain();
+
+        assertThat(arrayMap.size()).isEqualTo(20000);
+        assertThat(arrayMap.containsValue(0)).isTrue();
+
+        assertThat(SparseCollections.iterate(mArray).only().indexes(1, 3).keys().remove())
+                .containsExactly(0, 2, 4);
+        assertThat(SparseCollections.iterate(mArray).but().key(2).retain().values())
+                .containsExactly("0", "4");
+    }
+
     public void testContains() {
 
         assertThat(SparseCollections.iterate(mArray)
@@ -163,6 +191,20 @@ public class SimpleArrayMapTest extends AndroidTestCase {
                                     .to(2)
                                     .containsAnyKey(Arrays.asList(2, 3))).isTrue();
 
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 0, 4, 2)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 7, 0)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7, 3)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAllKeys(Arrays.asList(3, 1))).isTrue();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAnyKey(Arrays.asList(9, 5))).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().containsKey(7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().positionOfKey(7)).isEqualTo(-1);
+        assertThat(SparseCollections.iterate(mArray).reverse().indexOfKey(7)).isEqualTo(-1);
+
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue("3")).isTrue();
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue(3)).isFalse();
         assertThat(SparseCollections.iterate(mArray)
@@ -339,6 +381,37 @@ public class SimpleArrayMapTest extends AndroidTestCase {
                                     .countOf("1")).isEqualTo(1);
     }
 
+    public void testDiff() {
+
+        final SimpleArrayMap<Integer, String> map = new SimpleArrayMap<Integer, String>();
+
+        map.put(1, "1");
+        map.put(2, "20");
+        map.put(4, "4");
+        map.put(5, "5");
+        map.put(7, null);
+
+        final SparseDiff<SimpleArrayMap<Integer, String>> diff =
+                SparseCollections.iterate(mArray).diff(map);
+
+        assertThat(diff.isEmpty()).isFalse();
+        assertThat(SparseCollections.iterate(diff.added()).toImmutableList()).containsOnly(
+                SparseEntries.entry(Integer.valueOf(5), "5"),
+                SparseEntries.<Integer, String>entry(Integer.valueOf(7), null));
+        assertThat(SparseCollections.iterate(diff.changed()).toImmutableList()).containsExactly(
+                SparseEntries.entry(Integer.valueOf(2), "20"));
+        assertThat(SparseCollections.iterate(diff.removed()).toImmutableList()).containsOnly(
+                SparseEntries.entry(Integer.valueOf(0), "0"),
+                SparseEntries.entry(Integer.valueOf(3), "3"));
+
+        final SimpleArrayMap<Integer, String> target = new SimpleArrayMap<Integer, String>(mArray);
+
+        diff.applyTo(target);
+
+        assertThat(SparseCollections.iterate(target).isEqualTo(map)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).diff(mArray).isEmpty()).isTrue();
+    }
+
     public void testEquals() {
 
         final SimpleArrayMap<Integer, String> arrayCompat = new SimpleArrayMap<Integer, String>();
@@ -574,6 +647,42 @@ public class SimpleArrayMapTest extends AndroidTestCase {
                                     .but()
                                     .last(2)
                                     .keys()).containsExactly(2);
+
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .from(1)
+                                    .only()
+                                    .first(2)
+                                    .keys()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .only()
+                                    .from(1)
+                                    .only()
+                                    .to(1)
+                                    .keys()).containsExactly(3, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .but()
+                                    .from(3)
+                                    .but()
+                                    .first(1)
+                                    .keys()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray).only().from(7).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().first(7).keys()).isEmpty();
+
+        final ArrayList<String> values = new ArrayList<String>();
+
+        for (int i = 1; i < 100; i += 2) {
+
+            values.add(Integer.toString(i));
+        }
+
+        assertThat(SparseCollections.iterate(mArray).only().values(values).keys()).containsExactly(
+                1, 3);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .but()
+                                    .values((Iterable<String>) values)
+                                    .keys()).containsExactly(0, 2, 4);
     }
 
     public void testImmutable() {
@@ -778,6 +887,87 @@ public class SimpleArrayMapTest extends AndroidTestCase {
         }
     }
 
+    public void testJoin() {
+
+        final SimpleArrayMap<Integer, Integer> map = new SimpleArrayMap<Integer, Integer>();
+
+        for (int i = 3; i < 7; i++) {
+
+            map.put(i, i * 10);
+        }
+
+        final ArrayList<String> joined = new ArrayList<String>();
+
+        for (final ObjectSparseObjectJoinEntry<Integer, String, Integer> entry : SparseCollections
+                .iterate(mArray)
+                .join(map)) {
+
+            joined.add(entry.toString());
+        }
+
+        assertThat(joined).containsOnly("3=[3, 30]", "4=[4, 40]");
+
+        joined.clear();
+
+        for (final ObjectSparseObjectJoinEntry<Integer, String, Integer> entry : SparseCollections
+                .iterate(mArray)
+                .leftJoin(map)) {
+
+            joined.add(entry.toString());
+        }
+
+        assertThat(joined).containsOnly("0=[0, null]", "1=[1, null]", "2=[2, null]", "3=[3, 30]",
+                                        "4=[4, 40]");
+
+        joined.clear();
+
+        for (final ObjectSparseObjectJoinEntry<Integer, String, Integer> entry : SparseCollections
+                .iterate(mArray)
+                .only()
+                .key(1)
+                .outerJoin(map)) {
+
+            assertThat(entry.hasLeftValue()).isEqualTo(entry.getKey() == 1);
+
+            joined.add(entry.toString());
+        }
+
+        assertThat(joined).containsOnly("1=[1, null]", "3=[null, 30]", "4=[null, 40]",
+                                        "5=[null, 50]", "6=[null, 60]");
+        assertThat(joined.get(0)).isEqualTo("1=[1, null]");
+    }
+
+    public void testKeys() {
+
+        assertThat(SparseCollections.iterate(mArray).only().key(3).values()).containsExactly("3");
+        assertThat(SparseCollections.iterate(mArray).only().key(3).indexOfKey(3)).isEqualTo(3);
+        assertThat(SparseCollections.iterate(mArray).only().key(7).values()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).only().key(null).values()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().key(3).values()).containsExactly("0",
+                                                                                            "1",
+                                                                                            "2",
+                                                                                            "4");
+        assertThat(SparseCollections.iterate(mArray).only().keys(4, 1, 7).values()).containsExactly(
+                "1", "4");
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keys(4, 1, 2)
+                                    .reverse()
+                                    .only()
+                                    .first(2)
+                                    .values()).containsExactly("4", "2");
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keys(4, 1, 2)
+                                    .values()).containsExactly("1");
+
+        SparseCollections.iterate(mArray).only().keys(1, 3).remove();
+
+        assertThat(SparseCollections.iterate(mArray).values()).containsExactly("0", "2", "4");
+    }
+
     public void testParcelable() {
 
         final ParcelableObjectSparseObjectEntry[] parcelableArray =
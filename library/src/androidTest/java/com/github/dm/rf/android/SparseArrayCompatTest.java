@@ -153,6 +153,20 @@ public class SparseArrayCompatTest extends AndroidTestCase {
                                     .to(2)
                                     .containsAnyKey(Arrays.asList(2, 3))).isTrue();
 
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 0, 4, 2)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 7, 0)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7, 3)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAllKeys(Arrays.asList(3, 1))).isTrue();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAnyKey(Arrays.asList(9, 5))).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().containsKey(7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().positionOfKey(7)).isEqualTo(-1);
+        assertThat(SparseCollections.iterate(mArray).reverse().indexOfKey(7)).isEqualTo(-1);
+
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue("3")).isTrue();
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue(3)).isFalse();
         assertThat(SparseCollections.iterate(mArray)
@@ -744,6 +758,70 @@ public class SparseArrayCompatTest extends AndroidTestCase {
         }
     }
 
+    public void testKeyRange() {
+
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(1, 3).keys()).containsExactly(
+                1, 2, 3);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .reverse()
+                                    .keys()).containsExactly(3, 2, 1);
+        assertThat(SparseCollections.iterate(mArray).reverse().only().keyRange(3, 10).keys())
+                .containsExactly(4, 3);
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(3, 1).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(5, 10).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().keyRange(1, 3).keys()).containsExactly(
+                0, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .only()
+                                    .first(2)
+                                    .keys()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .keys()).containsExactly(1);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(2, 10)
+                                    .only()
+                                    .keys(1, 3, 4)
+                                    .keys()).containsExactly(3, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(0, 3)
+                                    .reverse()
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .keys()).containsExactly(3, 2);
+
+        assertThat(SparseCollections.iterate(mArray).only().key(3).positionOfKey(3)).isZero();
+        assertThat(SparseCollections.iterate(mArray).only().key(3).indexOfKey(3)).isEqualTo(3);
+        assertThat(SparseCollections.iterate(mArray).only().keys(4, 1).keys()).containsExactly(
+                1, 4);
+        assertThat(SparseCollections.iterate(mArray).only().keys().keys()).isEmpty();
+
+        assertThat(SparseCollections.iterate(mArray).translateKeys(new IntTranslator() {
+
+            @Override
+            public int translate(final int value) {
+
+                return 4 - value;
+            }
+
+        }).only().keyRange(0, 1).keys()).containsExactly(1, 0);
+
+        SparseCollections.iterate(mArray).only().keyRange(1, 2).remove();
+
+        assertThat(SparseCollections.iterate(mArray).keys()).containsExactly(0, 3, 4);
+    }
+
     public void testParcelable() {
 
         final ParcelableIntSparseObjectEntry[] parcelableArray = SparseCollections.iterate(mArray)
@@ -16,6 +16,7 @@ package com.github.dm.rf.android;
 import android.os.Bundle;
 import android.os.Parcel;
 import android.os.Parcelable;
+import android.support.v4.util.SimpleArrayMap;
 import android.support.v4.util.SparseArrayCompat;
 import android.test.AndroidTestCase;
 import android.util.SparseArray;
@@ -24,9 +25,14 @@ import com.github.dm.rf.android.entry.IntSparseObjectEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseObjectEntry;
 import com.github.dm.rf.android.entry.SparseArrayEntry;
 import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection;
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection.Operation;
+import com.github.dm.rf.android.iterator.SparseArrayIterable;
 import com.github.dm.rf.android.iterator.SparseIterable.Action;
 import com.github.dm.rf.android.iterator.SparseIterable.Condition;
+import com.github.dm.rf.android.translator.ConflictResolver;
 import com.github.dm.rf.android.translator.IntTranslator;
+import com.github.dm.rf.android.translator.ToIntTranslator;
 import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.v18.SparseCollections;
 
@@ -34,6 +40,7 @@ import org.assertj.core.data.MapEntry;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -50,6 +57,77 @@ public class SparseArrayTest extends AndroidTestCase {
 
     private SparseArray<String> mArray;
 
+    public void testConcurrent() throws InterruptedException {
+
+        final ConcurrentSparseCollection<SparseArrayIterable<String>> collection =
+                SparseCollections.concurrent(mArray);
+
+        final Operation<SparseArrayIterable<String>, String> values =
+                new Operation<SparseArrayIterable<String>, String>() {
+
+                    @Override
+                    public String perform(final SparseArrayIterable<String> iterable) {
+
+                        return iterable.values().toList().toString();
+                    }
+                };
+
+        final Thread writer = new Thread() {
+
+            @Override
+            public void run() {
+
+                for (int i = 0; i < 1000; i++) {
+
+                    collection.write(new Operation<SparseArrayIterable<String>, Void>() {
+
+                        @Override
+                        public Void perform(final SparseArrayIterable<String> iterable) {
+
+                            mArray.put(5, "5");
+                            mArray.put(6, "6");
+                            mArray.delete(5);
+                            mArray.remove(6);
+
+                            return null;
+                        }
+                    });
+                }
+            }
+        };
+
+        writer.start();
+
+        for (int i = 0; i < 1000; i++) {
+
+            assertThat(collection.read(values)).isEqualTo("[0, 1, 2, 3, 4]");
+        }
+
+        writer.join();
+
+        assertThat(collection.write(new Operation<SparseArrayIterable<String>, String>() {
+
+            @Override
+            public String perform(final SparseArrayIterable<String> iterable) {
+
+                mArray.delete(4);
+
+                return collection.read(values);
+            }
+        })).isEqualTo("[0, 1, 2, 3]");
+        assertThat(mArray.size()).isEqualTo(4);
+
+        try {
+
+            SparseCollections.concurrent((SparseArray<String>) null);
+
+            fail();
+
+        } catch (final IllegalArgumentException ignored) {
+
+        }
+    }
+
     public void testContains() {
 
         assertThat(
@@ -153,6 +231,20 @@ public class SparseArrayTest extends AndroidTestCase {
                                     .to(2)
                                     .containsAnyKey(Arrays.asList(2, 3))).isTrue();
 
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 0, 4, 2)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 7, 0)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7, 3)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAllKeys(Arrays.asList(3, 1))).isTrue();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAnyKey(Arrays.asList(9, 5))).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().containsKey(7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().positionOfKey(7)).isEqualTo(-1);
+        assertThat(SparseCollections.iterate(mArray).reverse().indexOfKey(7)).isEqualTo(-1);
+
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue("3")).isTrue();
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue(3)).isFalse();
         assertThat(SparseCollections.iterate(mArray)
@@ -555,6 +647,39 @@ public class SparseArrayTest extends AndroidTestCase {
                                     .keys()).containsExactly(2);
     }
 
+    public void testGroupBy() {
+
+        final SparseArray<ArrayList<String>> groups =
+                SparseCollections.iterate(mArray).reverse().groupBy(new ToIntTranslator<String>() {
+
+                    @Override
+                    public int translate(final String element) {
+
+                        return Integer.parseInt(element) % 2;
+                    }
+                });
+
+        assertThat(groups.size()).isEqualTo(2);
+        assertThat(groups.get(0)).containsExactly("4", "2", "0");
+        assertThat(groups.get(1)).containsExactly("3", "1");
+
+        final SimpleArrayMap<Boolean, ArrayList<Integer>> keyGroups =
+                SparseCollections.iterate(mArray)
+                                 .keys()
+                                 .groupBy(new Translator<Integer, Boolean>() {
+
+                                     @Override
+                                     public Boolean translate(final Integer element) {
+
+                                         return (element < 2);
+                                     }
+                                 });
+
+        assertThat(keyGroups.size()).isEqualTo(2);
+        assertThat(keyGroups.get(true)).containsExactly(0, 1);
+        assertThat(keyGroups.get(false)).containsExactly(2, 3, 4);
+    }
+
     public void testImmutable() {
 
         final ArrayList<IntSparseObjectEntry<String>> arrayList =
@@ -745,6 +870,118 @@ public class SparseArrayTest extends AndroidTestCase {
         }
     }
 
+    public void testKeyRange() {
+
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(1, 3).keys()).containsExactly(
+                1, 2, 3);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .reverse()
+                                    .keys()).containsExactly(3, 2, 1);
+        assertThat(SparseCollections.iterate(mArray).reverse().only().keyRange(3, 10).keys())
+                .containsExactly(4, 3);
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(3, 1).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(5, 10).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().keyRange(1, 3).keys()).containsExactly(
+                0, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .only()
+                                    .first(2)
+                                    .keys()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .keys()).containsExactly(1);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(2, 10)
+                                    .only()
+                                    .keys(1, 3, 4)
+                                    .keys()).containsExactly(3, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(0, 3)
+                                    .reverse()
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .keys()).containsExactly(3, 2);
+
+        assertThat(SparseCollections.iterate(mArray).only().key(3).positionOfKey(3)).isZero();
+        assertThat(SparseCollections.iterate(mArray).only().key(3).indexOfKey(3)).isEqualTo(3);
+        assertThat(SparseCollections.iterate(mArray).only().keys(4, 1).keys()).containsExactly(
+                1, 4);
+        assertThat(SparseCollections.iterate(mArray).only().keys().keys()).isEmpty();
+
+        assertThat(SparseCollections.iterate(mArray).translateKeys(new IntTranslator() {
+
+            @Override
+            public int translate(final int value) {
+
+                return 4 - value;
+            }
+
+        }).only().keyRange(0, 1).keys()).containsExactly(1, 0);
+
+        SparseCollections.iterate(mArray).only().keyRange(1, 2).remove();
+
+        assertThat(SparseCollections.iterate(mArray).keys()).containsExactly(0, 3, 4);
+    }
+
+    public void testMerge() {
+
+        final SparseArray<String> array = new SparseArray<String>();
+
+        for (int i = 3; i < 7; i++) {
+
+            array.append(i, "x" + i);
+        }
+
+        @SuppressWarnings("unchecked")
+        final SparseArray<String>[] arrays = new SparseArray[]{mArray, array};
+        @SuppressWarnings("unchecked")
+        final SparseArray<String>[] reversed = new SparseArray[]{array, mArray};
+
+        final Translator<IntSparseObjectEntry<String>, String> valueTranslator =
+                new Translator<IntSparseObjectEntry<String>, String>() {
+
+                    @Override
+                    public String translate(final IntSparseObjectEntry<String> element) {
+
+                        return element.getValue();
+                    }
+                };
+
+        assertThat(SparseCollections.merge(arrays)
+                                    .translate(valueTranslator)).containsExactly("0", "1", "2",
+                                                                                 "3", "4", "x5",
+                                                                                 "x6");
+        assertThat(SparseCollections.merge(new ConflictResolver<String>() {
+
+            @Override
+            public String resolve(final String value, final String other) {
+
+                return value + other;
+            }
+        }, reversed).reverse().translate(valueTranslator)).containsExactly("x6", "x5", "x44",
+                                                                                "x33", "2", "1",
+                                                                                "0");
+        assertThat(SparseCollections.merge(arrays).only().first(2).toList())
+                .containsExactly(SparseEntries.entry(0, "0"), SparseEntries.entry(1, "1"));
+        assertThat(SparseCollections.merge(arrays)
+                                    .only()
+                                    .first(2)
+                                    .reverse()
+                                    .toList()).containsExactly(SparseEntries.entry(1, "1"),
+                                                               SparseEntries.entry(0, "0"));
+    }
+
     public void testParcelable() {
 
         final ParcelableIntSparseObjectEntry[] parcelableArray = SparseCollections.iterate(mArray)
@@ -866,6 +1103,67 @@ public class SparseArrayTest extends AndroidTestCase {
                                     .reverse()).containsExactly("0", "1", "2");
     }
 
+    public void testSetOperations() {
+
+        final SparseArray<String> array = new SparseArray<String>();
+
+        for (int i = 3; i < 7; i++) {
+
+            array.append(i, String.valueOf(i * 10));
+        }
+
+        assertThat(SparseCollections.iterate(SparseCollections.iterate(mArray).union(array))
+                                    .values()).containsExactly("0", "1", "2", "3", "4", "50",
+                                                               "60");
+        assertThat(SparseCollections.iterate(
+                SparseCollections.iterate(mArray).only().from(1).reverse().intersect(array))
+                                    .values()).containsExactly("3", "4");
+        assertThat(SparseCollections.iterate(SparseCollections.iterate(mArray).subtract(array))
+                                    .keys()).containsExactly(0, 1, 2);
+        assertThat(SparseCollections.iterate(
+                SparseCollections.iterate(mArray).but().key(0).symmetricDifference(array))
+                                    .keys()).containsExactly(1, 2, 5, 6);
+    }
+
+    public void testTopK() {
+
+        final Comparator<String> comparator = new Comparator<String>() {
+
+            @Override
+            public int compare(final String lhs, final String rhs) {
+
+                return lhs.compareTo(rhs);
+            }
+        };
+
+        assertThat(SparseCollections.iterate(mArray).values().topK(2, comparator)).containsExactly(
+                "4", "3");
+        assertThat(SparseCollections.iterate(mArray)
+                                    .values()
+                                    .bottomK(3, comparator)).containsExactly("0", "1", "2");
+        assertThat(SparseCollections.iterate(mArray)
+                                    .but()
+                                    .key(0)
+                                    .values()
+                                    .bottomK(10, comparator)).containsExactly("1", "2", "3", "4");
+        assertThat(SparseCollections.iterate(mArray).values().topK(0, comparator)).isEmpty();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .values()
+                                    .topK(Integer.MAX_VALUE, comparator)).containsExactly("4", "3",
+                                                                                          "2", "1",
+                                                                                          "0");
+
+        try {
+
+            SparseCollections.iterate(mArray).values().topK(1, null);
+
+            fail();
+
+        } catch (final IllegalArgumentException ignored) {
+
+        }
+    }
+
     public void testTranslations() {
 
         final SparseArray<Integer> array1 = SparseCollections.iterate(mArray)
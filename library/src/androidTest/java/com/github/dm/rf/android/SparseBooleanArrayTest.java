@@ -23,6 +23,8 @@ import com.github.dm.rf.android.entry.IntSparseBooleanEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseBooleanEntry;
 import com.github.dm.rf.android.entry.SparseBooleanArrayEntry;
 import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.iterator.BooleanSparseIterable.BooleanAction;
+import com.github.dm.rf.android.iterator.BooleanSparseIterable.BooleanCondition;
 import com.github.dm.rf.android.iterator.SparseIterable.Action;
 import com.github.dm.rf.android.iterator.SparseIterable.Condition;
 import com.github.dm.rf.android.translator.BooleanTranslator;
@@ -155,6 +157,20 @@ public class SparseBooleanArrayTest extends AndroidTestCase {
                                     .to(2)
                                     .containsAnyKey(Arrays.asList(2, 3))).isTrue();
 
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 0, 4, 2)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 7, 0)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7, 3)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAllKeys(Arrays.asList(3, 1))).isTrue();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAnyKey(Arrays.asList(9, 5))).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().containsKey(7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().positionOfKey(7)).isEqualTo(-1);
+        assertThat(SparseCollections.iterate(mArray).reverse().indexOfKey(7)).isEqualTo(-1);
+
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue(false)).isTrue();
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue(false)).isTrue();
         assertThat(SparseCollections.iterate(mArray)
@@ -735,6 +751,70 @@ public class SparseBooleanArrayTest extends AndroidTestCase {
         }
     }
 
+    public void testKeyRange() {
+
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(1, 3).keys()).containsExactly(
+                1, 2, 3);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .reverse()
+                                    .keys()).containsExactly(3, 2, 1);
+        assertThat(SparseCollections.iterate(mArray).reverse().only().keyRange(3, 10).keys())
+                .containsExactly(4, 3);
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(3, 1).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(5, 10).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().keyRange(1, 3).keys()).containsExactly(
+                0, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .only()
+                                    .first(2)
+                                    .keys()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .keys()).containsExactly(1);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(2, 10)
+                                    .only()
+                                    .keys(1, 3, 4)
+                                    .keys()).containsExactly(3, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(0, 3)
+                                    .reverse()
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .keys()).containsExactly(3, 2);
+
+        assertThat(SparseCollections.iterate(mArray).only().key(3).positionOfKey(3)).isZero();
+        assertThat(SparseCollections.iterate(mArray).only().key(3).indexOfKey(3)).isEqualTo(3);
+        assertThat(SparseCollections.iterate(mArray).only().keys(4, 1).keys()).containsExactly(
+                1, 4);
+        assertThat(SparseCollections.iterate(mArray).only().keys().keys()).isEmpty();
+
+        assertThat(SparseCollections.iterate(mArray).translateKeys(new IntTranslator() {
+
+            @Override
+            public int translate(final int value) {
+
+                return 4 - value;
+            }
+
+        }).only().keyRange(0, 1).keys()).containsExactly(1, 0);
+
+        SparseCollections.iterate(mArray).only().keyRange(1, 2).remove();
+
+        assertThat(SparseCollections.iterate(mArray).keys()).containsExactly(0, 3, 4);
+    }
+
     public void testParcelable() {
 
         final ParcelableIntSparseBooleanEntry[] parcelableArray = SparseCollections.iterate(mArray)
@@ -816,6 +896,49 @@ public class SparseBooleanArrayTest extends AndroidTestCase {
         assertThat(parcelables).containsExactly(filledArray);
     }
 
+    public void testPrimitives() {
+
+        final ArrayList<Boolean> values = new ArrayList<Boolean>();
+
+        SparseCollections.iterate(mArray).values().forEachBoolean(new BooleanAction() {
+
+            @Override
+            public void onNext(final boolean element, final int count, final int index) {
+
+                values.add(element);
+            }
+        });
+
+        assertThat(values).containsExactly(true, false, true, false, true);
+
+        assertThat(SparseCollections.iterate(mArray).values().anyBoolean(new BooleanCondition() {
+
+            @Override
+            public boolean onNext(final boolean element, final int count, final int index) {
+
+                return !element;
+            }
+        })).isTrue();
+        assertThat(SparseCollections.iterate(mArray).only().indexes(0, 2).values().eachBoolean(
+                new BooleanCondition() {
+
+                    @Override
+                    public boolean onNext(final boolean element, final int count,
+                            final int index) {
+
+                        return element;
+                    }
+                })).isTrue();
+
+        assertThat(SparseCollections.iterate(mArray).values().toArray()).containsExactly(true,
+                                                                                         false,
+                                                                                         true,
+                                                                                         false,
+                                                                                         true);
+        assertThat(SparseCollections.iterate(mArray).only().value(false).keys().toArray())
+                .containsExactly(1, 3);
+    }
+
     public void testRemove() throws Exception {
 
         assertThat(SparseCollections.iterate(mArray)
@@ -20,11 +20,21 @@ import android.test.AndroidTestCase;
 import android.util.SparseIntArray;
 
 import com.github.dm.rf.android.entry.IntSparseIntEntry;
+import com.github.dm.rf.android.entry.IntSparseIntJoinEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseIntEntry;
 import com.github.dm.rf.android.entry.SparseEntries;
 import com.github.dm.rf.android.entry.SparseIntArrayEntry;
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection;
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection.Operation;
+import com.github.dm.rf.android.iterator.IntSparseIterable.IntAction;
+import com.github.dm.rf.android.iterator.IntSparseIterable.IntCondition;
+import com.github.dm.rf.android.iterator.IntSparseIterable.IntReducer;
+import com.github.dm.rf.android.iterator.SparseIntArrayIterable;
+import com.github.dm.rf.android.iterator.SparseIntArrayIterable.EntryAction;
+import com.github.dm.rf.android.iterator.SparseDiff;
 import com.github.dm.rf.android.iterator.SparseIterable.Action;
 import com.github.dm.rf.android.iterator.SparseIterable.Condition;
+import com.github.dm.rf.android.translator.IntConflictResolver;
 import com.github.dm.rf.android.translator.IntTranslator;
 import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.v18.SparseCollections;
@@ -33,10 +43,15 @@ import org.assertj.core.data.MapEntry;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.SortedMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -49,6 +64,188 @@ public class SparseIntArrayTest extends AndroidTestCase {
 
     private SparseIntArray mArray;
 
+    public void testAggregations() {
+
+        assertThat(SparseCollections.iterate(mArray).count()).isEqualTo(5);
+        assertThat(SparseCollections.iterate(mArray).only().from(2).count()).isEqualTo(3);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .values()
+                                    .only()
+                                    .elements(new int[]{1, 3})
+                                    .count()).isEqualTo(2);
+        assertThat(SparseCollections.iterate(mArray).values().sum()).isEqualTo(10);
+        assertThat(SparseCollections.iterate(mArray).keys().but().first(1).average()).isEqualTo(
+                2.5);
+        assertThat(SparseCollections.iterate(mArray).only().key(7).values().average()).isNaN();
+        assertThat(SparseCollections.iterate(mArray).values().only().to(3).max()).isEqualTo(3);
+        assertThat(SparseCollections.iterate(mArray).values().but().first(2).min()).isEqualTo(2);
+        assertThat(SparseCollections.iterate(mArray).values().reduce(1, new IntReducer() {
+
+            @Override
+            public int reduce(final int value, final int element) {
+
+                return value * (element + 1);
+            }
+        })).isEqualTo(120);
+
+        try {
+
+            SparseCollections.iterate(mArray).values().only().element(7).max();
+
+            fail();
+
+        } catch (final NoSuchElementException ignored) {
+
+        }
+
+        final SparseIntArray array = new SparseIntArray();
+
+        array.append(0, Integer.MAX_VALUE);
+        array.append(1, Integer.MAX_VALUE);
+
+        assertThat(SparseCollections.iterate(array).values().sum()).isEqualTo(
+                2L * Integer.MAX_VALUE);
+    }
+
+    public void testAsList() {
+
+        final List<Integer> values = SparseCollections.iterate(mArray).values().asList();
+
+        assertThat(values).containsExactly(0, 1, 2, 3, 4);
+        assertThat(values.get(3)).isEqualTo(3);
+        assertThat(new ArrayList<Integer>(values)).hasSize(5);
+
+        mArray.append(5, 5);
+
+        assertThat(values).hasSize(6);
+        assertThat(values.get(5)).isEqualTo(5);
+        assertThat(SparseCollections.iterate(mArray).keys().reverse().asList()).containsExactly(
+                5, 4, 3, 2, 1, 0);
+
+        final List<Integer> odds =
+                SparseCollections.iterate(mArray).only().keys(1, 3, 5).values().asList();
+
+        assertThat(odds).hasSize(3).containsExactly(1, 3, 5);
+        assertThat(odds.get(1)).isEqualTo(3);
+
+        try {
+
+            odds.get(3);
+
+            fail();
+
+        } catch (final IndexOutOfBoundsException ignored) {
+
+        }
+
+        try {
+
+            values.add(7);
+
+            fail();
+
+        } catch (final UnsupportedOperationException ignored) {
+
+        }
+    }
+
+    public void testBulkRemove() throws Exception {
+
+        final SparseIntArray array = new SparseIntArray();
+
+        for (int i = 0; i < 100000; ++i) {
+
+            array.append(i, i & 1);
+        }
+
+        SparseCollections.iterate(array).only().value(1).remove();
+
+        assertThat(array.size()).isEqualTo(50000);
+        assertThat(SparseCollections.iterate(array).containsValue(1)).isFalse();
+        assertThat(array.keyAt(0)).isEqualTo(0);
+        assertThat(array.keyAt(49999)).isEqualTo(99998);
+
+        SparseCollections.iterate(array).only().keyRange(0, 49999).reverse().retain();
+
+        assertThat(array.size()).isEqualTo(25000);
+        assertThat(array.keyAt(24999)).isEqualTo(49998);
+
+        assertThat(SparseCollections.iterate(mArray).only().indexes(1, 3).keys().remove())
+                .containsExactly(0, 2, 4);
+        assertThat(SparseCollections.iterate(mArray).only().first(1).remove().keys())
+                .containsExactly(2, 4);
+        assertThat(SparseCollections.iterate(mArray).remove().keys()).isEmpty();
+    }
+
+    public void testConcurrent() throws InterruptedException {
+
+        final ConcurrentSparseCollection<SparseIntArrayIterable> collection =
+                SparseCollections.concurrent(mArray);
+
+        final Operation<SparseIntArrayIterable, Integer> count =
+                new Operation<SparseIntArrayIterable, Integer>() {
+
+                    @Override
+                    public Integer perform(final SparseIntArrayIterable iterable) {
+
+                        return iterable.count();
+                    }
+                };
+
+        final Thread writer = new Thread() {
+
+            @Override
+            public void run() {
+
+                for (int i = 0; i < 1000; i++) {
+
+                    collection.write(new Operation<SparseIntArrayIterable, Void>() {
+
+                        @Override
+                        public Void perform(final SparseIntArrayIterable iterable) {
+
+                            mArray.append(5, 5);
+                            mArray.append(6, 6);
+                            iterable.only().keyRange(5, 6).remove();
+
+                            return null;
+                        }
+                    });
+                }
+            }
+        };
+
+        writer.start();
+
+        for (int i = 0; i < 1000; i++) {
+
+            assertThat(collection.read(count)).isEqualTo(5);
+        }
+
+        writer.join();
+
+        assertThat(collection.write(new Operation<SparseIntArrayIterable, Integer>() {
+
+            @Override
+            public Integer perform(final SparseIntArrayIterable iterable) {
+
+                iterable.only().key(4).remove();
+
+                return collection.read(count);
+            }
+        })).isEqualTo(4);
+
+        try {
+
+            SparseCollections.concurrent((SparseIntArray) null);
+
+            fail();
+
+        } catch (final IllegalArgumentException ignored) {
+
+        }
+    }
+
     public void testContains() {
 
         assertThat(SparseCollections.iterate(mArray)
@@ -152,6 +349,20 @@ public class SparseIntArrayTest extends AndroidTestCase {
                                     .to(2)
                                     .containsAnyKey(Arrays.asList(2, 3))).isTrue();
 
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 0, 4, 2)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 7, 0)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7, 3)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAllKeys(Arrays.asList(3, 1))).isTrue();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAnyKey(Arrays.asList(9, 5))).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().containsKey(7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().positionOfKey(7)).isEqualTo(-1);
+        assertThat(SparseCollections.iterate(mArray).reverse().indexOfKey(7)).isEqualTo(-1);
+
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue(3)).isTrue();
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue(9)).isFalse();
         assertThat(SparseCollections.iterate(mArray)
@@ -307,6 +518,41 @@ public class SparseIntArrayTest extends AndroidTestCase {
                                     .countOf(1)).isEqualTo(1);
     }
 
+    public void testDiff() {
+
+        final SparseIntArray array = new SparseIntArray();
+
+        array.append(1, 1);
+        array.append(2, 20);
+        array.append(4, 4);
+        array.append(5, 5);
+        array.append(7, 7);
+
+        final SparseDiff<SparseIntArray> diff = SparseCollections.iterate(mArray).diff(array);
+
+        assertThat(diff.isEmpty()).isFalse();
+        assertThat(SparseCollections.iterate(diff.added()).toImmutableList()).containsExactly(
+                SparseEntries.entry(5, 5), SparseEntries.entry(7, 7));
+        assertThat(SparseCollections.iterate(diff.changed()).toImmutableList()).containsExactly(
+                SparseEntries.entry(2, 20));
+        assertThat(SparseCollections.iterate(diff.removed()).toImmutableList()).containsExactly(
+                SparseEntries.entry(0, 0), SparseEntries.entry(3, 3));
+
+        final SparseIntArray target = SparseCollections.iterate(mArray).toSparseArray();
+
+        diff.applyTo(target);
+
+        assertThat(SparseCollections.iterate(target).isEqualTo(array)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).reverse().diff(mArray).isEmpty()).isTrue();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .from(3)
+                                    .reverse()
+                                    .diff(array)
+                                    .removed()
+                                    .size()).isEqualTo(1);
+    }
+
     public void testEquals() {
 
         final SparseIntArray array = new SparseIntArray();
@@ -535,6 +781,123 @@ public class SparseIntArrayTest extends AndroidTestCase {
                                     .but()
                                     .last(2)
                                     .keys()).containsExactly(2);
+
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .from(1)
+                                    .only()
+                                    .first(2)
+                                    .keys()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .only()
+                                    .from(1)
+                                    .only()
+                                    .to(1)
+                                    .keys()).containsExactly(3, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .but()
+                                    .from(3)
+                                    .but()
+                                    .first(1)
+                                    .keys()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray).only().from(7).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().first(7).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).only().last(2).keys()).containsExactly(3, 4);
+        assertThat(SparseCollections.iterate(mArray).only().last(7).keys()).containsExactly(0, 1,
+                                                                                            2, 3,
+                                                                                            4);
+        assertThat(SparseCollections.iterate(mArray).but().last(3).keys()).containsExactly(0, 1);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .only()
+                                    .last(2)
+                                    .keys()).containsExactly(1, 0);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .only()
+                                    .last(2)
+                                    .keys()).containsExactly(2, 3);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .indexes(0, 2, 4)
+                                    .reverse()
+                                    .only()
+                                    .first(2)
+                                    .keys()).containsExactly(4, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .but()
+                                    .value(3)
+                                    .reverse()
+                                    .but()
+                                    .keys(0, 4)
+                                    .reverse()
+                                    .keys()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .first(3)
+                                    .reverse()
+                                    .but()
+                                    .key(1)
+                                    .reverse()
+                                    .keys()).containsExactly(0, 2);
+
+        final ArrayList<Integer> keys = new ArrayList<Integer>();
+        keys.add(null);
+
+        for (int i = 3; i < 100; ++i) {
+
+            keys.add(i);
+        }
+
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keys(keys)
+                                    .keys()).containsExactly(3, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .but()
+                                    .values((Iterable<Integer>) keys)
+                                    .values()).containsExactly(0, 1, 2);
+
+        final ArrayList<Integer> empty = new ArrayList<Integer>();
+
+        assertThat(SparseCollections.iterate(mArray).only().values(empty).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().values(empty).keys()).containsExactly(
+                0, 1, 2, 3, 4);
+        assertThat(SparseCollections.iterate(mArray).only().keys(empty).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .values(Arrays.asList((Integer) null))
+                                    .keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .but()
+                                    .values((Iterable<Integer>) Arrays.asList((Integer) null))
+                                    .keys()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(SparseCollections.iterate(mArray).only().values(new int[0]).keys()).isEmpty();
+    }
+
+    public void testHistogram() {
+
+        final SparseIntArray array = new SparseIntArray();
+
+        for (int i = 0; i < 10; i++) {
+
+            array.append(i, (i % 3) * 10);
+        }
+
+        final SparseIntArray histogram = SparseCollections.iterate(array).values().histogram();
+
+        assertThat(SparseCollections.iterate(histogram).toImmutableList()).containsExactly(
+                SparseEntries.entry(0, 4), SparseEntries.entry(10, 3), SparseEntries.entry(20, 3));
+        assertThat(SparseCollections.iterate(SparseCollections.iterate(mArray)
+                                                              .keys()
+                                                              .reverse()
+                                                              .histogram())
+                                    .values()
+                                    .toArray()).containsExactly(1, 1, 1, 1, 1);
+        assertThat(SparseCollections.iterate(mArray).only().key(7).values().histogram().size())
+                .isZero();
     }
 
     public void testImmutable() {
@@ -722,6 +1085,391 @@ public class SparseIntArrayTest extends AndroidTestCase {
         }
     }
 
+    public void testJoin() {
+
+        final SparseIntArray array = new SparseIntArray();
+
+        for (int i = 3; i < 7; i++) {
+
+            array.append(i, i * 10);
+        }
+
+        final ArrayList<String> joined = new ArrayList<String>();
+
+        for (final IntSparseIntJoinEntry entry : SparseCollections.iterate(mArray).join(array)) {
+
+            assertThat(entry.hasLeftValue()).isTrue();
+            assertThat(entry.hasRightValue()).isTrue();
+
+            joined.add(entry.toString());
+        }
+
+        assertThat(joined).containsExactly("3=[3, 30]", "4=[4, 40]");
+
+        joined.clear();
+
+        for (final IntSparseIntJoinEntry entry : SparseCollections.iterate(mArray)
+                                                                  .but()
+                                                                  .key(0)
+                                                                  .reverse()
+                                                                  .leftJoin(array)) {
+
+            joined.add(entry.toString());
+        }
+
+        assertThat(joined).containsExactly("4=[4, 40]", "3=[3, 30]", "2=[2, 0]", "1=[1, 0]");
+
+        joined.clear();
+
+        for (final IntSparseIntJoinEntry entry : SparseCollections.iterate(mArray)
+                                                                  .outerJoin(array)
+                                                                  .reverse()) {
+
+            joined.add(entry.toString());
+        }
+
+        assertThat(joined).containsExactly("6=[0, 60]", "5=[0, 50]", "4=[4, 40]", "3=[3, 30]",
+                                           "2=[2, 0]", "1=[1, 0]", "0=[0, 0]");
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .first(3)
+                                    .outerJoin(array)
+                                    .reverse()
+                                    .toList()
+                                    .toString()).isEqualTo(
+                "[6=[0, 60], 5=[0, 50], 4=[0, 40], 3=[0, 30], 2=[2, 0], 1=[1, 0], 0=[0, 0]]");
+        assertThat(SparseCollections.iterate(mArray)
+                                    .outerJoin(array)
+                                    .only()
+                                    .last(3)
+                                    .reverse()
+                                    .toList()
+                                    .toString()).isEqualTo("[6=[0, 60], 5=[0, 50], 4=[4, 40]]");
+        assertThat(SparseCollections.iterate(mArray)
+                                    .outerJoin(array)
+                                    .reverse()
+                                    .only()
+                                    .first(2)
+                                    .reverse()
+                                    .toList()
+                                    .toString()).isEqualTo("[5=[0, 50], 6=[0, 60]]");
+        assertThat(SparseCollections.iterate(mArray).join(array).toList().toString()).isEqualTo(
+                "[3=[3, 30], 4=[4, 40]]");
+
+        final Iterator<IntSparseIntJoinEntry> iterator =
+                SparseCollections.iterate(mArray).outerJoin(array).iterator();
+
+        assertThat(iterator.next().hasRightValue()).isFalse();
+
+        try {
+
+            iterator.remove();
+
+            fail();
+
+        } catch (final UnsupportedOperationException ignored) {
+
+        }
+
+        assertThat(SparseCollections.iterate(mArray).outerJoin(array).toList()).hasSize(7);
+        assertThat(SparseCollections.iterate(mArray).join(array).only().first(1).toList()).hasSize(
+                1);
+    }
+
+    public void testKeyRange() {
+
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(1, 3).keys()).containsExactly(
+                1, 2, 3);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .reverse()
+                                    .keys()).containsExactly(3, 2, 1);
+        assertThat(SparseCollections.iterate(mArray).reverse().only().keyRange(3, 10).keys())
+                .containsExactly(4, 3);
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(3, 1).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(5, 10).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().keyRange(1, 3).keys()).containsExactly(
+                0, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .only()
+                                    .first(2)
+                                    .keys()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .keys()).containsExactly(1);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(2, 10)
+                                    .only()
+                                    .keys(1, 3, 4)
+                                    .keys()).containsExactly(3, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(0, 3)
+                                    .reverse()
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .keys()).containsExactly(3, 2);
+
+        assertThat(SparseCollections.iterate(mArray).only().key(3).positionOfKey(3)).isZero();
+        assertThat(SparseCollections.iterate(mArray).only().key(3).indexOfKey(3)).isEqualTo(3);
+        assertThat(SparseCollections.iterate(mArray).only().keys(4, 1).keys()).containsExactly(
+                1, 4);
+        assertThat(SparseCollections.iterate(mArray).only().keys().keys()).isEmpty();
+
+        assertThat(SparseCollections.iterate(mArray).translateKeys(new IntTranslator() {
+
+            @Override
+            public int translate(final int value) {
+
+                return 4 - value;
+            }
+
+        }).only().keyRange(0, 1).keys()).containsExactly(1, 0);
+
+        SparseCollections.iterate(mArray).only().keyRange(1, 2).remove();
+
+        assertThat(SparseCollections.iterate(mArray).keys()).containsExactly(0, 3, 4);
+    }
+
+    public void testMerge() {
+
+        final SparseIntArray array1 = new SparseIntArray();
+        final SparseIntArray array2 = new SparseIntArray();
+
+        for (int i = 3; i < 7; i++) {
+
+            array1.append(i, i * 10);
+            array2.append(i * 2, i * 100);
+        }
+
+        final Translator<IntSparseIntEntry, Integer> keyTranslator =
+                new Translator<IntSparseIntEntry, Integer>() {
+
+                    @Override
+                    public Integer translate(final IntSparseIntEntry element) {
+
+                        return element.getKey();
+                    }
+                };
+        final Translator<IntSparseIntEntry, Integer> valueTranslator =
+                new Translator<IntSparseIntEntry, Integer>() {
+
+                    @Override
+                    public Integer translate(final IntSparseIntEntry element) {
+
+                        return element.getValue();
+                    }
+                };
+
+        assertThat(SparseCollections.merge(mArray, array1, array2).toIntegers(
+                keyTranslator)).containsExactly(0, 1, 2, 3, 4, 5, 6, 8, 10, 12);
+        assertThat(SparseCollections.merge(array2, mArray, new SparseIntArray(), array1)
+                                    .toIntegers(valueTranslator)).containsExactly(0, 1, 2, 3, 4,
+                                                                                  50, 300, 400,
+                                                                                  500, 600);
+        assertThat(SparseCollections.merge(new IntConflictResolver() {
+
+            @Override
+            public int resolve(final int value, final int other) {
+
+                return value + other;
+            }
+        }, mArray, array1, array2).reverse().toIntegers(valueTranslator)).containsExactly(600,
+                                                                                           500,
+                                                                                           400,
+                                                                                           360,
+                                                                                           50,
+                                                                                           44,
+                                                                                           33,
+                                                                                           2,
+                                                                                           1,
+                                                                                           0);
+        assertThat(SparseCollections.merge(array1, mArray)
+                                    .but()
+                                    .first(5)
+                                    .toIntegers(keyTranslator)).containsExactly(5, 6);
+
+        assertThat(SparseCollections.merge(array1, mArray)
+                                    .only()
+                                    .first(3)
+                                    .reverse()
+                                    .toIntegers(keyTranslator)).containsExactly(2, 1, 0);
+        assertThat(SparseCollections.merge(array1, mArray)
+                                    .reverse()
+                                    .only()
+                                    .first(3)
+                                    .toIntegers(keyTranslator)).containsExactly(6, 5, 4);
+        assertThat(SparseCollections.merge(array1, mArray)
+                                    .reverse()
+                                    .only()
+                                    .first(3)
+                                    .reverse()
+                                    .toIntegers(keyTranslator)).containsExactly(4, 5, 6);
+        assertThat(SparseCollections.merge(array1, mArray)
+                                    .only()
+                                    .from(2)
+                                    .reverse()
+                                    .only()
+                                    .last(2)
+                                    .toIntegers(keyTranslator)).containsExactly(3, 2);
+        assertThat(SparseCollections.merge(array1, mArray)
+                                    .only()
+                                    .indexes(1, 5)
+                                    .reverse()
+                                    .toIntegers(keyTranslator)).containsExactly(5, 1);
+        assertThat(SparseCollections.merge(mArray, array1).toList()).containsExactly(
+                SparseEntries.entry(0, 0), SparseEntries.entry(1, 1), SparseEntries.entry(2, 2),
+                SparseEntries.entry(3, 3), SparseEntries.entry(4, 4), SparseEntries.entry(5, 50),
+                SparseEntries.entry(6, 60));
+
+        final Iterator<IntSparseIntEntry> iterator = SparseCollections.merge(mArray).iterator();
+
+        assertThat(iterator.next()).isEqualTo(SparseEntries.entry(0, 0));
+
+        try {
+
+            iterator.remove();
+
+            fail();
+
+        } catch (final UnsupportedOperationException ignored) {
+
+        }
+
+        assertThat(SparseCollections.merge(new SparseIntArray[0]).iterator().hasNext()).isFalse();
+    }
+
+    public void testParallel() {
+
+        final SparseIntArray array = new SparseIntArray();
+
+        for (int i = 0; i < 10000; i++) {
+
+            array.append(i * 2, i);
+        }
+
+        final Condition<SparseIntArrayEntry> isEven = new Condition<SparseIntArrayEntry>() {
+
+            @Override
+            public boolean onNext(final SparseIntArrayEntry element, final int count,
+                    final int index) {
+
+                return ((element.getValue() % 2) == 0);
+            }
+        };
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+
+            assertThat(SparseCollections.iterate(array).parallelCount(isEven)).isEqualTo(5000);
+            assertThat(SparseCollections.iterate(array).parallelCount(isEven, executor)).isEqualTo(
+                    5000);
+            assertThat(SparseCollections.iterate(array)
+                                        .only()
+                                        .keyRange(100, 3099)
+                                        .parallelCount(isEven, executor)).isEqualTo(750);
+            assertThat(SparseCollections.iterate(array)
+                                        .only()
+                                        .first(10)
+                                        .parallelCount(isEven, executor)).isEqualTo(5);
+            assertThat(SparseCollections.iterate(mArray).parallelCount(isEven)).isEqualTo(3);
+
+            final AtomicLong sum = new AtomicLong();
+
+            SparseCollections.iterate(array)
+                             .but()
+                             .keyRange(0, 9999)
+                             .parallelForEach(new Action<SparseIntArrayEntry>() {
+
+                                 @Override
+                                 public void onNext(final SparseIntArrayEntry element,
+                                         final int count, final int index) {
+
+                                     sum.addAndGet(element.getValue());
+                                 }
+                             }, executor)
+                             .reverse();
+            assertThat(sum.get()).isEqualTo(37497500L);
+
+            final int[] values = new int[10000];
+
+            SparseCollections.iterate(array).values().parallelForEach(new Action<Integer>() {
+
+                @Override
+                public void onNext(final Integer element, final int count, final int index) {
+
+                    values[index] = element;
+                }
+            }, executor);
+
+            for (int i = 0; i < values.length; i++) {
+
+                assertThat(values[i]).isEqualTo(i);
+            }
+
+            final Condition<SparseIntArrayEntry> isLast = new Condition<SparseIntArrayEntry>() {
+
+                @Override
+                public boolean onNext(final SparseIntArrayEntry element, final int count,
+                        final int index) {
+
+                    return (element.getValue() == 9999);
+                }
+            };
+
+            assertThat(SparseCollections.iterate(array).parallelAny(isLast, executor)).isTrue();
+            assertThat(SparseCollections.iterate(array)
+                                        .only()
+                                        .keyRange(0, 9999)
+                                        .parallelAny(isLast, executor)).isFalse();
+
+            try {
+
+                SparseCollections.iterate(array).parallelForEach(new Action<SparseIntArrayEntry>() {
+
+                    @Override
+                    public void onNext(final SparseIntArrayEntry element, final int count,
+                            final int index) {
+
+                        if (element.getValue() == 7777) {
+
+                            throw new IllegalStateException();
+                        }
+                    }
+                }, executor);
+
+                fail();
+
+            } catch (final IllegalStateException ignored) {
+
+            }
+
+            try {
+
+                SparseCollections.iterate(array).parallelAny(isLast, null);
+
+                fail();
+
+            } catch (final IllegalArgumentException ignored) {
+
+            }
+
+        } finally {
+
+            executor.shutdown();
+        }
+    }
+
     public void testParcelable() {
 
         final ParcelableIntSparseIntEntry[] parcelableArray = SparseCollections.iterate(mArray)
@@ -802,6 +1550,89 @@ public class SparseIntArrayTest extends AndroidTestCase {
         assertThat(parcelables).containsExactly(filledArray);
     }
 
+    public void testPrimitives() {
+
+        final ArrayList<Integer> values = new ArrayList<Integer>();
+
+        SparseCollections.iterate(mArray).reverse().values().forEachInt(new IntAction() {
+
+            @Override
+            public void onNext(final int element, final int count, final int index) {
+
+                values.add(element);
+            }
+        });
+
+        assertThat(values).containsExactly(4, 3, 2, 1, 0);
+
+        final int[] totals = new int[3];
+
+        SparseCollections.iterate(mArray).but().key(2).forEachEntry(new EntryAction() {
+
+            @Override
+            public void onNext(final int key, final int value, final int count, final int index) {
+
+                totals[0] += key;
+                totals[1] += value;
+                totals[2] += index - count;
+            }
+        });
+
+        assertThat(totals).containsExactly(8, 8, 2);
+
+        assertThat(SparseCollections.iterate(mArray).keys().anyInt(new IntCondition() {
+
+            @Override
+            public boolean onNext(final int element, final int count, final int index) {
+
+                return (element > 3);
+            }
+        })).isTrue();
+        assertThat(SparseCollections.iterate(mArray).only().first(2).keys().anyInt(
+                new IntCondition() {
+
+                    @Override
+                    public boolean onNext(final int element, final int count, final int index) {
+
+                        return (element > 3);
+                    }
+                })).isFalse();
+        assertThat(SparseCollections.iterate(mArray).values().eachInt(new IntCondition() {
+
+            @Override
+            public boolean onNext(final int element, final int count, final int index) {
+
+                return (element == index);
+            }
+        })).isTrue();
+        assertThat(SparseCollections.iterate(mArray).values().only().from(1).eachInt(
+                new IntCondition() {
+
+                    @Override
+                    public boolean onNext(final int element, final int count, final int index) {
+
+                        return (element == count);
+                    }
+                })).isFalse();
+
+        assertThat(SparseCollections.iterate(mArray).keys().toArray()).containsExactly(0, 1, 2, 3,
+                                                                                       4);
+        assertThat(SparseCollections.iterate(mArray).reverse().values().toArray()).containsExactly(
+                4, 3, 2, 1, 0);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 2)
+                                    .values()
+                                    .toArray()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray).only().key(7).keys().toArray()).isEmpty();
+
+        final int[] array = new int[6];
+
+        SparseCollections.iterate(mArray).values().but().first(2).fill(array, 1);
+
+        assertThat(array).containsExactly(0, 2, 3, 4, 0, 0);
+    }
+
     public void testRemove() throws Exception {
 
         assertThat(SparseCollections.iterate(mArray)
@@ -843,6 +1674,144 @@ public class SparseIntArrayTest extends AndroidTestCase {
                                     .reverse()).containsExactly(0, 1, 2);
     }
 
+    public void testSetOperations() {
+
+        final SparseIntArray array = new SparseIntArray();
+
+        for (int i = 3; i < 7; i++) {
+
+            array.append(i, i * 10);
+        }
+
+        assertThat(SparseCollections.iterate(SparseCollections.iterate(mArray).union(array))
+                                    .toImmutableList()).containsExactly(SparseEntries.entry(0, 0),
+                                                                        SparseEntries.entry(1, 1),
+                                                                        SparseEntries.entry(2, 2),
+                                                                        SparseEntries.entry(3, 3),
+                                                                        SparseEntries.entry(4, 4),
+                                                                        SparseEntries.entry(5, 50),
+                                                                        SparseEntries.entry(6, 60));
+        assertThat(SparseCollections.iterate(
+                SparseCollections.iterate(mArray).only().from(1).reverse().intersect(array))
+                                    .toImmutableList()).containsExactly(SparseEntries.entry(3, 3),
+                                                                        SparseEntries.entry(4, 4));
+        assertThat(SparseCollections.iterate(SparseCollections.iterate(mArray).subtract(array))
+                                    .keys()).containsExactly(0, 1, 2);
+        assertThat(SparseCollections.iterate(
+                SparseCollections.iterate(mArray).but().key(0).symmetricDifference(array))
+                                    .values()).containsExactly(1, 2, 50, 60);
+        assertThat(SparseCollections.iterate(SparseCollections.iterate(mArray)
+                                                              .translateKeys(new IntTranslator() {
+
+                                                                  @Override
+                                                                  public int translate(
+                                                                          final int value) {
+
+                                                                      return value + 1;
+                                                                  }
+                                                              })
+                                                              .intersect(array))
+                                    .toImmutableList()).containsExactly(SparseEntries.entry(3, 2),
+                                                                        SparseEntries.entry(4, 3),
+                                                                        SparseEntries.entry(5, 4));
+        assertThat(SparseCollections.iterate(array).only().key(7).union(mArray).size()).isEqualTo(
+                5);
+    }
+
+    public void testSnapshot() {
+
+        final SparseIntArrayIterable snapshot =
+                SparseCollections.iterate(mArray).only().keyRange(1, 3).reverse().snapshot();
+
+        for (final SparseIntArrayEntry entry : snapshot) {
+
+            mArray.delete(entry.getKey());
+            mArray.append(10 + entry.getKey(), entry.getValue());
+        }
+
+        assertThat(snapshot.keys()).containsExactly(3, 2, 1);
+        assertThat(SparseCollections.iterate(mArray).keys()).containsExactly(0, 4, 11, 12, 13);
+
+        snapshot.only().key(2).remove();
+
+        assertThat(snapshot.values()).containsExactly(3, 1);
+        assertThat(SparseCollections.iterate(mArray).count()).isEqualTo(5);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .translateKeys(new IntTranslator() {
+
+                                        @Override
+                                        public int translate(final int value) {
+
+                                            return value * 2;
+                                        }
+                                    })
+                                    .only()
+                                    .first(2)
+                                    .snapshot()
+                                    .keys()).containsExactly(0, 8);
+
+        final SparseIntArrayIterable iterable = SparseCollections.iterate(mArray).only().last(2);
+        final Iterator<SparseIntArrayEntry> iterator = iterable.snapshot().iterator();
+
+        assertThat(iterator.next().getKey()).isEqualTo(12);
+
+        mArray.append(14, 4);
+
+        assertThat(iterable.keys()).containsExactly(13, 14);
+        assertThat(iterator.next().getKey()).isEqualTo(13);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    public void testTopK() {
+
+        final SparseIntArray array = new SparseIntArray();
+
+        for (int i = 0; i < 20; i++) {
+
+            array.append(i, (i * 7) % 20);
+        }
+
+        assertThat(SparseCollections.iterate(array).values().topK(3)).containsExactly(19, 18, 17);
+        assertThat(SparseCollections.iterate(array).values().bottomK(4)).containsExactly(0, 1, 2,
+                                                                                         3);
+        assertThat(SparseCollections.iterate(array)
+                                    .only()
+                                    .last(5)
+                                    .values()
+                                    .topK(10)).containsExactly(19, 13, 12, 6, 5);
+        assertThat(SparseCollections.iterate(mArray).keys().reverse().bottomK(10)).containsExactly(
+                0, 1, 2, 3, 4);
+        assertThat(SparseCollections.iterate(mArray).values().topK(0)).isEmpty();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .keys()
+                                    .topK(Integer.MAX_VALUE)).containsExactly(4, 3, 2, 1, 0);
+        assertThat(SparseCollections.iterate(array)
+                                    .values()
+                                    .bottomK(Integer.MAX_VALUE)).containsExactly(0, 1, 2, 3, 4, 5,
+                                                                                 6, 7, 8, 9, 10,
+                                                                                 11, 12, 13, 14,
+                                                                                 15, 16, 17, 18,
+                                                                                 19);
+        assertThat(SparseCollections.iterate(mArray).values().topK(2, new Comparator<Integer>() {
+
+            @Override
+            public int compare(final Integer lhs, final Integer rhs) {
+
+                return (lhs % 2) - (rhs % 2);
+            }
+        })).hasSize(2).containsOnly(1, 3);
+
+        try {
+
+            SparseCollections.iterate(mArray).values().bottomK(-1);
+
+            fail();
+
+        } catch (final IllegalArgumentException ignored) {
+
+        }
+    }
+
     public void testTranslations() {
 
         final SparseIntArray array1 =
@@ -869,6 +1838,28 @@ public class SparseIntArrayTest extends AndroidTestCase {
         assertThat(SparseCollections.iterate(array1).toImmutableList()).containsExactly(
                 SparseEntries.entry(0, 1), SparseEntries.entry(1, 2), SparseEntries.entry(2, 3),
                 SparseEntries.entry(3, 4), SparseEntries.entry(4, 5));
+        assertThat(SparseCollections.iterate(array1)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .reverse()
+                                    .replaceValues(new IntTranslator() {
+
+                                        @Override
+                                        public int translate(final int value) {
+
+                                            return value * 10;
+                                        }
+                                    })
+                                    .values()).containsExactly(40, 30, 20);
+        assertThat(SparseCollections.iterate(array1).values()).containsExactly(1, 20, 30, 40, 5);
+        SparseCollections.iterate(array1).only().keyRange(1, 3).replaceValues(new IntTranslator() {
+
+            @Override
+            public int translate(final int value) {
+
+                return value / 10;
+            }
+        });
 
         final SparseIntArray array2 =
                 SparseCollections.iterate(mArray).translate(new IntTranslator() {
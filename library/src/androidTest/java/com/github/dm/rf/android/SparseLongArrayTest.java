@@ -26,6 +26,9 @@ import com.github.dm.rf.android.entry.IntSparseLongEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseLongEntry;
 import com.github.dm.rf.android.entry.SparseEntries;
 import com.github.dm.rf.android.entry.SparseLongArrayEntry;
+import com.github.dm.rf.android.iterator.LongSparseIterable.LongAction;
+import com.github.dm.rf.android.iterator.LongSparseIterable.LongCondition;
+import com.github.dm.rf.android.iterator.LongSparseIterable.LongReducer;
 import com.github.dm.rf.android.iterator.SparseIterable.Action;
 import com.github.dm.rf.android.iterator.SparseIterable.Condition;
 import com.github.dm.rf.android.translator.IntTranslator;
@@ -54,6 +57,29 @@ public class SparseLongArrayTest extends AndroidTestCase {
 
     private SparseLongArray mArray;
 
+    public void testAggregations() {
+
+        if (VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN_MR2) {
+
+            return;
+        }
+
+        assertThat(SparseCollections.iterate(mArray).count()).isEqualTo(5);
+        assertThat(SparseCollections.iterate(mArray).values().sum()).isEqualTo(10);
+        assertThat(SparseCollections.iterate(mArray).values().but().first(1).average()).isEqualTo(
+                2.5);
+        assertThat(SparseCollections.iterate(mArray).values().reverse().max()).isEqualTo(4);
+        assertThat(SparseCollections.iterate(mArray).values().only().from(1).min()).isEqualTo(1);
+        assertThat(SparseCollections.iterate(mArray).values().reduce(0, new LongReducer() {
+
+            @Override
+            public long reduce(final long value, final long element) {
+
+                return Math.max(value, element * element);
+            }
+        })).isEqualTo(16);
+    }
+
     public void testContains() {
 
         if (VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN_MR2) {
@@ -162,6 +188,20 @@ public class SparseLongArrayTest extends AndroidTestCase {
                                     .to(2)
                                     .containsAnyKey(Arrays.asList(2, 3))).isTrue();
 
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 0, 4, 2)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAllKeys(4, 7, 0)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7, 3)).isTrue();
+        assertThat(SparseCollections.iterate(mArray).containsAnyKey(-1, 7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAllKeys(Arrays.asList(3, 1))).isTrue();
+        assertThat(SparseCollections.iterate(mArray)
+                                    .reverse()
+                                    .containsAnyKey(Arrays.asList(9, 5))).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().containsKey(7)).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().positionOfKey(7)).isEqualTo(-1);
+        assertThat(SparseCollections.iterate(mArray).reverse().indexOfKey(7)).isEqualTo(-1);
+
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue(3)).isTrue();
         assertThat(SparseCollections.iterate(mArray).but().to(2).containsValue(9)).isFalse();
         assertThat(SparseCollections.iterate(mArray)
@@ -558,6 +598,32 @@ public class SparseLongArrayTest extends AndroidTestCase {
                                     .but()
                                     .last(2)
                                     .keys()).containsExactly(2);
+
+        final ArrayList<Long> values = new ArrayList<Long>();
+
+        for (long i = 99; i > 2; --i) {
+
+            values.add(i);
+        }
+
+        values.add(null);
+
+        assertThat(SparseCollections.iterate(mArray).only().values(values).keys()).containsExactly(
+                3, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .but()
+                                    .values((Iterable<Long>) values)
+                                    .keys()).containsExactly(0, 1, 2);
+
+        final ArrayList<Long> empty = new ArrayList<Long>();
+
+        assertThat(SparseCollections.iterate(mArray).only().values(empty).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().values(empty).keys()).containsExactly(
+                0, 1, 2, 3, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .values(Arrays.asList((Long) null))
+                                    .keys()).isEmpty();
     }
 
     public void testImmutable() {
@@ -755,6 +821,75 @@ public class SparseLongArrayTest extends AndroidTestCase {
         }
     }
 
+    public void testKeyRange() {
+
+        if (VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN_MR2) {
+
+            return;
+        }
+
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(1, 3).keys()).containsExactly(
+                1, 2, 3);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .reverse()
+                                    .keys()).containsExactly(3, 2, 1);
+        assertThat(SparseCollections.iterate(mArray).reverse().only().keyRange(3, 10).keys())
+                .containsExactly(4, 3);
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(3, 1).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).only().keyRange(5, 10).keys()).isEmpty();
+        assertThat(SparseCollections.iterate(mArray).but().keyRange(1, 3).keys()).containsExactly(
+                0, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .only()
+                                    .first(2)
+                                    .keys()).containsExactly(1, 2);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 4)
+                                    .keys()).containsExactly(1);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(2, 10)
+                                    .only()
+                                    .keys(1, 3, 4)
+                                    .keys()).containsExactly(3, 4);
+        assertThat(SparseCollections.iterate(mArray)
+                                    .only()
+                                    .keyRange(0, 3)
+                                    .reverse()
+                                    .only()
+                                    .first(2)
+                                    .only()
+                                    .keyRange(1, 3)
+                                    .keys()).containsExactly(3, 2);
+
+        assertThat(SparseCollections.iterate(mArray).only().key(3).positionOfKey(3)).isZero();
+        assertThat(SparseCollections.iterate(mArray).only().key(3).indexOfKey(3)).isEqualTo(3);
+        assertThat(SparseCollections.iterate(mArray).only().keys(4, 1).keys()).containsExactly(
+                1, 4);
+        assertThat(SparseCollections.iterate(mArray).only().keys().keys()).isEmpty();
+
+        assertThat(SparseCollections.iterate(mArray).translateKeys(new IntTranslator() {
+
+            @Override
+            public int translate(final int value) {
+
+                return 4 - value;
+            }
+
+        }).only().keyRange(0, 1).keys()).containsExactly(1, 0);
+
+        SparseCollections.iterate(mArray).only().keyRange(1, 2).remove();
+
+        assertThat(SparseCollections.iterate(mArray).keys()).containsExactly(0, 3, 4);
+    }
+
     public void testParcelable() {
 
         if (VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN_MR2) {
@@ -840,6 +975,45 @@ public class SparseLongArrayTest extends AndroidTestCase {
         assertThat(parcelables).containsExactly(filledArray);
     }
 
+    public void testPrimitives() {
+
+        if (VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN_MR2) {
+
+            return;
+        }
+
+        final ArrayList<Long> values = new ArrayList<Long>();
+
+        SparseCollections.iterate(mArray).only().from(2).values().forEachLong(new LongAction() {
+
+            @Override
+            public void onNext(final long element, final int count, final int index) {
+
+                values.add(element);
+            }
+        });
+
+        assertThat(values).containsExactly(2L, 3L, 4L);
+
+        assertThat(SparseCollections.iterate(mArray).values().anyLong(new LongCondition() {
+
+            @Override
+            public boolean onNext(final long element, final int count, final int index) {
+
+                return (element > 4);
+            }
+        })).isFalse();
+        assertThat(SparseCollections.iterate(mArray).reverse().values().eachLong(
+                new LongCondition() {
+
+                    @Override
+                    public boolean onNext(final long element, final int count, final int index) {
+
+                        return (element == (4 - count));
+                    }
+                })).isTrue();
+    }
+
     public void testRemove() throws Exception {
 
         if (VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN_MR2) {
@@ -0,0 +1,251 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.collection;
+
+import android.util.SparseArray;
+
+/**
+ * Implementation of a sparse array of objects suitable for storing a very large number of
+ * entries.
+ * <p/>
+ * Unlike the platform implementation, which keeps all the keys and values in two arrays, and thus
+ * needs to shift the whole tail of them on each insertion or removal, this class stores the
+ * entries in a tree of bounded size nodes. Hence both the positional and the key access, as well
+ * as any modification, take a time growing with the logarithm of the number of entries.<br/>
+ * Cloning an array takes constant time, since the nodes are shared by the two instances and
+ * copied only when modified.
+ * <p/>
+ * Since the class extends {@link SparseArray}, the instances can be iterated like any other
+ * sparse array.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <V> the value type.
+ */
+public class ChunkedSparseArray<V> extends SparseArray<V> {
+
+    private Object mOwner = new Object();
+
+    private final IntKeyTree mTree;
+
+    /**
+     * Constructor.
+     */
+    public ChunkedSparseArray() {
+
+        this(new IntKeyTree(true));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tree the tree storing the entries.
+     */
+    private ChunkedSparseArray(final IntKeyTree tree) {
+
+        super(0);
+
+        mTree = tree;
+    }
+
+    @Override
+    public void append(final int key, final V value) {
+
+        final IntKeyTree tree = mTree;
+
+        final int size = tree.size();
+
+        if ((size == 0) || (key > tree.keyAt(size - 1))) {
+
+            tree.insertAt(size, key, mOwner);
+
+            ((Object[]) tree.editedValues())[tree.editedIndex()] = value;
+
+        } else {
+
+            put(key, value);
+        }
+    }
+
+    @Override
+    public void clear() {
+
+        mTree.clear();
+    }
+
+    @Override
+    public ChunkedSparseArray<V> clone() {
+
+        // The nodes are now shared, so both the instances must copy them before any modification
+
+        final ChunkedSparseArray<V> clone = new ChunkedSparseArray<V>(new IntKeyTree(mTree));
+        mOwner = new Object();
+
+        return clone;
+    }
+
+    @Override
+    public void delete(final int key) {
+
+        final IntKeyTree tree = mTree;
+
+        final int index = tree.indexOfKey(key);
+
+        if (index >= 0) {
+
+            tree.removeAt(index, mOwner);
+        }
+    }
+
+    @Override
+    public V get(final int key) {
+
+        return get(key, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final int key, final V valueIfKeyNotFound) {
+
+        final IntKeyTree tree = mTree;
+
+        final int index = tree.indexOfKey(key);
+
+        if (index < 0) {
+
+            return valueIfKeyNotFound;
+        }
+
+        return (V) tree.objectValueAt(index);
+    }
+
+    @Override
+    public int indexOfKey(final int key) {
+
+        return mTree.indexOfKey(key);
+    }
+
+    @Override
+    public int indexOfValue(final V value) {
+
+        final IntKeyTree tree = mTree;
+
+        final int size = tree.size();
+
+        for (int i = 0; i < size; ++i) {
+
+            if (tree.objectValueAt(i) == value) {
+
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int keyAt(final int index) {
+
+        return mTree.keyAt(index);
+    }
+
+    @Override
+    public void put(final int key, final V value) {
+
+        final IntKeyTree tree = mTree;
+
+        tree.put(key, mOwner);
+
+        ((Object[]) tree.editedValues())[tree.editedIndex()] = value;
+    }
+
+    @Override
+    public void remove(final int key) {
+
+        delete(key);
+    }
+
+    @Override
+    public void removeAt(final int index) {
+
+        mTree.removeAt(index, mOwner);
+    }
+
+    @Override
+    public void removeAtRange(final int index, final int size) {
+
+        final IntKeyTree tree = mTree;
+
+        final Object owner = mOwner;
+
+        final int end = Math.min(tree.size(), index + size);
+
+        for (int i = end - 1; i >= index; --i) {
+
+            tree.removeAt(i, owner);
+        }
+    }
+
+    @Override
+    public void setValueAt(final int index, final V value) {
+
+        final IntKeyTree tree = mTree;
+
+        tree.editAt(index, mOwner);
+
+        ((Object[]) tree.editedValues())[tree.editedIndex()] = value;
+    }
+
+    @Override
+    public int size() {
+
+        return mTree.size();
+    }
+
+    @Override
+    public String toString() {
+
+        final IntKeyTree tree = mTree;
+
+        final int size = tree.size();
+
+        if (size == 0) {
+
+            return "{}";
+        }
+
+        final StringBuilder builder = new StringBuilder(size * 28);
+
+        builder.append('{');
+
+        for (int i = 0; i < size; ++i) {
+
+            if (i > 0) {
+
+                builder.append(", ");
+            }
+
+            builder.append(tree.keyAt(i)).append('=').append(tree.objectValueAt(i));
+        }
+
+        return builder.append('}').toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V valueAt(final int index) {
+
+        return (V) mTree.objectValueAt(index);
+    }
+}
\ No newline at end of file
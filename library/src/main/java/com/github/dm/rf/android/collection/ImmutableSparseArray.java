@@ -0,0 +1,359 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.collection;
+
+import android.util.SparseArray;
+
+/**
+ * Persistent implementation of a sparse array of objects.
+ * <p/>
+ * The instances of this class cannot be modified, so that any call to one of the
+ * {@link SparseArray} mutator methods results in an {@link UnsupportedOperationException}.
+ * Updated versions of an array are instead created through the {@link #with(int, Object)} and
+ * {@link #without(int)} methods. Each new version shares most of its data with the original one,
+ * since the entries are stored in a tree of bounded size nodes and only the ones on the path
+ * leading to the modified entry get copied. Hence both the time and the memory needed by an
+ * update grow with the logarithm of the number of entries.
+ * <p/>
+ * Since the class extends {@link SparseArray}, the instances can be iterated like any other
+ * sparse array, though any attempt to remove an element will fail.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <V> the value type.
+ */
+public class ImmutableSparseArray<V> extends SparseArray<V> {
+
+    private static final ImmutableSparseArray<?> EMPTY =
+            new ImmutableSparseArray<Object>(new IntKeyTree(true));
+
+    private final IntKeyTree mTree;
+
+    /**
+     * Constructor.
+     *
+     * @param tree the tree storing the entries.
+     */
+    private ImmutableSparseArray(final IntKeyTree tree) {
+
+        super(0);
+
+        mTree = tree;
+    }
+
+    /**
+     * Returns the empty array.
+     *
+     * @return the array instance.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> ImmutableSparseArray<V> empty() {
+
+        return (ImmutableSparseArray<V>) EMPTY;
+    }
+
+    /**
+     * Creates a new immutable array containing the same entries as the specified one.
+     *
+     * @param array the array to copy.
+     * @return the new array instance.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> ImmutableSparseArray<V> from(final SparseArray<? extends V> array) {
+
+        if (array == null) {
+
+            throw new IllegalArgumentException();
+        }
+
+        if (array instanceof ImmutableSparseArray) {
+
+            return (ImmutableSparseArray<V>) array;
+        }
+
+        final int size = array.size();
+
+        if (size == 0) {
+
+            return empty();
+        }
+
+        final IntKeyTree tree = new IntKeyTree(true);
+
+        final Object owner = new Object();
+
+        for (int i = 0; i < size; ++i) {
+
+            tree.insertAt(i, array.keyAt(i), owner);
+
+            ((Object[]) tree.editedValues())[tree.editedIndex()] = array.valueAt(i);
+        }
+
+        return new ImmutableSparseArray<V>(tree);
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void append(final int key, final V value) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void clear() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns this instance, since it cannot be modified.
+     *
+     * @return this array.
+     */
+    @Override
+    public ImmutableSparseArray<V> clone() {
+
+        return this;
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void delete(final int key) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V get(final int key) {
+
+        return get(key, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final int key, final V valueIfKeyNotFound) {
+
+        final IntKeyTree tree = mTree;
+
+        final int index = tree.indexOfKey(key);
+
+        if (index < 0) {
+
+            return valueIfKeyNotFound;
+        }
+
+        return (V) tree.objectValueAt(index);
+    }
+
+    @Override
+    public int indexOfKey(final int key) {
+
+        return mTree.indexOfKey(key);
+    }
+
+    @Override
+    public int indexOfValue(final V value) {
+
+        final IntKeyTree tree = mTree;
+
+        final int size = tree.size();
+
+        for (int i = 0; i < size; ++i) {
+
+            if (tree.objectValueAt(i) == value) {
+
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int keyAt(final int index) {
+
+        return mTree.keyAt(index);
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void put(final int key, final V value) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void remove(final int key) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void removeAt(final int index) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void removeAtRange(final int index, final int size) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void setValueAt(final int index, final V value) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+
+        return mTree.size();
+    }
+
+    @Override
+    public String toString() {
+
+        final IntKeyTree tree = mTree;
+
+        final int size = tree.size();
+
+        if (size == 0) {
+
+            return "{}";
+        }
+
+        final StringBuilder builder = new StringBuilder(size * 28);
+
+        builder.append('{');
+
+        for (int i = 0; i < size; ++i) {
+
+            if (i > 0) {
+
+                builder.append(", ");
+            }
+
+            builder.append(tree.keyAt(i)).append('=').append(tree.objectValueAt(i));
+        }
+
+        return builder.append('}').toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V valueAt(final int index) {
+
+        return (V) mTree.objectValueAt(index);
+    }
+
+    /**
+     * Returns a new version of this array in which the specified key is mapped to the specified
+     * value.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the new array instance or this one if the key is already mapped to the same value.
+     */
+    public ImmutableSparseArray<V> with(final int key, final V value) {
+
+        final IntKeyTree tree = mTree;
+
+        final int index = tree.indexOfKey(key);
+
+        if ((index >= 0) && (tree.objectValueAt(index) == value)) {
+
+            return this;
+        }
+
+        final IntKeyTree newTree = new IntKeyTree(tree);
+
+        final Object owner = new Object();
+
+        if (index >= 0) {
+
+            newTree.editAt(index, owner);
+
+        } else {
+
+            newTree.insertAt(~index, key, owner);
+        }
+
+        ((Object[]) newTree.editedValues())[newTree.editedIndex()] = value;
+
+        return new ImmutableSparseArray<V>(newTree);
+    }
+
+    /**
+     * Returns a new version of this array not containing the specified key.
+     *
+     * @param key the key.
+     * @return the new array instance or this one if the key is not present.
+     */
+    public ImmutableSparseArray<V> without(final int key) {
+
+        final IntKeyTree tree = mTree;
+
+        final int index = tree.indexOfKey(key);
+
+        if (index < 0) {
+
+            return this;
+        }
+
+        final IntKeyTree newTree = new IntKeyTree(tree);
+
+        newTree.removeAt(index, new Object());
+
+        return new ImmutableSparseArray<V>(newTree);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,320 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.collection;
+
+import android.util.SparseIntArray;
+
+/**
+ * Persistent implementation of a sparse array of integers.
+ * <p/>
+ * The instances of this class cannot be modified, so that any call to one of the
+ * {@link SparseIntArray} mutator methods results in an {@link UnsupportedOperationException}.
+ * Updated versions of an array are instead created through the {@link #with(int, int)} and
+ * {@link #without(int)} methods. Each new version shares most of its data with the original one,
+ * since the entries are stored in a tree of bounded size nodes and only the ones on the path
+ * leading to the modified entry get copied. Hence both the time and the memory needed by an
+ * update grow with the logarithm of the number of entries.
+ * <p/>
+ * Since the class extends {@link SparseIntArray}, the instances can be iterated like any other
+ * sparse array, though any attempt to remove an element will fail.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public class ImmutableSparseIntArray extends SparseIntArray {
+
+    private static final ImmutableSparseIntArray EMPTY =
+            new ImmutableSparseIntArray(new IntKeyTree(false));
+
+    private final IntKeyTree mTree;
+
+    /**
+     * Constructor.
+     *
+     * @param tree the tree storing the entries.
+     */
+    private ImmutableSparseIntArray(final IntKeyTree tree) {
+
+        super(0);
+
+        mTree = tree;
+    }
+
+    /**
+     * Returns the empty array.
+     *
+     * @return the array instance.
+     */
+    public static ImmutableSparseIntArray empty() {
+
+        return EMPTY;
+    }
+
+    /**
+     * Creates a new immutable array containing the same entries as the specified one.
+     *
+     * @param array the array to copy.
+     * @return the new array instance.
+     */
+    public static ImmutableSparseIntArray from(final SparseIntArray array) {
+
+        if (array == null) {
+
+            throw new IllegalArgumentException();
+        }
+
+        if (array instanceof ImmutableSparseIntArray) {
+
+            return (ImmutableSparseIntArray) array;
+        }
+
+        final int size = array.size();
+
+        if (size == 0) {
+
+            return EMPTY;
+        }
+
+        final IntKeyTree tree = new IntKeyTree(false);
+
+        final Object owner = new Object();
+
+        for (int i = 0; i < size; ++i) {
+
+            tree.insertAt(i, array.keyAt(i), owner);
+
+            ((int[]) tree.editedValues())[tree.editedIndex()] = array.valueAt(i);
+        }
+
+        return new ImmutableSparseIntArray(tree);
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void append(final int key, final int value) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void clear() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns this instance, since it cannot be modified.
+     *
+     * @return this array.
+     */
+    @Override
+    public ImmutableSparseIntArray clone() {
+
+        return this;
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void delete(final int key) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int get(final int key) {
+
+        return get(key, 0);
+    }
+
+    @Override
+    public int get(final int key, final int valueIfKeyNotFound) {
+
+        final IntKeyTree tree = mTree;
+
+        final int index = tree.indexOfKey(key);
+
+        if (index < 0) {
+
+            return valueIfKeyNotFound;
+        }
+
+        return tree.intValueAt(index);
+    }
+
+    @Override
+    public int indexOfKey(final int key) {
+
+        return mTree.indexOfKey(key);
+    }
+
+    @Override
+    public int indexOfValue(final int value) {
+
+        final IntKeyTree tree = mTree;
+
+        final int size = tree.size();
+
+        for (int i = 0; i < size; ++i) {
+
+            if (tree.intValueAt(i) == value) {
+
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int keyAt(final int index) {
+
+        return mTree.keyAt(index);
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void put(final int key, final int value) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void removeAt(final int index) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+
+        return mTree.size();
+    }
+
+    @Override
+    public String toString() {
+
+        final IntKeyTree tree = mTree;
+
+        final int size = tree.size();
+
+        if (size == 0) {
+
+            return "{}";
+        }
+
+        final StringBuilder builder = new StringBuilder(size * 28);
+
+        builder.append('{');
+
+        for (int i = 0; i < size; ++i) {
+
+            if (i > 0) {
+
+                builder.append(", ");
+            }
+
+            builder.append(tree.keyAt(i)).append('=').append(tree.intValueAt(i));
+        }
+
+        return builder.append('}').toString();
+    }
+
+    @Override
+    public int valueAt(final int index) {
+
+        return mTree.intValueAt(index);
+    }
+
+    /**
+     * Returns a new version of this array in which the specified key is mapped to the specified
+     * value.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the new array instance or this one if the key is already mapped to the same value.
+     */
+    public ImmutableSparseIntArray with(final int key, final int value) {
+
+        final IntKeyTree tree = mTree;
+
+        final int index = tree.indexOfKey(key);
+
+        if ((index >= 0) && (tree.intValueAt(index) == value)) {
+
+            return this;
+        }
+
+        final IntKeyTree newTree = new IntKeyTree(tree);
+
+        final Object owner = new Object();
+
+        if (index >= 0) {
+
+            newTree.editAt(index, owner);
+
+        } else {
+
+            newTree.insertAt(~index, key, owner);
+        }
+
+        ((int[]) newTree.editedValues())[newTree.editedIndex()] = value;
+
+        return new ImmutableSparseIntArray(newTree);
+    }
+
+    /**
+     * Returns a new version of this array not containing the specified key.
+     *
+     * @param key the key.
+     * @return the new array instance or this one if the key is not present.
+     */
+    public ImmutableSparseIntArray without(final int key) {
+
+        final IntKeyTree tree = mTree;
+
+        final int index = tree.indexOfKey(key);
+
+        if (index < 0) {
+
+            return this;
+        }
+
+        final IntKeyTree newTree = new IntKeyTree(tree);
+
+        newTree.removeAt(index, new Object());
+
+        return new ImmutableSparseIntArray(newTree);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,832 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.collection;
+
+/**
+ * B+-tree like structure storing integer keys, sorted in ascending order, together with the
+ * associated values, and supporting both key and positional access in logarithmic time.
+ * <p/>
+ * Each node is tagged with the object owning it: the modifications performed on behalf of the
+ * same owner are applied in place, while the nodes belonging to a different one are copied first.
+ * In such a way both mutable and persistent collections can be built on top of it, by passing the
+ * same owner to each call or a new one respectively.
+ * <p/>
+ * The values are stored in arrays of integers or objects and are read and written by the caller
+ * through the position of the last edited entry.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+final class IntKeyTree {
+
+    /**
+     * The maximum number of entries or children stored in a single node.
+     */
+    static final int NODE_SIZE = 64;
+
+    private static final int MERGE_THRESHOLD = NODE_SIZE / 4;
+
+    private final boolean mIsObject;
+
+    private LeafRange mCache;
+
+    private int mEditIndex;
+
+    private Leaf mEditLeaf;
+
+    private Node mRoot;
+
+    private int mSize;
+
+    /**
+     * Creates a new empty tree.
+     *
+     * @param isObject whether the values are objects or integers.
+     */
+    public IntKeyTree(final boolean isObject) {
+
+        mIsObject = isObject;
+    }
+
+    /**
+     * Creates a new tree sharing all the nodes with the specified one.
+     *
+     * @param other the tree to share.
+     */
+    public IntKeyTree(final IntKeyTree other) {
+
+        mIsObject = other.mIsObject;
+        mRoot = other.mRoot;
+        mSize = other.mSize;
+    }
+
+    private static int binarySearch(final int[] array, final int count, final int value) {
+
+        // Re-implementing binary search since it is not available in API level 8
+
+        int low = 0;
+        int high = count - 1;
+
+        while (low <= high) {
+
+            final int mid = (low + high) >>> 1;
+
+            final int match = array[mid];
+
+            if (match < value) {
+
+                low = mid + 1;
+
+            } else if (match > value) {
+
+                high = mid - 1;
+
+            } else {
+
+                return mid;
+            }
+        }
+
+        return ~low;
+    }
+
+    private static int minKey(final Node node) {
+
+        if (node instanceof Leaf) {
+
+            return ((Leaf) node).mKeys[0];
+        }
+
+        return ((Inner) node).mMinKeys[0];
+    }
+
+    private static int sizeOf(final Node node) {
+
+        if (node instanceof Leaf) {
+
+            return node.mCount;
+        }
+
+        final Inner inner = (Inner) node;
+
+        final int[] sizes = inner.mSizes;
+
+        final int count = inner.mCount;
+
+        int size = 0;
+
+        for (int i = 0; i < count; ++i) {
+
+            size += sizes[i];
+        }
+
+        return size;
+    }
+
+    /**
+     * Removes all the entries from this tree.
+     */
+    public void clear() {
+
+        mCache = null;
+        mEditLeaf = null;
+        mRoot = null;
+        mSize = 0;
+    }
+
+    /**
+     * Makes the entry at the specified position the edited one.
+     *
+     * @param position the entry position.
+     * @param owner    the owner of the modification.
+     * @throws ArrayIndexOutOfBoundsException if the position is out of range.
+     */
+    public void editAt(final int position, final Object owner) {
+
+        checkPosition(position);
+
+        mCache = null;
+
+        Node node = mRoot = editable(mRoot, owner);
+
+        int index = position;
+
+        while (node instanceof Inner) {
+
+            final Inner inner = (Inner) node;
+
+            final int[] sizes = inner.mSizes;
+
+            int i = 0;
+
+            while (index >= sizes[i]) {
+
+                index -= sizes[i++];
+            }
+
+            node = inner.mChildren[i] = editable(inner.mChildren[i], owner);
+        }
+
+        mEditLeaf = (Leaf) node;
+        mEditIndex = index;
+    }
+
+    /**
+     * Gets the index of the last edited entry inside the returned values array.
+     *
+     * @return the entry index.
+     * @see #editedValues()
+     */
+    public int editedIndex() {
+
+        return mEditIndex;
+    }
+
+    /**
+     * Gets the array storing the value of the last edited entry.
+     *
+     * @return the array of integers or objects.
+     * @see #editedIndex()
+     */
+    public Object editedValues() {
+
+        return mEditLeaf.mValues;
+    }
+
+    /**
+     * Returns the position of the specified key.
+     *
+     * @param key the key to search for.
+     * @return the key position or the binary complement of the insertion point if the key is not
+     * found.
+     */
+    public int indexOfKey(final int key) {
+
+        Node node = mRoot;
+
+        if (node == null) {
+
+            return ~0;
+        }
+
+        int start = 0;
+
+        while (node instanceof Inner) {
+
+            final Inner inner = (Inner) node;
+
+            final int index = binarySearch(inner.mMinKeys, inner.mCount, key);
+
+            if (index == -1) {
+
+                return ~start;
+            }
+
+            final int child = (index >= 0) ? index : ~index - 1;
+
+            final int[] sizes = inner.mSizes;
+
+            for (int i = 0; i < child; ++i) {
+
+                start += sizes[i];
+            }
+
+            node = inner.mChildren[child];
+        }
+
+        final Leaf leaf = (Leaf) node;
+
+        final int index = binarySearch(leaf.mKeys, leaf.mCount, key);
+
+        return (index >= 0) ? start + index : ~(start - index - 1);
+    }
+
+    /**
+     * Inserts the specified key at the specified position, and makes the new entry the edited
+     * one.
+     * <p/>
+     * Note that the caller is responsible for preserving the ordering of the keys.
+     *
+     * @param position the insertion position.
+     * @param key      the key.
+     * @param owner    the owner of the modification.
+     */
+    public void insertAt(final int position, final int key, final Object owner) {
+
+        mCache = null;
+
+        // Nodes are split unevenly when appending so to keep them almost full
+
+        final boolean isAppend = (position == mSize);
+
+        final Node root = mRoot;
+
+        if (root == null) {
+
+            mRoot = new Leaf(owner, newValues());
+
+        } else if (root.mCount == NODE_SIZE) {
+
+            final Inner inner = new Inner(owner);
+
+            inner.mChildren[0] = root;
+            inner.mSizes[0] = mSize;
+            inner.mMinKeys[0] = minKey(root);
+            inner.mCount = 1;
+
+            split(inner, 0, isAppend, owner);
+
+            mRoot = inner;
+
+        } else {
+
+            mRoot = editable(root, owner);
+        }
+
+        Node node = mRoot;
+
+        int index = position;
+
+        while (node instanceof Inner) {
+
+            final Inner inner = (Inner) node;
+
+            final int[] sizes = inner.mSizes;
+
+            final int last = inner.mCount - 1;
+
+            int i = 0;
+
+            while ((i < last) && (index > sizes[i])) {
+
+                index -= sizes[i++];
+            }
+
+            Node child = inner.mChildren[i] = editable(inner.mChildren[i], owner);
+
+            if (child.mCount == NODE_SIZE) {
+
+                split(inner, i, isAppend, owner);
+
+                if (index > sizes[i]) {
+
+                    index -= sizes[i++];
+                }
+
+                child = inner.mChildren[i];
+            }
+
+            ++sizes[i];
+
+            if (index == 0) {
+
+                inner.mMinKeys[i] = key;
+            }
+
+            node = child;
+        }
+
+        final Leaf leaf = (Leaf) node;
+
+        final int count = leaf.mCount;
+
+        final int[] keys = leaf.mKeys;
+
+        final Object values = leaf.mValues;
+
+        System.arraycopy(keys, index, keys, index + 1, count - index);
+        System.arraycopy(values, index, values, index + 1, count - index);
+
+        keys[index] = key;
+        leaf.mCount = count + 1;
+
+        ++mSize;
+
+        mEditLeaf = leaf;
+        mEditIndex = index;
+    }
+
+    /**
+     * Gets the value at the specified position.
+     *
+     * @param position the entry position.
+     * @return the integer value.
+     * @throws ArrayIndexOutOfBoundsException if the position is out of range.
+     */
+    public int intValueAt(final int position) {
+
+        final LeafRange range = rangeOf(position);
+
+        return ((int[]) range.mLeaf.mValues)[position - range.mStart];
+    }
+
+    /**
+     * Gets the key at the specified position.
+     *
+     * @param position the entry position.
+     * @return the key.
+     * @throws ArrayIndexOutOfBoundsException if the position is out of range.
+     */
+    public int keyAt(final int position) {
+
+        final LeafRange range = rangeOf(position);
+
+        return range.mLeaf.mKeys[position - range.mStart];
+    }
+
+    /**
+     * Gets the value at the specified position.
+     *
+     * @param position the entry position.
+     * @return the object value.
+     * @throws ArrayIndexOutOfBoundsException if the position is out of range.
+     */
+    public Object objectValueAt(final int position) {
+
+        final LeafRange range = rangeOf(position);
+
+        return ((Object[]) range.mLeaf.mValues)[position - range.mStart];
+    }
+
+    /**
+     * Makes the entry with the specified key the edited one, inserting a new one if missing.
+     *
+     * @param key   the key.
+     * @param owner the owner of the modification.
+     */
+    public void put(final int key, final Object owner) {
+
+        final int index = indexOfKey(key);
+
+        if (index >= 0) {
+
+            editAt(index, owner);
+
+        } else {
+
+            insertAt(~index, key, owner);
+        }
+    }
+
+    /**
+     * Removes the entry at the specified position.
+     *
+     * @param position the entry position.
+     * @param owner    the owner of the modification.
+     * @throws ArrayIndexOutOfBoundsException if the position is out of range.
+     */
+    public void removeAt(final int position, final Object owner) {
+
+        checkPosition(position);
+
+        mCache = null;
+        mEditLeaf = null;
+
+        final Node root = mRoot = editable(mRoot, owner);
+
+        remove(root, position, owner);
+
+        if (root.mCount == 0) {
+
+            mRoot = null;
+
+        } else if ((root.mCount == 1) && (root instanceof Inner)) {
+
+            mRoot = ((Inner) root).mChildren[0];
+        }
+
+        --mSize;
+    }
+
+    /**
+     * Returns the number of entries stored in this tree.
+     *
+     * @return the entry count.
+     */
+    public int size() {
+
+        return mSize;
+    }
+
+    private void checkPosition(final int position) {
+
+        if ((position < 0) || (position >= mSize)) {
+
+            throw new ArrayIndexOutOfBoundsException(position);
+        }
+    }
+
+    private Node editable(final Node node, final Object owner) {
+
+        if (node.mOwner == owner) {
+
+            return node;
+        }
+
+        if (node instanceof Leaf) {
+
+            final Leaf leaf = (Leaf) node;
+
+            final Object values = newValues();
+
+            System.arraycopy(leaf.mValues, 0, values, 0, leaf.mCount);
+
+            final Leaf copy = new Leaf(owner, values);
+
+            System.arraycopy(leaf.mKeys, 0, copy.mKeys, 0, leaf.mCount);
+
+            copy.mCount = leaf.mCount;
+
+            return copy;
+        }
+
+        final Inner inner = (Inner) node;
+
+        final int count = inner.mCount;
+
+        final Inner copy = new Inner(owner);
+
+        System.arraycopy(inner.mChildren, 0, copy.mChildren, 0, count);
+        System.arraycopy(inner.mMinKeys, 0, copy.mMinKeys, 0, count);
+        System.arraycopy(inner.mSizes, 0, copy.mSizes, 0, count);
+
+        copy.mCount = count;
+
+        return copy;
+    }
+
+    private void merge(final Inner inner, final int index, final Object owner) {
+
+        final int count = inner.mCount;
+
+        if (count < 2) {
+
+            return;
+        }
+
+        final int left = (index < count - 1) ? index : index - 1;
+
+        final int right = left + 1;
+
+        final Node[] children = inner.mChildren;
+
+        final Node rightNode = children[right];
+
+        final int rightCount = rightNode.mCount;
+
+        if ((children[left].mCount + rightCount) > NODE_SIZE) {
+
+            return;
+        }
+
+        final Node leftNode = children[left] = editable(children[left], owner);
+
+        final int leftCount = leftNode.mCount;
+
+        if (leftNode instanceof Leaf) {
+
+            final Leaf leaf = (Leaf) leftNode;
+
+            final Leaf other = (Leaf) rightNode;
+
+            System.arraycopy(other.mKeys, 0, leaf.mKeys, leftCount, rightCount);
+            System.arraycopy(other.mValues, 0, leaf.mValues, leftCount, rightCount);
+
+        } else {
+
+            final Inner node = (Inner) leftNode;
+
+            final Inner other = (Inner) rightNode;
+
+            System.arraycopy(other.mChildren, 0, node.mChildren, leftCount, rightCount);
+            System.arraycopy(other.mMinKeys, 0, node.mMinKeys, leftCount, rightCount);
+            System.arraycopy(other.mSizes, 0, node.mSizes, leftCount, rightCount);
+        }
+
+        leftNode.mCount = leftCount + rightCount;
+        inner.mSizes[left] += inner.mSizes[right];
+
+        removeChild(inner, right);
+    }
+
+    private Object newValues() {
+
+        return (mIsObject) ? new Object[NODE_SIZE] : new int[NODE_SIZE];
+    }
+
+    private LeafRange rangeOf(final int position) {
+
+        checkPosition(position);
+
+        final LeafRange cache = mCache;
+
+        if ((cache != null) && (position >= cache.mStart) && (position < cache.mEnd)) {
+
+            return cache;
+        }
+
+        Node node = mRoot;
+
+        int start = 0;
+
+        while (node instanceof Inner) {
+
+            final Inner inner = (Inner) node;
+
+            final int[] sizes = inner.mSizes;
+
+            int i = 0;
+
+            while ((position - start) >= sizes[i]) {
+
+                start += sizes[i++];
+            }
+
+            node = inner.mChildren[i];
+        }
+
+        final LeafRange range = new LeafRange((Leaf) node, start);
+
+        mCache = range;
+
+        return range;
+    }
+
+    private void remove(final Node node, final int position, final Object owner) {
+
+        if (node instanceof Leaf) {
+
+            final Leaf leaf = (Leaf) node;
+
+            final int count = leaf.mCount - 1;
+
+            final int[] keys = leaf.mKeys;
+
+            final Object values = leaf.mValues;
+
+            System.arraycopy(keys, position + 1, keys, position, count - position);
+            System.arraycopy(values, position + 1, values, position, count - position);
+
+            if (mIsObject) {
+
+                ((Object[]) values)[count] = null;
+            }
+
+            leaf.mCount = count;
+
+            return;
+        }
+
+        final Inner inner = (Inner) node;
+
+        final int[] sizes = inner.mSizes;
+
+        int index = position;
+
+        int i = 0;
+
+        while (index >= sizes[i]) {
+
+            index -= sizes[i++];
+        }
+
+        final Node child = inner.mChildren[i] = editable(inner.mChildren[i], owner);
+
+        remove(child, index, owner);
+
+        --sizes[i];
+
+        if (child.mCount == 0) {
+
+            removeChild(inner, i);
+
+            return;
+        }
+
+        if (index == 0) {
+
+            inner.mMinKeys[i] = minKey(child);
+        }
+
+        if (child.mCount < MERGE_THRESHOLD) {
+
+            merge(inner, i, owner);
+        }
+    }
+
+    private void removeChild(final Inner inner, final int index) {
+
+        final int count = inner.mCount - 1;
+
+        final Node[] children = inner.mChildren;
+
+        final int[] minKeys = inner.mMinKeys;
+
+        final int[] sizes = inner.mSizes;
+
+        System.arraycopy(children, index + 1, children, index, count - index);
+        System.arraycopy(minKeys, index + 1, minKeys, index, count - index);
+        System.arraycopy(sizes, index + 1, sizes, index, count - index);
+
+        children[count] = null;
+        inner.mCount = count;
+    }
+
+    private void split(final Inner inner, final int index, final boolean isAppend,
+            final Object owner) {
+
+        final Node[] children = inner.mChildren;
+
+        final Node child = children[index] = editable(children[index], owner);
+
+        final int count = child.mCount;
+
+        final int half = (isAppend) ? count - 1 : count >> 1;
+
+        final int moved = count - half;
+
+        final Node sibling;
+
+        if (child instanceof Leaf) {
+
+            final Leaf leaf = (Leaf) child;
+
+            final Leaf other = new Leaf(owner, newValues());
+
+            System.arraycopy(leaf.mKeys, half, other.mKeys, 0, moved);
+            System.arraycopy(leaf.mValues, half, other.mValues, 0, moved);
+
+            if (mIsObject) {
+
+                final Object[] values = (Object[]) leaf.mValues;
+
+                for (int i = half; i < count; ++i) {
+
+                    values[i] = null;
+                }
+            }
+
+            sibling = other;
+
+        } else {
+
+            final Inner node = (Inner) child;
+
+            final Inner other = new Inner(owner);
+
+            System.arraycopy(node.mChildren, half, other.mChildren, 0, moved);
+            System.arraycopy(node.mMinKeys, half, other.mMinKeys, 0, moved);
+            System.arraycopy(node.mSizes, half, other.mSizes, 0, moved);
+
+            final Node[] nodeChildren = node.mChildren;
+
+            for (int i = half; i < count; ++i) {
+
+                nodeChildren[i] = null;
+            }
+
+            sibling = other;
+        }
+
+        child.mCount = half;
+        sibling.mCount = moved;
+
+        final int next = index + 1;
+
+        final int parentCount = inner.mCount;
+
+        final int[] minKeys = inner.mMinKeys;
+
+        final int[] sizes = inner.mSizes;
+
+        System.arraycopy(children, next, children, next + 1, parentCount - next);
+        System.arraycopy(minKeys, next, minKeys, next + 1, parentCount - next);
+        System.arraycopy(sizes, next, sizes, next + 1, parentCount - next);
+
+        final int siblingSize = sizeOf(sibling);
+
+        children[next] = sibling;
+        minKeys[next] = minKey(sibling);
+        sizes[next] = siblingSize;
+        sizes[index] -= siblingSize;
+        inner.mCount = parentCount + 1;
+    }
+
+    /**
+     * Inner node storing the children nodes together with their sizes and minimum keys.
+     */
+    private static class Inner extends Node {
+
+        private final Node[] mChildren = new Node[NODE_SIZE];
+
+        private final int[] mMinKeys = new int[NODE_SIZE];
+
+        private final int[] mSizes = new int[NODE_SIZE];
+
+        public Inner(final Object owner) {
+
+            super(owner);
+        }
+    }
+
+    /**
+     * Leaf node storing the entry keys and values.
+     */
+    private static class Leaf extends Node {
+
+        private final int[] mKeys = new int[NODE_SIZE];
+
+        private final Object mValues;
+
+        public Leaf(final Object owner, final Object values) {
+
+            super(owner);
+
+            mValues = values;
+        }
+    }
+
+    /**
+     * Immutable object caching the range of positions covered by a leaf node.
+     */
+    private static class LeafRange {
+
+        private final int mEnd;
+
+        private final Leaf mLeaf;
+
+        private final int mStart;
+
+        public LeafRange(final Leaf leaf, final int start) {
+
+            mLeaf = leaf;
+            mStart = start;
+            mEnd = start + leaf.mCount;
+        }
+    }
+
+    /**
+     * Base tree node.
+     */
+    private static class Node {
+
+        final Object mOwner;
+
+        int mCount;
+
+        public Node(final Object owner) {
+
+            mOwner = owner;
+        }
+    }
+}
\ No newline at end of file
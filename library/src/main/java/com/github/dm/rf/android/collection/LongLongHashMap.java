@@ -0,0 +1,464 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.collection;
+
+/**
+ * Hash map of long keys to long values based on open addressing, and thus not requiring any
+ * boxing.
+ * <p/>
+ * The entries are stored in two dense arrays, so that they can be accessed through their position
+ * like in the platform sparse collections, while a table probed linearly maps each key to the
+ * position of the related entry. Hence lookups, insertions and removals take constant amortized
+ * time.<br/>
+ * Note, however, that the entries are not sorted by key: a new entry is always added after the
+ * existing ones, and when an entry is removed, its position is taken by the last one.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public class LongLongHashMap implements Cloneable {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] mKeys;
+
+    private int mMask;
+
+    private int mSize;
+
+    private int[] mSlots;
+
+    private long[] mValues;
+
+    /**
+     * Constructor.
+     */
+    public LongLongHashMap() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new map able to store the specified number of entries without growing.
+     *
+     * @param initialCapacity the initial capacity.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public LongLongHashMap(final int initialCapacity) {
+
+        if (initialCapacity < 0) {
+
+            throw new IllegalArgumentException();
+        }
+
+        final int capacity = Math.max(1, initialCapacity);
+
+        mKeys = new long[capacity];
+        mValues = new long[capacity];
+
+        rehash(capacity);
+    }
+
+    /**
+     * Removes all the entries from this map.
+     */
+    public void clear() {
+
+        if (mSize > 0) {
+
+            mSize = 0;
+
+            final int[] slots = mSlots;
+
+            for (int i = 0; i < slots.length; ++i) {
+
+                slots[i] = 0;
+            }
+        }
+    }
+
+    @Override
+    public LongLongHashMap clone() {
+
+        try {
+
+            final LongLongHashMap clone = (LongLongHashMap) super.clone();
+
+            clone.mKeys = mKeys.clone();
+            clone.mSlots = mSlots.clone();
+            clone.mValues = mValues.clone();
+
+            return clone;
+
+        } catch (final CloneNotSupportedException e) {
+
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Removes the mapping of the specified key, if any.
+     *
+     * @param key the key.
+     */
+    public void delete(final long key) {
+
+        final int index = indexOfKey(key);
+
+        if (index >= 0) {
+
+            removeAt(index);
+        }
+    }
+
+    /**
+     * Gets the value mapped to the specified key, or <code>0</code> if no mapping exists.
+     *
+     * @param key the key.
+     * @return the value.
+     */
+    public long get(final long key) {
+
+        return get(key, 0);
+    }
+
+    /**
+     * Gets the value mapped to the specified key, or the specified default if no mapping exists.
+     *
+     * @param key                the key.
+     * @param valueIfKeyNotFound the default value.
+     * @return the value.
+     */
+    public long get(final long key, final long valueIfKeyNotFound) {
+
+        final int slot = slotOf(key);
+
+        if (slot < 0) {
+
+            return valueIfKeyNotFound;
+        }
+
+        return mValues[mSlots[slot] - 1];
+    }
+
+    /**
+     * Returns the position of the entry with the specified key.
+     *
+     * @param key the key.
+     * @return the entry position or a negative number if the key is not found.
+     */
+    public int indexOfKey(final long key) {
+
+        final int slot = slotOf(key);
+
+        if (slot < 0) {
+
+            return -1;
+        }
+
+        return mSlots[slot] - 1;
+    }
+
+    /**
+     * Returns the position of the first entry with the specified value.<br/>
+     * Note that this method performs a linear search.
+     *
+     * @param value the value.
+     * @return the entry position or a negative number if the value is not found.
+     */
+    public int indexOfValue(final long value) {
+
+        final long[] values = mValues;
+
+        final int size = mSize;
+
+        for (int i = 0; i < size; ++i) {
+
+            if (values[i] == value) {
+
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets the key of the entry at the specified position.
+     *
+     * @param index the entry position.
+     * @return the key.
+     * @throws ArrayIndexOutOfBoundsException if the position is out of range.
+     */
+    public long keyAt(final int index) {
+
+        checkIndex(index);
+
+        return mKeys[index];
+    }
+
+    /**
+     * Maps the specified key to the specified value, replacing the previous mapping, if any.
+     *
+     * @param key   the key.
+     * @param value the value.
+     */
+    public void put(final long key, final long value) {
+
+        int slot = slotOf(key);
+
+        if (slot >= 0) {
+
+            mValues[mSlots[slot] - 1] = value;
+
+            return;
+        }
+
+        final int size = mSize;
+
+        if (size == mKeys.length) {
+
+            grow();
+
+            slot = slotOf(key);
+        }
+
+        mKeys[size] = key;
+        mValues[size] = value;
+        mSlots[~slot] = size + 1;
+        mSize = size + 1;
+    }
+
+    /**
+     * Removes the entry at the specified position.<br/>
+     * The position of the removed entry is taken by the last one.
+     *
+     * @param index the entry position.
+     * @throws ArrayIndexOutOfBoundsException if the position is out of range.
+     */
+    public void removeAt(final int index) {
+
+        checkIndex(index);
+
+        final long[] keys = mKeys;
+
+        clearSlot(slotOf(keys[index]));
+
+        final int last = --mSize;
+
+        if (index != last) {
+
+            final long key = keys[last];
+
+            mSlots[slotOf(key)] = index + 1;
+            keys[index] = key;
+            mValues[index] = mValues[last];
+        }
+    }
+
+    /**
+     * Sets the value of the entry at the specified position.
+     *
+     * @param index the entry position.
+     * @param value the value.
+     * @throws ArrayIndexOutOfBoundsException if the position is out of range.
+     */
+    public void setValueAt(final int index, final long value) {
+
+        checkIndex(index);
+
+        mValues[index] = value;
+    }
+
+    /**
+     * Returns the number of entries stored in this map.
+     *
+     * @return the entry count.
+     */
+    public int size() {
+
+        return mSize;
+    }
+
+    @Override
+    public String toString() {
+
+        final int size = mSize;
+
+        if (size == 0) {
+
+            return "{}";
+        }
+
+        final long[] keys = mKeys;
+
+        final long[] values = mValues;
+
+        final StringBuilder builder = new StringBuilder(size * 28);
+
+        builder.append('{');
+
+        for (int i = 0; i < size; ++i) {
+
+            if (i > 0) {
+
+                builder.append(", ");
+            }
+
+            builder.append(keys[i]).append('=').append(values[i]);
+        }
+
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Gets the value of the entry at the specified position.
+     *
+     * @param index the entry position.
+     * @return the value.
+     * @throws ArrayIndexOutOfBoundsException if the position is out of range.
+     */
+    public long valueAt(final int index) {
+
+        checkIndex(index);
+
+        return mValues[index];
+    }
+
+    private void checkIndex(final int index) {
+
+        if (index >= mSize) {
+
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    private void clearSlot(final int slot) {
+
+        // Backward shift deletion: the following entries in the same probe sequence are moved back
+        // so that no tombstone is needed
+
+        final long[] keys = mKeys;
+
+        final int[] slots = mSlots;
+
+        final int mask = mMask;
+
+        int hole = slot;
+
+        int next = (slot + 1) & mask;
+
+        int entry;
+
+        while ((entry = slots[next]) != 0) {
+
+            final int home = hash(keys[entry - 1]) & mask;
+
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+
+                slots[hole] = entry;
+                hole = next;
+            }
+
+            next = (next + 1) & mask;
+        }
+
+        slots[hole] = 0;
+    }
+
+    private void grow() {
+
+        final int size = mSize;
+
+        final int capacity = size + Math.max(size, DEFAULT_CAPACITY);
+
+        final long[] keys = new long[capacity];
+
+        final long[] values = new long[capacity];
+
+        System.arraycopy(mKeys, 0, keys, 0, size);
+        System.arraycopy(mValues, 0, values, 0, size);
+
+        mKeys = keys;
+        mValues = values;
+
+        rehash(capacity);
+    }
+
+    private void rehash(final int capacity) {
+
+        // Keep the load factor of the table under 0.5
+
+        int length = 2;
+
+        while (length < (capacity << 1)) {
+
+            length <<= 1;
+        }
+
+        final long[] keys = mKeys;
+
+        final int[] slots = new int[length];
+
+        final int mask = length - 1;
+
+        final int size = mSize;
+
+        for (int i = 0; i < size; ++i) {
+
+            int slot = hash(keys[i]) & mask;
+
+            while (slots[slot] != 0) {
+
+                slot = (slot + 1) & mask;
+            }
+
+            slots[slot] = i + 1;
+        }
+
+        mSlots = slots;
+        mMask = mask;
+    }
+
+    private int slotOf(final long key) {
+
+        final long[] keys = mKeys;
+
+        final int[] slots = mSlots;
+
+        final int mask = mMask;
+
+        int slot = hash(key) & mask;
+
+        int entry;
+
+        while ((entry = slots[slot]) != 0) {
+
+            if (keys[entry - 1] == key) {
+
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return ~slot;
+    }
+
+    private static int hash(final long key) {
+
+        final long hash = key * 0x9e3779b97f4a7c15L;
+
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.entry;
+
+import android.os.Parcel;
+
+/**
+ * Implementation of {@link ParcelableLongSparseLongEntry}.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+class ParcelableLongSparseLongEntryImpl implements ParcelableLongSparseLongEntry {
+
+    public static final Creator<ParcelableLongSparseLongEntryImpl> CREATOR =
+            new Creator<ParcelableLongSparseLongEntryImpl>() {
+
+                public ParcelableLongSparseLongEntryImpl createFromParcel(final Parcel parcel) {
+
+                    return new ParcelableLongSparseLongEntryImpl(parcel);
+                }
+
+                public ParcelableLongSparseLongEntryImpl[] newArray(final int size) {
+
+                    return new ParcelableLongSparseLongEntryImpl[size];
+                }
+            };
+
+    private final long mKey;
+
+    private final long mValue;
+
+    public ParcelableLongSparseLongEntryImpl(final long key, final long value) {
+
+        mKey = key;
+        mValue = value;
+    }
+
+    public ParcelableLongSparseLongEntryImpl(final Parcel parcel) {
+
+        mKey = parcel.readLong();
+        mValue = parcel.readLong();
+    }
+
+    @Override
+    public int describeContents() {
+
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(final Parcel parcel, final int i) {
+
+        parcel.writeLong(mKey);
+        parcel.writeLong(mValue);
+    }
+
+    @Override
+    @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+    public boolean equals(final Object o) {
+
+        return SparseEntries.equal(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return SparseEntries.hashCode(this);
+    }
+
+    @Override
+    public long getKey() {
+
+        return mKey;
+    }
+
+    @Override
+    public long getValue() {
+
+        return mValue;
+    }
+}
\ No newline at end of file
@@ -103,6 +103,18 @@ public class SparseEntries {
         return parcelableEntry(key, value);
     }
 
+    /**
+     * Create a new {@link LongSparseLongEntry} with the specified key and value.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the new entry.
+     */
+    public static LongSparseLongEntry entry(final long key, final long value) {
+
+        return parcelableEntry(key, value);
+    }
+
     /**
      * Returns true if the specified entry is equal to the passed object by using the same rules as
      * {@link java.util.Map.Entry} objects.
@@ -311,6 +323,36 @@ public class SparseEntries {
         return ((entry.getKey() == that.getKey()) && (entry.getValue() == that.getValue()));
     }
 
+    /**
+     * Returns true if the specified entry is equal to the passed object by using the same rules as
+     * {@link java.util.Map.Entry} objects.
+     *
+     * @param entry the entry.
+     * @param other the object to compare.
+     * @return whether the entry is equal to the passed object.
+     */
+    public static boolean equal(final LongSparseLongEntry entry, final Object other) {
+
+        if (entry == other) {
+
+            return true;
+        }
+
+        if (entry == null) {
+
+            return false;
+        }
+
+        if (!(other instanceof LongSparseLongEntry)) {
+
+            return false;
+        }
+
+        final LongSparseLongEntry that = (LongSparseLongEntry) other;
+
+        return ((entry.getKey() == that.getKey()) && (entry.getValue() == that.getValue()));
+    }
+
     /**
      * Returns the hash code of the specified entry computed by using the same rules as
      * {@link java.util.Map.Entry} objects.
@@ -432,6 +474,31 @@ public class SparseEntries {
         return result;
     }
 
+    /**
+     * Returns the hash code of the specified entry computed by using the same rules as
+     * {@link java.util.Map.Entry} objects.
+     *
+     * @param entry the entry.
+     * @return the hash code.
+     */
+    public static int hashCode(final LongSparseLongEntry entry) {
+
+        if (entry == null) {
+
+            return 0;
+        }
+
+        final long key = entry.getKey();
+
+        final long value = entry.getValue();
+
+        int result = (int) (key ^ (key >>> 32));
+
+        result ^= (int) (value ^ (value >>> 32));
+
+        return result;
+    }
+
     /**
      * Returns the hash code of the specified entry computed by using the same rules as
      * {@link java.util.Map.Entry} objects.
@@ -465,6 +532,19 @@ public class SparseEntries {
         return new ParcelableIntSparseLongEntryImpl(key, value);
     }
 
+    /**
+     * Create a new {@link ParcelableLongSparseLongEntry} with the specified key and value.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the new entry.
+     */
+    public static ParcelableLongSparseLongEntry parcelableEntry(final long key,
+            final long value) {
+
+        return new ParcelableLongSparseLongEntryImpl(key, value);
+    }
+
     /**
      * Create a new {@link ParcelableIntSparseIntEntry} with the specified key and value.
      *
@@ -0,0 +1,53 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.entry;
+
+/**
+ * This interface defines a {@link SparseEntry} joining the int values associated with the same
+ * key in two different collections.
+ * <p/>
+ * When the key is contained in only one of the collections, the value of the other side is 0.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public interface SparseIntJoinEntry extends SparseEntry {
+
+    /**
+     * Gets the value associated with the entry key in the left collection.
+     *
+     * @return the left value.
+     */
+    public int getLeftValue();
+
+    /**
+     * Gets the value associated with the entry key in the right collection.
+     *
+     * @return the right value.
+     */
+    public int getRightValue();
+
+    /**
+     * Checks if the entry key is contained in the left collection.
+     *
+     * @return whether the left value is present.
+     */
+    public boolean hasLeftValue();
+
+    /**
+     * Checks if the entry key is contained in the right collection.
+     *
+     * @return whether the right value is present.
+     */
+    public boolean hasRightValue();
+}
\ No newline at end of file
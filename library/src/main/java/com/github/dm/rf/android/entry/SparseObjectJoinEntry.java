@@ -0,0 +1,56 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.entry;
+
+/**
+ * This interface defines a {@link SparseEntry} joining the object values associated with the same
+ * key in two different collections.
+ * <p/>
+ * When the key is contained in only one of the collections, the value of the other side is null.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <L> the left value type.
+ * @param <R> the right value type.
+ */
+public interface SparseObjectJoinEntry<L, R> extends SparseEntry {
+
+    /**
+     * Gets the value associated with the entry key in the left collection.
+     *
+     * @return the left value.
+     */
+    public L getLeftValue();
+
+    /**
+     * Gets the value associated with the entry key in the right collection.
+     *
+     * @return the right value.
+     */
+    public R getRightValue();
+
+    /**
+     * Checks if the entry key is contained in the left collection.
+     *
+     * @return whether the left value is present.
+     */
+    public boolean hasLeftValue();
+
+    /**
+     * Checks if the entry key is contained in the right collection.
+     *
+     * @return whether the right value is present.
+     */
+    public boolean hasRightValue();
+}
\ No newline at end of file
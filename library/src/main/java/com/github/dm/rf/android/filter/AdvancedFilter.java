@@ -53,4 +53,20 @@ public interface AdvancedFilter<E> extends Filter<E> {
          */
         public int originalIndex();
     }
+
+    /**
+     * This interface defines a filter iterator which knows in advance the number of elements
+     * still to be iterated, so that filters can avoid looping through them.
+     *
+     * @param <E> the element type.
+     */
+    public interface SizedFilterIterator<E> extends FilterIterator<E> {
+
+        /**
+         * Returns the number of elements still to be iterated.
+         *
+         * @return the remaining count.
+         */
+        public int remaining();
+    }
 }
\ No newline at end of file
@@ -23,7 +23,7 @@ import com.github.dm.rf.android.translator.ToBooleanTranslator;
  *
  * @param <E> the element type.
  */
-class BooleanValueFilter<E> implements Filter<E> {
+class BooleanValueFilter<E> implements StatelessFilter<E> {
 
     private final ToBooleanTranslator<E> mTranslator;
 
@@ -40,6 +40,11 @@ class BooleanValueFilter<E> implements Filter<E> {
         mValue = value;
     }
 
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
     @Override
     public boolean matches(final E element, final int count, final int index) {
 
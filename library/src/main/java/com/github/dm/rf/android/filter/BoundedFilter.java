@@ -0,0 +1,43 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.filter;
+
+/**
+ * This interface defines a filter which can match only the elements whose iteration count is
+ * included in a specific range.
+ * <p/>
+ * The bounds are employed to skip the leading elements of the iteration and to stop it as soon as
+ * no further match is possible. Note that the bounds are retrieved only after the filter has been
+ * initialized.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <E> the element type.
+ */
+public interface BoundedFilter<E> extends AdvancedFilter<E> {
+
+    /**
+     * Returns the iteration count after which no element can match.
+     *
+     * @return the last count (exclusive).
+     */
+    public int getEndCount();
+
+    /**
+     * Returns the iteration count before which no element can match.
+     *
+     * @return the first count (inclusive).
+     */
+    public int getStartCount();
+}
\ No newline at end of file
@@ -18,19 +18,28 @@ import com.github.dm.rf.android.translator.Translator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 
 /**
  * Filter checking if the value extracted from an element through a
  * {@link ToBooleanTranslator} instance is contained in the
  * specified collection.
  * <p/>
+ * Large collections are copied into a hash set, so that the cost of each match does not grow
+ * with the number of values.
+ * <p/>
  * Created by davide-maestroni on 3/14/14.
  *
  * @param <E> the element type.
  */
-class CollectionFilter<E> implements Filter<E> {
+class CollectionFilter<E> implements StatelessFilter<E> {
+
+    /**
+     * The number of values below which a linear scan is faster than a hash lookup.
+     */
+    static final int HASH_THRESHOLD = 8;
 
-    private final ArrayList<Object> mCollection;
+    private final Collection<Object> mCollection;
 
     private final Translator<E, ?> mTranslator;
 
@@ -42,7 +51,13 @@ class CollectionFilter<E> implements Filter<E> {
         }
 
         mTranslator = translator;
-        mCollection = new ArrayList<Object>(collection);
+        mCollection = (collection.size() > HASH_THRESHOLD)
+                ? new HashSet<Object>(collection) : new ArrayList<Object>(collection);
+    }
+
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
     }
 
     @Override
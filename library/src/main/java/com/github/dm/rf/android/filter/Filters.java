@@ -162,6 +162,18 @@ public class Filters {
         return new FirstFilter<E>(count);
     }
 
+    /**
+     * Creates a filter matching all the elements starting from the specified iteration count.
+     *
+     * @param count the elements count.
+     * @param <E>   the filtered element type.
+     * @return the new filter.
+     */
+    public static <E> Filter<E> from(final int count) {
+
+        return new FromFilter<E>(count);
+    }
+
     /**
      * Creates a filter matching all the elements whose index is included in the specified index
      * collection.
@@ -224,6 +236,31 @@ public class Filters {
      */
     public static <E> AdvancedFilter<E> inverse(final AdvancedFilter<E> filter) {
 
+        if (filter instanceof FirstFilter) {
+
+            return new FromFilter<E>(((FirstFilter<E>) filter).getEndCount());
+
+        } else if (filter instanceof FromFilter) {
+
+            return new FirstFilter<E>(((FromFilter<E>) filter).getStartCount());
+
+        } else if (filter instanceof StatelessFilter) {
+
+            return new StatelessFilter<E>() {
+
+                @Override
+                public void initialize(final FilterIterator<E> iterator) {
+
+                }
+
+                @Override
+                public boolean matches(final E element, final int count, final int index) {
+
+                    return !filter.matches(element, count, index);
+                }
+            };
+        }
+
         return new AdvancedFilter<E>() {
 
             @Override
@@ -20,7 +20,7 @@ package com.github.dm.rf.android.filter;
  *
  * @param <E> the filtered element type.
  */
-class FirstFilter<E> implements Filter<E> {
+class FirstFilter<E> implements BoundedFilter<E> {
 
     private final int mCount;
 
@@ -29,6 +29,23 @@ class FirstFilter<E> implements Filter<E> {
         mCount = count;
     }
 
+    @Override
+    public int getEndCount() {
+
+        return mCount;
+    }
+
+    @Override
+    public int getStartCount() {
+
+        return 0;
+    }
+
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
     @Override
     public boolean matches(final E element, final int count, final int index) {
 
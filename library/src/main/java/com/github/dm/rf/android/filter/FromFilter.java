@@ -0,0 +1,54 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.filter;
+
+/**
+ * Filter matching all the elements starting from the specified iteration count.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <E> the filtered element type.
+ */
+class FromFilter<E> implements BoundedFilter<E> {
+
+    private final int mCount;
+
+    public FromFilter(final int count) {
+
+        mCount = count;
+    }
+
+    @Override
+    public int getEndCount() {
+
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int getStartCount() {
+
+        return mCount;
+    }
+
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
+    @Override
+    public boolean matches(final E element, final int count, final int index) {
+
+        return (count >= mCount);
+    }
+}
\ No newline at end of file
@@ -23,7 +23,7 @@ import java.util.Collection;
  *
  * @param <E> the filtered element type.
  */
-class IndexCollectionFilter<E> implements Filter<E> {
+class IndexCollectionFilter<E> implements StatelessFilter<E> {
 
     private final ArrayList<Integer> mIndexes;
 
@@ -32,6 +32,11 @@ class IndexCollectionFilter<E> implements Filter<E> {
         mIndexes = new ArrayList<Integer>(indexes);
     }
 
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
     @Override
     public boolean matches(final E element, final int count, final int index) {
 
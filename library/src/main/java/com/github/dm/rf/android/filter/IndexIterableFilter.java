@@ -22,7 +22,7 @@ import java.util.ArrayList;
  *
  * @param <E> the filtered element type.
  */
-class IndexIterableFilter<E> implements Filter<E> {
+class IndexIterableFilter<E> implements StatelessFilter<E> {
 
     private final ArrayList<Integer> mIndexes;
 
@@ -38,6 +38,11 @@ class IndexIterableFilter<E> implements Filter<E> {
         mIndexes = indexList;
     }
 
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
     @Override
     public boolean matches(final E element, final int count, final int index) {
 
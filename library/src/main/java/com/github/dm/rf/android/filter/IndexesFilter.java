@@ -24,7 +24,7 @@ import java.util.Arrays;
  *
  * @param <E> the filtered element type.
  */
-class IndexesFilter<E> implements Filter<E> {
+class IndexesFilter<E> implements StatelessFilter<E> {
 
     private final int[] mIndexes;
 
@@ -39,6 +39,11 @@ class IndexesFilter<E> implements Filter<E> {
         Arrays.sort(mIndexes);
     }
 
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
     @Override
     public boolean matches(final E element, final int count, final int index) {
 
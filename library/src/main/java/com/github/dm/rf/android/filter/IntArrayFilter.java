@@ -25,7 +25,7 @@ import java.util.Arrays;
  *
  * @param <E> the filtered element type.
  */
-class IntArrayFilter<E> implements Filter<E> {
+class IntArrayFilter<E> implements StatelessFilter<E> {
 
     private final ToIntTranslator<E> mTranslator;
 
@@ -43,6 +43,11 @@ class IntArrayFilter<E> implements Filter<E> {
         Arrays.sort(mValues);
     }
 
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
     @Override
     public boolean matches(final E element, final int count, final int index) {
 
@@ -0,0 +1,109 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.filter;
+
+import com.github.dm.rf.android.entry.IntIntHashMapEntry;
+import com.github.dm.rf.android.iterator.IntIntHashMapIterable;
+
+import java.util.Collection;
+
+/**
+ * This interface extends the {@link FilterBuilder} one by providing specific methods handling
+ * {@link IntIntHashMapEntry} elements.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public interface IntIntHashMapFilterBuilder
+        extends FilterBuilder<IntIntHashMapIterable, IntIntHashMapEntry> {
+
+    /**
+     * Creates a filter matching the specified entry key.
+     * <p/>
+     * Note that the entry is directly looked up in the backing map, instead of looping through
+     * all the entries.
+     *
+     * @param key the key to match.
+     * @return the filtered iterable.
+     */
+    public IntIntHashMapIterable key(int key);
+
+    /**
+     * Creates a filter matching the entry keys greater than or equal to <code>lowKey</code> and
+     * less than or equal to <code>highKey</code>.
+     * <p/>
+     * Note that, since the keys of the backing map are not sorted, the iteration will loop through
+     * all the entries.
+     *
+     * @param lowKey  the lowest key to match.
+     * @param highKey the highest key to match.
+     * @return the filtered iterable.
+     */
+    public IntIntHashMapIterable keyRange(int lowKey, int highKey);
+
+    /**
+     * Creates a filter matching the specified entry keys.
+     *
+     * @param keys the keys to match.
+     * @return the filtered iterable.
+     */
+    public IntIntHashMapIterable keys(int... keys);
+
+    /**
+     * Creates a filter matching the specified collection of entry keys.
+     *
+     * @param keys the keys to match.
+     * @return the filtered iterable.
+     */
+    public IntIntHashMapIterable keys(Collection<Integer> keys);
+
+    /**
+     * Creates a filter matching the entry keys returned by the specified iterable.
+     *
+     * @param keys the iterable of keys to match.
+     * @return the filtered iterable.
+     */
+    public IntIntHashMapIterable keys(Iterable<Integer> keys);
+
+    /**
+     * Creates a filter matching the specified entry value.
+     *
+     * @param value the value to match.
+     * @return the filtered iterable.
+     */
+    public IntIntHashMapIterable value(int value);
+
+    /**
+     * Creates a filter matching the specified entry values.
+     *
+     * @param values the values to match.
+     * @return the filtered iterable.
+     */
+    public IntIntHashMapIterable values(int... values);
+
+    /**
+     * Creates a filter matching the specified collection of entry values.
+     *
+     * @param values the values to match.
+     * @return the filtered iterable.
+     */
+    public IntIntHashMapIterable values(Collection<Integer> values);
+
+    /**
+     * Creates a filter matching the entry values returned by the specified iterable.
+     *
+     * @param values the iterable of values to match.
+     * @return the filtered iterable.
+     */
+    public IntIntHashMapIterable values(Iterable<Integer> values);
+}
\ No newline at end of file
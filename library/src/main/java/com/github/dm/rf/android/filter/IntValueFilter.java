@@ -22,7 +22,7 @@ import com.github.dm.rf.android.translator.ToIntTranslator;
  *
  * @param <E> the filtered element type.
  */
-class IntValueFilter<E> implements Filter<E> {
+class IntValueFilter<E> implements StatelessFilter<E> {
 
     private final ToIntTranslator<E> mTranslator;
 
@@ -39,6 +39,11 @@ class IntValueFilter<E> implements Filter<E> {
         mValue = value;
     }
 
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
     @Override
     public boolean matches(final E element, final int count, final int index) {
 
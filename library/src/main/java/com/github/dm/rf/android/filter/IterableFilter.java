@@ -16,17 +16,22 @@ package com.github.dm.rf.android.filter;
 import com.github.dm.rf.android.translator.Translator;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 
 /**
  * Filter matching the values returned by the specified iterable.
  * <p/>
+ * When the iterable returns many values, they are stored in a hash set, so that the cost of each
+ * match does not grow with the number of values.
+ * <p/>
  * Created by davide-maestroni on 3/14/14.
  *
  * @param <E> the filtered element type.
  */
-class IterableFilter<E> implements Filter<E> {
+class IterableFilter<E> implements StatelessFilter<E> {
 
-    private final ArrayList<Object> mCollection;
+    private final Collection<Object> mCollection;
 
     private final Translator<E, ?> mTranslator;
 
@@ -45,7 +50,13 @@ class IterableFilter<E> implements Filter<E> {
         }
 
         mTranslator = translator;
-        mCollection = objectList;
+        mCollection = (objectList.size() > CollectionFilter.HASH_THRESHOLD)
+                ? new HashSet<Object>(objectList) : objectList;
+    }
+
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
     }
 
     @Override
@@ -20,7 +20,7 @@ package com.github.dm.rf.android.filter;
  *
  * @param <E> the filtered element type.
  */
-class LastFilter<E> implements AdvancedFilter<E> {
+class LastFilter<E> implements BoundedFilter<E> {
 
     private final int mCount;
 
@@ -31,9 +31,28 @@ class LastFilter<E> implements AdvancedFilter<E> {
         mCount = count;
     }
 
+    @Override
+    public int getEndCount() {
+
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int getStartCount() {
+
+        return Math.max(0, mMaxCount + 1 - mCount);
+    }
+
     @Override
     public void initialize(final FilterIterator<E> iterator) {
 
+        if (iterator instanceof SizedFilterIterator) {
+
+            mMaxCount = ((SizedFilterIterator<E>) iterator).remaining() - 1;
+
+            return;
+        }
+
         int maxCount = -1;
 
         while (iterator.hasNext()) {
@@ -14,6 +14,9 @@
 package com.github.dm.rf.android.filter;
 
 import com.github.dm.rf.android.translator.ToLongTranslator;
+import com.github.dm.rf.android.utils.BinarySearch;
+
+import java.util.Arrays;
 
 /**
  * Filter matching the long values in the specified array.
@@ -22,7 +25,7 @@ import com.github.dm.rf.android.translator.ToLongTranslator;
  *
  * @param <E> the filtered element type.
  */
-class LongArrayFilter<E> implements Filter<E> {
+class LongArrayFilter<E> implements StatelessFilter<E> {
 
     private final ToLongTranslator<E> mTranslator;
 
@@ -37,21 +40,19 @@ class LongArrayFilter<E> implements Filter<E> {
 
         mTranslator = translator;
         mValues = values.clone();
+        Arrays.sort(mValues);
     }
 
     @Override
-    public boolean matches(final E element, final int count, final int index) {
+    public void initialize(final FilterIterator<E> iterator) {
 
-        final long value = mTranslator.translate(element);
-
-        for (final long aValue : mValues) {
+    }
 
-            if (aValue == value) {
+    @Override
+    public boolean matches(final E element, final int count, final int index) {
 
-                return true;
-            }
-        }
+        final long value = mTranslator.translate(element);
 
-        return false;
+        return BinarySearch.contains(mValues, mValues.length, value);
     }
 }
\ No newline at end of file
@@ -22,7 +22,7 @@ import com.github.dm.rf.android.translator.ToLongTranslator;
  *
  * @param <E> the filtered element type.
  */
-class LongValueFilter<E> implements Filter<E> {
+class LongValueFilter<E> implements StatelessFilter<E> {
 
     private final ToLongTranslator<E> mTranslator;
 
@@ -39,6 +39,11 @@ class LongValueFilter<E> implements Filter<E> {
         mValue = value;
     }
 
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
     @Override
     public boolean matches(final E element, final int count, final int index) {
 
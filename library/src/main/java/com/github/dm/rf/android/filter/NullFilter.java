@@ -22,7 +22,7 @@ import com.github.dm.rf.android.translator.Translator;
  *
  * @param <E> the filtered element type.
  */
-class NullFilter<E> implements Filter<E> {
+class NullFilter<E> implements StatelessFilter<E> {
 
     private final Translator<E, ?> mTranslator;
 
@@ -36,6 +36,11 @@ class NullFilter<E> implements Filter<E> {
         mTranslator = translator;
     }
 
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
     @Override
     public boolean matches(final E element, final int count, final int index) {
 
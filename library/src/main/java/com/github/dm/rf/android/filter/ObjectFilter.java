@@ -22,7 +22,7 @@ import com.github.dm.rf.android.translator.Translator;
  *
  * @param <E> the filtered element type.
  */
-class ObjectFilter<E> implements Filter<E> {
+class ObjectFilter<E> implements StatelessFilter<E> {
 
     private final Translator<E, ?> mTranslator;
 
@@ -39,6 +39,11 @@ class ObjectFilter<E> implements Filter<E> {
         mValue = value;
     }
 
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
     @Override
     public boolean matches(final E element, final int count, final int index) {
 
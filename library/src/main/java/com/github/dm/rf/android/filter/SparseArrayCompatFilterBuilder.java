@@ -37,6 +37,19 @@ public interface SparseArrayCompatFilterBuilder<V>
      */
     public SparseArrayCompatIterable<V> key(int key);
 
+    /**
+     * Creates a filter matching the entry keys greater than or equal to <code>lowKey</code> and
+     * less than or equal to <code>highKey</code>.
+     * <p/>
+     * Note that, since the keys of the backing sparse collection are sorted, the iteration will
+     * skip all the entries outside of the range, instead of looping through them.
+     *
+     * @param lowKey  the lowest key to match.
+     * @param highKey the highest key to match.
+     * @return the filtered iterable.
+     */
+    public SparseArrayCompatIterable<V> keyRange(int lowKey, int highKey);
+
     /**
      * Creates a filter matching the specified entry keys.
      *
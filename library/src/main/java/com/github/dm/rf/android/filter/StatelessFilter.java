@@ -0,0 +1,29 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.filter;
+
+/**
+ * This interface defines a filter whose result depends only on the element and on its index in
+ * the sparse collection, and not on the iteration count or order.
+ * <p/>
+ * Such filters need no initialization and can be applied to the elements in any order, so that,
+ * for example, the iteration can be reversed without taking a snapshot of the matching indexes.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <E> the element type.
+ */
+public interface StatelessFilter<E> extends AdvancedFilter<E> {
+
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+/**
+ * Abstract implementation of an iterable joining the elements returned by a sparse iterable with
+ * the ones of another sparse collection having the same key.
+ * <p/>
+ * The returned entries are immutable copies, and the removal of elements is not supported.
+ * <p/>
+ * When the iteration order is reversed, the elements of the other collection which are not joined
+ * are returned first, so that the order is exactly the opposite of the non-reversed one.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <E> the joined iterable element type.
+ * @param <J> the join entry type.
+ */
+abstract class AbstractJoinIterable<E, J> extends ElementSparseIterableImpl<J> {
+
+    private final boolean mIsInner;
+
+    private final boolean mIsOuter;
+
+    private final AbstractSparseIterable<E> mIterable;
+
+    /**
+     * Creates a new join iterable.
+     *
+     * @param iterable the joined iterable.
+     * @param isInner  whether the elements whose key is not contained in the other collection
+     *                 must be skipped.
+     * @param isOuter  whether the elements of the other collection whose key is not returned by
+     *                 the joined iterable must be returned too.
+     */
+    public AbstractJoinIterable(final AbstractSparseIterable<E> iterable, final boolean isInner,
+            final boolean isOuter) {
+
+        mIterable = iterable;
+        mIsInner = isInner;
+        mIsOuter = isOuter;
+    }
+
+    AbstractJoinIterable(final AbstractJoinIterable<E, J> other) {
+
+        super(other);
+
+        mIterable = other.mIterable;
+        mIsInner = other.mIsInner;
+        mIsOuter = other.mIsOuter;
+    }
+
+    @Override
+    protected SparseIterator<J> createIterator(final boolean isReverse) {
+
+        final AbstractSparseIterable<E> iterable;
+
+        if (isReverse) {
+
+            iterable = mIterable.copy();
+            iterable.reverse();
+
+        } else {
+
+            iterable = mIterable;
+        }
+
+        // The original index of the elements of the other collection follows the ones of the
+        // joined collection
+
+        final int offset = mIterable.rawIterator(false).skip(Integer.MAX_VALUE);
+
+        return joinIterator(iterable.filteredIterator(false), offset, iterable.isReversed(),
+                            mIsInner, mIsOuter, isReverse);
+    }
+
+    /**
+     * Creates the iterator joining the elements returned by the specified one.
+     *
+     * @param iterator     the joined iterator.
+     * @param offset       the offset to add to the original index of the elements of the other
+     *                     collection.
+     * @param isDescending whether the iteration loops through the elements in reverse order.
+     * @param isInner      whether the elements whose key is not contained in the other
+     *                     collection must be skipped.
+     * @param isOuter      whether the elements of the other collection whose key is not returned
+     *                     by the joined iterator must be returned too.
+     * @param isReverse    whether the elements of the other collection must be returned first and
+     *                     in descending order.
+     * @return the iterator instance.
+     */
+    protected abstract SparseIterator<J> joinIterator(SparseIterator<E> iterator, int offset,
+            boolean isDescending, boolean isInner, boolean isOuter, boolean isReverse);
+
+    @Override
+    protected SparseIterator<J> rawIterator(final boolean isReverse) {
+
+        return createIterator(isReverse);
+    }
+
+    @Override
+    protected void removePositions(final int[] positions) {
+
+        throw new UnsupportedOperationException();
+    }
+}
\ No newline at end of file
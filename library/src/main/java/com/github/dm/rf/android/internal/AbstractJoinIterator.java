@@ -0,0 +1,299 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Abstract implementation of a {@link SparseIterator} joining the elements returned by the
+ * wrapped iterator with the ones of another sparse collection having the same key.
+ * <p/>
+ * Since an element might need to be skipped, the iterator looks ahead for the next one. Each
+ * returned entry is a new immutable instance, so that it is not modified by the following calls.
+ * <p/>
+ * The elements of the other collection whose key is not returned by the wrapped iterator follow
+ * the joined ones, in ascending order, or precede them, in descending order, when the iteration is
+ * reversed. In the latter case, the wrapped iterator is looped through twice, since the matched
+ * keys must be known in advance.<br/>
+ * The original index of those elements is their position in the other collection incremented by
+ * the specified offset, so that it does not collide with the ones of the joined elements.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <E> the joined element type.
+ * @param <J> the join entry type.
+ */
+abstract class AbstractJoinIterator<E, J> implements SparseIterator<J> {
+
+    private final boolean mIsInner;
+
+    private final boolean mIsReverse;
+
+    private final SparseIterator<E> mIterator;
+
+    private final boolean[] mMatched;
+
+    private final int mOffset;
+
+    private final int mSize;
+
+    private boolean mHasNext;
+
+    private int mIndex = -1;
+
+    private boolean mIsScanned;
+
+    private J mNextEntry;
+
+    private int mNextIndex;
+
+    private int mPosition;
+
+    /**
+     * Creates a new join iterator.
+     *
+     * @param iterator  the joined iterator.
+     * @param size      the size of the other collection.
+     * @param offset    the offset to add to the original index of the elements of the other
+     *                  collection.
+     * @param isInner   whether the elements whose key is not contained in the other collection
+     *                  must be skipped.
+     * @param isOuter   whether the elements of the other collection whose key is not returned by
+     *                  the joined iterator must be returned too.
+     * @param isReverse whether the elements of the other collection must be returned first and in
+     *                  descending order.
+     */
+    public AbstractJoinIterator(final SparseIterator<E> iterator, final int size,
+            final int offset, final boolean isInner, final boolean isOuter,
+            final boolean isReverse) {
+
+        mIterator = iterator;
+        mSize = size;
+        mOffset = offset;
+        mIsInner = isInner;
+        mIsReverse = isReverse;
+        mMatched = (isOuter) ? new boolean[size] : null;
+        mPosition = (isReverse) ? size - 1 : 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        if (mHasNext) {
+
+            return true;
+        }
+
+        if (mMatched == null) {
+
+            return hasNextJoined();
+        }
+
+        if (mIsReverse) {
+
+            if (!mIsScanned) {
+
+                scan();
+            }
+
+            return hasNextOther() || hasNextJoined();
+        }
+
+        return hasNextJoined() || hasNextOther();
+    }
+
+    @Override
+    public J next() {
+
+        if (!hasNext()) {
+
+            throw new NoSuchElementException();
+        }
+
+        final J entry = mNextEntry;
+
+        mNextEntry = null;
+        mIndex = mNextIndex;
+        mHasNext = false;
+
+        return entry;
+    }
+
+    @Override
+    public void remove() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int originalIndex() {
+
+        return mIndex;
+    }
+
+    @Override
+    public void reset() {
+
+        mIterator.reset();
+
+        resetSearch();
+
+        if (mMatched != null) {
+
+            Arrays.fill(mMatched, false);
+        }
+
+        mIndex = -1;
+        mPosition = (mIsReverse) ? mSize - 1 : 0;
+        mIsScanned = false;
+        mHasNext = false;
+        mNextEntry = null;
+    }
+
+    @Override
+    public int skip(final int count) {
+
+        int skipped = 0;
+
+        while ((skipped < count) && hasNext()) {
+
+            next();
+
+            ++skipped;
+        }
+
+        return skipped;
+    }
+
+    /**
+     * Finds the position, in the other collection, of the element having the same key as the
+     * specified one.
+     *
+     * @param element the joined element.
+     * @return the position, or a negative number if the key is not found.
+     */
+    protected abstract int find(E element);
+
+    /**
+     * Creates an entry holding the key and values of the passed element.
+     *
+     * @param element  the joined element.
+     * @param position the position of the element with the same key in the other collection, or
+     *                 a negative number.
+     * @return the entry instance.
+     */
+    protected abstract J leftEntry(E element, int position);
+
+    /**
+     * Resets the state of the search of the keys in the other collection, so that the joined
+     * elements can be looped through again from the start.
+     * <p/>
+     * The default implementation does nothing.
+     */
+    protected void resetSearch() {
+
+    }
+
+    /**
+     * Creates an entry holding the key and value of the element, in the other collection, at the
+     * passed position.
+     *
+     * @param position the element position.
+     * @return the entry instance.
+     */
+    protected abstract J rightEntry(int position);
+
+    private boolean hasNextJoined() {
+
+        final SparseIterator<E> iterator = mIterator;
+
+        final boolean[] matched = mMatched;
+
+        while (iterator.hasNext()) {
+
+            final E element = iterator.next();
+
+            final int position = find(element);
+
+            if (position >= 0) {
+
+                if (matched != null) {
+
+                    matched[position] = true;
+                }
+
+            } else if (mIsInner) {
+
+                continue;
+            }
+
+            mNextEntry = leftEntry(element, position);
+            mNextIndex = iterator.originalIndex();
+
+            return (mHasNext = true);
+        }
+
+        return false;
+    }
+
+    private boolean hasNextOther() {
+
+        final boolean[] matched = mMatched;
+
+        final int size = mSize;
+
+        final int step = (mIsReverse) ? -1 : 1;
+
+        while ((mPosition >= 0) && (mPosition < size)) {
+
+            final int position = mPosition;
+
+            mPosition += step;
+
+            if (!matched[position]) {
+
+                mNextEntry = rightEntry(position);
+                mNextIndex = mOffset + position;
+
+                return (mHasNext = true);
+            }
+        }
+
+        return false;
+    }
+
+    private void scan() {
+
+        final SparseIterator<E> iterator = mIterator;
+
+        final boolean[] matched = mMatched;
+
+        while (iterator.hasNext()) {
+
+            final int position = find(iterator.next());
+
+            if (position >= 0) {
+
+                matched[position] = true;
+            }
+        }
+
+        iterator.reset();
+
+        resetSearch();
+
+        mIsScanned = true;
+    }
+}
\ No newline at end of file
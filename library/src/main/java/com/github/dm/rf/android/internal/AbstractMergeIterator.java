@@ -0,0 +1,333 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Abstract implementation of a {@link SparseIterator} looping through the union of several sparse
+ * collections in key order.
+ * <p/>
+ * The current position inside each collection is kept in a binary heap ordered by key, so that
+ * each step costs a logarithmic time in the number of collections and no collection is ever
+ * copied.
+ * When the same key is contained in more than one collection, the values are merged in the order
+ * the collections were passed.
+ * <p/>
+ * The original index of each element is its position in the merged collection in ascending key
+ * order, whatever the iteration direction, so that the filters based on the element positions
+ * can be applied before and after the iteration order is reversed. To this purpose, the reverse
+ * iterator counts the merged elements the first time the index is requested.
+ * <p/>
+ * This class implements the common logic leaving to the subclass the handling of low level data.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <E> the element type.
+ */
+abstract class AbstractMergeIterator<E> implements SparseIterator<E> {
+
+    private final int[] mHeap;
+
+    private final boolean mIsReverse;
+
+    private final int[] mPositions;
+
+    private final int[] mSizes;
+
+    private int mCount;
+
+    private int mHeapSize = -1;
+
+    private int mTotalCount = -1;
+
+    /**
+     * Creates a new merge iterator.
+     *
+     * @param sizes     the sizes of the merged collections.
+     * @param isReverse whether the keys must be returned in descending order.
+     */
+    public AbstractMergeIterator(final int[] sizes, final boolean isReverse) {
+
+        final int length = sizes.length;
+
+        mSizes = sizes;
+        mIsReverse = isReverse;
+        mHeap = new int[length];
+        mPositions = new int[length];
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        if (mHeapSize < 0) {
+
+            fillHeap();
+        }
+
+        return (mHeapSize > 0);
+    }
+
+    @Override
+    public E next() {
+
+        if (!hasNext()) {
+
+            throw new NoSuchElementException();
+        }
+
+        final int[] heap = mHeap;
+        final int[] positions = mPositions;
+
+        final int array = heap[0];
+        final int position = positions[array];
+
+        setElement(array, position);
+
+        advance();
+
+        while (mHeapSize > 0) {
+
+            final int other = heap[0];
+            final int otherPosition = positions[other];
+
+            if (compareKeys(other, otherPosition, array, position) != 0) {
+
+                break;
+            }
+
+            mergeElement(other, otherPosition);
+
+            advance();
+        }
+
+        ++mCount;
+
+        return getElement();
+    }
+
+    @Override
+    public void remove() {
+
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int originalIndex() {
+
+        if (mIsReverse) {
+
+            if (mTotalCount < 0) {
+
+                mTotalCount = countKeys();
+            }
+
+            return (mTotalCount - mCount);
+        }
+
+        return (mCount - 1);
+    }
+
+    @Override
+    public void reset() {
+
+        mCount = 0;
+        mHeapSize = -1;
+    }
+
+    @Override
+    public int skip(final int count) {
+
+        int skipped = 0;
+
+        while ((skipped < count) && hasNext()) {
+
+            next();
+
+            ++skipped;
+        }
+
+        return skipped;
+    }
+
+    /**
+     * Compares the keys of the elements at the specified positions in the specified collections.
+     *
+     * @param array         the index of the first collection.
+     * @param position      the element position in the first collection.
+     * @param other         the index of the second collection.
+     * @param otherPosition the element position in the second collection.
+     * @return a negative number, zero or a positive number as the first key is less than, equal
+     * to or greater than the second one.
+     */
+    protected abstract int compareKeys(int array, int position, int other, int otherPosition);
+
+    /**
+     * Returns an immutable entry holding the key and the merged value of the last element.
+     *
+     * @return the element.
+     */
+    protected abstract E getElement();
+
+    /**
+     * Merges the value of the element at the specified position into the last returned element.
+     *
+     * @param array    the index of the collection.
+     * @param position the element position.
+     */
+    protected abstract void mergeElement(int array, int position);
+
+    /**
+     * Sets the key and value of the next element to the ones at the specified position.
+     *
+     * @param array    the index of the collection.
+     * @param position the element position.
+     */
+    protected abstract void setElement(int array, int position);
+
+    private void advance() {
+
+        final int[] heap = mHeap;
+        final int[] positions = mPositions;
+
+        final int array = heap[0];
+        final int position = (mIsReverse) ? positions[array] - 1 : positions[array] + 1;
+
+        if ((position < 0) || (position >= mSizes[array])) {
+
+            heap[0] = heap[--mHeapSize];
+
+        } else {
+
+            positions[array] = position;
+        }
+
+        siftDown(0);
+    }
+
+    private int countKeys() {
+
+        final int[] heap = mHeap;
+        final int[] positions = mPositions;
+
+        final int[] savedHeap = heap.clone();
+        final int[] savedPositions = positions.clone();
+        final int savedHeapSize = mHeapSize;
+
+        fillHeap();
+
+        int count = 0;
+
+        while (mHeapSize > 0) {
+
+            final int array = heap[0];
+            final int position = positions[array];
+
+            advance();
+
+            while ((mHeapSize > 0)
+                    && (compareKeys(heap[0], positions[heap[0]], array, position) == 0)) {
+
+                advance();
+            }
+
+            ++count;
+        }
+
+        System.arraycopy(savedHeap, 0, heap, 0, heap.length);
+        System.arraycopy(savedPositions, 0, positions, 0, positions.length);
+        mHeapSize = savedHeapSize;
+
+        return count;
+    }
+
+    private void fillHeap() {
+
+        final int[] sizes = mSizes;
+        final int[] heap = mHeap;
+        final int[] positions = mPositions;
+        final boolean isReverse = mIsReverse;
+
+        final int length = sizes.length;
+
+        int heapSize = 0;
+
+        for (int i = 0; i < length; ++i) {
+
+            final int size = sizes[i];
+
+            if (size > 0) {
+
+                positions[i] = (isReverse) ? size - 1 : 0;
+                heap[heapSize++] = i;
+            }
+        }
+
+        mHeapSize = heapSize;
+
+        for (int i = (heapSize >> 1) - 1; i >= 0; --i) {
+
+            siftDown(i);
+        }
+    }
+
+    private boolean isBefore(final int array, final int other) {
+
+        final int[] positions = mPositions;
+
+        final int compare = compareKeys(array, positions[array], other, positions[other]);
+
+        if (compare == 0) {
+
+            return (array < other);
+        }
+
+        return (mIsReverse) ? (compare > 0) : (compare < 0);
+    }
+
+    private void siftDown(final int index) {
+
+        final int[] heap = mHeap;
+        final int heapSize = mHeapSize;
+
+        final int array = heap[index];
+
+        int i = index;
+
+        while (true) {
+
+            int child = (i << 1) + 1;
+
+            if (child >= heapSize) {
+
+                break;
+            }
+
+            if (((child + 1) < heapSize) && isBefore(heap[child + 1], heap[child])) {
+
+                ++child;
+            }
+
+            if (!isBefore(heap[child], array)) {
+
+                break;
+            }
+
+            heap[i] = heap[child];
+            i = child;
+        }
+
+        heap[i] = array;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,257 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Abstract implementation of a task processing a range of positions of a sparse collection in
+ * parallel.
+ * <p/>
+ * The range is split in chunks of contiguous positions, which are claimed one at a time by the
+ * calling thread and by the executor threads. Since the calling thread keeps on claiming chunks
+ * until none is left, the task always completes, even when the executor threads are busy or when
+ * the task is started from inside another parallel one.
+ * <p/>
+ * This class implements the common logic leaving to the subclass the processing of each chunk.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+abstract class AbstractParallelTask implements Runnable {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final int MIN_CHUNK_SIZE = 512;
+
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private static volatile ExecutorService sExecutor;
+
+    private final int mChunkCount;
+
+    private final int mChunkSize;
+
+    private final int mEnd;
+
+    private final Object mMutex = new Object();
+
+    private final AtomicInteger mNextChunk = new AtomicInteger();
+
+    private final int mStart;
+
+    private int mCompleted;
+
+    private volatile Throwable mError;
+
+    private volatile boolean mIsCancelled;
+
+    /**
+     * Creates a new task processing the positions included in the specified range.
+     *
+     * @param start the first position (inclusive).
+     * @param end   the last position (exclusive).
+     */
+    public AbstractParallelTask(final int start, final int end) {
+
+        final int total = Math.max(0, end - start);
+
+        final int chunks = PARALLELISM * CHUNKS_PER_THREAD;
+
+        final int chunkSize = Math.max(MIN_CHUNK_SIZE, (total + chunks - 1) / chunks);
+
+        mStart = start;
+        mEnd = start + total;
+        mChunkSize = chunkSize;
+        mChunkCount = (total + chunkSize - 1) / chunkSize;
+    }
+
+    /**
+     * Returns the executor employed when none is specified.<br/>
+     * The executor threads are lazily created and do not prevent the application from exiting.
+     *
+     * @return the executor instance.
+     */
+    static Executor defaultExecutor() {
+
+        if (sExecutor == null) {
+
+            synchronized (AbstractParallelTask.class) {
+
+                if (sExecutor == null) {
+
+                    sExecutor = Executors.newFixedThreadPool(Math.max(1, PARALLELISM - 1),
+                                                             new DaemonThreadFactory());
+                }
+            }
+        }
+
+        return sExecutor;
+    }
+
+    @Override
+    public void run() {
+
+        processChunks();
+    }
+
+    /**
+     * Executes this task by employing the specified executor and the calling thread.<br/>
+     * The method returns only after all the chunks have been processed. Any exception thrown
+     * while processing a chunk is re-thrown in the calling thread.
+     *
+     * @param executor the executor instance.
+     */
+    public void execute(final Executor executor) {
+
+        final int chunkCount = mChunkCount;
+
+        try {
+
+            for (int i = Math.min(PARALLELISM, chunkCount) - 1; i > 0; --i) {
+
+                executor.execute(this);
+            }
+
+        } catch (final RejectedExecutionException ignored) {
+
+            // The calling thread will process the remaining chunks
+        }
+
+        processChunks();
+
+        boolean isInterrupted = false;
+
+        synchronized (mMutex) {
+
+            while (mCompleted < chunkCount) {
+
+                try {
+
+                    mMutex.wait();
+
+                } catch (final InterruptedException ignored) {
+
+                    isInterrupted = true;
+                }
+            }
+        }
+
+        if (isInterrupted) {
+
+            Thread.currentThread().interrupt();
+        }
+
+        final Throwable error = mError;
+
+        if (error instanceof RuntimeException) {
+
+            throw (RuntimeException) error;
+
+        } else if (error instanceof Error) {
+
+            throw (Error) error;
+        }
+    }
+
+    /**
+     * Stops the processing of the chunks not yet started.
+     */
+    protected void cancel() {
+
+        mIsCancelled = true;
+    }
+
+    /**
+     * Checks if the task has been cancelled.<br/>
+     * Subclasses should periodically call this method while processing a chunk, so to stop as
+     * soon as possible.
+     *
+     * @return whether the task has been cancelled.
+     */
+    protected boolean isCancelled() {
+
+        return mIsCancelled;
+    }
+
+    /**
+     * Processes the positions included in the specified range.
+     *
+     * @param start the first position (inclusive).
+     * @param end   the last position (exclusive).
+     */
+    protected abstract void processChunk(int start, int end);
+
+    private void processChunks() {
+
+        final int chunkCount = mChunkCount;
+
+        int chunk;
+
+        while ((chunk = mNextChunk.getAndIncrement()) < chunkCount) {
+
+            try {
+
+                if (!mIsCancelled) {
+
+                    final int start = mStart + (chunk * mChunkSize);
+
+                    processChunk(start, Math.min(mEnd, start + mChunkSize));
+                }
+
+            } catch (final Throwable t) {
+
+                if (mError == null) {
+
+                    mError = t;
+                }
+
+                mIsCancelled = true;
+
+            } finally {
+
+                synchronized (mMutex) {
+
+                    if (++mCompleted == chunkCount) {
+
+                        mMutex.notifyAll();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Factory of daemon threads.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger mCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+
+            final Thread thread =
+                    new Thread(runnable, "SparseCollections-parallel-" + mCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
\ No newline at end of file
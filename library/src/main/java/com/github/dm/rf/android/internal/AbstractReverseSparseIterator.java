@@ -13,6 +13,8 @@
  */
 package com.github.dm.rf.android.internal;
 
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
+
 import java.util.NoSuchElementException;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -27,9 +29,12 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  *
  * @param <E> the element type.
  */
-abstract class AbstractReverseSparseIterator<E> implements SparseIterator<E> {
+abstract class AbstractReverseSparseIterator<E>
+        implements SparseIterator<E>, SizedFilterIterator<E> {
+
+    private final int mEndPosition;
 
-    private final int mTotalCount;
+    private final int mStartPosition;
 
     private int mCurrPosition;
 
@@ -37,14 +42,27 @@ abstract class AbstractReverseSparseIterator<E> implements SparseIterator<E> {
 
     public AbstractReverseSparseIterator(final int totalCount) {
 
-        mTotalCount = totalCount;
-        mCurrPosition = mTotalCount;
+        this(0, totalCount);
+    }
+
+    /**
+     * Creates a new iterator looping only through the elements whose position in the sparse
+     * collection is included in the specified range.
+     *
+     * @param start the first position (inclusive).
+     * @param end   the last position (exclusive).
+     */
+    public AbstractReverseSparseIterator(final int start, final int end) {
+
+        mStartPosition = start;
+        mEndPosition = Math.max(start, end);
+        mCurrPosition = mEndPosition;
     }
 
     @Override
     public boolean hasNext() {
 
-        return (mCurrPosition > 0);
+        return (mCurrPosition > mStartPosition);
     }
 
     @Override
@@ -78,13 +96,30 @@ abstract class AbstractReverseSparseIterator<E> implements SparseIterator<E> {
         return mCurrPosition;
     }
 
+    @Override
+    public int remaining() {
+
+        return (mCurrPosition - mStartPosition);
+    }
+
     @Override
     public void reset() {
 
-        mCurrPosition = mTotalCount;
+        mCurrPosition = mEndPosition;
         mHasCurrent = false;
     }
 
+    @Override
+    public int skip(final int count) {
+
+        final int skipped = Math.max(0, Math.min(count, mCurrPosition - mStartPosition));
+
+        mCurrPosition -= skipped;
+        mHasCurrent = false;
+
+        return skipped;
+    }
+
     /**
      * Gets the element at the specified position in the sparse collection.
      *
@@ -14,14 +14,20 @@
 package com.github.dm.rf.android.internal;
 
 import com.github.dm.rf.android.filter.AdvancedFilter;
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
+import com.github.dm.rf.android.filter.BoundedFilter;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.FilterBuilder;
 import com.github.dm.rf.android.filter.Filters;
+import com.github.dm.rf.android.filter.StatelessFilter;
 import com.github.dm.rf.android.iterator.BooleanSparseIterable;
 import com.github.dm.rf.android.iterator.ElementSparseIterable;
 import com.github.dm.rf.android.iterator.IntSparseIterable;
 import com.github.dm.rf.android.iterator.LongSparseIterable;
 import com.github.dm.rf.android.iterator.SparseIterable;
+import com.github.dm.rf.android.translator.ToBooleanTranslator;
+import com.github.dm.rf.android.translator.ToIntTranslator;
+import com.github.dm.rf.android.translator.ToLongTranslator;
 import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.utils.BinarySearch;
 
@@ -29,7 +35,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract base implementation of a {@link SparseIterable}.
@@ -90,7 +99,7 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
     @Override
     public SparseIterable<E> but(final Filter<E> filter) {
 
-        mFilters.add(Filters.inverse(Filters.advanced(filter)));
+        mFilters.add(inverse(Filters.advanced(filter)));
 
         return this;
     }
@@ -157,6 +166,19 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
         return false;
     }
 
+    @Override
+    public int count() {
+
+        final SparseIterator<E> iterator = iterator();
+
+        if (iterator instanceof SizedFilterIterator) {
+
+            return ((SizedFilterIterator<E>) iterator).remaining();
+        }
+
+        return iterator.skip(Integer.MAX_VALUE);
+    }
+
     @Override
     public int countOf(final Object element) {
 
@@ -348,15 +370,109 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
         return this;
     }
 
+    @Override
+    public boolean parallelAny(final Condition<E> condition) {
+
+        return parallelAny(condition, AbstractParallelTask.defaultExecutor());
+    }
+
+    @Override
+    public boolean parallelAny(final Condition<E> condition, final Executor executor) {
+
+        if (executor == null) {
+
+            throw new IllegalArgumentException();
+        }
+
+        final int[] range = chunkRange();
+
+        if (range == null) {
+
+            return any(condition);
+        }
+
+        final AnyTask<E> task = new AnyTask<E>(this, condition, range[0], range[1]);
+
+        task.execute(executor);
+
+        return task.isFound();
+    }
+
+    @Override
+    public int parallelCount(final Condition<E> condition) {
+
+        return parallelCount(condition, AbstractParallelTask.defaultExecutor());
+    }
+
+    @Override
+    public int parallelCount(final Condition<E> condition, final Executor executor) {
+
+        if (executor == null) {
+
+            throw new IllegalArgumentException();
+        }
+
+        final int[] range = chunkRange();
+
+        if (range == null) {
+
+            int count = 0;
+            int matched = 0;
+
+            final SparseIterator<E> iterator = iterator();
+
+            while (iterator.hasNext()) {
+
+                if (condition.onNext(iterator.next(), count++, iterator.originalIndex())) {
+
+                    ++matched;
+                }
+            }
+
+            return matched;
+        }
+
+        final CountTask<E> task = new CountTask<E>(this, condition, range[0], range[1]);
+
+        task.execute(executor);
+
+        return task.getCount();
+    }
+
+    @Override
+    public SparseIterable<E> parallelForEach(final Action<E> action) {
+
+        return parallelForEach(action, AbstractParallelTask.defaultExecutor());
+    }
+
+    @Override
+    public SparseIterable<E> parallelForEach(final Action<E> action, final Executor executor) {
+
+        if (executor == null) {
+
+            throw new IllegalArgumentException();
+        }
+
+        final int[] range = chunkRange();
+
+        if (range == null) {
+
+            return forEach(action);
+        }
+
+        new ForEachTask<E>(this, action, range[0], range[1]).execute(executor);
+
+        return this;
+    }
+
     @Override
     public SparseIterable<E> remove() {
 
-        final SparseIterator<E> iterator = iterator();
+        final int[] positions = positionsOf(iterator());
 
-        while (iterator.hasNext()) {
+        if (positions.length > 0) {
 
-            iterator.next();
-            iterator.remove();
+            removePositions(positions);
         }
 
         clearFilters();
@@ -367,19 +483,35 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
     @Override
     public SparseIterable<E> retain() {
 
-        final SparseIterator<E> iterator = filteredIterator(false);
+        final int[] retained = positionsOf(filteredIterator(false));
+
+        final int size = rawIterator(false).skip(Integer.MAX_VALUE);
+
+        final int count = size - retained.length;
+
+        if (count > 0) {
+
+            final int[] positions = new int[count];
+
+            int index = 0;
+            int position = 0;
+
+            for (final int retainedPosition : retained) {
+
+                while (position < retainedPosition) {
 
-        final SnapshotFilter<E> filter = new SnapshotFilter<E>();
+                    positions[index++] = position++;
+                }
 
-        filter.initialize(iterator);
+                ++position;
+            }
 
-        final FilteredIterator<E> filteredIterator =
-                new FilteredIterator<E>(rawIterator(false), Filters.inverse(filter));
+            while (position < size) {
 
-        while (filteredIterator.hasNext()) {
+                positions[index++] = position++;
+            }
 
-            filteredIterator.next();
-            filteredIterator.remove();
+            removePositions(positions);
         }
 
         clearFilters();
@@ -421,15 +553,7 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
 
     protected void clearFilters() {
 
-        boolean isReverse = false;
-
-        for (final AdvancedFilter<E> filter : mFilters) {
-
-            if (filter instanceof SnapshotFilter) {
-
-                isReverse = !isReverse;
-            }
-        }
+        final boolean isReverse = isReversed();
 
         mFilters.clear();
 
@@ -455,20 +579,41 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
      */
     protected abstract SparseIterator<E> createIterator(boolean isReverse);
 
-    protected SparseIterator<E> filteredIterator(final boolean isReverse) {
+    /**
+     * Returns the base iterator on which to apply this instance filters, looping only through the
+     * elements whose position in the backing sparse collection is included in the specified
+     * range.
+     * <p/>
+     * The default implementation ignores the range and loops through all the elements.
+     *
+     * @param isReverse whether to loop in reverse order.
+     * @param start     the first position (inclusive).
+     * @param end       the last position (exclusive).
+     * @return the iterator instance.
+     * @see #rangeOf(AdvancedFilter)
+     */
+    protected SparseIterator<E> createIterator(final boolean isReverse, final int start,
+            final int end) {
+
+        return createIterator(isReverse);
+    }
 
-        SparseIterator<E> iterator = createIterator(isReverse);
+    protected SparseIterator<E> filteredIterator(final boolean isReverse) {
 
         final ArrayList<AdvancedFilter<E>> filters = mFilters;
 
         if (filters.isEmpty()) {
 
-            return iterator;
+            return createIterator(isReverse);
         }
 
-        boolean reverse = isReverse;
+        final int[] range = seekRange();
+
+        SparseIterator<E> iterator = createIterator(isReverse, range);
 
-        boolean skipFilter = true;
+        final ArrayList<AdvancedFilter<E>> chain = new ArrayList<AdvancedFilter<E>>(filters.size());
+
+        boolean reverse = isReverse;
 
         for (final AdvancedFilter<E> filter : filters) {
 
@@ -476,31 +621,80 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
 
                 reverse = !reverse;
 
-                if (!skipFilter) {
+                if (isStateless(chain)) {
 
-                    filter.initialize(iterator);
+                    iterator = createIterator(reverse, range);
+
+                    continue;
                 }
 
-                iterator = createIterator(reverse);
+                filter.initialize(compile(iterator, chain));
+
+                chain.clear();
 
-                iterator.reset();
+                iterator = createIterator(reverse, range);
 
             } else {
 
-                filter.initialize(iterator);
+                filter.initialize(compile(iterator, chain));
+            }
+
+            iterator.reset();
+
+            chain.add(filter);
+        }
+
+        return compile(iterator, chain);
+    }
+
+    /**
+     * Returns the positions, in the backing sparse collection, of the elements matching this
+     * instance filters.
+     *
+     * @return the positions in ascending order.
+     */
+    protected int[] filteredPositions() {
+
+        return positionsOf(iterator());
+    }
+
+    /**
+     * Checks if the elements are looped through in reverse order.
+     *
+     * @return whether the iteration order is reversed.
+     */
+    protected boolean isReversed() {
+
+        boolean isReverse = false;
+
+        for (final AdvancedFilter<E> filter : mFilters) {
 
-                iterator.reset();
+            if (filter instanceof SnapshotFilter) {
 
-                skipFilter = false;
+                isReverse = !isReverse;
             }
+        }
+
+        return isReverse;
+    }
+
+    /**
+     * Checks if all the elements of the backing sparse collection are looped through, that is, no
+     * filter other than the ones reversing the iteration order is installed.
+     *
+     * @return whether no element is filtered out.
+     */
+    protected boolean isUnfiltered() {
+
+        for (final AdvancedFilter<E> filter : mFilters) {
 
-            if (!skipFilter) {
+            if (!(filter instanceof SnapshotFilter)) {
 
-                iterator = new FilteredIterator<E>(iterator, filter);
+                return false;
             }
         }
 
-        return iterator;
+        return true;
     }
 
     /**
@@ -512,189 +706,1237 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
      */
     protected abstract SparseIterator<E> rawIterator(boolean isReverse);
 
-    <T> ElementSparseIterable<T> toElements(final Translator<E, T> translator) {
+    /**
+     * Returns the range of positions, in the backing sparse collection, outside of which no
+     * element can match the specified filter.
+     * <p/>
+     * The default implementation returns null, that is, the filter cannot be employed to restrict
+     * the iteration.
+     *
+     * @param filter the filter.
+     * @return the array containing the first (inclusive) and the last (exclusive) position, or
+     * null.
+     */
+    protected int[] rangeOf(final AdvancedFilter<E> filter) {
 
-        return new ElementTranslatedIterable<E, T>(copy(), translator);
+        return null;
     }
 
-    private static class BooleanTranslatedIterable<E> extends BooleanSparseIterableImpl {
-
-        private final AbstractSparseIterable<E> mIterable;
-
-        private final Translator<E, Boolean> mTranslator;
+    /**
+     * Removes from the backing sparse collection the elements at the specified positions.
+     * <p/>
+     * The default implementation removes the elements one by one through the raw iterator.
+     * Subclasses should rather compact the surviving elements in a single pass, so to avoid
+     * shifting the tail of the collection on each removal.
+     *
+     * @param positions the element positions sorted in ascending order.
+     */
+    protected void removePositions(final int[] positions) {
 
-        public BooleanTranslatedIterable(final AbstractSparseIterable<E> iterable,
-                final Translator<E, Boolean> translator) {
+        final SparseIterator<E> iterator = rawIterator(false);
 
-            mIterable = iterable;
-            mTranslator = translator;
-        }
+        int last = -1;
 
-        BooleanTranslatedIterable(final BooleanTranslatedIterable<E> other) {
+        for (final int position : positions) {
 
-            super(other);
+            iterator.skip(position - last - 1);
+            iterator.next();
+            iterator.remove();
 
-            mIterable = other.mIterable;
-            mTranslator = other.mTranslator;
+            last = position;
         }
+    }
 
-        @Override
-        protected void clearFilters() {
+    /**
+     * Returns the range of positions, in the backing sparse collection, which can be split in
+     * chunks of contiguous elements to be processed in parallel.
+     * <p/>
+     * The default implementation returns null, that is, the elements cannot be split. Subclasses
+     * returning a range must honor it when creating the iterator through
+     * {@link #createIterator(boolean, int, int)}.
+     *
+     * @return the array containing the first (inclusive) and the last (exclusive) position, or
+     * null.
+     */
+    protected int[] splitRange() {
 
-            super.clearFilters();
+        return null;
+    }
 
-            mIterable.clearFilters();
-        }
+    BooleanSparseIterable toBooleanValues(final ToBooleanTranslator<E> translator) {
 
-        @Override
-        protected BooleanTranslatedIterable<E> copy() {
+        return new BooleanValueIterable<E>(copy(), translator);
+    }
 
-            return new BooleanTranslatedIterable<E>(this);
-        }
+    <T> ElementSparseIterable<T> toElements(final Translator<E, T> translator) {
 
-        @Override
-        protected SparseIterator<Boolean> createIterator(final boolean isReverse) {
+        return new ElementTranslatedIterable<E, T>(copy(), translator);
+    }
 
-            final AbstractSparseIterable<E> iterable;
+    IntSparseIterable toIntValues(final ToIntTranslator<E> translator) {
 
-            if (isReverse) {
+        return new IntValueIterable<E>(copy(), translator);
+    }
 
-                iterable = mIterable.copy();
-                iterable.reverse();
+    LongSparseIterable toLongValues(final ToLongTranslator<E> translator) {
 
-            } else {
+        return new LongValueIterable<E>(copy(), translator);
+    }
 
-                iterable = mIterable;
-            }
+    /**
+     * Returns an iterator applying this instance filters only to the elements whose position in
+     * the backing sparse collection is included in the specified range.<br/>
+     * The filters are expected to be stateless, so that each chunk of elements can be filtered
+     * independently from the others.
+     *
+     * @param isReverse whether to loop in reverse order.
+     * @param start     the first position (inclusive).
+     * @param end       the last position (exclusive).
+     * @return the iterator instance.
+     * @see #chunkRange()
+     */
+    private SparseIterator<E> chunkIterator(final boolean isReverse, final int start,
+            final int end) {
 
-            final SparseIterator<E> iterator = iterable.filteredIterator(false);
+        final ArrayList<AdvancedFilter<E>> filters = mFilters;
 
-            return new TranslatedIterator<E, Boolean>(iterator, mTranslator);
-        }
+        final ArrayList<AdvancedFilter<E>> chain = new ArrayList<AdvancedFilter<E>>(filters.size());
 
-        @Override
-        protected SparseIterator<Boolean> rawIterator(final boolean isReverse) {
+        for (final AdvancedFilter<E> filter : filters) {
 
-            final SparseIterator<E> iterator = mIterable.rawIterator(isReverse);
+            if (!(filter instanceof SnapshotFilter)) {
 
-            return new TranslatedIterator<E, Boolean>(iterator, mTranslator);
+                chain.add(filter);
+            }
         }
-    }
-
-    private static class ElementTranslatedIterable<I, O> extends ElementSparseIterableImpl<O> {
 
-        private final AbstractSparseIterable<I> mIterable;
+        return compile(createIterator(isReverse, start, end), chain);
+    }
 
-        private final Translator<I, O> mTranslator;
+    /**
+     * Computes the range of positions to be split in chunks processed in parallel.<br/>
+     * The elements cannot be split when the backing sparse collection does not support it, or
+     * when any of the filters depends on the iteration order or count.
+     *
+     * @return the array containing the first (inclusive) and the last (exclusive) position, or
+     * null.
+     */
+    private int[] chunkRange() {
 
-        public ElementTranslatedIterable(final AbstractSparseIterable<I> iterable,
-                final Translator<I, O> translator) {
+        if (!isStateless(mFilters)) {
 
-            mIterable = iterable;
-            mTranslator = translator;
+            return null;
         }
 
-        ElementTranslatedIterable(final ElementTranslatedIterable<I, O> other) {
+        final int[] range = splitRange();
 
-            super(other);
+        if (range == null) {
 
-            mIterable = other.mIterable;
-            mTranslator = other.mTranslator;
+            return null;
         }
 
-        @Override
-        protected ElementTranslatedIterable<I, O> copy() {
+        final int[] filterRange = seekRange();
 
-            return new ElementTranslatedIterable<I, O>(this);
+        if (filterRange != null) {
+
+            range[0] = Math.max(range[0], filterRange[0]);
+            range[1] = Math.max(range[0], Math.min(range[1], filterRange[1]));
         }
 
-        @Override
-        protected void clearFilters() {
+        return range;
+    }
 
-            super.clearFilters();
+    private SparseIterator<E> createIterator(final boolean isReverse, final int[] range) {
 
-            mIterable.clearFilters();
+        if (range == null) {
+
+            return createIterator(isReverse);
         }
 
-        @Override
-        protected SparseIterator<O> createIterator(final boolean isReverse) {
+        return createIterator(isReverse, range[0], range[1]);
+    }
 
-            final AbstractSparseIterable<I> iterable;
+    /**
+     * Computes the range of positions to which the iteration can be restricted.<br/>
+     * The leading filters which do not depend on the iteration count are employed to narrow the
+     * range, since skipping the elements outside of it does not change the result of the
+     * iteration.
+     *
+     * @return the array containing the first (inclusive) and the last (exclusive) position, or
+     * null.
+     */
+    private int[] seekRange() {
 
-            if (isReverse) {
+        int[] range = null;
 
-                iterable = mIterable.copy();
-                iterable.reverse();
+        for (final AdvancedFilter<E> filter : mFilters) {
 
-            } else {
+            if (filter instanceof SnapshotFilter) {
 
-                iterable = mIterable;
+                continue;
             }
 
-            final SparseIterator<I> iterator = iterable.filteredIterator(false);
+            final int[] filterRange = rangeOf(filter);
 
-            return new TranslatedIterator<I, O>(iterator, mTranslator);
-        }
+            if (filterRange == null) {
 
-        @Override
-        protected SparseIterator<O> rawIterator(final boolean isReverse) {
+                break;
+            }
+
+            if (range == null) {
+
+                range = filterRange;
+
+            } else {
+
+                range[0] = Math.max(range[0], filterRange[0]);
+                range[1] = Math.min(range[1], filterRange[1]);
+            }
+        }
+
+        return range;
+    }
+
+    /**
+     * Compiles the specified chain of filters into a single iterator applying all of them to the
+     * passed one.
+     *
+     * @param iterator the iterator to wrap.
+     * @param filters  the list of filters.
+     * @param <E>      the element type.
+     * @return the filtered iterator.
+     */
+    private static <E> SparseIterator<E> compile(final SparseIterator<E> iterator,
+            final List<AdvancedFilter<E>> filters) {
+
+        if (filters.isEmpty()) {
+
+            return iterator;
+        }
+
+        return new FilteredIterator<E>(iterator, filters);
+    }
+
+    /**
+     * Creates an iterator translating the elements of the specified one into boolean values.<br/>
+     * The returned iterator knows the number of remaining elements when the wrapped one does.
+     *
+     * @param iterator   the iterator to wrap.
+     * @param translator the translator instance.
+     * @param <E>        the wrapped element type.
+     * @return the new iterator.
+     */
+    private static <E> BooleanValueIterator<E> createBooleanIterator(
+            final SparseIterator<E> iterator, final ToBooleanTranslator<E> translator) {
+
+        if (iterator instanceof SizedFilterIterator) {
+
+            return new SizedBooleanValueIterator<E>(iterator, translator);
+        }
+
+        return new BooleanValueIterator<E>(iterator, translator);
+    }
+
+    /**
+     * Creates an iterator translating the elements of the specified one into int values.<br/>
+     * The returned iterator knows the number of remaining elements when the wrapped one does.
+     *
+     * @param iterator   the iterator to wrap.
+     * @param translator the translator instance.
+     * @param <E>        the wrapped element type.
+     * @return the new iterator.
+     */
+    private static <E> IntValueIterator<E> createIntIterator(final SparseIterator<E> iterator,
+            final ToIntTranslator<E> translator) {
+
+        if (iterator instanceof SizedFilterIterator) {
+
+            return new SizedIntValueIterator<E>(iterator, translator);
+        }
+
+        return new IntValueIterator<E>(iterator, translator);
+    }
+
+    /**
+     * Creates an iterator translating the elements of the specified one into long values.<br/>
+     * The returned iterator knows the number of remaining elements when the wrapped one does.
+     *
+     * @param iterator   the iterator to wrap.
+     * @param translator the translator instance.
+     * @param <E>        the wrapped element type.
+     * @return the new iterator.
+     */
+    private static <E> LongValueIterator<E> createLongIterator(final SparseIterator<E> iterator,
+            final ToLongTranslator<E> translator) {
+
+        if (iterator instanceof SizedFilterIterator) {
+
+            return new SizedLongValueIterator<E>(iterator, translator);
+        }
+
+        return new LongValueIterator<E>(iterator, translator);
+    }
+
+    /**
+     * Creates a filter which is the inverse of the specified one.<br/>
+     * The inversion is folded into the filter chain evaluation, unless the filter bounds can be
+     * inverted.
+     *
+     * @param filter the original filter.
+     * @param <E>    the element type.
+     * @return the inverted filter.
+     */
+    private static <E> AdvancedFilter<E> inverse(final AdvancedFilter<E> filter) {
+
+        if (filter instanceof InverseFilter) {
+
+            return ((InverseFilter<E>) filter).getFilter();
+
+        } else if (filter instanceof BoundedFilter) {
+
+            final AdvancedFilter<E> inverse = Filters.inverse(filter);
+
+            if (inverse instanceof BoundedFilter) {
+
+                return inverse;
+            }
+        }
+
+        return new InverseFilter<E>(filter);
+    }
+
+    /**
+     * Checks if the specified filters do not depend on the iteration order, so that they can be
+     * applied to the reversed iterator without taking a snapshot of the matching indexes.
+     *
+     * @param filters the list of filters.
+     * @param <E>     the element type.
+     * @return whether the filters are stateless.
+     */
+    private static <E> boolean isStateless(final List<AdvancedFilter<E>> filters) {
+
+        for (final AdvancedFilter<E> filter : filters) {
+
+            final AdvancedFilter<E> wrapped;
+
+            if (filter instanceof InverseFilter) {
+
+                wrapped = ((InverseFilter<E>) filter).getFilter();
+
+            } else {
+
+                wrapped = filter;
+            }
+
+            if (!(wrapped instanceof StatelessFilter) && !(wrapped instanceof SnapshotFilter)) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Collects the positions, in the backing sparse collection, of the elements returned by the
+     * specified iterator.
+     *
+     * @param iterator the iterator instance.
+     * @param <E>      the element type.
+     * @return the positions sorted in ascending order.
+     */
+    private static <E> int[] positionsOf(final SparseIterator<E> iterator) {
+
+        int[] positions = new int[(iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<E>) iterator).remaining() : 16];
+
+        int count = 0;
+
+        while (iterator.hasNext()) {
+
+            iterator.next();
+
+            if (count == positions.length) {
+
+                final int[] newPositions = new int[Math.max(16, count << 1)];
+
+                System.arraycopy(positions, 0, newPositions, 0, count);
+
+                positions = newPositions;
+            }
+
+            positions[count++] = iterator.originalIndex();
+        }
+
+        if (count < positions.length) {
+
+            final int[] trimmed = new int[count];
+
+            System.arraycopy(positions, 0, trimmed, 0, count);
+
+            positions = trimmed;
+        }
+
+        Arrays.sort(positions);
+
+        return positions;
+    }
+
+    /**
+     * Parallel task checking if any of the elements satisfies a condition.
+     *
+     * @param <E> the element type.
+     */
+    private static class AnyTask<E> extends AbstractParallelTask {
+
+        private final Condition<E> mCondition;
+
+        private final AbstractSparseIterable<E> mIterable;
+
+        private volatile boolean mIsFound;
+
+        public AnyTask(final AbstractSparseIterable<E> iterable, final Condition<E> condition,
+                final int start, final int end) {
+
+            super(start, end);
+
+            mIterable = iterable;
+            mCondition = condition;
+        }
+
+        /**
+         * Checks if an element satisfying the condition has been found.
+         *
+         * @return whether the condition is satisfied.
+         */
+        public boolean isFound() {
+
+            return mIsFound;
+        }
+
+        @Override
+        protected void processChunk(final int start, final int end) {
+
+            final Condition<E> condition = mCondition;
+
+            final SparseIterator<E> iterator = mIterable.chunkIterator(false, start, end);
+
+            int count = 0;
+
+            while (iterator.hasNext() && !isCancelled()) {
+
+                if (condition.onNext(iterator.next(), count++, iterator.originalIndex())) {
+
+                    mIsFound = true;
+
+                    cancel();
+
+                    return;
+                }
+            }
+        }
+    }
+
+    private static class BooleanTranslatedIterable<E> extends BooleanSparseIterableImpl {
+
+        private final AbstractSparseIterable<E> mIterable;
+
+        private final Translator<E, Boolean> mTranslator;
+
+        public BooleanTranslatedIterable(final AbstractSparseIterable<E> iterable,
+                final Translator<E, Boolean> translator) {
+
+            mIterable = iterable;
+            mTranslator = translator;
+        }
+
+        BooleanTranslatedIterable(final BooleanTranslatedIterable<E> other) {
+
+            super(other);
+
+            mIterable = other.mIterable;
+            mTranslator = other.mTranslator;
+        }
+
+        @Override
+        protected void clearFilters() {
+
+            super.clearFilters();
+
+            mIterable.clearFilters();
+        }
+
+        @Override
+        protected BooleanTranslatedIterable<E> copy() {
+
+            return new BooleanTranslatedIterable<E>(this);
+        }
+
+        @Override
+        protected SparseIterator<Boolean> createIterator(final boolean isReverse) {
+
+            final AbstractSparseIterable<E> iterable;
+
+            if (isReverse) {
+
+                iterable = mIterable.copy();
+                iterable.reverse();
+
+            } else {
+
+                iterable = mIterable;
+            }
+
+            final SparseIterator<E> iterator = iterable.filteredIterator(false);
+
+            return new TranslatedIterator<E, Boolean>(iterator, mTranslator);
+        }
+
+        @Override
+        protected SparseIterator<Boolean> createIterator(final boolean isReverse, final int start,
+                final int end) {
+
+            final SparseIterator<E> iterator = mIterable.chunkIterator(isReverse, start, end);
+
+            return new TranslatedIterator<E, Boolean>(iterator, mTranslator);
+        }
+
+        @Override
+        protected SparseIterator<Boolean> rawIterator(final boolean isReverse) {
+
+            final SparseIterator<E> iterator = mIterable.rawIterator(isReverse);
+
+            return new TranslatedIterator<E, Boolean>(iterator, mTranslator);
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return mIterable.chunkRange();
+        }
+    }
+
+    private static class BooleanValueIterable<E> extends BooleanSparseIterableImpl {
+
+        private final AbstractSparseIterable<E> mIterable;
+
+        private final ToBooleanTranslator<E> mTranslator;
+
+        public BooleanValueIterable(final AbstractSparseIterable<E> iterable,
+                final ToBooleanTranslator<E> translator) {
+
+            mIterable = iterable;
+            mTranslator = translator;
+        }
+
+        BooleanValueIterable(final BooleanValueIterable<E> other) {
+
+            super(other);
+
+            mIterable = other.mIterable;
+            mTranslator = other.mTranslator;
+        }
+
+        @Override
+        protected BooleanValueIterable<E> copy() {
+
+            return new BooleanValueIterable<E>(this);
+        }
+
+        @Override
+        protected void clearFilters() {
+
+            super.clearFilters();
+
+            mIterable.clearFilters();
+        }
+
+        @Override
+        protected SparseIterator<Boolean> createIterator(final boolean isReverse) {
+
+            final AbstractSparseIterable<E> iterable;
+
+            if (isReverse) {
+
+                iterable = mIterable.copy();
+                iterable.reverse();
+
+            } else {
+
+                iterable = mIterable;
+            }
+
+            final SparseIterator<E> iterator = iterable.filteredIterator(false);
+
+            return createBooleanIterator(iterator, mTranslator);
+        }
+
+        @Override
+        protected SparseIterator<Boolean> createIterator(final boolean isReverse, final int start,
+                final int end) {
+
+            final SparseIterator<E> iterator = mIterable.chunkIterator(isReverse, start, end);
+
+            return createBooleanIterator(iterator, mTranslator);
+        }
+
+        @Override
+        protected SparseIterator<Boolean> rawIterator(final boolean isReverse) {
+
+            final SparseIterator<E> iterator = mIterable.rawIterator(isReverse);
+
+            return createBooleanIterator(iterator, mTranslator);
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return mIterable.chunkRange();
+        }
+    }
+
+    /**
+     * Iterator translating the wrapped iterator elements into boolean values, without boxing them
+     * when not required.
+     *
+     * @param <E> the wrapped element type.
+     */
+    private static class BooleanValueIterator<E> implements BooleanSparseIterator {
+
+        private final SparseIterator<E> mIterator;
+
+        private final ToBooleanTranslator<E> mTranslator;
+
+        public BooleanValueIterator(final SparseIterator<E> iterator,
+                final ToBooleanTranslator<E> translator) {
+
+            mIterator = iterator;
+            mTranslator = translator;
+        }
+
+        @Override
+        public boolean nextBoolean() {
+
+            return mTranslator.translate(mIterator.next());
+        }
+
+        @Override
+        public int originalIndex() {
+
+            return mIterator.originalIndex();
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            return mIterator.hasNext();
+        }
+
+        @Override
+        public Boolean next() {
+
+            return nextBoolean();
+        }
+
+        @Override
+        public void remove() {
+
+            mIterator.remove();
+        }
+
+        @Override
+        public void reset() {
+
+            mIterator.reset();
+        }
+
+        @Override
+        public int skip(final int count) {
+
+            return mIterator.skip(count);
+        }
+    }
+
+    /**
+     * Parallel task counting the elements satisfying a condition.
+     *
+     * @param <E> the element type.
+     */
+    private static class CountTask<E> extends AbstractParallelTask {
+
+        private final Condition<E> mCondition;
+
+        private final AtomicInteger mCount = new AtomicInteger();
+
+        private final AbstractSparseIterable<E> mIterable;
+
+        public CountTask(final AbstractSparseIterable<E> iterable, final Condition<E> condition,
+                final int start, final int end) {
+
+            super(start, end);
+
+            mIterable = iterable;
+            mCondition = condition;
+        }
+
+        /**
+         * Returns the number of elements satisfying the condition.
+         *
+         * @return the count.
+         */
+        public int getCount() {
+
+            return mCount.get();
+        }
+
+        @Override
+        protected void processChunk(final int start, final int end) {
+
+            final Condition<E> condition = mCondition;
+
+            final SparseIterator<E> iterator = mIterable.chunkIterator(false, start, end);
+
+            int count = 0;
+            int matched = 0;
+
+            while (iterator.hasNext()) {
+
+                if (condition.onNext(iterator.next(), count++, iterator.originalIndex())) {
+
+                    ++matched;
+                }
+            }
+
+            mCount.addAndGet(matched);
+        }
+    }
+
+    private static class ElementTranslatedIterable<I, O> extends ElementSparseIterableImpl<O> {
+
+        private final AbstractSparseIterable<I> mIterable;
+
+        private final Translator<I, O> mTranslator;
+
+        public ElementTranslatedIterable(final AbstractSparseIterable<I> iterable,
+                final Translator<I, O> translator) {
+
+            mIterable = iterable;
+            mTranslator = translator;
+        }
+
+        ElementTranslatedIterable(final ElementTranslatedIterable<I, O> other) {
+
+            super(other);
+
+            mIterable = other.mIterable;
+            mTranslator = other.mTranslator;
+        }
+
+        @Override
+        protected ElementTranslatedIterable<I, O> copy() {
+
+            return new ElementTranslatedIterable<I, O>(this);
+        }
+
+        @Override
+        protected void clearFilters() {
+
+            super.clearFilters();
+
+            mIterable.clearFilters();
+        }
+
+        @Override
+        protected SparseIterator<O> createIterator(final boolean isReverse) {
+
+            final AbstractSparseIterable<I> iterable;
+
+            if (isReverse) {
+
+                iterable = mIterable.copy();
+                iterable.reverse();
+
+            } else {
+
+                iterable = mIterable;
+            }
+
+            final SparseIterator<I> iterator = iterable.filteredIterator(false);
+
+            return new TranslatedIterator<I, O>(iterator, mTranslator);
+        }
+
+        @Override
+        protected SparseIterator<O> createIterator(final boolean isReverse, final int start,
+                final int end) {
+
+            final SparseIterator<I> iterator = mIterable.chunkIterator(isReverse, start, end);
+
+            return new TranslatedIterator<I, O>(iterator, mTranslator);
+        }
+
+        @Override
+        protected SparseIterator<O> rawIterator(final boolean isReverse) {
 
             final SparseIterator<I> iterator = mIterable.rawIterator(isReverse);
 
-            return new TranslatedIterator<I, O>(iterator, mTranslator);
+            return new TranslatedIterator<I, O>(iterator, mTranslator);
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return mIterable.chunkRange();
+        }
+    }
+
+    /**
+     * Wrapper of a {@link SparseIterator} instance on which the specified filters are applied.
+     * <p/>
+     * The filters are evaluated one after the other inside a single loop, each one receiving, as
+     * iteration count, the number of elements which matched all the previous ones.
+     *
+     * @param <E> the element type.
+     */
+    private static class FilteredIterator<E> implements SparseIterator<E> {
+
+        private final int[] mCounts;
+
+        private final int[] mEndCounts;
+
+        private final ArrayList<AdvancedFilter<E>> mFilters;
+
+        private final boolean[] mIsInverse;
+
+        private final SparseIterator<E> mIterator;
+
+        private final int[] mStartCounts;
+
+        private E mElement;
+
+        private boolean mHasNext;
+
+        private boolean mIsExhausted;
+
+        public FilteredIterator(final SparseIterator<E> wrapped,
+                final List<AdvancedFilter<E>> filters) {
+
+            final int size = filters.size();
+
+            final ArrayList<AdvancedFilter<E>> filterList = new ArrayList<AdvancedFilter<E>>(size);
+            final boolean[] isInverse = new boolean[size];
+            final int[] startCounts = new int[size];
+            final int[] endCounts = new int[size];
+
+            for (int i = 0; i < size; ++i) {
+
+                final AdvancedFilter<E> filter = filters.get(i);
+
+                if (filter instanceof InverseFilter) {
+
+                    filterList.add(((InverseFilter<E>) filter).getFilter());
+                    isInverse[i] = true;
+                    endCounts[i] = Integer.MAX_VALUE;
+
+                } else if (filter instanceof BoundedFilter) {
+
+                    final BoundedFilter<E> boundedFilter = (BoundedFilter<E>) filter;
+
+                    filterList.add(filter);
+                    startCounts[i] = boundedFilter.getStartCount();
+                    endCounts[i] = boundedFilter.getEndCount();
+
+                } else {
+
+                    filterList.add(filter);
+                    endCounts[i] = Integer.MAX_VALUE;
+                }
+            }
+
+            mIterator = wrapped;
+            mFilters = filterList;
+            mIsInverse = isInverse;
+            mStartCounts = startCounts;
+            mEndCounts = endCounts;
+            mCounts = new int[size];
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            if (mHasNext) {
+
+                return true;
+
+            } else if (mIsExhausted) {
+
+                return false;
+            }
+
+            final ArrayList<AdvancedFilter<E>> filters = mFilters;
+
+            final boolean[] isInverse = mIsInverse;
+
+            final int[] startCounts = mStartCounts;
+
+            final int[] endCounts = mEndCounts;
+
+            final int[] counts = mCounts;
+
+            final int length = filters.size();
+
+            final SparseIterator<E> iterator = mIterator;
+
+            if (counts[0] < startCounts[0]) {
+
+                counts[0] += iterator.skip(startCounts[0] - counts[0]);
+            }
+
+            while (iterator.hasNext()) {
+
+                final E element = iterator.next();
+
+                final int index = iterator.originalIndex();
+
+                boolean isMatching = true;
+
+                for (int i = 0; i < length; ++i) {
+
+                    final int count = counts[i]++;
+
+                    if (count >= (endCounts[i] - 1)) {
+
+                        mIsExhausted = true;
+                    }
+
+                    if ((count < startCounts[i]) || (count >= endCounts[i]) || (
+                            filters.get(i).matches(element, count, index) == isInverse[i])) {
+
+                        isMatching = false;
+
+                        break;
+                    }
+                }
+
+                if (isMatching) {
+
+                    mHasNext = true;
+
+                    mElement = element;
+
+                    return true;
+
+                } else if (mIsExhausted) {
+
+                    return false;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public int originalIndex() {
+
+            return mIterator.originalIndex();
+        }
+
+        @Override
+        public void reset() {
+
+            Arrays.fill(mCounts, 0);
+
+            mHasNext = false;
+            mIsExhausted = false;
+            mElement = null;
+
+            mIterator.reset();
+        }
+
+        @Override
+        public int skip(final int count) {
+
+            int skipped = 0;
+
+            while ((skipped < count) && hasNext()) {
+
+                next();
+
+                ++skipped;
+            }
+
+            return skipped;
+        }
+
+        @Override
+        public E next() {
+
+            if (!hasNext()) {
+
+                throw new NoSuchElementException();
+            }
+
+            mHasNext = false;
+
+            final E element = mElement;
+
+            mElement = null;
+
+            return element;
+        }
+
+        @Override
+        public void remove() {
+
+            mIterator.remove();
+        }
+    }
+
+    /**
+     * Parallel task applying an action to all the elements.
+     *
+     * @param <E> the element type.
+     */
+    private static class ForEachTask<E> extends AbstractParallelTask {
+
+        private final Action<E> mAction;
+
+        private final AbstractSparseIterable<E> mIterable;
+
+        public ForEachTask(final AbstractSparseIterable<E> iterable, final Action<E> action,
+                final int start, final int end) {
+
+            super(start, end);
+
+            mIterable = iterable;
+            mAction = action;
+        }
+
+        @Override
+        protected void processChunk(final int start, final int end) {
+
+            final Action<E> action = mAction;
+
+            final SparseIterator<E> iterator = mIterable.chunkIterator(false, start, end);
+
+            int count = 0;
+
+            while (iterator.hasNext()) {
+
+                action.onNext(iterator.next(), count++, iterator.originalIndex());
+            }
+        }
+    }
+
+    private static class IntTranslatedIterable<E> extends IntSparseIterableImpl {
+
+        private final AbstractSparseIterable<E> mIterable;
+
+        private final Translator<E, Integer> mTranslator;
+
+        public IntTranslatedIterable(final AbstractSparseIterable<E> iterable,
+                final Translator<E, Integer> translator) {
+
+            mIterable = iterable;
+            mTranslator = translator;
+        }
+
+        IntTranslatedIterable(final IntTranslatedIterable<E> other) {
+
+            super(other);
+
+            mIterable = other.mIterable;
+            mTranslator = other.mTranslator;
+        }
+
+        @Override
+        protected IntTranslatedIterable<E> copy() {
+
+            return new IntTranslatedIterable<E>(this);
+        }
+
+        @Override
+        protected void clearFilters() {
+
+            super.clearFilters();
+
+            mIterable.clearFilters();
+        }
+
+        @Override
+        protected SparseIterator<Integer> createIterator(final boolean isReverse) {
+
+            final AbstractSparseIterable<E> iterable;
+
+            if (isReverse) {
+
+                iterable = mIterable.copy();
+                iterable.reverse();
+
+            } else {
+
+                iterable = mIterable;
+            }
+
+            final SparseIterator<E> iterator = iterable.filteredIterator(false);
+
+            return new TranslatedIterator<E, Integer>(iterator, mTranslator);
+        }
+
+        @Override
+        protected SparseIterator<Integer> createIterator(final boolean isReverse, final int start,
+                final int end) {
+
+            final SparseIterator<E> iterator = mIterable.chunkIterator(isReverse, start, end);
+
+            return new TranslatedIterator<E, Integer>(iterator, mTranslator);
+        }
+
+        @Override
+        protected SparseIterator<Integer> rawIterator(final boolean isReverse) {
+
+            final SparseIterator<E> iterator = mIterable.rawIterator(isReverse);
+
+            return new TranslatedIterator<E, Integer>(iterator, mTranslator);
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return mIterable.chunkRange();
+        }
+    }
+
+    private static class IntValueIterable<E> extends IntSparseIterableImpl {
+
+        private final AbstractSparseIterable<E> mIterable;
+
+        private final ToIntTranslator<E> mTranslator;
+
+        public IntValueIterable(final AbstractSparseIterable<E> iterable,
+                final ToIntTranslator<E> translator) {
+
+            mIterable = iterable;
+            mTranslator = translator;
+        }
+
+        IntValueIterable(final IntValueIterable<E> other) {
+
+            super(other);
+
+            mIterable = other.mIterable;
+            mTranslator = other.mTranslator;
+        }
+
+        @Override
+        protected IntValueIterable<E> copy() {
+
+            return new IntValueIterable<E>(this);
+        }
+
+        @Override
+        protected void clearFilters() {
+
+            super.clearFilters();
+
+            mIterable.clearFilters();
         }
-    }
 
-    /**
-     * Wrapper of a {@link SparseIterator} instance on which the specified filter is applied.
-     *
-     * @param <E> the element type.
-     */
-    private static class FilteredIterator<E> implements SparseIterator<E> {
+        @Override
+        protected SparseIterator<Integer> createIterator(final boolean isReverse) {
 
-        private final Filter<E> mFilter;
+            final AbstractSparseIterable<E> iterable;
 
-        private final SparseIterator<E> mIterator;
+            if (isReverse) {
 
-        private int mCount;
+                iterable = mIterable.copy();
+                iterable.reverse();
 
-        private E mElement;
+            } else {
 
-        private boolean mHasNext;
+                iterable = mIterable;
+            }
 
-        public FilteredIterator(final SparseIterator<E> wrapped, final Filter<E> filter) {
+            final SparseIterator<E> iterator = iterable.filteredIterator(false);
 
-            mIterator = wrapped;
-            mFilter = filter;
+            return createIntIterator(iterator, mTranslator);
         }
 
         @Override
-        public boolean hasNext() {
+        protected SparseIterator<Integer> createIterator(final boolean isReverse, final int start,
+                final int end) {
 
-            if (mHasNext) {
+            return createIntIterator(mIterable.chunkIterator(isReverse, start, end), mTranslator);
+        }
 
-                return true;
-            }
+        @Override
+        protected SparseIterator<Integer> rawIterator(final boolean isReverse) {
 
-            final Filter<E> filter = mFilter;
+            final SparseIterator<E> iterator = mIterable.rawIterator(isReverse);
 
-            final SparseIterator<E> iterator = mIterator;
+            return createIntIterator(iterator, mTranslator);
+        }
 
-            while (iterator.hasNext()) {
+        @Override
+        protected void removePositions(final int[] positions) {
 
-                final E element = iterator.next();
+            mIterable.removePositions(positions);
+        }
 
-                if (filter.matches(element, mCount++, iterator.originalIndex())) {
+        @Override
+        protected int[] splitRange() {
 
-                    mHasNext = true;
+            return mIterable.chunkRange();
+        }
+    }
 
-                    mElement = element;
+    /**
+     * Iterator translating the wrapped iterator elements into int values, without boxing them
+     * when not required.
+     *
+     * @param <E> the wrapped element type.
+     */
+    private static class IntValueIterator<E> implements IntSparseIterator {
 
-                    return true;
-                }
-            }
+        private final SparseIterator<E> mIterator;
 
-            return false;
+        private final ToIntTranslator<E> mTranslator;
+
+        public IntValueIterator(final SparseIterator<E> iterator,
+                final ToIntTranslator<E> translator) {
+
+            mIterator = iterator;
+            mTranslator = translator;
+        }
+
+        @Override
+        public int nextInt() {
+
+            return mTranslator.translate(mIterator.next());
         }
 
         @Override
@@ -704,53 +1946,82 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
         }
 
         @Override
-        public void reset() {
+        public boolean hasNext() {
 
-            mCount = 0;
-            mHasNext = false;
-            mElement = null;
+            return mIterator.hasNext();
+        }
+
+        @Override
+        public Integer next() {
+
+            return nextInt();
+        }
+
+        @Override
+        public void remove() {
+
+            mIterator.remove();
+        }
+
+        @Override
+        public void reset() {
 
             mIterator.reset();
         }
 
         @Override
-        public E next() {
+        public int skip(final int count) {
 
-            if (!hasNext()) {
+            return mIterator.skip(count);
+        }
+    }
 
-                throw new NoSuchElementException();
-            }
+    /**
+     * Filter inverting the result of the wrapped one.
+     *
+     * @param <E> the element type.
+     */
+    private static class InverseFilter<E> implements AdvancedFilter<E> {
 
-            mHasNext = false;
+        private final AdvancedFilter<E> mFilter;
 
-            final E element = mElement;
+        public InverseFilter(final AdvancedFilter<E> wrapped) {
 
-            mElement = null;
+            mFilter = wrapped;
+        }
 
-            return element;
+        public AdvancedFilter<E> getFilter() {
+
+            return mFilter;
         }
 
         @Override
-        public void remove() {
+        public void initialize(final FilterIterator<E> iterator) {
 
-            mIterator.remove();
+            mFilter.initialize(iterator);
+        }
+
+        @Override
+        public boolean matches(final E element, final int count, final int index) {
+
+            return !mFilter.matches(element, count, index);
         }
     }
 
-    private static class IntTranslatedIterable<E> extends IntSparseIterableImpl {
+    private static class LongTranslatedIterable<E> extends LongSparseIterableImpl {
 
         private final AbstractSparseIterable<E> mIterable;
 
-        private final Translator<E, Integer> mTranslator;
+        private final Translator<E, Long> mTranslator;
 
-        public IntTranslatedIterable(final AbstractSparseIterable<E> iterable,
-                final Translator<E, Integer> translator) {
+        public LongTranslatedIterable(final AbstractSparseIterable<E> iterable,
+                final Translator<E, Long> translator) {
 
             mIterable = iterable;
             mTranslator = translator;
         }
 
-        IntTranslatedIterable(final IntTranslatedIterable<E> other) {
+        LongTranslatedIterable(final LongTranslatedIterable<E> other) {
 
             super(other);
 
@@ -759,9 +2030,9 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
         }
 
         @Override
-        protected IntTranslatedIterable<E> copy() {
+        protected LongTranslatedIterable<E> copy() {
 
-            return new IntTranslatedIterable<E>(this);
+            return new LongTranslatedIterable<E>(this);
         }
 
         @Override
@@ -773,7 +2044,7 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
         }
 
         @Override
-        protected SparseIterator<Integer> createIterator(final boolean isReverse) {
+        protected SparseIterator<Long> createIterator(final boolean isReverse) {
 
             final AbstractSparseIterable<E> iterable;
 
@@ -789,32 +2060,53 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
 
             final SparseIterator<E> iterator = iterable.filteredIterator(false);
 
-            return new TranslatedIterator<E, Integer>(iterator, mTranslator);
+            return new TranslatedIterator<E, Long>(iterator, mTranslator);
         }
 
         @Override
-        protected SparseIterator<Integer> rawIterator(final boolean isReverse) {
+        protected SparseIterator<Long> createIterator(final boolean isReverse, final int start,
+                final int end) {
+
+            final SparseIterator<E> iterator = mIterable.chunkIterator(isReverse, start, end);
+
+            return new TranslatedIterator<E, Long>(iterator, mTranslator);
+        }
+
+        @Override
+        protected SparseIterator<Long> rawIterator(final boolean isReverse) {
 
             final SparseIterator<E> iterator = mIterable.rawIterator(isReverse);
 
-            return new TranslatedIterator<E, Integer>(iterator, mTranslator);
+            return new TranslatedIterator<E, Long>(iterator, mTranslator);
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return mIterable.chunkRange();
         }
     }
 
-    private static class LongTranslatedIterable<E> extends LongSparseIterableImpl {
+    private static class LongValueIterable<E> extends LongSparseIterableImpl {
 
         private final AbstractSparseIterable<E> mIterable;
 
-        private final Translator<E, Long> mTranslator;
+        private final ToLongTranslator<E> mTranslator;
 
-        public LongTranslatedIterable(final AbstractSparseIterable<E> iterable,
-                final Translator<E, Long> translator) {
+        public LongValueIterable(final AbstractSparseIterable<E> iterable,
+                final ToLongTranslator<E> translator) {
 
             mIterable = iterable;
             mTranslator = translator;
         }
 
-        LongTranslatedIterable(final LongTranslatedIterable<E> other) {
+        LongValueIterable(final LongValueIterable<E> other) {
 
             super(other);
 
@@ -823,9 +2115,9 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
         }
 
         @Override
-        protected LongTranslatedIterable<E> copy() {
+        protected LongValueIterable<E> copy() {
 
-            return new LongTranslatedIterable<E>(this);
+            return new LongValueIterable<E>(this);
         }
 
         @Override
@@ -853,7 +2145,14 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
 
             final SparseIterator<E> iterator = iterable.filteredIterator(false);
 
-            return new TranslatedIterator<E, Long>(iterator, mTranslator);
+            return createLongIterator(iterator, mTranslator);
+        }
+
+        @Override
+        protected SparseIterator<Long> createIterator(final boolean isReverse, final int start,
+                final int end) {
+
+            return createLongIterator(mIterable.chunkIterator(isReverse, start, end), mTranslator);
         }
 
         @Override
@@ -861,7 +2160,159 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
 
             final SparseIterator<E> iterator = mIterable.rawIterator(isReverse);
 
-            return new TranslatedIterator<E, Long>(iterator, mTranslator);
+            return createLongIterator(iterator, mTranslator);
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return mIterable.chunkRange();
+        }
+    }
+
+    /**
+     * Iterator translating the wrapped iterator elements into long values, without boxing them
+     * when not required.
+     *
+     * @param <E> the wrapped element type.
+     */
+    private static class LongValueIterator<E> implements LongSparseIterator {
+
+        private final SparseIterator<E> mIterator;
+
+        private final ToLongTranslator<E> mTranslator;
+
+        public LongValueIterator(final SparseIterator<E> iterator,
+                final ToLongTranslator<E> translator) {
+
+            mIterator = iterator;
+            mTranslator = translator;
+        }
+
+        @Override
+        public long nextLong() {
+
+            return mTranslator.translate(mIterator.next());
+        }
+
+        @Override
+        public int originalIndex() {
+
+            return mIterator.originalIndex();
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            return mIterator.hasNext();
+        }
+
+        @Override
+        public Long next() {
+
+            return nextLong();
+        }
+
+        @Override
+        public void remove() {
+
+            mIterator.remove();
+        }
+
+        @Override
+        public void reset() {
+
+            mIterator.reset();
+        }
+
+        @Override
+        public int skip(final int count) {
+
+            return mIterator.skip(count);
+        }
+    }
+
+    /**
+     * Iterator translating the wrapped iterator elements into boolean values, which also knows the
+     * number of remaining elements.
+     *
+     * @param <E> the wrapped element type.
+     */
+    private static class SizedBooleanValueIterator<E> extends BooleanValueIterator<E>
+            implements SizedFilterIterator<Boolean> {
+
+        private final SizedFilterIterator<E> mSizedIterator;
+
+        public SizedBooleanValueIterator(final SparseIterator<E> iterator,
+                final ToBooleanTranslator<E> translator) {
+
+            super(iterator, translator);
+
+            mSizedIterator = (SizedFilterIterator<E>) iterator;
+        }
+
+        @Override
+        public int remaining() {
+
+            return mSizedIterator.remaining();
+        }
+    }
+
+    /**
+     * Iterator translating the wrapped iterator elements into int values, which also knows the
+     * number of remaining elements.
+     *
+     * @param <E> the wrapped element type.
+     */
+    private static class SizedIntValueIterator<E> extends IntValueIterator<E>
+            implements SizedFilterIterator<Integer> {
+
+        private final SizedFilterIterator<E> mSizedIterator;
+
+        public SizedIntValueIterator(final SparseIterator<E> iterator,
+                final ToIntTranslator<E> translator) {
+
+            super(iterator, translator);
+
+            mSizedIterator = (SizedFilterIterator<E>) iterator;
+        }
+
+        @Override
+        public int remaining() {
+
+            return mSizedIterator.remaining();
+        }
+    }
+
+    /**
+     * Iterator translating the wrapped iterator elements into long values, which also knows the
+     * number of remaining elements.
+     *
+     * @param <E> the wrapped element type.
+     */
+    private static class SizedLongValueIterator<E> extends LongValueIterator<E>
+            implements SizedFilterIterator<Long> {
+
+        private final SizedFilterIterator<E> mSizedIterator;
+
+        public SizedLongValueIterator(final SparseIterator<E> iterator,
+                final ToLongTranslator<E> translator) {
+
+            super(iterator, translator);
+
+            mSizedIterator = (SizedFilterIterator<E>) iterator;
+        }
+
+        @Override
+        public int remaining() {
+
+            return mSizedIterator.remaining();
         }
     }
 
@@ -959,5 +2410,11 @@ abstract class AbstractSparseIterable<E> implements SparseIterable<E> {
 
             mIterator.reset();
         }
+
+        @Override
+        public int skip(final int count) {
+
+            return mIterator.skip(count);
+        }
     }
 }
\ No newline at end of file
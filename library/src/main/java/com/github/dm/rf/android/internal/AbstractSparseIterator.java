@@ -13,6 +13,8 @@
  */
 package com.github.dm.rf.android.internal;
 
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
+
 import java.util.NoSuchElementException;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -26,9 +28,11 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  *
  * @param <E> the element type.
  */
-abstract class AbstractSparseIterator<E> implements SparseIterator<E> {
+abstract class AbstractSparseIterator<E> implements SparseIterator<E>, SizedFilterIterator<E> {
+
+    private final int mLastPosition;
 
-    private final int mTotalCount;
+    private final int mStartPosition;
 
     private int mCurrPosition;
 
@@ -38,14 +42,27 @@ abstract class AbstractSparseIterator<E> implements SparseIterator<E> {
 
     public AbstractSparseIterator(final int totalCount) {
 
-        mTotalCount = totalCount - 1;
-        mCurrPosition = -1;
+        this(0, totalCount);
+    }
+
+    /**
+     * Creates a new iterator looping only through the elements whose position in the sparse
+     * collection is included in the specified range.
+     *
+     * @param start the first position (inclusive).
+     * @param end   the last position (exclusive).
+     */
+    public AbstractSparseIterator(final int start, final int end) {
+
+        mStartPosition = start;
+        mLastPosition = Math.max(start, end) - 1;
+        mCurrPosition = start - 1;
     }
 
     @Override
     public boolean hasNext() {
 
-        return (mCurrPosition < mTotalCount);
+        return (mCurrPosition < mLastPosition);
     }
 
     @Override
@@ -81,14 +98,31 @@ abstract class AbstractSparseIterator<E> implements SparseIterator<E> {
         return mCurrPosition;
     }
 
+    @Override
+    public int remaining() {
+
+        return (mLastPosition - mCurrPosition);
+    }
+
     @Override
     public void reset() {
 
-        mCurrPosition = -1;
+        mCurrPosition = mStartPosition - 1;
         mRemoveOffset = 0;
         mHasCurrent = false;
     }
 
+    @Override
+    public int skip(final int count) {
+
+        final int skipped = Math.max(0, Math.min(count, mLastPosition - mCurrPosition));
+
+        mCurrPosition += skipped;
+        mHasCurrent = false;
+
+        return skipped;
+    }
+
     /**
      * Gets the element at the specified position in the sparse collection.
      *
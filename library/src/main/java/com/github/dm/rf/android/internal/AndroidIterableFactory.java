@@ -16,6 +16,7 @@ package com.github.dm.rf.android.internal;
 import android.annotation.TargetApi;
 import android.util.SparseLongArray;
 
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection;
 import com.github.dm.rf.android.iterator.SparseLongArrayIterable;
 import com.github.dm.rf.android.v16.SparseCollections;
 
@@ -41,6 +42,20 @@ public class AndroidIterableFactory extends JellyBeanIterableFactory {
 
     }
 
+    /**
+     * Wraps the specified {@link android.util.SparseLongArray} into a collection which can be
+     * safely shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static ConcurrentSparseCollection<SparseLongArrayIterable> concurrent(
+            final SparseLongArray sparseArray) {
+
+        return createConcurrent(sparseArray, new SparseLongArrayTranslator());
+    }
+
     /**
      * Wraps the specified {@link android.util.SparseLongArray} into an iterable.
      *
@@ -51,4 +66,17 @@ public class AndroidIterableFactory extends JellyBeanIterableFactory {
 
         return new SparseLongArrayIterableImpl(sparseArray);
     }
+
+    /**
+     * Translator creating the iterables wrapping a {@link android.util.SparseLongArray}.
+     */
+    private static class SparseLongArrayTranslator
+            extends CollectionTranslator<SparseLongArray, SparseLongArrayIterable> {
+
+        @Override
+        public SparseLongArrayIterable translate(final SparseLongArray element) {
+
+            return create(element);
+        }
+    }
 }
\ No newline at end of file
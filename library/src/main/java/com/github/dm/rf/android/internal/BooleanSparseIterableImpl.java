@@ -14,10 +14,12 @@
 package com.github.dm.rf.android.internal;
 
 import com.github.dm.rf.android.filter.BooleanFilterBuilder;
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.iterator.BooleanSparseIterable;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 /**
  * Abstract implementation of a {@link BooleanSparseIterable}.
@@ -94,6 +96,23 @@ abstract class BooleanSparseIterableImpl extends ElementSparseIterableImpl<Boole
         return this;
     }
 
+    @Override
+    public BooleanSparseIterable parallelForEach(final Action<Boolean> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public BooleanSparseIterable parallelForEach(final Action<Boolean> action,
+            final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public BooleanSparseIterable remove() {
 
@@ -118,6 +137,42 @@ abstract class BooleanSparseIterableImpl extends ElementSparseIterableImpl<Boole
         return this;
     }
 
+    @Override
+    public boolean anyBoolean(final BooleanCondition condition) {
+
+        int count = 0;
+
+        final SparseIterator<Boolean> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            if (condition.onNext(nextBoolean(iterator), count++, iterator.originalIndex())) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean eachBoolean(final BooleanCondition condition) {
+
+        int count = 0;
+
+        final SparseIterator<Boolean> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            if (!condition.onNext(nextBoolean(iterator), count++, iterator.originalIndex())) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public BooleanSparseIterable fill(final Collection<? super Boolean> collection) {
 
@@ -153,32 +208,83 @@ abstract class BooleanSparseIterableImpl extends ElementSparseIterableImpl<Boole
 
         int i = offset;
 
-        for (final Boolean element : this) {
+        final SparseIterator<Boolean> iterator = iterator();
+
+        while (iterator.hasNext()) {
 
-            array[i++] = (element == null) ? false : element;
+            array[i++] = nextBoolean(iterator);
         }
 
         return this;
     }
 
     @Override
-    public boolean[] toArray() {
+    public BooleanSparseIterable forEachBoolean(final BooleanAction action) {
 
         int count = 0;
 
         final SparseIterator<Boolean> iterator = iterator();
 
-        while (iterator().hasNext()) {
+        while (iterator.hasNext()) {
 
-            iterator.next();
+            action.onNext(nextBoolean(iterator), count++, iterator.originalIndex());
+        }
 
-            ++count;
+        return this;
+    }
+
+    @Override
+    public boolean[] toArray() {
+
+        final SparseIterator<Boolean> iterator = iterator();
+
+        boolean[] array = new boolean[(iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<Boolean>) iterator).remaining() : 16];
+
+        int count = 0;
+
+        while (iterator.hasNext()) {
+
+            if (count == array.length) {
+
+                final boolean[] newArray = new boolean[Math.max(16, count << 1)];
+
+                System.arraycopy(array, 0, newArray, 0, count);
+
+                array = newArray;
+            }
+
+            array[count++] = nextBoolean(iterator);
         }
 
-        final boolean[] array = new boolean[count];
+        if (count < array.length) {
+
+            final boolean[] trimmed = new boolean[count];
+
+            System.arraycopy(array, 0, trimmed, 0, count);
 
-        fill(array);
+            return trimmed;
+        }
 
         return array;
     }
+
+    /**
+     * Returns the next element of the specified iterator as a primitive value, avoiding boxing
+     * when possible.
+     *
+     * @param iterator the iterator.
+     * @return the next element.
+     */
+    private static boolean nextBoolean(final SparseIterator<Boolean> iterator) {
+
+        if (iterator instanceof BooleanSparseIterator) {
+
+            return ((BooleanSparseIterator) iterator).nextBoolean();
+        }
+
+        final Boolean next = iterator.next();
+
+        return (next == null) ? false : next;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import com.github.dm.rf.android.iterator.SparseIterable;
+import com.github.dm.rf.android.translator.Translator;
+
+/**
+ * Base class of the translators creating the iterables wrapping a sparse collection shared among
+ * several threads.
+ * <p/>
+ * Some sparse collections, like {@link android.util.SparseArray}, delay the removal of their
+ * elements and compact their internal arrays only the next time they are accessed, even by read
+ * methods like <code>size()</code> or <code>keyAt()</code>. Such translators must override
+ * {@link #compact(Object)} so that the compaction can be forced while holding the write lock.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <C> the sparse collection type.
+ * @param <I> the iterable type.
+ */
+abstract class CollectionTranslator<C, I extends SparseIterable<?>> implements Translator<C, I> {
+
+    /**
+     * Forces the compaction of the specified collection, so that no pending removal is left.<br/>
+     * The default implementation does nothing.
+     *
+     * @param collection the sparse collection.
+     */
+    public void compact(final C collection) {
+
+    }
+}
\ No newline at end of file
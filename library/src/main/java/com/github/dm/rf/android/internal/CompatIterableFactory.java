@@ -20,13 +20,23 @@ import android.util.SparseArray;
 import android.util.SparseBooleanArray;
 import android.util.SparseIntArray;
 
+import com.github.dm.rf.android.collection.IntIntHashMap;
+import com.github.dm.rf.android.collection.LongLongHashMap;
+import com.github.dm.rf.android.entry.IntSparseIntEntry;
+import com.github.dm.rf.android.entry.IntSparseObjectEntry;
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection;
+import com.github.dm.rf.android.iterator.ElementSparseIterable;
+import com.github.dm.rf.android.iterator.IntIntHashMapIterable;
+import com.github.dm.rf.android.iterator.LongLongHashMapIterable;
 import com.github.dm.rf.android.iterator.SimpleArrayMapIterable;
 import com.github.dm.rf.android.iterator.SparseArrayCompatIterable;
 import com.github.dm.rf.android.iterator.SparseArrayIterable;
 import com.github.dm.rf.android.iterator.SparseBooleanArrayIterable;
 import com.github.dm.rf.android.iterator.SparseIntArrayIterable;
-import com.github.dm.rf.android.iterator.SupportLongSparseArrayIterable;
 import com.github.dm.rf.android.iterator.SparseIterable;
+import com.github.dm.rf.android.iterator.SupportLongSparseArrayIterable;
+import com.github.dm.rf.android.translator.ConflictResolver;
+import com.github.dm.rf.android.translator.IntConflictResolver;
 
 /**
  * Utility class implementing a factory of
@@ -46,6 +56,95 @@ public class CompatIterableFactory {
 
     }
 
+    /**
+     * Wraps the specified {@link android.support.v4.util.SimpleArrayMap} into a collection which
+     * can be safely shared among several threads.
+     *
+     * @param arrayMap the array map to wrap.
+     * @param <K>      the element key type.
+     * @param <V>      the element value type.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static <K, V> ConcurrentSparseCollection<SimpleArrayMapIterable<K, V>> concurrent(
+            final SimpleArrayMap<K, V> arrayMap) {
+
+        return createConcurrent(arrayMap, new SimpleArrayMapTranslator<K, V>());
+    }
+
+    /**
+     * Wraps the specified {@link android.support.v4.util.LongSparseArray} into a collection which
+     * can be safely shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @param <V>         the element value type.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static <V> ConcurrentSparseCollection<SupportLongSparseArrayIterable<V>> concurrent(
+            final LongSparseArray<V> sparseArray) {
+
+        return createConcurrent(sparseArray, new SupportLongSparseArrayTranslator<V>());
+    }
+
+    /**
+     * Wraps the specified {@link android.util.SparseArray} into a collection which can be safely
+     * shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @param <V>         the element value type.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static <V> ConcurrentSparseCollection<SparseArrayIterable<V>> concurrent(
+            final SparseArray<V> sparseArray) {
+
+        return createConcurrent(sparseArray, new SparseArrayTranslator<V>());
+    }
+
+    /**
+     * Wraps the specified {@link android.support.v4.util.SparseArrayCompat} into a collection which
+     * can be safely shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @param <V>         the element value type.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static <V> ConcurrentSparseCollection<SparseArrayCompatIterable<V>> concurrent(
+            final SparseArrayCompat<V> sparseArray) {
+
+        return createConcurrent(sparseArray, new SparseArrayCompatTranslator<V>());
+    }
+
+    /**
+     * Wraps the specified {@link android.util.SparseIntArray} into a collection which can be safely
+     * shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static ConcurrentSparseCollection<SparseIntArrayIterable> concurrent(
+            final SparseIntArray sparseArray) {
+
+        return createConcurrent(sparseArray, new SparseIntArrayTranslator());
+    }
+
+    /**
+     * Wraps the specified {@link android.util.SparseBooleanArray} into a collection which can be
+     * safely shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static ConcurrentSparseCollection<SparseBooleanArrayIterable> concurrent(
+            final SparseBooleanArray sparseArray) {
+
+        return createConcurrent(sparseArray, new SparseBooleanArrayTranslator());
+    }
+
     /**
      * Wraps the specified {@link android.support.v4.util.SimpleArrayMap} into an iterable.
      *
@@ -59,6 +158,36 @@ public class CompatIterableFactory {
         return new SimpleArrayMapIterableImpl<K, V>(arrayMap);
     }
 
+    /**
+     * Wraps the specified {@link com.github.dm.rf.android.collection.IntIntHashMap} into an
+     * iterable.
+     * <p/>
+     * Note that the elements are iterated in insertion order, as modified by any removal, and not
+     * in key order.
+     *
+     * @param map the hash map to wrap.
+     * @return the iterable instance.
+     */
+    public static IntIntHashMapIterable create(final IntIntHashMap map) {
+
+        return new IntIntHashMapIterableImpl(map);
+    }
+
+    /**
+     * Wraps the specified {@link com.github.dm.rf.android.collection.LongLongHashMap} into an
+     * iterable.
+     * <p/>
+     * Note that the elements are iterated in insertion order, as modified by any removal, and not
+     * in key order.
+     *
+     * @param map the hash map to wrap.
+     * @return the iterable instance.
+     */
+    public static LongLongHashMapIterable create(final LongLongHashMap map) {
+
+        return new LongLongHashMapIterableImpl(map);
+    }
+
     /**
      * Wraps the specified {@link android.support.v4.util.LongSparseArray} into an iterable.
      *
@@ -117,4 +246,160 @@ public class CompatIterableFactory {
 
         return new SparseIntArrayIterableImpl(sparseArray);
     }
+
+    /**
+     * Creates an iterable looping through the union of the specified
+     * {@link android.util.SparseArray} collections in key order.
+     *
+     * @param resolver     the resolver of the values associated with the same key, or null to
+     *                     keep the value of the first collection.
+     * @param sparseArrays the sparse arrays to merge.
+     * @param <V>          the element value type.
+     * @return the iterable instance.
+     */
+    public static <V> ElementSparseIterable<IntSparseObjectEntry<V>> merge(
+            final ConflictResolver<V> resolver, final SparseArray<V>[] sparseArrays) {
+
+        return new SparseArrayMergeIterable<V>(sparseArrays, resolver);
+    }
+
+    /**
+     * Creates an iterable looping through the union of the specified
+     * {@link android.util.SparseIntArray} collections in key order.
+     *
+     * @param resolver     the resolver of the values associated with the same key, or null to
+     *                     keep the value of the first collection.
+     * @param sparseArrays the sparse arrays to merge.
+     * @return the iterable instance.
+     */
+    public static ElementSparseIterable<IntSparseIntEntry> merge(
+            final IntConflictResolver resolver, final SparseIntArray[] sparseArrays) {
+
+        return new SparseIntArrayMergeIterable(sparseArrays, resolver);
+    }
+
+    /**
+     * Wraps the specified sparse collection into a collection which can be safely shared among
+     * several threads.
+     *
+     * @param collection the sparse collection to wrap.
+     * @param factory    the translator creating the iterables wrapping the collection.
+     * @param <C>        the sparse collection type.
+     * @param <I>        the iterable type.
+     * @return the concurrent collection instance.
+     */
+    static <C, I extends SparseIterable<?>> ConcurrentSparseCollection<I> createConcurrent(
+            final C collection, final CollectionTranslator<C, I> factory) {
+
+        return new ConcurrentSparseCollectionImpl<C, I>(collection, factory);
+    }
+
+    /**
+     * Translator creating the iterables wrapping a {@link android.support.v4.util.SimpleArrayMap}.
+     *
+     * @param <K> the element key type.
+     * @param <V> the element value type.
+     */
+    private static class SimpleArrayMapTranslator<K, V>
+            extends CollectionTranslator<SimpleArrayMap<K, V>, SimpleArrayMapIterable<K, V>> {
+
+        @Override
+        public SimpleArrayMapIterable<K, V> translate(final SimpleArrayMap<K, V> element) {
+
+            return create(element);
+        }
+    }
+
+    /**
+     * Translator creating the iterables wrapping a {@link android.support.v4.util.LongSparseArray}.
+     *
+     * @param <V> the element value type.
+     */
+    private static class SupportLongSparseArrayTranslator<V>
+            extends CollectionTranslator<LongSparseArray<V>, SupportLongSparseArrayIterable<V>> {
+
+        @Override
+        public void compact(final LongSparseArray<V> collection) {
+
+            // Pending removals are applied by size()
+            collection.size();
+        }
+
+        @Override
+        public SupportLongSparseArrayIterable<V> translate(final LongSparseArray<V> element) {
+
+            return create(element);
+        }
+    }
+
+    /**
+     * Translator creating the iterables wrapping a {@link android.util.SparseArray}.
+     *
+     * @param <V> the element value type.
+     */
+    private static class SparseArrayTranslator<V>
+            extends CollectionTranslator<SparseArray<V>, SparseArrayIterable<V>> {
+
+        @Override
+        public void compact(final SparseArray<V> collection) {
+
+            // Pending removals are applied by size()
+            collection.size();
+        }
+
+        @Override
+        public SparseArrayIterable<V> translate(final SparseArray<V> element) {
+
+            return create(element);
+        }
+    }
+
+    /**
+     * Translator creating the iterables wrapping a
+     * {@link android.support.v4.util.SparseArrayCompat}.
+     *
+     * @param <V> the element value type.
+     */
+    private static class SparseArrayCompatTranslator<V>
+            extends CollectionTranslator<SparseArrayCompat<V>, SparseArrayCompatIterable<V>> {
+
+        @Override
+        public void compact(final SparseArrayCompat<V> collection) {
+
+            // Pending removals are applied by size()
+            collection.size();
+        }
+
+        @Override
+        public SparseArrayCompatIterable<V> translate(final SparseArrayCompat<V> element) {
+
+            return create(element);
+        }
+    }
+
+    /**
+     * Translator creating the iterables wrapping a {@link android.util.SparseIntArray}.
+     */
+    private static class SparseIntArrayTranslator
+            extends CollectionTranslator<SparseIntArray, SparseIntArrayIterable> {
+
+        @Override
+        public SparseIntArrayIterable translate(final SparseIntArray element) {
+
+            return create(element);
+        }
+    }
+
+    /**
+     * Translator creating the iterables wrapping a {@link android.util.SparseBooleanArray}.
+     */
+    private static class SparseBooleanArrayTranslator
+            extends CollectionTranslator<SparseBooleanArray, SparseBooleanArrayIterable> {
+
+        @Override
+        public SparseBooleanArrayIterable translate(final SparseBooleanArray element) {
+
+            return create(element);
+        }
+    }
 }
\ No newline at end of file
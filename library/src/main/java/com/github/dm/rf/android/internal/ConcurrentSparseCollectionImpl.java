@@ -0,0 +1,106 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection;
+import com.github.dm.rf.android.iterator.SparseIterable;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implementation of a {@link ConcurrentSparseCollection} guarding the wrapped sparse collection
+ * with a read-write lock.
+ * <p/>
+ * Since some sparse collections compact their internal arrays lazily, even when read methods are
+ * called, the compaction is forced at creation time and at the end of each write operation, while
+ * still holding the write lock. In this way read operations running concurrently never trigger
+ * it. Note that, for the same reason, the wrapped collection must not be modified outside of the
+ * write operations.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <C> the sparse collection type.
+ * @param <I> the iterable type.
+ */
+class ConcurrentSparseCollectionImpl<C, I extends SparseIterable<?>>
+        implements ConcurrentSparseCollection<I> {
+
+    private final C mCollection;
+
+    private final CollectionTranslator<C, I> mFactory;
+
+    private final ReentrantReadWriteLock mLock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates a new concurrent collection.
+     *
+     * @param collection the sparse collection to wrap.
+     * @param factory    the translator creating the iterables wrapping the collection.
+     */
+    public ConcurrentSparseCollectionImpl(final C collection,
+            final CollectionTranslator<C, I> factory) {
+
+        if (collection == null) {
+
+            throw new IllegalArgumentException();
+        }
+
+        mCollection = collection;
+        mFactory = factory;
+        factory.compact(collection);
+    }
+
+    @Override
+    public <R> R read(final Operation<? super I, R> operation) {
+
+        return perform(mLock.readLock(), operation, false);
+    }
+
+    @Override
+    public <R> R write(final Operation<? super I, R> operation) {
+
+        return perform(mLock.writeLock(), operation, true);
+    }
+
+    private <R> R perform(final Lock lock, final Operation<? super I, R> operation,
+            final boolean isCompact) {
+
+        if (operation == null) {
+
+            throw new IllegalArgumentException();
+        }
+
+        lock.lock();
+
+        try {
+
+            return operation.perform(mFactory.translate(mCollection));
+
+        } finally {
+
+            try {
+
+                if (isCompact) {
+
+                    mFactory.compact(mCollection);
+                }
+
+            } finally {
+
+                lock.unlock();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -13,14 +13,24 @@
  */
 package com.github.dm.rf.android.internal;
 
+import android.support.v4.util.SimpleArrayMap;
+import android.util.SparseArray;
+
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.FilterBuilder;
 import com.github.dm.rf.android.iterator.ElementSparseIterable;
+import com.github.dm.rf.android.translator.ToIntTranslator;
 import com.github.dm.rf.android.translator.Translator;
 
 import java.lang.reflect.Array;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Abstract implementation of a {@link ElementSparseIterable}.
@@ -99,6 +109,23 @@ abstract class ElementSparseIterableImpl<E> extends AbstractSparseIterable<E>
         return this;
     }
 
+    @Override
+    public ElementSparseIterable<E> parallelForEach(final Action<E> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public ElementSparseIterable<E> parallelForEach(final Action<E> action,
+            final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public ElementSparseIterable<E> remove() {
 
@@ -123,6 +150,18 @@ abstract class ElementSparseIterableImpl<E> extends AbstractSparseIterable<E>
         return this;
     }
 
+    @Override
+    public List<E> asList() {
+
+        return new ListView<E>(copy());
+    }
+
+    @Override
+    public ArrayList<E> bottomK(final int k, final Comparator<? super E> comparator) {
+
+        return select(k, comparator, false);
+    }
+
     @Override
     public ElementSparseIterable<E> fill(final Collection<? super E> collection) {
 
@@ -154,6 +193,83 @@ abstract class ElementSparseIterableImpl<E> extends AbstractSparseIterable<E>
         return this;
     }
 
+    @Override
+    public SparseArray<ArrayList<E>> groupBy(final ToIntTranslator<E> keyTranslator) {
+
+        final SparseArray<ArrayList<E>> groups = new SparseArray<ArrayList<E>>();
+
+        ArrayList<E> group = null;
+
+        int groupKey = 0;
+
+        for (final E element : this) {
+
+            final int key = keyTranslator.translate(element);
+
+            if ((group == null) || (key != groupKey)) {
+
+                final int size = groups.size();
+
+                if ((size == 0) || (key > groups.keyAt(size - 1))) {
+
+                    group = new ArrayList<E>();
+
+                    groups.append(key, group);
+
+                } else {
+
+                    group = groups.get(key);
+
+                    if (group == null) {
+
+                        group = new ArrayList<E>();
+
+                        groups.put(key, group);
+                    }
+                }
+
+                groupKey = key;
+            }
+
+            group.add(element);
+        }
+
+        return groups;
+    }
+
+    @Override
+    public <K> SimpleArrayMap<K, ArrayList<E>> groupBy(final Translator<E, K> keyTranslator) {
+
+        final SimpleArrayMap<K, ArrayList<E>> groups = new SimpleArrayMap<K, ArrayList<E>>();
+
+        ArrayList<E> group = null;
+
+        K groupKey = null;
+
+        for (final E element : this) {
+
+            final K key = keyTranslator.translate(element);
+
+            if ((group == null) || ((key == null) ? (groupKey != null) : !key.equals(groupKey))) {
+
+                group = groups.get(key);
+
+                if (group == null) {
+
+                    group = new ArrayList<E>();
+
+                    groups.put(key, group);
+                }
+
+                groupKey = key;
+            }
+
+            group.add(element);
+        }
+
+        return groups;
+    }
+
     @Override
     public <T> T[] toArray(final Class<T> type) {
 
@@ -173,9 +289,221 @@ abstract class ElementSparseIterableImpl<E> extends AbstractSparseIterable<E>
         return list;
     }
 
+    @Override
+    public ArrayList<E> topK(final int k, final Comparator<? super E> comparator) {
+
+        return select(k, comparator, true);
+    }
+
     @Override
     public <T> ElementSparseIterable<T> translate(final Translator<E, T> translator) {
 
         return toElements(translator);
     }
+
+    /**
+     * Selects the specified number of greatest or smallest elements by means of a bounded heap.
+     * <p/>
+     * The root of the heap is always the worst of the retained elements, so that each new element
+     * needs to be compared only with it. The heap is finally sorted in place.
+     *
+     * @param k          the maximum number of elements to select.
+     * @param comparator the comparator defining the elements order.
+     * @param isTop      whether to select the greatest elements.
+     * @return the sorted list of the selected elements.
+     */
+    private ArrayList<E> select(final int k, final Comparator<? super E> comparator,
+            final boolean isTop) {
+
+        if ((k < 0) || (comparator == null)) {
+
+            throw new IllegalArgumentException();
+        }
+
+        final SparseIterator<E> iterator = iterator();
+
+        // The heap grows lazily, since k might be much greater than the number of elements
+
+        Object[] heap = new Object[Math.min(k, (iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<E>) iterator).remaining() : 16)];
+
+        int size = 0;
+
+        while (iterator.hasNext()) {
+
+            final E element = iterator.next();
+
+            if (size < k) {
+
+                if (size == heap.length) {
+
+                    final Object[] newHeap = new Object[Math.min(k, Math.max(16, size << 1))];
+
+                    System.arraycopy(heap, 0, newHeap, 0, size);
+
+                    heap = newHeap;
+                }
+
+                siftUp(heap, size++, element, comparator, isTop);
+
+            } else if ((k > 0) && isBefore(heap[0], element, comparator, isTop)) {
+
+                siftDown(heap, size, element, comparator, isTop);
+            }
+        }
+
+        for (int i = size - 1; i > 0; --i) {
+
+            final Object root = heap[0];
+
+            siftDown(heap, i, heap[i], comparator, isTop);
+
+            heap[i] = root;
+        }
+
+        final ArrayList<E> list = new ArrayList<E>(size);
+
+        for (int i = 0; i < size; ++i) {
+
+            //noinspection unchecked
+            list.add((E) heap[i]);
+        }
+
+        return list;
+    }
+
+    /**
+     * Checks if the first element must be placed nearer to the heap root than the second one.
+     *
+     * @param element    the first element.
+     * @param other      the second element.
+     * @param comparator the comparator defining the elements order.
+     * @param isTop      whether the heap retains the greatest elements.
+     * @param <E>        the element type.
+     * @return whether the first element comes before.
+     */
+    private static <E> boolean isBefore(final Object element, final Object other,
+            final Comparator<? super E> comparator, final boolean isTop) {
+
+        //noinspection unchecked
+        final int compare = comparator.compare((E) element, (E) other);
+
+        return (isTop) ? (compare < 0) : (compare > 0);
+    }
+
+    /**
+     * Replaces the heap root with the specified element and restores the heap order.
+     *
+     * @param heap       the heap array.
+     * @param size       the heap size.
+     * @param element    the new root element.
+     * @param comparator the comparator defining the elements order.
+     * @param isTop      whether the heap retains the greatest elements.
+     * @param <E>        the element type.
+     */
+    private static <E> void siftDown(final Object[] heap, final int size, final Object element,
+            final Comparator<? super E> comparator, final boolean isTop) {
+
+        int i = 0;
+
+        while (true) {
+
+            int child = (i << 1) + 1;
+
+            if (child >= size) {
+
+                break;
+            }
+
+            if (((child + 1) < size) && isBefore(heap[child + 1], heap[child], comparator,
+                                                 isTop)) {
+
+                ++child;
+            }
+
+            if (!isBefore(heap[child], element, comparator, isTop)) {
+
+                break;
+            }
+
+            heap[i] = heap[child];
+            i = child;
+        }
+
+        heap[i] = element;
+    }
+
+    /**
+     * Adds the specified element at the end of the heap and restores the heap order.
+     *
+     * @param heap       the heap array.
+     * @param size       the heap size before the addition.
+     * @param element    the element to add.
+     * @param comparator the comparator defining the elements order.
+     * @param isTop      whether the heap retains the greatest elements.
+     * @param <E>        the element type.
+     */
+    private static <E> void siftUp(final Object[] heap, final int size, final Object element,
+            final Comparator<? super E> comparator, final boolean isTop) {
+
+        int i = size;
+
+        while (i > 0) {
+
+            final int parent = (i - 1) >> 1;
+
+            if (!isBefore(element, heap[parent], comparator, isTop)) {
+
+                break;
+            }
+
+            heap[i] = heap[parent];
+            i = parent;
+        }
+
+        heap[i] = element;
+    }
+
+    /**
+     * List view of the elements returned by a sparse iterable.
+     *
+     * @param <E> the element type.
+     */
+    private static class ListView<E> extends AbstractList<E> {
+
+        private final AbstractSparseIterable<E> mIterable;
+
+        public ListView(final AbstractSparseIterable<E> iterable) {
+
+            mIterable = iterable;
+        }
+
+        @Override
+        public E get(final int location) {
+
+            if (location >= 0) {
+
+                final SparseIterator<E> iterator = mIterable.iterator();
+
+                if ((iterator.skip(location) == location) && iterator.hasNext()) {
+
+                    return iterator.next();
+                }
+            }
+
+            throw new IndexOutOfBoundsException();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+
+            return mIterable.iterator();
+        }
+
+        @Override
+        public int size() {
+
+            return mIterable.count();
+        }
+    }
 }
\ No newline at end of file
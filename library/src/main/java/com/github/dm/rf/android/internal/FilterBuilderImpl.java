@@ -85,9 +85,9 @@ class FilterBuilderImpl<T extends SparseIterable<E>, E> implements FilterBuilder
     @Override
     public T from(final int index) {
 
-        final Filter<E> filter = Filters.first(index);
+        final Filter<E> filter = Filters.from(index);
 
-        return build(!mIsInclusive, filter);
+        return build(mIsInclusive, filter);
     }
 
     @Override
@@ -0,0 +1,113 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import com.github.dm.rf.android.entry.IntIntHashMapEntry;
+import com.github.dm.rf.android.filter.Filter;
+import com.github.dm.rf.android.filter.Filters;
+import com.github.dm.rf.android.filter.IntIntHashMapFilterBuilder;
+import com.github.dm.rf.android.iterator.IntIntHashMapIterable;
+import com.github.dm.rf.android.translator.ToIntTranslator;
+import com.github.dm.rf.android.translator.Translators;
+
+import java.util.Collection;
+
+/**
+ * Implementation of a {@link IntIntHashMapFilterBuilder}.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+class IntIntHashMapFilterBuilderImpl
+        extends FilterBuilderImpl<IntIntHashMapIterable, IntIntHashMapEntry>
+        implements IntIntHashMapFilterBuilder {
+
+    public IntIntHashMapFilterBuilderImpl(final IntIntHashMapIterable iterable,
+            final boolean isInclusive) {
+
+        super(iterable, isInclusive);
+    }
+
+    @Override
+    public IntIntHashMapIterable key(final int key) {
+
+        final Filter<IntIntHashMapEntry> filter =
+                new IntKeyRangeFilter<IntIntHashMapEntry>(key, key, null);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public IntIntHashMapIterable keyRange(final int lowKey, final int highKey) {
+
+        final Filter<IntIntHashMapEntry> filter =
+                new IntKeyRangeFilter<IntIntHashMapEntry>(lowKey, highKey, null);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public IntIntHashMapIterable keys(final int... keys) {
+
+        final ToIntTranslator<IntIntHashMapEntry> translator = Translators.intKey();
+
+        final Filter<IntIntHashMapEntry> filter =
+                IntKeyRangeFilter.keys(Filters.containedIn(translator, keys), keys);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public IntIntHashMapIterable keys(final Collection<Integer> keys) {
+
+        return keys(SortedKeys.fromNonNullIntegers(keys));
+    }
+
+    @Override
+    public IntIntHashMapIterable keys(final Iterable<Integer> keys) {
+
+        return keys(SortedKeys.fromNonNullIntegers(keys));
+    }
+
+    @Override
+    public IntIntHashMapIterable value(final int value) {
+
+        final ToIntTranslator<IntIntHashMapEntry> translator = Translators.intValue();
+
+        final Filter<IntIntHashMapEntry> filter = Filters.matching(translator, value);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public IntIntHashMapIterable values(final int... values) {
+
+        final ToIntTranslator<IntIntHashMapEntry> translator = Translators.intValue();
+
+        final Filter<IntIntHashMapEntry> filter = Filters.containedIn(translator, values);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public IntIntHashMapIterable values(final Collection<Integer> values) {
+
+        return values(SortedKeys.fromNonNullIntegers(values));
+    }
+
+    @Override
+    public IntIntHashMapIterable values(final Iterable<Integer> values) {
+
+        return values(SortedKeys.fromNonNullIntegers(values));
+    }
+}
\ No newline at end of file
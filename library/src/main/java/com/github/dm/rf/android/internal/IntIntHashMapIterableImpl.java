@@ -0,0 +1,772 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import android.annotation.SuppressLint;
+import android.os.Parcelable;
+import android.util.SparseIntArray;
+
+import com.github.dm.rf.android.collection.IntIntHashMap;
+import com.github.dm.rf.android.entry.IntIntHashMapEntry;
+import com.github.dm.rf.android.entry.IntSparseIntEntry;
+import com.github.dm.rf.android.entry.ParcelableIntSparseIntEntry;
+import com.github.dm.rf.android.filter.AdvancedFilter;
+import com.github.dm.rf.android.filter.Filter;
+import com.github.dm.rf.android.filter.IntIntHashMapFilterBuilder;
+import com.github.dm.rf.android.iterator.IntIntHashMapIterable;
+import com.github.dm.rf.android.iterator.IntSparseIterable;
+import com.github.dm.rf.android.translator.IntTranslator;
+import com.github.dm.rf.android.translator.ToIntTranslator;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Implementation of a {@link IntIntHashMapIterable}.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+class IntIntHashMapIterableImpl extends AbstractSparseIterable<IntIntHashMapEntry>
+        implements IntIntHashMapIterable {
+
+    private static volatile KeyTranslator sKeyTranslator;
+
+    private static volatile ValueTranslator sValueTranslator;
+
+    private final IntIntHashMap mMap;
+
+    private IntIntHashMapFilterBuilderImpl mExclusionBuilder;
+
+    private IntIntHashMapFilterBuilderImpl mInclusionBuilder;
+
+    public IntIntHashMapIterableImpl(final IntIntHashMap map) {
+
+        mMap = map;
+    }
+
+    IntIntHashMapIterableImpl(final IntIntHashMapIterableImpl other) {
+
+        super(other);
+
+        mMap = other.mMap;
+    }
+
+    @Override
+    public boolean containsAllKeys(final int... keys) {
+
+        for (final int key : keys) {
+
+            if (positionOfKey(key) < 0) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean containsAllKeys(final Iterable<Integer> keys) {
+
+        for (final int key : keys) {
+
+            if (positionOfKey(key) < 0) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean containsAllValues(final int... values) {
+
+        for (final int value : values) {
+
+            if (firstPositionOfValue(value) < 0) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean containsAllValues(final Iterable<Integer> values) {
+
+        for (final int value : values) {
+
+            if (firstPositionOfValue(value) < 0) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean containsAnyKey(final int... keys) {
+
+        for (final int key : keys) {
+
+            if (positionOfKey(key) >= 0) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAnyKey(final Iterable<Integer> keys) {
+
+        for (final int key : keys) {
+
+            if (positionOfKey(key) >= 0) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAnyValue(final int... values) {
+
+        for (final int value : values) {
+
+            if (firstPositionOfValue(value) >= 0) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAnyValue(final Iterable<Integer> values) {
+
+        for (final int value : values) {
+
+            if (firstPositionOfValue(value) >= 0) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsKey(final int key) {
+
+        return positionOfKey(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final int value) {
+
+        return firstPositionOfValue(value) >= 0;
+    }
+
+    @Override
+    public IntIntHashMapIterable fill(final Map<? super Integer, ? super Integer> map) {
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            map.put(entry.getKey(), entry.getValue());
+        }
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapIterable fillImmutable(
+            final Collection<? super IntSparseIntEntry> collection) {
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            collection.add(entry.toImmutable());
+        }
+
+        return this;
+    }
+
+    @Override
+    public <T> IntIntHashMapIterable fillImmutable(final T[] array) {
+
+        return fillImmutable(array, 0);
+    }
+
+    @Override
+    public <T> IntIntHashMapIterable fillImmutable(final T[] array, final int offset) {
+
+        int i = offset;
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            //noinspection unchecked
+            array[i++] = (T) entry.toImmutable();
+        }
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapIterable fillParcelable(
+            final Collection<? super ParcelableIntSparseIntEntry> collection) {
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            collection.add(entry.toParcelable());
+        }
+
+        return this;
+    }
+
+    @Override
+    public <T extends Parcelable> IntIntHashMapIterable fillParcelable(final T[] array) {
+
+        return fillParcelable(array, 0);
+    }
+
+    @Override
+    public <T extends Parcelable> IntIntHashMapIterable fillParcelable(final T[] array,
+            final int offset) {
+
+        int i = offset;
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            //noinspection unchecked
+            array[i++] = (T) entry.toParcelable();
+        }
+
+        return this;
+    }
+
+    @Override
+    public int firstIndexOfValue(final int value) {
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            if (entry.getValue() == value) {
+
+                return entry.getIndex();
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int firstPositionOfValue(final int value) {
+
+        int i = 0;
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            if (entry.getValue() == value) {
+
+                return i;
+            }
+
+            ++i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public IntIntHashMapIterable forEachEntry(final EntryAction action) {
+
+        int count = 0;
+
+        final SparseIterator<IntIntHashMapEntry> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            final IntIntHashMapEntry entry = iterator.next();
+
+            action.onNext(entry.getKey(), entry.getValue(), count++, iterator.originalIndex());
+        }
+
+        return this;
+    }
+
+    @Override
+    public int indexOfKey(final int key) {
+
+        if (isSeekable()) {
+
+            return mMap.indexOfKey(key);
+        }
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            if (entry.getKey() == key) {
+
+                return entry.getIndex();
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean isEqualTo(final SparseIntArray array) {
+
+        int count = 0;
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            final int value = array.get(entry.getKey());
+
+            if (entry.getValue() != value) {
+
+                return false;
+            }
+
+            ++count;
+        }
+
+        return (count == array.size());
+    }
+
+    @Override
+    public boolean isEqualTo(final Map<?, ?> map) {
+
+        int count = 0;
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            final Object value = map.get(entry.getKey());
+
+            if (value == null) {
+
+                return false;
+
+            } else if (!value.equals(entry.getValue())) {
+
+                return false;
+            }
+
+            ++count;
+        }
+
+        return (count == map.size());
+    }
+
+    @Override
+    public IntSparseIterable keys() {
+
+        if (sKeyTranslator == null) {
+
+            sKeyTranslator = new KeyTranslator();
+        }
+
+        return toIntValues(sKeyTranslator);
+    }
+
+    @Override
+    public int positionOfKey(final int key) {
+
+        if (isSeekable()) {
+
+            final IntIntHashMap map = mMap;
+
+            final int index = map.indexOfKey(key);
+
+            if (index < 0) {
+
+                return -1;
+            }
+
+            return isReversed() ? (map.size() - 1 - index) : index;
+        }
+
+        int i = 0;
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            if (entry.getKey() == key) {
+
+                return i;
+            }
+
+            ++i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public IntIntHashMapIterable putInto(final IntIntHashMap other) {
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            other.put(entry.getKey(), entry.getValue());
+        }
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapIterable replaceValues(final IntTranslator translator) {
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            entry.setValue(translator.translate(entry.getValue()));
+        }
+
+        return this;
+    }
+
+    @Override
+    public <T> T[] toImmutableArray(final Class<T> type) {
+
+        final ArrayList<IntSparseIntEntry> list = toImmutableList();
+
+        //noinspection unchecked,SuspiciousToArrayCall
+        return list.toArray((T[]) Array.newInstance(type, list.size()));
+    }
+
+    @Override
+    public ArrayList<IntSparseIntEntry> toImmutableList() {
+
+        final ArrayList<IntSparseIntEntry> list = new ArrayList<IntSparseIntEntry>();
+
+        fillImmutable(list);
+
+        return list;
+    }
+
+    @Override
+    public Map<Integer, Integer> toMap() {
+
+        @SuppressLint("UseSparseArrays")
+        final HashMap<Integer, Integer> map = new HashMap<Integer, Integer>();
+
+        fill(map);
+
+        return map;
+    }
+
+    @Override
+    public <T extends Parcelable> T[] toParcelableArray(final Class<T> type) {
+
+        final ArrayList<ParcelableIntSparseIntEntry> list = toParcelableList();
+
+        //noinspection unchecked,SuspiciousToArrayCall
+        return list.toArray((T[]) Array.newInstance(type, list.size()));
+    }
+
+    @Override
+    public ArrayList<ParcelableIntSparseIntEntry> toParcelableList() {
+
+        final ArrayList<ParcelableIntSparseIntEntry> list =
+                new ArrayList<ParcelableIntSparseIntEntry>();
+
+        fillParcelable(list);
+
+        return list;
+    }
+
+    @Override
+    public SortedMap<Integer, Integer> toSortedMap() {
+
+        final TreeMap<Integer, Integer> map = new TreeMap<Integer, Integer>();
+
+        fill(map);
+
+        return map;
+    }
+
+    @Override
+    public SparseIntArray toSparseArray() {
+
+        // Sort the entries by key so that they can be appended to the array, since inserting them
+        // in random order would shift the array elements each time
+
+        final int size = mMap.size();
+
+        final long[] sorted = new long[size];
+
+        final int[] values = new int[size];
+
+        int count = 0;
+
+        for (final IntIntHashMapEntry entry : this) {
+
+            sorted[count] = ((long) entry.getKey() << 32) | count;
+            values[count] = entry.getValue();
+
+            ++count;
+        }
+
+        Arrays.sort(sorted, 0, count);
+
+        final SparseIntArray array = new SparseIntArray(count);
+
+        for (int i = 0; i < count; ++i) {
+
+            final long entry = sorted[i];
+
+            array.append((int) (entry >> 32), values[(int) entry]);
+        }
+
+        return array;
+    }
+
+    @Override
+    public IntSparseIterable values() {
+
+        if (sValueTranslator == null) {
+
+            sValueTranslator = new ValueTranslator();
+        }
+
+        return toIntValues(sValueTranslator);
+    }
+
+    @Override
+    public IntIntHashMapFilterBuilder but() {
+
+        if (mExclusionBuilder == null) {
+
+            mExclusionBuilder = new IntIntHashMapFilterBuilderImpl(this, false);
+        }
+
+        return mExclusionBuilder;
+    }
+
+    @Override
+    public IntIntHashMapIterable but(final Filter<IntIntHashMapEntry> filter) {
+
+        super.but(filter);
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapIterable doWhile(final Condition<IntIntHashMapEntry> condition) {
+
+        super.doWhile(condition);
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapIterable forEach(final Action<IntIntHashMapEntry> action) {
+
+        super.forEach(action);
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapFilterBuilder only() {
+
+        if (mInclusionBuilder == null) {
+
+            mInclusionBuilder = new IntIntHashMapFilterBuilderImpl(this, true);
+        }
+
+        return mInclusionBuilder;
+    }
+
+    @Override
+    public IntIntHashMapIterable only(final Filter<IntIntHashMapEntry> filter) {
+
+        super.only(filter);
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapIterable parallelForEach(final Action<IntIntHashMapEntry> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapIterable parallelForEach(final Action<IntIntHashMapEntry> action,
+            final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapIterable remove() {
+
+        super.remove();
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapIterable retain() {
+
+        super.retain();
+
+        return this;
+    }
+
+    @Override
+    public IntIntHashMapIterable reverse() {
+
+        super.reverse();
+
+        return this;
+    }
+
+    private static class KeyTranslator implements ToIntTranslator<IntIntHashMapEntry> {
+
+        @Override
+        public int translate(final IntIntHashMapEntry element) {
+
+            return element.getKey();
+        }
+    }
+
+    private static class ValueTranslator implements ToIntTranslator<IntIntHashMapEntry> {
+
+        @Override
+        public int translate(final IntIntHashMapEntry element) {
+
+            return element.getValue();
+        }
+    }
+
+    @Override
+    protected IntIntHashMapIterableImpl copy() {
+
+        return new IntIntHashMapIterableImpl(this);
+    }
+
+    @Override
+    protected SparseIterator<IntIntHashMapEntry> createIterator(final boolean isReverse) {
+
+        if (isReverse) {
+
+            return new IntIntHashMapReverseIterator(mMap);
+        }
+
+        return new IntIntHashMapIterator(mMap);
+    }
+
+    @Override
+    protected SparseIterator<IntIntHashMapEntry> createIterator(final boolean isReverse,
+            final int start, final int end) {
+
+        if (isReverse) {
+
+            return new IntIntHashMapReverseIterator(mMap, start, end);
+        }
+
+        return new IntIntHashMapIterator(mMap, start, end);
+    }
+
+    @Override
+    protected SparseIterator<IntIntHashMapEntry> rawIterator(final boolean isReverse) {
+
+        return createIterator(isReverse);
+    }
+
+    @Override
+    protected int[] rangeOf(final AdvancedFilter<IntIntHashMapEntry> filter) {
+
+        if (filter instanceof IntKeyRangeFilter) {
+
+            final IntKeyRangeFilter<?> keyFilter = (IntKeyRangeFilter<?>) filter;
+
+            final int lowKey = keyFilter.getLowKey();
+
+            final int highKey = keyFilter.getHighKey();
+
+            if (lowKey > highKey) {
+
+                return new int[]{0, 0};
+            }
+
+            // Since the keys are not sorted, only a single key can be looked up
+
+            if (lowKey == highKey) {
+
+                final int index = mMap.indexOfKey(lowKey);
+
+                return (index >= 0) ? new int[]{index, index + 1} : new int[]{0, 0};
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    protected void removePositions(final int[] positions) {
+
+        final IntIntHashMap map = mMap;
+
+        final int count = positions.length;
+
+        if (count == map.size()) {
+
+            map.clear();
+
+            return;
+        }
+
+        // Each removed entry is replaced by the last one, so the positions are processed in
+        // descending order
+
+        for (int i = count - 1; i >= 0; --i) {
+
+            map.removeAt(positions[i]);
+        }
+    }
+
+    @Override
+    protected int[] splitRange() {
+
+        return new int[]{0, mMap.size()};
+    }
+
+    /**
+     * Checks if the keys can be directly looked up in the backing map, that is, no element is
+     * filtered out.
+     *
+     * @return whether the keys can be looked up.
+     */
+    private boolean isSeekable() {
+
+        return isUnfiltered();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import com.github.dm.rf.android.entry.IntSparseEntry;
+import com.github.dm.rf.android.filter.Filter;
+import com.github.dm.rf.android.filter.StatelessFilter;
+
+/**
+ * Filter matching the elements whose int key falls in the specified range.
+ * <p/>
+ * Since the keys of the backing sparse collections are sorted, the iterables recognize this filter
+ * and, when possible, seek the range boundaries instead of looping through all the elements.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <E> the filtered element type.
+ */
+class IntKeyRangeFilter<E extends IntSparseEntry> implements StatelessFilter<E> {
+
+    private final Filter<E> mFilter;
+
+    private final int mHighKey;
+
+    private final int mLowKey;
+
+    /**
+     * Constructor.
+     *
+     * @param lowKey  the lowest matching key (inclusive).
+     * @param highKey the highest matching key (inclusive).
+     * @param filter  the filter further restricting the matching elements or null.
+     */
+    public IntKeyRangeFilter(final int lowKey, final int highKey, final Filter<E> filter) {
+
+        mLowKey = lowKey;
+        mHighKey = highKey;
+        mFilter = filter;
+    }
+
+    /**
+     * Creates a filter matching the specified keys.
+     *
+     * @param filter the filter matching the exact keys.
+     * @param keys   the keys to match.
+     * @param <E>    the filtered element type.
+     * @return the new filter.
+     */
+    public static <E extends IntSparseEntry> IntKeyRangeFilter<E> keys(final Filter<E> filter,
+            final int... keys) {
+
+        if (keys.length == 0) {
+
+            return new IntKeyRangeFilter<E>(Integer.MAX_VALUE, Integer.MIN_VALUE, filter);
+        }
+
+        int lowKey = Integer.MAX_VALUE;
+        int highKey = Integer.MIN_VALUE;
+
+        for (final int key : keys) {
+
+            if (key < lowKey) {
+
+                lowKey = key;
+            }
+
+            if (key > highKey) {
+
+                highKey = key;
+            }
+        }
+
+        return new IntKeyRangeFilter<E>(lowKey, highKey, (lowKey == highKey) ? null : filter);
+    }
+
+    /**
+     * Returns the highest matching key.
+     *
+     * @return the key.
+     */
+    public int getHighKey() {
+
+        return mHighKey;
+    }
+
+    /**
+     * Returns the lowest matching key.
+     *
+     * @return the key.
+     */
+    public int getLowKey() {
+
+        return mLowKey;
+    }
+
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
+    @Override
+    public boolean matches(final E element, final int count, final int index) {
+
+        final int key = element.getKey();
+
+        if ((key < mLowKey) || (key > mHighKey)) {
+
+            return false;
+        }
+
+        return (mFilter == null) || mFilter.matches(element, count, index);
+    }
+}
\ No newline at end of file
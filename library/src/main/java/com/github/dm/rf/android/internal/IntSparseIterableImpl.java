@@ -13,11 +13,16 @@
  */
 package com.github.dm.rf.android.internal;
 
+import android.util.SparseIntArray;
+
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.IntFilterBuilder;
 import com.github.dm.rf.android.iterator.IntSparseIterable;
 
 import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
 
 /**
  * Abstract implementation of a {@link IntSparseIterable}.
@@ -94,6 +99,23 @@ abstract class IntSparseIterableImpl extends ElementSparseIterableImpl<Integer>
         return this;
     }
 
+    @Override
+    public IntSparseIterable parallelForEach(final Action<Integer> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public IntSparseIterable parallelForEach(final Action<Integer> action,
+            final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public IntSparseIterable remove() {
 
@@ -118,6 +140,67 @@ abstract class IntSparseIterableImpl extends ElementSparseIterableImpl<Integer>
         return this;
     }
 
+    @Override
+    public boolean anyInt(final IntCondition condition) {
+
+        int count = 0;
+
+        final SparseIterator<Integer> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            if (condition.onNext(nextInt(iterator), count++, iterator.originalIndex())) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public double average() {
+
+        final SparseIterator<Integer> iterator = iterator();
+
+        long sum = 0;
+
+        int count = 0;
+
+        while (iterator.hasNext()) {
+
+            sum += nextInt(iterator);
+
+            ++count;
+        }
+
+        return (count > 0) ? ((double) sum / count) : Double.NaN;
+    }
+
+    @Override
+    public int[] bottomK(final int k) {
+
+        return select(k, false);
+    }
+
+    @Override
+    public boolean eachInt(final IntCondition condition) {
+
+        int count = 0;
+
+        final SparseIterator<Integer> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            if (!condition.onNext(nextInt(iterator), count++, iterator.originalIndex())) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public IntSparseIterable fill(final Collection<? super Integer> collection) {
 
@@ -153,32 +236,383 @@ abstract class IntSparseIterableImpl extends ElementSparseIterableImpl<Integer>
 
         int i = offset;
 
-        for (final Integer element : this) {
+        final SparseIterator<Integer> iterator = iterator();
+
+        while (iterator.hasNext()) {
 
-            array[i++] = (element == null) ? 0 : element;
+            array[i++] = nextInt(iterator);
         }
 
         return this;
     }
 
     @Override
-    public int[] toArray() {
+    public IntSparseIterable forEachInt(final IntAction action) {
 
         int count = 0;
 
         final SparseIterator<Integer> iterator = iterator();
 
-        while (iterator().hasNext()) {
+        while (iterator.hasNext()) {
 
-            iterator.next();
+            action.onNext(nextInt(iterator), count++, iterator.originalIndex());
+        }
 
-            ++count;
+        return this;
+    }
+
+    @Override
+    public SparseIntArray histogram() {
+
+        final SparseIntArray histogram = new SparseIntArray();
+
+        final SparseIterator<Integer> iterator = iterator();
+
+        int value = 0;
+
+        int count = 0;
+
+        while (iterator.hasNext()) {
+
+            final int element = nextInt(iterator);
+
+            if ((count > 0) && (element == value)) {
+
+                ++count;
+
+                continue;
+            }
+
+            if (count > 0) {
+
+                addCount(histogram, value, count);
+            }
+
+            value = element;
+            count = 1;
+        }
+
+        if (count > 0) {
+
+            addCount(histogram, value, count);
+        }
+
+        return histogram;
+    }
+
+    @Override
+    public int max() {
+
+        final SparseIterator<Integer> iterator = iterator();
+
+        if (!iterator.hasNext()) {
+
+            throw new NoSuchElementException();
+        }
+
+        int max = nextInt(iterator);
+
+        while (iterator.hasNext()) {
+
+            final int element = nextInt(iterator);
+
+            if (element > max) {
+
+                max = element;
+            }
+        }
+
+        return max;
+    }
+
+    @Override
+    public int min() {
+
+        final SparseIterator<Integer> iterator = iterator();
+
+        if (!iterator.hasNext()) {
+
+            throw new NoSuchElementException();
+        }
+
+        int min = nextInt(iterator);
+
+        while (iterator.hasNext()) {
+
+            final int element = nextInt(iterator);
+
+            if (element < min) {
+
+                min = element;
+            }
+        }
+
+        return min;
+    }
+
+    @Override
+    public int reduce(final int initialValue, final IntReducer reducer) {
+
+        int value = initialValue;
+
+        final SparseIterator<Integer> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            value = reducer.reduce(value, nextInt(iterator));
         }
 
-        final int[] array = new int[count];
+        return value;
+    }
+
+    @Override
+    public long sum() {
 
-        fill(array);
+        long sum = 0;
+
+        final SparseIterator<Integer> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            sum += nextInt(iterator);
+        }
+
+        return sum;
+    }
+
+    @Override
+    public int[] topK(final int k) {
+
+        return select(k, true);
+    }
+
+    @Override
+    public int[] toArray() {
+
+        final SparseIterator<Integer> iterator = iterator();
+
+        int[] array = new int[(iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<Integer>) iterator).remaining() : 16];
+
+        int count = 0;
+
+        while (iterator.hasNext()) {
+
+            if (count == array.length) {
+
+                final int[] newArray = new int[Math.max(16, count << 1)];
+
+                System.arraycopy(array, 0, newArray, 0, count);
+
+                array = newArray;
+            }
+
+            array[count++] = nextInt(iterator);
+        }
+
+        if (count < array.length) {
+
+            final int[] trimmed = new int[count];
+
+            System.arraycopy(array, 0, trimmed, 0, count);
+
+            return trimmed;
+        }
 
         return array;
     }
+
+    /**
+     * Selects the specified number of greatest or smallest elements by means of a bounded heap.
+     * <p/>
+     * The root of the heap is always the worst of the retained elements, so that each new element
+     * needs to be compared only with it. The heap is finally sorted in place.
+     *
+     * @param k     the maximum number of elements to select.
+     * @param isTop whether to select the greatest elements.
+     * @return the sorted array of the selected elements.
+     */
+    private int[] select(final int k, final boolean isTop) {
+
+        if (k < 0) {
+
+            throw new IllegalArgumentException();
+        }
+
+        final SparseIterator<Integer> iterator = iterator();
+
+        // The heap grows lazily, since k might be much greater than the number of elements
+
+        int[] heap = new int[Math.min(k, (iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<Integer>) iterator).remaining() : 16)];
+
+        int size = 0;
+
+        while (iterator.hasNext()) {
+
+            final int element = nextInt(iterator);
+
+            if (size < k) {
+
+                if (size == heap.length) {
+
+                    final int[] newHeap = new int[Math.min(k, Math.max(16, size << 1))];
+
+                    System.arraycopy(heap, 0, newHeap, 0, size);
+
+                    heap = newHeap;
+                }
+
+                siftUp(heap, size++, element, isTop);
+
+            } else if ((k > 0) && isBefore(heap[0], element, isTop)) {
+
+                siftDown(heap, size, element, isTop);
+            }
+        }
+
+        for (int i = size - 1; i > 0; --i) {
+
+            final int root = heap[0];
+
+            siftDown(heap, i, heap[i], isTop);
+
+            heap[i] = root;
+        }
+
+        if (size < heap.length) {
+
+            final int[] trimmed = new int[size];
+
+            System.arraycopy(heap, 0, trimmed, 0, size);
+
+            return trimmed;
+        }
+
+        return heap;
+    }
+
+    /**
+     * Adds the specified count to the occurrences of the passed value.<br/>
+     * The count is directly appended when the value is greater than all the ones already in the
+     * histogram, so that sorted elements never cause an insertion in the middle of the collection.
+     *
+     * @param histogram the histogram sparse collection.
+     * @param value     the counted value.
+     * @param count     the number of occurrences.
+     */
+    private static void addCount(final SparseIntArray histogram, final int value,
+            final int count) {
+
+        final int size = histogram.size();
+
+        if ((size == 0) || (value > histogram.keyAt(size - 1))) {
+
+            histogram.append(value, count);
+
+        } else {
+
+            histogram.put(value, histogram.get(value) + count);
+        }
+    }
+
+    /**
+     * Checks if the first element must be placed nearer to the heap root than the second one.
+     *
+     * @param element the first element.
+     * @param other   the second element.
+     * @param isTop   whether the heap retains the greatest elements.
+     * @return whether the first element comes before.
+     */
+    private static boolean isBefore(final int element, final int other, final boolean isTop) {
+
+        return (isTop) ? (element < other) : (element > other);
+    }
+
+    /**
+     * Returns the next element of the specified iterator as a primitive value, avoiding boxing
+     * when possible.
+     *
+     * @param iterator the iterator.
+     * @return the next element.
+     */
+    private static int nextInt(final SparseIterator<Integer> iterator) {
+
+        if (iterator instanceof IntSparseIterator) {
+
+            return ((IntSparseIterator) iterator).nextInt();
+        }
+
+        final Integer next = iterator.next();
+
+        return (next == null) ? 0 : next;
+    }
+
+    /**
+     * Replaces the heap root with the specified element and restores the heap order.
+     *
+     * @param heap    the heap array.
+     * @param size    the heap size.
+     * @param element the new root element.
+     * @param isTop   whether the heap retains the greatest elements.
+     */
+    private static void siftDown(final int[] heap, final int size, final int element,
+            final boolean isTop) {
+
+        int i = 0;
+
+        while (true) {
+
+            int child = (i << 1) + 1;
+
+            if (child >= size) {
+
+                break;
+            }
+
+            if (((child + 1) < size) && isBefore(heap[child + 1], heap[child], isTop)) {
+
+                ++child;
+            }
+
+            if (!isBefore(heap[child], element, isTop)) {
+
+                break;
+            }
+
+            heap[i] = heap[child];
+            i = child;
+        }
+
+        heap[i] = element;
+    }
+
+    /**
+     * Adds the specified element at the end of the heap and restores the heap order.
+     *
+     * @param heap    the heap array.
+     * @param size    the heap size before the addition.
+     * @param element the element to add.
+     * @param isTop   whether the heap retains the greatest elements.
+     */
+    private static void siftUp(final int[] heap, final int size, final int element,
+            final boolean isTop) {
+
+        int i = size;
+
+        while (i > 0) {
+
+            final int parent = (i - 1) >> 1;
+
+            if (!isBefore(element, heap[parent], isTop)) {
+
+                break;
+            }
+
+            heap[i] = heap[parent];
+            i = parent;
+        }
+
+        heap[i] = element;
+    }
 }
\ No newline at end of file
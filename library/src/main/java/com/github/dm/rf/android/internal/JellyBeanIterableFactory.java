@@ -15,8 +15,12 @@ package com.github.dm.rf.android.internal;
 
 import android.annotation.TargetApi;
 
+import com.github.dm.rf.android.entry.LongSparseObjectEntry;
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection;
+import com.github.dm.rf.android.iterator.ElementSparseIterable;
 import com.github.dm.rf.android.iterator.LongSparseArrayIterable;
 import com.github.dm.rf.android.iterator.SparseIterable;
+import com.github.dm.rf.android.translator.ConflictResolver;
 
 /**
  * Utility class implementing a factory of
@@ -39,6 +43,21 @@ public class JellyBeanIterableFactory extends CompatIterableFactory {
 
     }
 
+    /**
+     * Wraps the specified {@link android.util.LongSparseArray} into a collection which can be
+     * safely shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @param <V>         the element value type.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static <V> ConcurrentSparseCollection<LongSparseArrayIterable<V>> concurrent(
+            final android.util.LongSparseArray<V> sparseArray) {
+
+        return createConcurrent(sparseArray, new LongSparseArrayTranslator<V>());
+    }
+
     /**
      * Wraps the specified {@link android.util.LongSparseArray} into an iterable.
      *
@@ -51,4 +70,44 @@ public class JellyBeanIterableFactory extends CompatIterableFactory {
 
         return new LongSparseArrayIterableImpl<V>(sparseArray);
     }
+
+    /**
+     * Creates an iterable looping through the union of the specified
+     * {@link android.util.LongSparseArray} collections in key order.
+     *
+     * @param resolver     the resolver of the values associated with the same key, or null to
+     *                     keep the value of the first collection.
+     * @param sparseArrays the sparse arrays to merge.
+     * @param <V>          the element value type.
+     * @return the iterable instance.
+     */
+    public static <V> ElementSparseIterable<LongSparseObjectEntry<V>> merge(
+            final ConflictResolver<V> resolver,
+            final android.util.LongSparseArray<V>[] sparseArrays) {
+
+        return new LongSparseArrayMergeIterable<V>(sparseArrays, resolver);
+    }
+
+    /**
+     * Translator creating the iterables wrapping a {@link android.util.LongSparseArray}.
+     *
+     * @param <V> the element value type.
+     */
+    private static class LongSparseArrayTranslator<V>
+            extends CollectionTranslator<android.util.LongSparseArray<V>,
+            LongSparseArrayIterable<V>> {
+
+        @Override
+        public void compact(final android.util.LongSparseArray<V> collection) {
+
+            // Pending removals are applied by size()
+            collection.size();
+        }
+
+        @Override
+        public LongSparseArrayIterable<V> translate(final android.util.LongSparseArray<V> element) {
+
+            return create(element);
+        }
+    }
 }
\ No newline at end of file
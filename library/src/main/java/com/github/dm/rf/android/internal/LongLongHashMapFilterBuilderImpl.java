@@ -0,0 +1,113 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import com.github.dm.rf.android.entry.LongLongHashMapEntry;
+import com.github.dm.rf.android.filter.Filter;
+import com.github.dm.rf.android.filter.Filters;
+import com.github.dm.rf.android.filter.LongLongHashMapFilterBuilder;
+import com.github.dm.rf.android.iterator.LongLongHashMapIterable;
+import com.github.dm.rf.android.translator.ToLongTranslator;
+import com.github.dm.rf.android.translator.Translators;
+
+import java.util.Collection;
+
+/**
+ * Implementation of a {@link LongLongHashMapFilterBuilder}.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+class LongLongHashMapFilterBuilderImpl
+        extends FilterBuilderImpl<LongLongHashMapIterable, LongLongHashMapEntry>
+        implements LongLongHashMapFilterBuilder {
+
+    public LongLongHashMapFilterBuilderImpl(final LongLongHashMapIterable iterable,
+            final boolean isInclusive) {
+
+        super(iterable, isInclusive);
+    }
+
+    @Override
+    public LongLongHashMapIterable key(final long key) {
+
+        final Filter<LongLongHashMapEntry> filter =
+                new LongKeyRangeFilter<LongLongHashMapEntry>(key, key, null);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public LongLongHashMapIterable keyRange(final long lowKey, final long highKey) {
+
+        final Filter<LongLongHashMapEntry> filter =
+                new LongKeyRangeFilter<LongLongHashMapEntry>(lowKey, highKey, null);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public LongLongHashMapIterable keys(final long... keys) {
+
+        final ToLongTranslator<LongLongHashMapEntry> translator = Translators.longKey();
+
+        final Filter<LongLongHashMapEntry> filter =
+                LongKeyRangeFilter.keys(Filters.containedIn(translator, keys), keys);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public LongLongHashMapIterable keys(final Collection<Long> keys) {
+
+        return keys(SortedKeys.fromNonNullLongs(keys));
+    }
+
+    @Override
+    public LongLongHashMapIterable keys(final Iterable<Long> keys) {
+
+        return keys(SortedKeys.fromNonNullLongs(keys));
+    }
+
+    @Override
+    public LongLongHashMapIterable value(final long value) {
+
+        final ToLongTranslator<LongLongHashMapEntry> translator = Translators.longValue();
+
+        final Filter<LongLongHashMapEntry> filter = Filters.matching(translator, value);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public LongLongHashMapIterable values(final long... values) {
+
+        final ToLongTranslator<LongLongHashMapEntry> translator = Translators.longValue();
+
+        final Filter<LongLongHashMapEntry> filter = Filters.containedIn(translator, values);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public LongLongHashMapIterable values(final Collection<Long> values) {
+
+        return values(SortedKeys.fromNonNullLongs(values));
+    }
+
+    @Override
+    public LongLongHashMapIterable values(final Iterable<Long> values) {
+
+        return values(SortedKeys.fromNonNullLongs(values));
+    }
+}
\ No newline at end of file
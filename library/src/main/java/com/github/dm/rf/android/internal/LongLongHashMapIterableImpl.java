@@ -0,0 +1,714 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import android.annotation.SuppressLint;
+import android.os.Parcelable;
+
+import com.github.dm.rf.android.collection.LongLongHashMap;
+import com.github.dm.rf.android.entry.LongLongHashMapEntry;
+import com.github.dm.rf.android.entry.LongSparseLongEntry;
+import com.github.dm.rf.android.entry.ParcelableLongSparseLongEntry;
+import com.github.dm.rf.android.filter.AdvancedFilter;
+import com.github.dm.rf.android.filter.Filter;
+import com.github.dm.rf.android.filter.LongLongHashMapFilterBuilder;
+import com.github.dm.rf.android.iterator.LongLongHashMapIterable;
+import com.github.dm.rf.android.iterator.LongSparseIterable;
+import com.github.dm.rf.android.translator.LongTranslator;
+import com.github.dm.rf.android.translator.ToLongTranslator;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Implementation of a {@link LongLongHashMapIterable}.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+class LongLongHashMapIterableImpl extends AbstractSparseIterable<LongLongHashMapEntry>
+        implements LongLongHashMapIterable {
+
+    private static volatile KeyTranslator sKeyTranslator;
+
+    private static volatile ValueTranslator sValueTranslator;
+
+    private final LongLongHashMap mMap;
+
+    private LongLongHashMapFilterBuilderImpl mExclusionBuilder;
+
+    private LongLongHashMapFilterBuilderImpl mInclusionBuilder;
+
+    public LongLongHashMapIterableImpl(final LongLongHashMap map) {
+
+        mMap = map;
+    }
+
+    LongLongHashMapIterableImpl(final LongLongHashMapIterableImpl other) {
+
+        super(other);
+
+        mMap = other.mMap;
+    }
+
+    @Override
+    public boolean containsAllKeys(final long... keys) {
+
+        for (final long key : keys) {
+
+            if (positionOfKey(key) < 0) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean containsAllKeys(final Iterable<Long> keys) {
+
+        for (final long key : keys) {
+
+            if (positionOfKey(key) < 0) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean containsAllValues(final long... values) {
+
+        for (final long value : values) {
+
+            if (firstPositionOfValue(value) < 0) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean containsAllValues(final Iterable<Long> values) {
+
+        for (final long value : values) {
+
+            if (firstPositionOfValue(value) < 0) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean containsAnyKey(final long... keys) {
+
+        for (final long key : keys) {
+
+            if (positionOfKey(key) >= 0) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAnyKey(final Iterable<Long> keys) {
+
+        for (final long key : keys) {
+
+            if (positionOfKey(key) >= 0) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAnyValue(final long... values) {
+
+        for (final long value : values) {
+
+            if (firstPositionOfValue(value) >= 0) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAnyValue(final Iterable<Long> values) {
+
+        for (final long value : values) {
+
+            if (firstPositionOfValue(value) >= 0) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsKey(final long key) {
+
+        return positionOfKey(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final long value) {
+
+        return firstPositionOfValue(value) >= 0;
+    }
+
+    @Override
+    public LongLongHashMapIterable fill(final Map<? super Long, ? super Long> map) {
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            map.put(entry.getKey(), entry.getValue());
+        }
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapIterable fillImmutable(
+            final Collection<? super LongSparseLongEntry> collection) {
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            collection.add(entry.toImmutable());
+        }
+
+        return this;
+    }
+
+    @Override
+    public <T> LongLongHashMapIterable fillImmutable(final T[] array) {
+
+        return fillImmutable(array, 0);
+    }
+
+    @Override
+    public <T> LongLongHashMapIterable fillImmutable(final T[] array, final int offset) {
+
+        int i = offset;
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            //noinspection unchecked
+            array[i++] = (T) entry.toImmutable();
+        }
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapIterable fillParcelable(
+            final Collection<? super ParcelableLongSparseLongEntry> collection) {
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            collection.add(entry.toParcelable());
+        }
+
+        return this;
+    }
+
+    @Override
+    public <T extends Parcelable> LongLongHashMapIterable fillParcelable(final T[] array) {
+
+        return fillParcelable(array, 0);
+    }
+
+    @Override
+    public <T extends Parcelable> LongLongHashMapIterable fillParcelable(final T[] array,
+            final int offset) {
+
+        int i = offset;
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            //noinspection unchecked
+            array[i++] = (T) entry.toParcelable();
+        }
+
+        return this;
+    }
+
+    @Override
+    public int firstIndexOfValue(final long value) {
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            if (entry.getValue() == value) {
+
+                return entry.getIndex();
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int firstPositionOfValue(final long value) {
+
+        int i = 0;
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            if (entry.getValue() == value) {
+
+                return i;
+            }
+
+            ++i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public LongLongHashMapIterable forEachEntry(final EntryAction action) {
+
+        int count = 0;
+
+        final SparseIterator<LongLongHashMapEntry> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            final LongLongHashMapEntry entry = iterator.next();
+
+            action.onNext(entry.getKey(), entry.getValue(), count++, iterator.originalIndex());
+        }
+
+        return this;
+    }
+
+    @Override
+    public int indexOfKey(final long key) {
+
+        if (isSeekable()) {
+
+            return mMap.indexOfKey(key);
+        }
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            if (entry.getKey() == key) {
+
+                return entry.getIndex();
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean isEqualTo(final Map<?, ?> map) {
+
+        int count = 0;
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            final Object value = map.get(entry.getKey());
+
+            if (value == null) {
+
+                return false;
+
+            } else if (!value.equals(entry.getValue())) {
+
+                return false;
+            }
+
+            ++count;
+        }
+
+        return (count == map.size());
+    }
+
+    @Override
+    public LongSparseIterable keys() {
+
+        if (sKeyTranslator == null) {
+
+            sKeyTranslator = new KeyTranslator();
+        }
+
+        return toLongValues(sKeyTranslator);
+    }
+
+    @Override
+    public int positionOfKey(final long key) {
+
+        if (isSeekable()) {
+
+            final LongLongHashMap map = mMap;
+
+            final int index = map.indexOfKey(key);
+
+            if (index < 0) {
+
+                return -1;
+            }
+
+            return isReversed() ? (map.size() - 1 - index) : index;
+        }
+
+        int i = 0;
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            if (entry.getKey() == key) {
+
+                return i;
+            }
+
+            ++i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public LongLongHashMapIterable putInto(final LongLongHashMap other) {
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            other.put(entry.getKey(), entry.getValue());
+        }
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapIterable replaceValues(final LongTranslator translator) {
+
+        for (final LongLongHashMapEntry entry : this) {
+
+            entry.setValue(translator.translate(entry.getValue()));
+        }
+
+        return this;
+    }
+
+    @Override
+    public <T> T[] toImmutableArray(final Class<T> type) {
+
+        final ArrayList<LongSparseLongEntry> list = toImmutableList();
+
+        //noinspection unchecked,SuspiciousToArrayCall
+        return list.toArray((T[]) Array.newInstance(type, list.size()));
+    }
+
+    @Override
+    public ArrayList<LongSparseLongEntry> toImmutableList() {
+
+        final ArrayList<LongSparseLongEntry> list = new ArrayList<LongSparseLongEntry>();
+
+        fillImmutable(list);
+
+        return list;
+    }
+
+    @Override
+    public Map<Long, Long> toMap() {
+
+        @SuppressLint("UseSparseArrays")
+        final HashMap<Long, Long> map = new HashMap<Long, Long>();
+
+        fill(map);
+
+        return map;
+    }
+
+    @Override
+    public <T extends Parcelable> T[] toParcelableArray(final Class<T> type) {
+
+        final ArrayList<ParcelableLongSparseLongEntry> list = toParcelableList();
+
+        //noinspection unchecked,SuspiciousToArrayCall
+        return list.toArray((T[]) Array.newInstance(type, list.size()));
+    }
+
+    @Override
+    public ArrayList<ParcelableLongSparseLongEntry> toParcelableList() {
+
+        final ArrayList<ParcelableLongSparseLongEntry> list =
+                new ArrayList<ParcelableLongSparseLongEntry>();
+
+        fillParcelable(list);
+
+        return list;
+    }
+
+    @Override
+    public SortedMap<Long, Long> toSortedMap() {
+
+        final TreeMap<Long, Long> map = new TreeMap<Long, Long>();
+
+        fill(map);
+
+        return map;
+    }
+
+    @Override
+    public LongSparseIterable values() {
+
+        if (sValueTranslator == null) {
+
+            sValueTranslator = new ValueTranslator();
+        }
+
+        return toLongValues(sValueTranslator);
+    }
+
+    @Override
+    public LongLongHashMapFilterBuilder but() {
+
+        if (mExclusionBuilder == null) {
+
+            mExclusionBuilder = new LongLongHashMapFilterBuilderImpl(this, false);
+        }
+
+        return mExclusionBuilder;
+    }
+
+    @Override
+    public LongLongHashMapIterable but(final Filter<LongLongHashMapEntry> filter) {
+
+        super.but(filter);
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapIterable doWhile(final Condition<LongLongHashMapEntry> condition) {
+
+        super.doWhile(condition);
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapIterable forEach(final Action<LongLongHashMapEntry> action) {
+
+        super.forEach(action);
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapFilterBuilder only() {
+
+        if (mInclusionBuilder == null) {
+
+            mInclusionBuilder = new LongLongHashMapFilterBuilderImpl(this, true);
+        }
+
+        return mInclusionBuilder;
+    }
+
+    @Override
+    public LongLongHashMapIterable only(final Filter<LongLongHashMapEntry> filter) {
+
+        super.only(filter);
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapIterable parallelForEach(final Action<LongLongHashMapEntry> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapIterable parallelForEach(final Action<LongLongHashMapEntry> action,
+            final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapIterable remove() {
+
+        super.remove();
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapIterable retain() {
+
+        super.retain();
+
+        return this;
+    }
+
+    @Override
+    public LongLongHashMapIterable reverse() {
+
+        super.reverse();
+
+        return this;
+    }
+
+    private static class KeyTranslator implements ToLongTranslator<LongLongHashMapEntry> {
+
+        @Override
+        public long translate(final LongLongHashMapEntry element) {
+
+            return element.getKey();
+        }
+    }
+
+    private static class ValueTranslator implements ToLongTranslator<LongLongHashMapEntry> {
+
+        @Override
+        public long translate(final LongLongHashMapEntry element) {
+
+            return element.getValue();
+        }
+    }
+
+    @Override
+    protected LongLongHashMapIterableImpl copy() {
+
+        return new LongLongHashMapIterableImpl(this);
+    }
+
+    @Override
+    protected SparseIterator<LongLongHashMapEntry> createIterator(final boolean isReverse) {
+
+        if (isReverse) {
+
+            return new LongLongHashMapReverseIterator(mMap);
+        }
+
+        return new LongLongHashMapIterator(mMap);
+    }
+
+    @Override
+    protected SparseIterator<LongLongHashMapEntry> createIterator(final boolean isReverse,
+            final int start, final int end) {
+
+        if (isReverse) {
+
+            return new LongLongHashMapReverseIterator(mMap, start, end);
+        }
+
+        return new LongLongHashMapIterator(mMap, start, end);
+    }
+
+    @Override
+    protected SparseIterator<LongLongHashMapEntry> rawIterator(final boolean isReverse) {
+
+        return createIterator(isReverse);
+    }
+
+    @Override
+    protected int[] rangeOf(final AdvancedFilter<LongLongHashMapEntry> filter) {
+
+        if (filter instanceof LongKeyRangeFilter) {
+
+            final LongKeyRangeFilter<?> keyFilter = (LongKeyRangeFilter<?>) filter;
+
+            final long lowKey = keyFilter.getLowKey();
+
+            final long highKey = keyFilter.getHighKey();
+
+            if (lowKey > highKey) {
+
+                return new int[]{0, 0};
+            }
+
+            // Since the keys are not sorted, only a single key can be looked up
+
+            if (lowKey == highKey) {
+
+                final int index = mMap.indexOfKey(lowKey);
+
+                return (index >= 0) ? new int[]{index, index + 1} : new int[]{0, 0};
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    protected void removePositions(final int[] positions) {
+
+        final LongLongHashMap map = mMap;
+
+        final int count = positions.length;
+
+        if (count == map.size()) {
+
+            map.clear();
+
+            return;
+        }
+
+        // Each removed entry is replaced by the last one, so the positions are processed in
+        // descending order
+
+        for (int i = count - 1; i >= 0; --i) {
+
+            map.removeAt(positions[i]);
+        }
+    }
+
+    @Override
+    protected int[] splitRange() {
+
+        return new int[]{0, mMap.size()};
+    }
+
+    /**
+     * Checks if the keys can be directly looked up in the backing map, that is, no element is
+     * filtered out.
+     *
+     * @return whether the keys can be looked up.
+     */
+    private boolean isSeekable() {
+
+        return isUnfiltered();
+    }
+}
\ No newline at end of file
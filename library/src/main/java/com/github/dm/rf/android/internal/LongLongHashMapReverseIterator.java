@@ -0,0 +1,132 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import com.github.dm.rf.android.collection.LongLongHashMap;
+import com.github.dm.rf.android.entry.LongLongHashMapEntry;
+import com.github.dm.rf.android.entry.LongSparseLongEntry;
+import com.github.dm.rf.android.entry.ParcelableLongSparseLongEntry;
+import com.github.dm.rf.android.entry.SparseEntries;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Same as {@link LongLongHashMapIterator} but looping the elements in the reverse order.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+class LongLongHashMapReverseIterator extends AbstractReverseSparseIterator<LongLongHashMapEntry>
+        implements LongLongHashMapEntry {
+
+    private final LongLongHashMap mMap;
+
+    private int mPosition;
+
+    private long mValue;
+
+    public LongLongHashMapReverseIterator(final LongLongHashMap map) {
+
+        super(map.size());
+
+        mMap = map;
+    }
+
+    public LongLongHashMapReverseIterator(final LongLongHashMap map,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mMap = map;
+    }
+
+    @Override
+    @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+    public boolean equals(final Object o) {
+
+        return SparseEntries.equal(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return SparseEntries.hashCode(this);
+    }
+
+    @Override
+    public String toString() {
+
+        return getKey() + "=" + getValue();
+    }
+
+    @Override
+    public int getIndex() {
+
+        return mPosition;
+    }
+
+    @Override
+    public long getKey() {
+
+        return mMap.keyAt(mPosition);
+    }
+
+    @Override
+    public long getValue() {
+
+        return mValue;
+    }
+
+    @Override
+    public void setValue(final long value) {
+
+        mMap.setValueAt(mPosition, value);
+
+        mValue = value;
+    }
+
+    @Override
+    public LongSparseLongEntry toImmutable() {
+
+        return SparseEntries.entry(getKey(), mValue);
+    }
+
+    @Override
+    public ParcelableLongSparseLongEntry toParcelable() {
+
+        return SparseEntries.parcelableEntry(getKey(), mValue);
+    }
+
+    @Override
+    protected LongLongHashMapEntry getElementAt(final int position) {
+
+        try {
+
+            mValue = mMap.valueAt(position);
+
+        } catch (final IndexOutOfBoundsException e) {
+
+            throw new NoSuchElementException();
+        }
+
+        mPosition = position;
+
+        return this;
+    }
+
+    @Override
+    protected void removeElement() {
+
+        mMap.removeAt(mPosition);
+    }
+}
\ No newline at end of file
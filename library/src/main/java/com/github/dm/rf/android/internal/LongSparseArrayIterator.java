@@ -56,6 +56,13 @@ class LongSparseArrayIterator<V> extends AbstractSparseIterator<LongSparseArrayE
         mSparseArray = array;
     }
 
+    public LongSparseArrayIterator(final LongSparseArray<V> array, final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
@@ -0,0 +1,157 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import android.annotation.TargetApi;
+import android.util.LongSparseArray;
+
+import com.github.dm.rf.android.entry.LongSparseObjectEntry;
+import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.translator.ConflictResolver;
+
+/**
+ * Implementation of an iterable looping through the union of several
+ * {@link android.util.LongSparseArray} collections in key order.
+ * <p/>
+ * The returned entries are immutable copies, and the removal of elements is not supported.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <V> the element value type.
+ */
+@TargetApi(16)
+class LongSparseArrayMergeIterable<V> extends ElementSparseIterableImpl<LongSparseObjectEntry<V>> {
+
+    private final LongSparseArray<V>[] mArrays;
+
+    private final ConflictResolver<V> mResolver;
+
+    /**
+     * Creates a new merge iterable.
+     *
+     * @param arrays   the sparse collections to merge.
+     * @param resolver the resolver of the values associated with the same key, or null to keep
+     *                 the value of the first collection.
+     */
+    public LongSparseArrayMergeIterable(final LongSparseArray<V>[] arrays,
+            final ConflictResolver<V> resolver) {
+
+        mArrays = arrays;
+        mResolver = resolver;
+    }
+
+    private LongSparseArrayMergeIterable(final LongSparseArrayMergeIterable<V> other) {
+
+        super(other);
+
+        mArrays = other.mArrays;
+        mResolver = other.mResolver;
+    }
+
+    @Override
+    protected LongSparseArrayMergeIterable<V> copy() {
+
+        return new LongSparseArrayMergeIterable<V>(this);
+    }
+
+    @Override
+    protected SparseIterator<LongSparseObjectEntry<V>> createIterator(final boolean isReverse) {
+
+        return new MergeIterator<V>(mArrays, mResolver, isReverse);
+    }
+
+    @Override
+    protected SparseIterator<LongSparseObjectEntry<V>> rawIterator(final boolean isReverse) {
+
+        return createIterator(isReverse);
+    }
+
+    @Override
+    protected void removePositions(final int[] positions) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    private static class MergeIterator<V> extends AbstractMergeIterator<LongSparseObjectEntry<V>> {
+
+        private final LongSparseArray<V>[] mArrays;
+
+        private final ConflictResolver<V> mResolver;
+
+        private long mKey;
+
+        private V mValue;
+
+        public MergeIterator(final LongSparseArray<V>[] arrays, final ConflictResolver<V> resolver,
+                final boolean isReverse) {
+
+            super(sizesOf(arrays), isReverse);
+
+            mArrays = arrays;
+            mResolver = resolver;
+        }
+
+        @Override
+        protected int compareKeys(final int array, final int position, final int other,
+                final int otherPosition) {
+
+            final LongSparseArray<V>[] arrays = mArrays;
+
+            final long key = arrays[array].keyAt(position);
+            final long otherKey = arrays[other].keyAt(otherPosition);
+
+            return (key < otherKey) ? -1 : ((key == otherKey) ? 0 : 1);
+        }
+
+        @Override
+        protected LongSparseObjectEntry<V> getElement() {
+
+            return SparseEntries.entry(mKey, mValue);
+        }
+
+        @Override
+        protected void mergeElement(final int array, final int position) {
+
+            final ConflictResolver<V> resolver = mResolver;
+
+            if (resolver != null) {
+
+                mValue = resolver.resolve(mValue, mArrays[array].valueAt(position));
+            }
+        }
+
+        @Override
+        protected void setElement(final int array, final int position) {
+
+            final LongSparseArray<V> sparseArray = mArrays[array];
+
+            mKey = sparseArray.keyAt(position);
+            mValue = sparseArray.valueAt(position);
+        }
+
+        private static <V> int[] sizesOf(final LongSparseArray<V>[] arrays) {
+
+            final int length = arrays.length;
+
+            final int[] sizes = new int[length];
+
+            for (int i = 0; i < length; ++i) {
+
+                sizes[i] = arrays[i].size();
+            }
+
+            return sizes;
+        }
+    }
+}
\ No newline at end of file
@@ -48,6 +48,14 @@ class LongSparseArrayReverseIterator<V>
         mSparseArray = array;
     }
 
+    public LongSparseArrayReverseIterator(final LongSparseArray<V> array,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
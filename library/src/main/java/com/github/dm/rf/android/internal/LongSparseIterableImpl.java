@@ -13,11 +13,14 @@
  */
 package com.github.dm.rf.android.internal;
 
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.LongFilterBuilder;
 import com.github.dm.rf.android.iterator.LongSparseIterable;
 
 import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of a {@link LongSparseIterable}.
@@ -94,6 +97,22 @@ abstract class LongSparseIterableImpl extends ElementSparseIterableImpl<Long>
         return this;
     }
 
+    @Override
+    public LongSparseIterable parallelForEach(final Action<Long> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public LongSparseIterable parallelForEach(final Action<Long> action, final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public LongSparseIterable remove() {
 
@@ -118,6 +137,67 @@ abstract class LongSparseIterableImpl extends ElementSparseIterableImpl<Long>
         return this;
     }
 
+    @Override
+    public boolean anyLong(final LongCondition condition) {
+
+        int count = 0;
+
+        final SparseIterator<Long> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            if (condition.onNext(nextLong(iterator), count++, iterator.originalIndex())) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public double average() {
+
+        final SparseIterator<Long> iterator = iterator();
+
+        double sum = 0;
+
+        int count = 0;
+
+        while (iterator.hasNext()) {
+
+            sum += nextLong(iterator);
+
+            ++count;
+        }
+
+        return (count > 0) ? (sum / count) : Double.NaN;
+    }
+
+    @Override
+    public long[] bottomK(final int k) {
+
+        return select(k, false);
+    }
+
+    @Override
+    public boolean eachLong(final LongCondition condition) {
+
+        int count = 0;
+
+        final SparseIterator<Long> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            if (!condition.onNext(nextLong(iterator), count++, iterator.originalIndex())) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public LongSparseIterable fill(final Collection<? super Long> collection) {
 
@@ -153,32 +233,320 @@ abstract class LongSparseIterableImpl extends ElementSparseIterableImpl<Long>
 
         int i = offset;
 
-        for (final Long element : this) {
+        final SparseIterator<Long> iterator = iterator();
+
+        while (iterator.hasNext()) {
 
-            array[i++] = (element == null) ? 0 : element;
+            array[i++] = nextLong(iterator);
         }
 
         return this;
     }
 
     @Override
-    public long[] toArray() {
+    public LongSparseIterable forEachLong(final LongAction action) {
 
         int count = 0;
 
         final SparseIterator<Long> iterator = iterator();
 
-        while (iterator().hasNext()) {
+        while (iterator.hasNext()) {
 
-            iterator.next();
+            action.onNext(nextLong(iterator), count++, iterator.originalIndex());
+        }
 
-            ++count;
+        return this;
+    }
+
+    @Override
+    public long max() {
+
+        final SparseIterator<Long> iterator = iterator();
+
+        if (!iterator.hasNext()) {
+
+            throw new NoSuchElementException();
+        }
+
+        long max = nextLong(iterator);
+
+        while (iterator.hasNext()) {
+
+            final long element = nextLong(iterator);
+
+            if (element > max) {
+
+                max = element;
+            }
         }
 
-        final long[] array = new long[count];
+        return max;
+    }
 
-        fill(array);
+    @Override
+    public long min() {
+
+        final SparseIterator<Long> iterator = iterator();
+
+        if (!iterator.hasNext()) {
+
+            throw new NoSuchElementException();
+        }
+
+        long min = nextLong(iterator);
+
+        while (iterator.hasNext()) {
+
+            final long element = nextLong(iterator);
+
+            if (element < min) {
+
+                min = element;
+            }
+        }
+
+        return min;
+    }
+
+    @Override
+    public long reduce(final long initialValue, final LongReducer reducer) {
+
+        long value = initialValue;
+
+        final SparseIterator<Long> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            value = reducer.reduce(value, nextLong(iterator));
+        }
+
+        return value;
+    }
+
+    @Override
+    public long sum() {
+
+        long sum = 0;
+
+        final SparseIterator<Long> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            sum += nextLong(iterator);
+        }
+
+        return sum;
+    }
+
+    @Override
+    public long[] topK(final int k) {
+
+        return select(k, true);
+    }
+
+    @Override
+    public long[] toArray() {
+
+        final SparseIterator<Long> iterator = iterator();
+
+        long[] array = new long[(iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<Long>) iterator).remaining() : 16];
+
+        int count = 0;
+
+        while (iterator.hasNext()) {
+
+            if (count == array.length) {
+
+                final long[] newArray = new long[Math.max(16, count << 1)];
+
+                System.arraycopy(array, 0, newArray, 0, count);
+
+                array = newArray;
+            }
+
+            array[count++] = nextLong(iterator);
+        }
+
+        if (count < array.length) {
+
+            final long[] trimmed = new long[count];
+
+            System.arraycopy(array, 0, trimmed, 0, count);
+
+            return trimmed;
+        }
 
         return array;
     }
+
+    /**
+     * Selects the specified number of greatest or smallest elements by means of a bounded heap.
+     * <p/>
+     * The root of the heap is always the worst of the retained elements, so that each new element
+     * needs to be compared only with it. The heap is finally sorted in place.
+     *
+     * @param k     the maximum number of elements to select.
+     * @param isTop whether to select the greatest elements.
+     * @return the sorted array of the selected elements.
+     */
+    private long[] select(final int k, final boolean isTop) {
+
+        if (k < 0) {
+
+            throw new IllegalArgumentException();
+        }
+
+        final SparseIterator<Long> iterator = iterator();
+
+        // The heap grows lazily, since k might be much greater than the number of elements
+
+        long[] heap = new long[Math.min(k, (iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<Long>) iterator).remaining() : 16)];
+
+        int size = 0;
+
+        while (iterator.hasNext()) {
+
+            final long element = nextLong(iterator);
+
+            if (size < k) {
+
+                if (size == heap.length) {
+
+                    final long[] newHeap = new long[Math.min(k, Math.max(16, size << 1))];
+
+                    System.arraycopy(heap, 0, newHeap, 0, size);
+
+                    heap = newHeap;
+                }
+
+                siftUp(heap, size++, element, isTop);
+
+            } else if ((k > 0) && isBefore(heap[0], element, isTop)) {
+
+                siftDown(heap, size, element, isTop);
+            }
+        }
+
+        for (int i = size - 1; i > 0; --i) {
+
+            final long root = heap[0];
+
+            siftDown(heap, i, heap[i], isTop);
+
+            heap[i] = root;
+        }
+
+        if (size < heap.length) {
+
+            final long[] trimmed = new long[size];
+
+            System.arraycopy(heap, 0, trimmed, 0, size);
+
+            return trimmed;
+        }
+
+        return heap;
+    }
+
+    /**
+     * Checks if the first element must be placed nearer to the heap root than the second one.
+     *
+     * @param element the first element.
+     * @param other   the second element.
+     * @param isTop   whether the heap retains the greatest elements.
+     * @return whether the first element comes before.
+     */
+    private static boolean isBefore(final long element, final long other, final boolean isTop) {
+
+        return (isTop) ? (element < other) : (element > other);
+    }
+
+    /**
+     * Returns the next element of the specified iterator as a primitive value, avoiding boxing
+     * when possible.
+     *
+     * @param iterator the iterator.
+     * @return the next element.
+     */
+    private static long nextLong(final SparseIterator<Long> iterator) {
+
+        if (iterator instanceof LongSparseIterator) {
+
+            return ((LongSparseIterator) iterator).nextLong();
+        }
+
+        final Long next = iterator.next();
+
+        return (next == null) ? 0 : next;
+    }
+
+    /**
+     * Replaces the heap root with the specified element and restores the heap order.
+     *
+     * @param heap    the heap array.
+     * @param size    the heap size.
+     * @param element the new root element.
+     * @param isTop   whether the heap retains the greatest elements.
+     */
+    private static void siftDown(final long[] heap, final int size, final long element,
+            final boolean isTop) {
+
+        int i = 0;
+
+        while (true) {
+
+            int child = (i << 1) + 1;
+
+            if (child >= size) {
+
+                break;
+            }
+
+            if (((child + 1) < size) && isBefore(heap[child + 1], heap[child], isTop)) {
+
+                ++child;
+            }
+
+            if (!isBefore(heap[child], element, isTop)) {
+
+                break;
+            }
+
+            heap[i] = heap[child];
+            i = child;
+        }
+
+        heap[i] = element;
+    }
+
+    /**
+     * Adds the specified element at the end of the heap and restores the heap order.
+     *
+     * @param heap    the heap array.
+     * @param size    the heap size before the addition.
+     * @param element the element to add.
+     * @param isTop   whether the heap retains the greatest elements.
+     */
+    private static void siftUp(final long[] heap, final int size, final long element,
+            final boolean isTop) {
+
+        int i = size;
+
+        while (i > 0) {
+
+            final int parent = (i - 1) >> 1;
+
+            if (!isBefore(element, heap[parent], isTop)) {
+
+                break;
+            }
+
+            heap[i] = heap[parent];
+            i = parent;
+        }
+
+        heap[i] = element;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+/**
+ * Internal interface of a {@link SparseIterator} able to return the long elements without boxing
+ * them.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+interface LongSparseIterator extends SparseIterator<Long> {
+
+    /**
+     * Returns the next element as a primitive value.
+     *
+     * @return the next element.
+     * @throws java.util.NoSuchElementException if the iteration has no more elements.
+     */
+    long nextLong();
+}
\ No newline at end of file
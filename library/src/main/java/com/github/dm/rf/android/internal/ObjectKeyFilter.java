@@ -0,0 +1,80 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import com.github.dm.rf.android.entry.ObjectSparseEntry;
+import com.github.dm.rf.android.filter.Filter;
+import com.github.dm.rf.android.filter.StatelessFilter;
+
+/**
+ * Filter matching the elements whose object key is one of the specified ones.
+ * <p/>
+ * Since the backing array maps are able to efficiently locate a key, the iterables recognize this
+ * filter and, when possible, seek the matching positions instead of looping through all the
+ * elements.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <E> the filtered element type.
+ */
+class ObjectKeyFilter<E extends ObjectSparseEntry<?>> implements StatelessFilter<E> {
+
+    private final Filter<E> mFilter;
+
+    private final Object[] mKeys;
+
+    /**
+     * Constructor.
+     *
+     * @param filter the filter matching the exact keys.
+     * @param keys   the keys to match.
+     */
+    public ObjectKeyFilter(final Filter<E> filter, final Object... keys) {
+
+        mFilter = filter;
+        mKeys = keys.clone();
+    }
+
+    /**
+     * Returns the number of keys to match.
+     *
+     * @return the key count.
+     */
+    public int getKeyCount() {
+
+        return mKeys.length;
+    }
+
+    /**
+     * Returns the key to match at the specified position.
+     *
+     * @param position the position.
+     * @return the key.
+     */
+    public Object getKeyAt(final int position) {
+
+        return mKeys[position];
+    }
+
+    @Override
+    public void initialize(final FilterIterator<E> iterator) {
+
+    }
+
+    @Override
+    public boolean matches(final E element, final int count, final int index) {
+
+        return mFilter.matches(element, count, index);
+    }
+}
\ No newline at end of file
@@ -47,7 +47,9 @@ class SimpleArrayMapFilterBuilderImpl<K, V>
 
         final Translator<SimpleArrayMapEntry<K, V>, ?> translator = Translators.objectKey();
 
-        final Filter<SimpleArrayMapEntry<K, V>> filter = Filters.matching(translator, key);
+        final Filter<SimpleArrayMapEntry<K, V>> filter =
+                new ObjectKeyFilter<SimpleArrayMapEntry<K, V>>(Filters.matching(translator, key),
+                                                               key);
 
         return super.matching(filter);
     }
@@ -58,7 +60,8 @@ class SimpleArrayMapFilterBuilderImpl<K, V>
         final Translator<SimpleArrayMapEntry<K, V>, ?> translator = Translators.objectKey();
 
         final Filter<SimpleArrayMapEntry<K, V>> filter =
-                Filters.containedIn(translator, Arrays.asList(keys));
+                new ObjectKeyFilter<SimpleArrayMapEntry<K, V>>(
+                        Filters.containedIn(translator, Arrays.asList(keys)), keys);
 
         return super.matching(filter);
     }
@@ -17,12 +17,15 @@ import android.os.Parcelable;
 import android.support.v4.util.SimpleArrayMap;
 
 import com.github.dm.rf.android.entry.ObjectSparseObjectEntry;
+import com.github.dm.rf.android.entry.ObjectSparseObjectJoinEntry;
 import com.github.dm.rf.android.entry.ParcelableObjectSparseObjectEntry;
 import com.github.dm.rf.android.entry.SimpleArrayMapEntry;
+import com.github.dm.rf.android.filter.AdvancedFilter;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.SimpleArrayMapFilterBuilder;
 import com.github.dm.rf.android.iterator.ElementSparseIterable;
 import com.github.dm.rf.android.iterator.SimpleArrayMapIterable;
+import com.github.dm.rf.android.iterator.SparseDiff;
 import com.github.dm.rf.android.translator.FullTranslator;
 import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.translator.Translators;
@@ -34,6 +37,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of {@link SimpleArrayMapIterable}.
@@ -123,6 +127,24 @@ class SimpleArrayMapIterableImpl<K, V> extends AbstractSparseIterable<SimpleArra
         return this;
     }
 
+    @Override
+    public SimpleArrayMapIterable<K, V> parallelForEach(final Action<SimpleArrayMapEntry<K,
+            V>> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public SimpleArrayMapIterable<K, V> parallelForEach(final Action<SimpleArrayMapEntry<K,
+            V>> action, final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public SimpleArrayMapIterable<K, V> remove() {
 
@@ -271,6 +293,52 @@ class SimpleArrayMapIterableImpl<K, V> extends AbstractSparseIterable<SimpleArra
         return firstPositionOfValue(value) >= 0;
     }
 
+    @Override
+    public SparseDiff<SimpleArrayMap<K, V>> diff(final SimpleArrayMap<K, V> other) {
+
+        final SimpleArrayMap<K, V> added = new SimpleArrayMap<K, V>();
+        final SimpleArrayMap<K, V> changed = new SimpleArrayMap<K, V>();
+        final SimpleArrayMap<K, V> removed = new SimpleArrayMap<K, V>();
+
+        final int otherSize = other.size();
+
+        final boolean[] matched = new boolean[otherSize];
+
+        for (final SimpleArrayMapEntry<K, V> entry : this) {
+
+            final K key = entry.getKey();
+
+            final int index = other.indexOfKey(key);
+
+            if (index >= 0) {
+
+                final V value = other.valueAt(index);
+
+                if ((value == null) ? (entry.getValue() != null)
+                        : !value.equals(entry.getValue())) {
+
+                    changed.put(key, value);
+                }
+
+                matched[index] = true;
+
+            } else {
+
+                removed.put(key, entry.getValue());
+            }
+        }
+
+        for (int i = 0; i < otherSize; ++i) {
+
+            if (!matched[i]) {
+
+                added.put(other.keyAt(i), other.valueAt(i));
+            }
+        }
+
+        return new Diff<K, V>(added, changed, removed);
+    }
+
     @Override
     public SimpleArrayMapIterable<K, V> fill(final Map<? super K, ? super V> map) {
 
@@ -410,6 +478,11 @@ class SimpleArrayMapIterableImpl<K, V> extends AbstractSparseIterable<SimpleArra
     @Override
     public int indexOfKey(final Object key) {
 
+        if (isSeekable()) {
+
+            return Math.max(mArrayMap.indexOfKey(key), -1);
+        }
+
         if (key == null) {
 
             for (final SimpleArrayMapEntry<K, V> entry : this) {
@@ -488,6 +561,13 @@ class SimpleArrayMapIterableImpl<K, V> extends AbstractSparseIterable<SimpleArra
         return (count == map.size());
     }
 
+    @Override
+    public <R> ElementSparseIterable<ObjectSparseObjectJoinEntry<K, V, R>> join(
+            final SimpleArrayMap<K, R> other) {
+
+        return new SimpleArrayMapJoinIterable<K, V, R>(copy(), other, true, false);
+    }
+
     @Override
     public ElementSparseIterable<K> keys() {
 
@@ -506,9 +586,37 @@ class SimpleArrayMapIterableImpl<K, V> extends AbstractSparseIterable<SimpleArra
         return toElements(mKeyTranslator);
     }
 
+    @Override
+    public <R> ElementSparseIterable<ObjectSparseObjectJoinEntry<K, V, R>> leftJoin(
+            final SimpleArrayMap<K, R> other) {
+
+        return new SimpleArrayMapJoinIterable<K, V, R>(copy(), other, false, false);
+    }
+
+    @Override
+    public <R> ElementSparseIterable<ObjectSparseObjectJoinEntry<K, V, R>> outerJoin(
+            final SimpleArrayMap<K, R> other) {
+
+        return new SimpleArrayMapJoinIterable<K, V, R>(copy(), other, false, true);
+    }
+
     @Override
     public int positionOfKey(final Object key) {
 
+        if (isSeekable()) {
+
+            final SimpleArrayMap<K, V> arrayMap = mArrayMap;
+
+            final int index = arrayMap.indexOfKey(key);
+
+            if (index < 0) {
+
+                return -1;
+            }
+
+            return isReversed() ? (arrayMap.size() - 1 - index) : index;
+        }
+
         int i = 0;
 
         if (key == null) {
@@ -553,16 +661,46 @@ class SimpleArrayMapIterableImpl<K, V> extends AbstractSparseIterable<SimpleArra
     @Override
     public SimpleArrayMapIterable<K, V> replaceValues(final Translator<V, V> translator) {
 
-        final SimpleArrayMap<K, V> arrayMap = mArrayMap;
-
         for (final SimpleArrayMapEntry<K, V> entry : this) {
 
-            arrayMap.put(entry.getKey(), translator.translate(entry.getValue()));
+            entry.setValue(translator.translate(entry.getValue()));
         }
 
         return this;
     }
 
+    @Override
+    public SimpleArrayMapIterable<K, V> snapshot() {
+
+        final SimpleArrayMap<K, V> arrayMap = mArrayMap;
+
+        if (arrayMap == null) {
+
+            final SimpleArrayMap<K, V> copy = new SimpleArrayMap<K, V>();
+
+            for (final SimpleArrayMapEntry<K, V> entry : this) {
+
+                copy.put(entry.getKey(), entry.getValue());
+            }
+
+            return new SimpleArrayMapIterableImpl<K, V>(copy);
+        }
+
+        final int[] positions = filteredPositions();
+
+        final SimpleArrayMap<K, V> copy = new SimpleArrayMap<K, V>(positions.length);
+
+        for (final int position : positions) {
+
+            copy.put(arrayMap.keyAt(position), arrayMap.valueAt(position));
+        }
+
+        final SimpleArrayMapIterableImpl<K, V> snapshot =
+                new SimpleArrayMapIterableImpl<K, V>(copy);
+
+        return isReversed() ? snapshot.reverse() : snapshot;
+    }
+
     @Override
     public <T> T[] toImmutableArray(final Class<T> type) {
 
@@ -679,6 +817,85 @@ class SimpleArrayMapIterableImpl<K, V> extends AbstractSparseIterable<SimpleArra
         return toElements(mValueTranslator);
     }
 
+    private static class Diff<K, V> implements SparseDiff<SimpleArrayMap<K, V>> {
+
+        private final SimpleArrayMap<K, V> mAdded;
+
+        private final SimpleArrayMap<K, V> mChanged;
+
+        private final SimpleArrayMap<K, V> mRemoved;
+
+        public Diff(final SimpleArrayMap<K, V> added, final SimpleArrayMap<K, V> changed,
+                final SimpleArrayMap<K, V> removed) {
+
+            mAdded = added;
+            mChanged = changed;
+            mRemoved = removed;
+        }
+
+        @Override
+        public SimpleArrayMap<K, V> added() {
+
+            return mAdded;
+        }
+
+        @Override
+        public void applyTo(final SimpleArrayMap<K, V> target) {
+
+            final SimpleArrayMap<K, V> removed = mRemoved;
+
+            final int removedSize = removed.size();
+
+            for (int i = 0; i < removedSize; ++i) {
+
+                target.remove(removed.keyAt(i));
+            }
+
+            final SimpleArrayMap<K, V> changed = mChanged;
+
+            final int changedSize = changed.size();
+
+            for (int i = 0; i < changedSize; ++i) {
+
+                final int index = target.indexOfKey(changed.keyAt(i));
+
+                if (index >= 0) {
+
+                    target.setValueAt(index, changed.valueAt(i));
+                }
+            }
+
+            final SimpleArrayMap<K, V> added = mAdded;
+
+            final int addedSize = added.size();
+
+            target.ensureCapacity(target.size() + addedSize);
+
+            for (int i = 0; i < addedSize; ++i) {
+
+                target.put(added.keyAt(i), added.valueAt(i));
+            }
+        }
+
+        @Override
+        public SimpleArrayMap<K, V> changed() {
+
+            return mChanged;
+        }
+
+        @Override
+        public boolean isEmpty() {
+
+            return mAdded.isEmpty() && mChanged.isEmpty() && mRemoved.isEmpty();
+        }
+
+        @Override
+        public SimpleArrayMap<K, V> removed() {
+
+            return mRemoved;
+        }
+    }
+
     private static class TranslatedSimpleArrayMapIterableImpl<Nk, K, Nv, V>
             extends SimpleArrayMapIterableImpl<Nk, Nv> {
 
@@ -755,6 +972,24 @@ class SimpleArrayMapIterableImpl<K, V> extends AbstractSparseIterable<SimpleArra
 
             mIterable.clearFilters();
         }
+
+        @Override
+        protected int[] rangeOf(final AdvancedFilter<SimpleArrayMapEntry<Nk, Nv>> filter) {
+
+            return null;
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return null;
+        }
     }
 
     @Override
@@ -774,9 +1009,125 @@ class SimpleArrayMapIterableImpl<K, V> extends AbstractSparseIterable<SimpleArra
         return new SimpleArrayMapIterator<K, V>(mArrayMap);
     }
 
+    @Override
+    protected SparseIterator<SimpleArrayMapEntry<K, V>> createIterator(final boolean isReverse,
+            final int start, final int end) {
+
+        if (isReverse) {
+
+            return new SimpleArrayMapReverseIterator<K, V>(mArrayMap, start, end);
+        }
+
+        return new SimpleArrayMapIterator<K, V>(mArrayMap, start, end);
+    }
+
     @Override
     protected SparseIterator<SimpleArrayMapEntry<K, V>> rawIterator(final boolean isReverse) {
 
         return createIterator(isReverse);
     }
+
+    @Override
+    protected int[] rangeOf(final AdvancedFilter<SimpleArrayMapEntry<K, V>> filter) {
+
+        if (filter instanceof ObjectKeyFilter) {
+
+            final ObjectKeyFilter<?> keyFilter = (ObjectKeyFilter<?>) filter;
+
+            final SimpleArrayMap<K, V> arrayMap = mArrayMap;
+
+            int start = arrayMap.size();
+            int end = 0;
+
+            final int keyCount = keyFilter.getKeyCount();
+
+            for (int i = 0; i < keyCount; ++i) {
+
+                final int position = arrayMap.indexOfKey(keyFilter.getKeyAt(i));
+
+                if (position >= 0) {
+
+                    start = Math.min(start, position);
+                    end = Math.max(end, position + 1);
+                }
+            }
+
+            return new int[]{start, end};
+        }
+
+        return null;
+    }
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void removePositions(final int[] positions) {
+
+        final SimpleArrayMap<K, V> arrayMap = mArrayMap;
+
+        final int size = arrayMap.size();
+
+        final int count = positions.length;
+
+        if (count == size) {
+
+            arrayMap.clear();
+
+            return;
+        }
+
+        if (count == 1) {
+
+            arrayMap.removeAt(positions[0]);
+
+            return;
+        }
+
+        final int length = size - count;
+
+        final Object[] keys = new Object[length];
+        final Object[] values = new Object[length];
+
+        int index = 0;
+        int removed = 0;
+
+        for (int i = 0; i < size; ++i) {
+
+            if ((removed < count) && (positions[removed] == i)) {
+
+                ++removed;
+
+                continue;
+            }
+
+            keys[index] = arrayMap.keyAt(i);
+            values[index] = arrayMap.valueAt(i);
+
+            ++index;
+        }
+
+        arrayMap.clear();
+
+        arrayMap.ensureCapacity(length);
+
+        for (int i = 0; i < length; ++i) {
+
+            arrayMap.put((K) keys[i], (V) values[i]);
+        }
+    }
+
+    @Override
+    protected int[] splitRange() {
+
+        return new int[]{0, mArrayMap.size()};
+    }
+
+    /**
+     * Checks if the keys can be directly looked up in the backing array map, that is, they are not
+     * translated and no element is filtered out.
+     *
+     * @return whether the keys can be looked up.
+     */
+    private boolean isSeekable() {
+
+        return (mArrayMap != null) && isUnfiltered();
+    }
 }
\ No newline at end of file
@@ -55,6 +55,14 @@ class SimpleArrayMapIterator<K, V> extends AbstractSparseIterator<SimpleArrayMap
         mArrayMap = arrayMap;
     }
 
+    public SimpleArrayMapIterator(final SimpleArrayMap<K, V> arrayMap,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mArrayMap = arrayMap;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
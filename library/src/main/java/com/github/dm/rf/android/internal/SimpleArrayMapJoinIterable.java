@@ -0,0 +1,187 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import android.support.v4.util.SimpleArrayMap;
+
+import com.github.dm.rf.android.entry.ObjectSparseObjectJoinEntry;
+import com.github.dm.rf.android.entry.SimpleArrayMapEntry;
+
+/**
+ * Implementation of an iterable joining {@link SimpleArrayMapEntry} elements with the ones of
+ * another {@link android.support.v4.util.SimpleArrayMap} having the same key.
+ * <p/>
+ * Since the map keys are ordered by hash code, each key is looked up in the other collection
+ * (probe join).
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <K> the element key type.
+ * @param <V> the element value type.
+ * @param <R> the other collection value type.
+ */
+class SimpleArrayMapJoinIterable<K, V, R> extends
+        AbstractJoinIterable<SimpleArrayMapEntry<K, V>, ObjectSparseObjectJoinEntry<K, V, R>> {
+
+    private final SimpleArrayMap<K, R> mOther;
+
+    /**
+     * Creates a new join iterable.
+     *
+     * @param iterable the joined iterable.
+     * @param other    the other map.
+     * @param isInner  whether the elements whose key is not contained in the other map must be
+     *                 skipped.
+     * @param isOuter  whether the elements of the other map whose key is not returned by the
+     *                 joined iterable must be returned too.
+     */
+    public SimpleArrayMapJoinIterable(
+            final AbstractSparseIterable<SimpleArrayMapEntry<K, V>> iterable,
+            final SimpleArrayMap<K, R> other, final boolean isInner, final boolean isOuter) {
+
+        super(iterable, isInner, isOuter);
+
+        mOther = other;
+    }
+
+    private SimpleArrayMapJoinIterable(final SimpleArrayMapJoinIterable<K, V, R> other) {
+
+        super(other);
+
+        mOther = other.mOther;
+    }
+
+    @Override
+    protected SimpleArrayMapJoinIterable<K, V, R> copy() {
+
+        return new SimpleArrayMapJoinIterable<K, V, R>(this);
+    }
+
+    @Override
+    protected SparseIterator<ObjectSparseObjectJoinEntry<K, V, R>> joinIterator(
+            final SparseIterator<SimpleArrayMapEntry<K, V>> iterator, final int offset,
+            final boolean isDescending, final boolean isInner, final boolean isOuter,
+            final boolean isReverse) {
+
+        return new JoinIterator<K, V, R>(iterator, mOther, offset, isInner, isOuter, isReverse);
+    }
+
+    private static class JoinEntry<K, V, R> implements ObjectSparseObjectJoinEntry<K, V, R> {
+
+        private final boolean mHasLeft;
+
+        private final boolean mHasRight;
+
+        private final K mKey;
+
+        private final V mLeftValue;
+
+        private final R mRightValue;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param key        the entry key.
+         * @param hasLeft    whether the entry has a left value.
+         * @param leftValue  the left value.
+         * @param hasRight   whether the entry has a right value.
+         * @param rightValue the right value.
+         */
+        public JoinEntry(final K key, final boolean hasLeft, final V leftValue,
+                final boolean hasRight, final R rightValue) {
+
+            mKey = key;
+            mHasLeft = hasLeft;
+            mLeftValue = leftValue;
+            mHasRight = hasRight;
+            mRightValue = rightValue;
+        }
+
+        @Override
+        public String toString() {
+
+            return mKey + "=[" + mLeftValue + ", " + mRightValue + "]";
+        }
+
+        @Override
+        public K getKey() {
+
+            return mKey;
+        }
+
+        @Override
+        public V getLeftValue() {
+
+            return mLeftValue;
+        }
+
+        @Override
+        public R getRightValue() {
+
+            return mRightValue;
+        }
+
+        @Override
+        public boolean hasLeftValue() {
+
+            return mHasLeft;
+        }
+
+        @Override
+        public boolean hasRightValue() {
+
+            return mHasRight;
+        }
+    }
+
+    private static class JoinIterator<K, V, R> extends
+            AbstractJoinIterator<SimpleArrayMapEntry<K, V>, ObjectSparseObjectJoinEntry<K, V, R>> {
+
+        private final SimpleArrayMap<K, R> mOther;
+
+        public JoinIterator(final SparseIterator<SimpleArrayMapEntry<K, V>> iterator,
+                final SimpleArrayMap<K, R> other, final int offset, final boolean isInner,
+                final boolean isOuter, final boolean isReverse) {
+
+            super(iterator, other.size(), offset, isInner, isOuter, isReverse);
+
+            mOther = other;
+        }
+
+        @Override
+        protected int find(final SimpleArrayMapEntry<K, V> element) {
+
+            return mOther.indexOfKey(element.getKey());
+        }
+
+        @Override
+        protected ObjectSparseObjectJoinEntry<K, V, R> leftEntry(
+                final SimpleArrayMapEntry<K, V> element, final int position) {
+
+            final boolean hasRight = (position >= 0);
+
+            return new JoinEntry<K, V, R>(element.getKey(), true, element.getValue(), hasRight,
+                    (hasRight) ? mOther.valueAt(position) : null);
+        }
+
+        @Override
+        protected ObjectSparseObjectJoinEntry<K, V, R> rightEntry(final int position) {
+
+            final SimpleArrayMap<K, R> other = mOther;
+
+            return new JoinEntry<K, V, R>(other.keyAt(position), false, null, true,
+                    other.valueAt(position));
+        }
+    }
+}
\ No newline at end of file
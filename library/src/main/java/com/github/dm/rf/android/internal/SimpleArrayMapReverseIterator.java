@@ -47,6 +47,14 @@ class SimpleArrayMapReverseIterator<K, V>
         mArrayMap = arrayMap;
     }
 
+    public SimpleArrayMapReverseIterator(final SimpleArrayMap<K, V> arrayMap,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mArrayMap = arrayMap;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
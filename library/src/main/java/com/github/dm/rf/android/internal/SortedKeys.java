@@ -0,0 +1,178 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import java.util.Arrays;
+
+/**
+ * Utility class creating sorted copies of key collections, so that they can be merged with the
+ * ones of a sparse collection.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+class SortedKeys {
+
+    /**
+     * Avoid direct instantiation.
+     */
+    private SortedKeys() {
+
+    }
+
+    /**
+     * Returns a sorted copy of the specified keys.
+     *
+     * @param keys the keys.
+     * @return the sorted array.
+     */
+    public static int[] from(final int... keys) {
+
+        final int[] sorted = keys.clone();
+
+        Arrays.sort(sorted);
+
+        return sorted;
+    }
+
+    /**
+     * Returns a sorted copy of the specified keys.
+     *
+     * @param keys the keys.
+     * @return the sorted array.
+     */
+    public static long[] from(final long... keys) {
+
+        final long[] sorted = keys.clone();
+
+        Arrays.sort(sorted);
+
+        return sorted;
+    }
+
+    /**
+     * Returns a sorted array containing the specified keys.
+     *
+     * @param keys the keys.
+     * @return the sorted array.
+     */
+    public static int[] fromIntegers(final Iterable<Integer> keys) {
+
+        return sortIntegers(keys, false);
+    }
+
+    /**
+     * Returns a sorted array containing the specified keys.
+     *
+     * @param keys the keys.
+     * @return the sorted array.
+     */
+    public static long[] fromLongs(final Iterable<Long> keys) {
+
+        return sortLongs(keys, false);
+    }
+
+    /**
+     * Returns a sorted array containing the specified keys, skipping the null ones.<br/>
+     * Since a null object cannot be equal to any int value, the returned array can be employed to
+     * match the elements in place of the original keys.
+     *
+     * @param keys the keys.
+     * @return the sorted array.
+     */
+    public static int[] fromNonNullIntegers(final Iterable<Integer> keys) {
+
+        return sortIntegers(keys, true);
+    }
+
+    /**
+     * Returns a sorted array containing the specified keys, skipping the null ones.<br/>
+     * Since a null object cannot be equal to any long value, the returned array can be employed
+     * to match the elements in place of the original keys.
+     *
+     * @param keys the keys.
+     * @return the sorted array.
+     */
+    public static long[] fromNonNullLongs(final Iterable<Long> keys) {
+
+        return sortLongs(keys, true);
+    }
+
+    private static int[] sortIntegers(final Iterable<Integer> keys, final boolean isNullSkipped) {
+
+        int[] sorted = new int[8];
+
+        int count = 0;
+
+        for (final Integer key : keys) {
+
+            if (isNullSkipped && (key == null)) {
+
+                continue;
+            }
+
+            if (count == sorted.length) {
+
+                final int[] newSorted = new int[count << 1];
+
+                System.arraycopy(sorted, 0, newSorted, 0, count);
+
+                sorted = newSorted;
+            }
+
+            sorted[count++] = key;
+        }
+
+        final int[] trimmed = new int[count];
+
+        System.arraycopy(sorted, 0, trimmed, 0, count);
+
+        Arrays.sort(trimmed);
+
+        return trimmed;
+    }
+
+    private static long[] sortLongs(final Iterable<Long> keys, final boolean isNullSkipped) {
+
+        long[] sorted = new long[8];
+
+        int count = 0;
+
+        for (final Long key : keys) {
+
+            if (isNullSkipped && (key == null)) {
+
+                continue;
+            }
+
+            if (count == sorted.length) {
+
+                final long[] newSorted = new long[count << 1];
+
+                System.arraycopy(sorted, 0, newSorted, 0, count);
+
+                sorted = newSorted;
+            }
+
+            sorted[count++] = key;
+        }
+
+        final long[] trimmed = new long[count];
+
+        System.arraycopy(sorted, 0, trimmed, 0, count);
+
+        Arrays.sort(trimmed);
+
+        return trimmed;
+    }
+}
\ No newline at end of file
@@ -45,9 +45,17 @@ class SparseArrayCompatFilterBuilderImpl<V>
     @Override
     public SparseArrayCompatIterable<V> key(final int key) {
 
-        final ToIntTranslator<SparseArrayEntry<V>> translator = Translators.intKey();
+        final Filter<SparseArrayEntry<V>> filter =
+                new IntKeyRangeFilter<SparseArrayEntry<V>>(key, key, null);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public SparseArrayCompatIterable<V> keyRange(final int lowKey, final int highKey) {
 
-        final Filter<SparseArrayEntry<V>> filter = Filters.matching(translator, key);
+        final Filter<SparseArrayEntry<V>> filter =
+                new IntKeyRangeFilter<SparseArrayEntry<V>>(lowKey, highKey, null);
 
         return super.matching(filter);
     }
@@ -57,7 +65,8 @@ class SparseArrayCompatFilterBuilderImpl<V>
 
         final ToIntTranslator<SparseArrayEntry<V>> translator = Translators.intKey();
 
-        final Filter<SparseArrayEntry<V>> filter = Filters.containedIn(translator, keys);
+        final Filter<SparseArrayEntry<V>> filter =
+                IntKeyRangeFilter.keys(Filters.containedIn(translator, keys), keys);
 
         return super.matching(filter);
     }
@@ -65,21 +74,13 @@ class SparseArrayCompatFilterBuilderImpl<V>
     @Override
     public SparseArrayCompatIterable<V> keys(final Collection<Integer> keys) {
 
-        final Translator<SparseArrayEntry<V>, ?> translator = Translators.intKeyObject();
-
-        final Filter<SparseArrayEntry<V>> filter = Filters.containedIn(translator, keys);
-
-        return super.matching(filter);
+        return keys(SortedKeys.fromNonNullIntegers(keys));
     }
 
     @Override
     public SparseArrayCompatIterable<V> keys(final Iterable<Integer> keys) {
 
-        final Translator<SparseArrayEntry<V>, ?> translator = Translators.intKeyObject();
-
-        final Filter<SparseArrayEntry<V>> filter = Filters.containedIn(translator, keys);
-
-        return super.matching(filter);
+        return keys(SortedKeys.fromNonNullIntegers(keys));
     }
 
     @Override
@@ -20,14 +20,18 @@ import android.support.v4.util.SparseArrayCompat;
 import com.github.dm.rf.android.entry.IntSparseObjectEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseObjectEntry;
 import com.github.dm.rf.android.entry.SparseArrayEntry;
+import com.github.dm.rf.android.filter.AdvancedFilter;
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.SparseArrayCompatFilterBuilder;
 import com.github.dm.rf.android.iterator.ElementSparseIterable;
 import com.github.dm.rf.android.iterator.IntSparseIterable;
 import com.github.dm.rf.android.iterator.SparseArrayCompatIterable;
+import com.github.dm.rf.android.iterator.SparseDiff;
 import com.github.dm.rf.android.translator.FullIntTranslator;
 import com.github.dm.rf.android.translator.FullTranslator;
 import com.github.dm.rf.android.translator.IntTranslator;
+import com.github.dm.rf.android.translator.ToIntTranslator;
 import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.translator.Translators;
 
@@ -38,6 +42,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of a {@link SparseArrayCompatIterable}.
@@ -55,7 +60,7 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
 
     private SparseArrayCompatFilterBuilderImpl<V> mInclusionBuilder;
 
-    private Translator<SparseArrayEntry<V>, Integer> mKeyTranslator;
+    private ToIntTranslator<SparseArrayEntry<V>> mKeyTranslator;
 
     private Translator<SparseArrayEntry<V>, V> mValueTranslator;
 
@@ -85,6 +90,11 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
     @Override
     public boolean containsAllKeys(final int... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), true);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -99,6 +109,11 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
     @Override
     public boolean containsAllKeys(final Iterable<Integer> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromIntegers(keys), true);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -141,6 +156,11 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
     @Override
     public boolean containsAnyKey(final int... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), false);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -155,6 +175,11 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
     @Override
     public boolean containsAnyKey(final Iterable<Integer> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromIntegers(keys), false);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -206,6 +231,60 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
         return firstPositionOfValue(value) >= 0;
     }
 
+    @Override
+    public SparseDiff<SparseArrayCompat<V>> diff(final SparseArrayCompat<V> other) {
+
+        final SparseIterator<SparseArrayEntry<V>> iterator = sortedIterator();
+
+        final SparseArrayCompat<V> added = new SparseArrayCompat<V>();
+        final SparseArrayCompat<V> changed = new SparseArrayCompat<V>();
+        final SparseArrayCompat<V> removed = new SparseArrayCompat<V>();
+
+        final int otherSize = other.size();
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final SparseArrayEntry<V> entry = iterator.next();
+
+            final int key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                added.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                final V value = other.valueAt(position);
+
+                if ((value == null) ? (entry.getValue() != null)
+                        : !value.equals(entry.getValue())) {
+
+                    changed.append(key, value);
+                }
+
+                ++position;
+
+            } else {
+
+                removed.append(key, entry.getValue());
+            }
+        }
+
+        while (position < otherSize) {
+
+            added.append(other.keyAt(position), other.valueAt(position));
+
+            ++position;
+        }
+
+        return new Diff<V>(added, changed, removed);
+    }
+
     @Override
     public SparseArrayCompatIterable<V> fill(final Map<? super Integer, ? super V> map) {
 
@@ -345,6 +424,11 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
     @Override
     public int indexOfKey(final int key) {
 
+        if (isSeekable()) {
+
+            return Math.max(mArray.indexOfKey(key), -1);
+        }
+
         for (final SparseArrayEntry<V> entry : this) {
 
             if (entry.getKey() == key) {
@@ -356,6 +440,12 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
         return -1;
     }
 
+    @Override
+    public SparseArrayCompat<V> intersect(final SparseArrayCompat<V> other) {
+
+        return merge(other, false, true, false);
+    }
+
     @Override
     public boolean isEqualTo(final SparseArrayCompat<?> array) {
 
@@ -415,22 +505,36 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
 
         if (mKeyTranslator == null) {
 
-            mKeyTranslator = new Translator<SparseArrayEntry<V>, Integer>() {
+            mKeyTranslator = new ToIntTranslator<SparseArrayEntry<V>>() {
 
                 @Override
-                public Integer translate(final SparseArrayEntry<V> element) {
+                public int translate(final SparseArrayEntry<V> element) {
 
                     return element.getKey();
                 }
             };
         }
 
-        return toIntegers(mKeyTranslator);
+        return toIntValues(mKeyTranslator);
     }
 
     @Override
     public int positionOfKey(final int key) {
 
+        if (isSeekable()) {
+
+            final SparseArrayCompat<V> array = mArray;
+
+            final int index = array.indexOfKey(key);
+
+            if (index < 0) {
+
+                return -1;
+            }
+
+            return isReversed() ? (array.size() - 1 - index) : index;
+        }
+
         int i = 0;
 
         for (final SparseArrayEntry<V> entry : this) {
@@ -460,16 +564,58 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
     @Override
     public SparseArrayCompatIterable<V> replaceValues(final Translator<V, V> translator) {
 
-        final SparseArrayCompat<V> array = mArray;
-
         for (final SparseArrayEntry<V> entry : this) {
 
-            array.append(entry.getKey(), translator.translate(entry.getValue()));
+            entry.setValue(translator.translate(entry.getValue()));
         }
 
         return this;
     }
 
+    @Override
+    public SparseArrayCompatIterable<V> snapshot() {
+
+        final SparseArrayCompat<V> array = mArray;
+
+        if (array == null) {
+
+            final SparseArrayCompat<V> copy = new SparseArrayCompat<V>();
+
+            for (final SparseArrayEntry<V> entry : this) {
+
+                copy.append(entry.getKey(), entry.getValue());
+            }
+
+            return new SparseArrayCompatIterableImpl<V>(copy);
+        }
+
+        final int[] positions = filteredPositions();
+
+        final SparseArrayCompat<V> copy = new SparseArrayCompat<V>(positions.length);
+
+        for (final int position : positions) {
+
+            copy.append(array.keyAt(position), array.valueAt(position));
+        }
+
+        final SparseArrayCompatIterableImpl<V> snapshot =
+                new SparseArrayCompatIterableImpl<V>(copy);
+
+        return isReversed() ? snapshot.reverse() : snapshot;
+    }
+
+    @Override
+    public SparseArrayCompat<V> subtract(final SparseArrayCompat<V> other) {
+
+        return merge(other, true, false, false);
+    }
+
+    @Override
+    public SparseArrayCompat<V> symmetricDifference(final SparseArrayCompat<V> other) {
+
+        return merge(other, true, false, true);
+    }
+
     @Override
     public <T> T[] toImmutableArray(final Class<T> type) {
 
@@ -566,6 +712,12 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
         return translate(Translators.intIdentity(), translator);
     }
 
+    @Override
+    public SparseArrayCompat<V> union(final SparseArrayCompat<V> other) {
+
+        return merge(other, true, true, true);
+    }
+
     @Override
     public ElementSparseIterable<V> values() {
 
@@ -638,6 +790,23 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
         return this;
     }
 
+    @Override
+    public SparseArrayCompatIterable<V> parallelForEach(final Action<SparseArrayEntry<V>> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public SparseArrayCompatIterable<V> parallelForEach(final Action<SparseArrayEntry<V>> action,
+            final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public SparseArrayCompatIterable<V> remove() {
 
@@ -662,6 +831,136 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
         return this;
     }
 
+    private static class Diff<V> implements SparseDiff<SparseArrayCompat<V>> {
+
+        private final SparseArrayCompat<V> mAdded;
+
+        private final SparseArrayCompat<V> mChanged;
+
+        private final SparseArrayCompat<V> mRemoved;
+
+        public Diff(final SparseArrayCompat<V> added, final SparseArrayCompat<V> changed,
+                final SparseArrayCompat<V> removed) {
+
+            mAdded = added;
+            mChanged = changed;
+            mRemoved = removed;
+        }
+
+        @Override
+        public SparseArrayCompat<V> added() {
+
+            return mAdded;
+        }
+
+        @Override
+        public void applyTo(final SparseArrayCompat<V> target) {
+
+            if (isEmpty()) {
+
+                return;
+            }
+
+            final SparseArrayCompat<V> added = mAdded;
+            final SparseArrayCompat<V> changed = mChanged;
+            final SparseArrayCompat<V> removed = mRemoved;
+
+            final int size = target.size();
+            final int addedSize = added.size();
+            final int changedSize = changed.size();
+            final int removedSize = removed.size();
+
+            final SparseArrayCompat<V> array = new SparseArrayCompat<V>(size + addedSize);
+
+            int addedPosition = 0;
+            int changedPosition = 0;
+            int removedPosition = 0;
+
+            for (int i = 0; i < size; ++i) {
+
+                final int key = target.keyAt(i);
+
+                while ((addedPosition < addedSize) && (added.keyAt(addedPosition) < key)) {
+
+                    array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                    ++addedPosition;
+                }
+
+                if ((addedPosition < addedSize) && (added.keyAt(addedPosition) == key)) {
+
+                    array.append(key, added.valueAt(addedPosition));
+
+                    ++addedPosition;
+
+                    continue;
+                }
+
+                while ((removedPosition < removedSize) && (removed.keyAt(removedPosition) < key)) {
+
+                    ++removedPosition;
+                }
+
+                if ((removedPosition < removedSize) && (removed.keyAt(removedPosition) == key)) {
+
+                    ++removedPosition;
+
+                    continue;
+                }
+
+                while ((changedPosition < changedSize) && (changed.keyAt(changedPosition) < key)) {
+
+                    ++changedPosition;
+                }
+
+                if ((changedPosition < changedSize) && (changed.keyAt(changedPosition) == key)) {
+
+                    array.append(key, changed.valueAt(changedPosition));
+
+                    ++changedPosition;
+
+                } else {
+
+                    array.append(key, target.valueAt(i));
+                }
+            }
+
+            while (addedPosition < addedSize) {
+
+                array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                ++addedPosition;
+            }
+
+            target.clear();
+
+            final int arraySize = array.size();
+
+            for (int i = 0; i < arraySize; ++i) {
+
+                target.append(array.keyAt(i), array.valueAt(i));
+            }
+        }
+
+        @Override
+        public SparseArrayCompat<V> changed() {
+
+            return mChanged;
+        }
+
+        @Override
+        public boolean isEmpty() {
+
+            return (mAdded.size() == 0) && (mChanged.size() == 0) && (mRemoved.size() == 0);
+        }
+
+        @Override
+        public SparseArrayCompat<V> removed() {
+
+            return mRemoved;
+        }
+    }
+
     private static class TranslatedSparseArrayCompatIterableImpl<T, V>
             extends SparseArrayCompatIterableImpl<T> {
 
@@ -735,6 +1034,24 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
 
             mIterable.clearFilters();
         }
+
+        @Override
+        protected int[] rangeOf(final AdvancedFilter<SparseArrayEntry<T>> filter) {
+
+            return null;
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return null;
+        }
     }
 
     @Override
@@ -754,9 +1071,304 @@ class SparseArrayCompatIterableImpl<V> extends AbstractSparseIterable<SparseArra
         return new SparseArrayCompatIterator<V>(mArray);
     }
 
+    @Override
+    protected SparseIterator<SparseArrayEntry<V>> createIterator(final boolean isReverse,
+            final int start, final int end) {
+
+        if (isReverse) {
+
+            return new SparseArrayCompatReversIterator<V>(mArray, start, end);
+        }
+
+        return new SparseArrayCompatIterator<V>(mArray, start, end);
+    }
+
     @Override
     protected SparseIterator<SparseArrayEntry<V>> rawIterator(final boolean isReverse) {
 
         return createIterator(isReverse);
     }
+
+    @Override
+    protected int[] rangeOf(final AdvancedFilter<SparseArrayEntry<V>> filter) {
+
+        if (filter instanceof IntKeyRangeFilter) {
+
+            final IntKeyRangeFilter<?> keyFilter = (IntKeyRangeFilter<?>) filter;
+
+            final SparseArrayCompat<V> array = mArray;
+
+            return new int[]{lowerBound(array, keyFilter.getLowKey()),
+                              upperBound(array, keyFilter.getHighKey())};
+        }
+
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void removePositions(final int[] positions) {
+
+        final SparseArrayCompat<V> array = mArray;
+
+        final int size = array.size();
+
+        final int count = positions.length;
+
+        if (count == size) {
+
+            array.clear();
+
+            return;
+        }
+
+        if (count == 1) {
+
+            array.removeAt(positions[0]);
+
+            return;
+        }
+
+        final int length = size - count;
+
+        final int[] keys = new int[length];
+        final Object[] values = new Object[length];
+
+        int index = 0;
+        int removed = 0;
+
+        for (int i = 0; i < size; ++i) {
+
+            if ((removed < count) && (positions[removed] == i)) {
+
+                ++removed;
+
+                continue;
+            }
+
+            keys[index] = array.keyAt(i);
+            values[index] = array.valueAt(i);
+
+            ++index;
+        }
+
+        array.clear();
+
+        for (int i = 0; i < length; ++i) {
+
+            array.append(keys[i], (V) values[i]);
+        }
+    }
+
+    @Override
+    protected int[] splitRange() {
+
+        return new int[]{0, mArray.size()};
+    }
+
+    /**
+     * Merges the elements returned by this iterable with the ones of the specified sparse
+     * collection, into a new one.<br/>
+     * Both sets of keys are walked in ascending order, so that each element is visited only once,
+     * independently of the iteration order.
+     *
+     * @param other   the other sparse collection.
+     * @param isLeft  whether to retain the elements whose key is returned only by this iterable.
+     * @param isBoth  whether to retain the elements whose key is contained in both.
+     * @param isRight whether to retain the elements whose key is contained only in the other
+     *                collection.
+     * @return the new collection instance.
+     */
+    private SparseArrayCompat<V> merge(final SparseArrayCompat<V> other, final boolean isLeft,
+            final boolean isBoth, final boolean isRight) {
+
+        final SparseIterator<SparseArrayEntry<V>> iterator = sortedIterator();
+
+        final int otherSize = other.size();
+
+        int size = (iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<SparseArrayEntry<V>>) iterator).remaining() : 0;
+
+        if (isRight) {
+
+            size += otherSize;
+        }
+
+        final SparseArrayCompat<V> array = new SparseArrayCompat<V>(size);
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final SparseArrayEntry<V> entry = iterator.next();
+
+            final int key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                if (isRight) {
+
+                    array.append(other.keyAt(position), other.valueAt(position));
+                }
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                if (isBoth) {
+
+                    array.append(key, entry.getValue());
+                }
+
+                ++position;
+
+            } else if (isLeft) {
+
+                array.append(key, entry.getValue());
+            }
+        }
+
+        if (isRight) {
+
+            while (position < otherSize) {
+
+                array.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * Returns an iterator looping through the elements returned by this iterable in ascending key
+     * order.
+     *
+     * @return the iterator instance.
+     */
+    private SparseIterator<SparseArrayEntry<V>> sortedIterator() {
+
+        if (mArray == null) {
+
+            return new SparseArrayCompatIterator<V>(toSparseArray());
+        }
+
+        if (isReversed()) {
+
+            final SparseArrayCompatIterableImpl<V> iterable = copy();
+
+            iterable.reverse();
+
+            return iterable.iterator();
+        }
+
+        return iterator();
+    }
+
+    /**
+     * Checks if the keys can be directly looked up in the backing sparse collection, that is, they
+     * are not translated and no element is filtered out.
+     *
+     * @return whether the keys can be looked up.
+     */
+    private boolean isSeekable() {
+
+        return (mArray != null) && isUnfiltered();
+    }
+
+    /**
+     * Checks if the specified sorted keys are contained in the passed sparse collection, by
+     * merging them with the collection ones.
+     *
+     * @param array the sparse collection.
+     * @param keys  the sorted keys.
+     * @param isAll whether all the keys must be contained or just any of them.
+     * @return whether the keys are contained.
+     */
+    private static boolean containsKeys(final SparseArrayCompat<?> array, final int[] keys,
+            final boolean isAll) {
+
+        final int size = array.size();
+
+        int position = 0;
+
+        for (final int key : keys) {
+
+            while ((position < size) && (array.keyAt(position) < key)) {
+
+                ++position;
+            }
+
+            final boolean isContained = (position < size) && (array.keyAt(position) == key);
+
+            if (isContained != isAll) {
+
+                return isContained;
+            }
+        }
+
+        return isAll;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than or
+     * equal to the passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int lowerBound(final SparseArrayCompat<?> array, final int key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) < key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than the
+     * passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int upperBound(final SparseArrayCompat<?> array, final int key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) <= key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
 }
\ No newline at end of file
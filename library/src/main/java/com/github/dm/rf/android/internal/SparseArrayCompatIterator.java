@@ -54,6 +54,14 @@ class SparseArrayCompatIterator<V> extends AbstractSparseIterator<SparseArrayEnt
         mSparseArray = array;
     }
 
+    public SparseArrayCompatIterator(final SparseArrayCompat<V> array,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
@@ -45,6 +45,14 @@ class SparseArrayCompatReversIterator<V> extends AbstractReverseSparseIterator<S
         mSparseArray = array;
     }
 
+    public SparseArrayCompatReversIterator(final SparseArrayCompat<V> array,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
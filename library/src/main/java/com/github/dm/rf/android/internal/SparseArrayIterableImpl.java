@@ -14,20 +14,28 @@
 package com.github.dm.rf.android.internal;
 
 import android.annotation.SuppressLint;
+import android.annotation.TargetApi;
+import android.os.Build.VERSION;
+import android.os.Build.VERSION_CODES;
 import android.os.Parcelable;
 import android.util.SparseArray;
 
 import com.github.dm.rf.android.entry.IntSparseObjectEntry;
+import com.github.dm.rf.android.entry.IntSparseObjectJoinEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseObjectEntry;
 import com.github.dm.rf.android.entry.SparseArrayEntry;
+import com.github.dm.rf.android.filter.AdvancedFilter;
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.SparseArrayFilterBuilder;
 import com.github.dm.rf.android.iterator.ElementSparseIterable;
 import com.github.dm.rf.android.iterator.IntSparseIterable;
 import com.github.dm.rf.android.iterator.SparseArrayIterable;
+import com.github.dm.rf.android.iterator.SparseDiff;
 import com.github.dm.rf.android.translator.FullIntTranslator;
 import com.github.dm.rf.android.translator.FullTranslator;
 import com.github.dm.rf.android.translator.IntTranslator;
+import com.github.dm.rf.android.translator.ToIntTranslator;
 import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.translator.Translators;
 
@@ -38,6 +46,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of a {@link SparseArrayIterable}.
@@ -55,7 +64,7 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
 
     private SparseArrayFilterBuilderImpl<V> mInclusionBuilder;
 
-    private Translator<SparseArrayEntry<V>, Integer> mKeyTranslator;
+    private ToIntTranslator<SparseArrayEntry<V>> mKeyTranslator;
 
     private Translator<SparseArrayEntry<V>, V> mValueTranslator;
 
@@ -85,6 +94,11 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
     @Override
     public boolean containsAllKeys(final int... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), true);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -99,6 +113,11 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
     @Override
     public boolean containsAllKeys(final Iterable<Integer> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromIntegers(keys), true);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -141,6 +160,11 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
     @Override
     public boolean containsAnyKey(final int... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), false);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -155,6 +179,11 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
     @Override
     public boolean containsAnyKey(final Iterable<Integer> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromIntegers(keys), false);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -206,6 +235,60 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
         return firstPositionOfValue(value) >= 0;
     }
 
+    @Override
+    public SparseDiff<SparseArray<V>> diff(final SparseArray<V> other) {
+
+        final SparseIterator<SparseArrayEntry<V>> iterator = sortedIterator();
+
+        final SparseArray<V> added = new SparseArray<V>();
+        final SparseArray<V> changed = new SparseArray<V>();
+        final SparseArray<V> removed = new SparseArray<V>();
+
+        final int otherSize = other.size();
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final SparseArrayEntry<V> entry = iterator.next();
+
+            final int key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                added.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                final V value = other.valueAt(position);
+
+                if ((value == null) ? (entry.getValue() != null)
+                        : !value.equals(entry.getValue())) {
+
+                    changed.append(key, value);
+                }
+
+                ++position;
+
+            } else {
+
+                removed.append(key, entry.getValue());
+            }
+        }
+
+        while (position < otherSize) {
+
+            added.append(other.keyAt(position), other.valueAt(position));
+
+            ++position;
+        }
+
+        return new Diff<V>(added, changed, removed);
+    }
+
     @Override
     public SparseArrayIterable<V> fill(final Map<? super Integer, ? super V> map) {
 
@@ -342,9 +425,20 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
         return -1;
     }
 
+    @Override
+    public SparseArray<ArrayList<V>> groupBy(final ToIntTranslator<V> keyTranslator) {
+
+        return values().groupBy(keyTranslator);
+    }
+
     @Override
     public int indexOfKey(final int key) {
 
+        if (isSeekable()) {
+
+            return Math.max(mArray.indexOfKey(key), -1);
+        }
+
         for (final SparseArrayEntry<V> entry : this) {
 
             if (entry.getKey() == key) {
@@ -356,6 +450,12 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
         return -1;
     }
 
+    @Override
+    public SparseArray<V> intersect(final SparseArray<V> other) {
+
+        return merge(other, false, true, false);
+    }
+
     @Override
     public boolean isEqualTo(final SparseArray<?> array) {
 
@@ -410,27 +510,62 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
         return (count == map.size());
     }
 
+    @Override
+    public <R> ElementSparseIterable<IntSparseObjectJoinEntry<V, R>> join(
+            final SparseArray<R> other) {
+
+        return new SparseArrayJoinIterable<V, R>(copy(), other, (mArray != null), true, false);
+    }
+
     @Override
     public IntSparseIterable keys() {
 
         if (mKeyTranslator == null) {
 
-            mKeyTranslator = new Translator<SparseArrayEntry<V>, Integer>() {
+            mKeyTranslator = new ToIntTranslator<SparseArrayEntry<V>>() {
 
                 @Override
-                public Integer translate(final SparseArrayEntry<V> element) {
+                public int translate(final SparseArrayEntry<V> element) {
 
                     return element.getKey();
                 }
             };
         }
 
-        return toIntegers(mKeyTranslator);
+        return toIntValues(mKeyTranslator);
+    }
+
+    @Override
+    public <R> ElementSparseIterable<IntSparseObjectJoinEntry<V, R>> leftJoin(
+            final SparseArray<R> other) {
+
+        return new SparseArrayJoinIterable<V, R>(copy(), other, (mArray != null), false, false);
+    }
+
+    @Override
+    public <R> ElementSparseIterable<IntSparseObjectJoinEntry<V, R>> outerJoin(
+            final SparseArray<R> other) {
+
+        return new SparseArrayJoinIterable<V, R>(copy(), other, (mArray != null), false, true);
     }
 
     @Override
     public int positionOfKey(final int key) {
 
+        if (isSeekable()) {
+
+            final SparseArray<V> array = mArray;
+
+            final int index = array.indexOfKey(key);
+
+            if (index < 0) {
+
+                return -1;
+            }
+
+            return isReversed() ? (array.size() - 1 - index) : index;
+        }
+
         int i = 0;
 
         for (final SparseArrayEntry<V> entry : this) {
@@ -460,16 +595,57 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
     @Override
     public SparseArrayIterable<V> replaceValues(final Translator<V, V> translator) {
 
-        final SparseArray<V> array = mArray;
-
         for (final SparseArrayEntry<V> entry : this) {
 
-            array.append(entry.getKey(), translator.translate(entry.getValue()));
+            entry.setValue(translator.translate(entry.getValue()));
         }
 
         return this;
     }
 
+    @Override
+    public SparseArrayIterable<V> snapshot() {
+
+        final SparseArray<V> array = mArray;
+
+        if (array == null) {
+
+            final SparseArray<V> copy = new SparseArray<V>();
+
+            for (final SparseArrayEntry<V> entry : this) {
+
+                copy.append(entry.getKey(), entry.getValue());
+            }
+
+            return new SparseArrayIterableImpl<V>(copy);
+        }
+
+        final int[] positions = filteredPositions();
+
+        final SparseArray<V> copy = new SparseArray<V>(positions.length);
+
+        for (final int position : positions) {
+
+            copy.append(array.keyAt(position), array.valueAt(position));
+        }
+
+        final SparseArrayIterableImpl<V> snapshot = new SparseArrayIterableImpl<V>(copy);
+
+        return isReversed() ? snapshot.reverse() : snapshot;
+    }
+
+    @Override
+    public SparseArray<V> subtract(final SparseArray<V> other) {
+
+        return merge(other, true, false, false);
+    }
+
+    @Override
+    public SparseArray<V> symmetricDifference(final SparseArray<V> other) {
+
+        return merge(other, true, false, true);
+    }
+
     @Override
     public <T> T[] toImmutableArray(final Class<T> type) {
 
@@ -565,6 +741,12 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
         return translate(Translators.intIdentity(), translator);
     }
 
+    @Override
+    public SparseArray<V> union(final SparseArray<V> other) {
+
+        return merge(other, true, true, true);
+    }
+
     @Override
     public ElementSparseIterable<V> values() {
 
@@ -637,6 +819,23 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
         return this;
     }
 
+    @Override
+    public SparseArrayIterable<V> parallelForEach(final Action<SparseArrayEntry<V>> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public SparseArrayIterable<V> parallelForEach(final Action<SparseArrayEntry<V>> action,
+            final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public SparseArrayIterable<V> remove() {
 
@@ -661,6 +860,136 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
         return this;
     }
 
+    private static class Diff<V> implements SparseDiff<SparseArray<V>> {
+
+        private final SparseArray<V> mAdded;
+
+        private final SparseArray<V> mChanged;
+
+        private final SparseArray<V> mRemoved;
+
+        public Diff(final SparseArray<V> added, final SparseArray<V> changed,
+                final SparseArray<V> removed) {
+
+            mAdded = added;
+            mChanged = changed;
+            mRemoved = removed;
+        }
+
+        @Override
+        public SparseArray<V> added() {
+
+            return mAdded;
+        }
+
+        @Override
+        public void applyTo(final SparseArray<V> target) {
+
+            if (isEmpty()) {
+
+                return;
+            }
+
+            final SparseArray<V> added = mAdded;
+            final SparseArray<V> changed = mChanged;
+            final SparseArray<V> removed = mRemoved;
+
+            final int size = target.size();
+            final int addedSize = added.size();
+            final int changedSize = changed.size();
+            final int removedSize = removed.size();
+
+            final SparseArray<V> array = new SparseArray<V>(size + addedSize);
+
+            int addedPosition = 0;
+            int changedPosition = 0;
+            int removedPosition = 0;
+
+            for (int i = 0; i < size; ++i) {
+
+                final int key = target.keyAt(i);
+
+                while ((addedPosition < addedSize) && (added.keyAt(addedPosition) < key)) {
+
+                    array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                    ++addedPosition;
+                }
+
+                if ((addedPosition < addedSize) && (added.keyAt(addedPosition) == key)) {
+
+                    array.append(key, added.valueAt(addedPosition));
+
+                    ++addedPosition;
+
+                    continue;
+                }
+
+                while ((removedPosition < removedSize) && (removed.keyAt(removedPosition) < key)) {
+
+                    ++removedPosition;
+                }
+
+                if ((removedPosition < removedSize) && (removed.keyAt(removedPosition) == key)) {
+
+                    ++removedPosition;
+
+                    continue;
+                }
+
+                while ((changedPosition < changedSize) && (changed.keyAt(changedPosition) < key)) {
+
+                    ++changedPosition;
+                }
+
+                if ((changedPosition < changedSize) && (changed.keyAt(changedPosition) == key)) {
+
+                    array.append(key, changed.valueAt(changedPosition));
+
+                    ++changedPosition;
+
+                } else {
+
+                    array.append(key, target.valueAt(i));
+                }
+            }
+
+            while (addedPosition < addedSize) {
+
+                array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                ++addedPosition;
+            }
+
+            target.clear();
+
+            final int arraySize = array.size();
+
+            for (int i = 0; i < arraySize; ++i) {
+
+                target.append(array.keyAt(i), array.valueAt(i));
+            }
+        }
+
+        @Override
+        public SparseArray<V> changed() {
+
+            return mChanged;
+        }
+
+        @Override
+        public boolean isEmpty() {
+
+            return (mAdded.size() == 0) && (mChanged.size() == 0) && (mRemoved.size() == 0);
+        }
+
+        @Override
+        public SparseArray<V> removed() {
+
+            return mRemoved;
+        }
+    }
+
     private static class TranslatedSparseArrayIterableImpl<T, V>
             extends SparseArrayIterableImpl<T> {
 
@@ -733,6 +1062,24 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
 
             mIterable.clearFilters();
         }
+
+        @Override
+        protected int[] rangeOf(final AdvancedFilter<SparseArrayEntry<T>> filter) {
+
+            return null;
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return null;
+        }
     }
 
     @Override
@@ -752,9 +1099,314 @@ class SparseArrayIterableImpl<V> extends AbstractSparseIterable<SparseArrayEntry
         return new SparseArrayIterator<V>(mArray);
     }
 
+    @Override
+    protected SparseIterator<SparseArrayEntry<V>> createIterator(final boolean isReverse,
+            final int start, final int end) {
+
+        if (isReverse) {
+
+            return new SparseArrayReverseIterator<V>(mArray, start, end);
+        }
+
+        return new SparseArrayIterator<V>(mArray, start, end);
+    }
+
     @Override
     protected SparseIterator<SparseArrayEntry<V>> rawIterator(final boolean isReverse) {
 
         return createIterator(isReverse);
     }
+
+    @Override
+    protected int[] rangeOf(final AdvancedFilter<SparseArrayEntry<V>> filter) {
+
+        if (filter instanceof IntKeyRangeFilter) {
+
+            final IntKeyRangeFilter<?> keyFilter = (IntKeyRangeFilter<?>) filter;
+
+            final SparseArray<V> array = mArray;
+
+            return new int[]{lowerBound(array, keyFilter.getLowKey()),
+                              upperBound(array, keyFilter.getHighKey())};
+        }
+
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @TargetApi(11)
+    protected void removePositions(final int[] positions) {
+
+        final SparseArray<V> array = mArray;
+
+        final int size = array.size();
+
+        final int count = positions.length;
+
+        if (count == size) {
+
+            array.clear();
+
+            return;
+        }
+
+        if (count == 1) {
+
+            final int position = positions[0];
+
+            if (VERSION.SDK_INT >= VERSION_CODES.HONEYCOMB) {
+
+                array.removeAt(position);
+
+            } else {
+
+                array.remove(array.keyAt(position));
+            }
+
+            return;
+        }
+
+        final int length = size - count;
+
+        final int[] keys = new int[length];
+        final Object[] values = new Object[length];
+
+        int index = 0;
+        int removed = 0;
+
+        for (int i = 0; i < size; ++i) {
+
+            if ((removed < count) && (positions[removed] == i)) {
+
+                ++removed;
+
+                continue;
+            }
+
+            keys[index] = array.keyAt(i);
+            values[index] = array.valueAt(i);
+
+            ++index;
+        }
+
+        array.clear();
+
+        for (int i = 0; i < length; ++i) {
+
+            array.append(keys[i], (V) values[i]);
+        }
+    }
+
+    @Override
+    protected int[] splitRange() {
+
+        return new int[]{0, mArray.size()};
+    }
+
+    /**
+     * Merges the elements returned by this iterable with the ones of the specified sparse
+     * collection, into a new one.<br/>
+     * Both sets of keys are walked in ascending order, so that each element is visited only once,
+     * independently of the iteration order.
+     *
+     * @param other   the other sparse collection.
+     * @param isLeft  whether to retain the elements whose key is returned only by this iterable.
+     * @param isBoth  whether to retain the elements whose key is contained in both.
+     * @param isRight whether to retain the elements whose key is contained only in the other
+     *                collection.
+     * @return the new collection instance.
+     */
+    private SparseArray<V> merge(final SparseArray<V> other, final boolean isLeft,
+            final boolean isBoth, final boolean isRight) {
+
+        final SparseIterator<SparseArrayEntry<V>> iterator = sortedIterator();
+
+        final int otherSize = other.size();
+
+        int size = (iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<SparseArrayEntry<V>>) iterator).remaining() : 0;
+
+        if (isRight) {
+
+            size += otherSize;
+        }
+
+        final SparseArray<V> array = new SparseArray<V>(size);
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final SparseArrayEntry<V> entry = iterator.next();
+
+            final int key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                if (isRight) {
+
+                    array.append(other.keyAt(position), other.valueAt(position));
+                }
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                if (isBoth) {
+
+                    array.append(key, entry.getValue());
+                }
+
+                ++position;
+
+            } else if (isLeft) {
+
+                array.append(key, entry.getValue());
+            }
+        }
+
+        if (isRight) {
+
+            while (position < otherSize) {
+
+                array.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * Returns an iterator looping through the elements returned by this iterable in ascending key
+     * order.
+     *
+     * @return the iterator instance.
+     */
+    private SparseIterator<SparseArrayEntry<V>> sortedIterator() {
+
+        if (mArray == null) {
+
+            return new SparseArrayIterator<V>(toSparseArray());
+        }
+
+        if (isReversed()) {
+
+            final SparseArrayIterableImpl<V> iterable = copy();
+
+            iterable.reverse();
+
+            return iterable.iterator();
+        }
+
+        return iterator();
+    }
+
+    /**
+     * Checks if the keys can be directly looked up in the backing sparse collection, that is, they
+     * are not translated and no element is filtered out.
+     *
+     * @return whether the keys can be looked up.
+     */
+    private boolean isSeekable() {
+
+        return (mArray != null) && isUnfiltered();
+    }
+
+    /**
+     * Checks if the specified sorted keys are contained in the passed sparse collection, by
+     * merging them with the collection ones.
+     *
+     * @param array the sparse collection.
+     * @param keys  the sorted keys.
+     * @param isAll whether all the keys must be contained or just any of them.
+     * @return whether the keys are contained.
+     */
+    private static boolean containsKeys(final SparseArray<?> array, final int[] keys,
+            final boolean isAll) {
+
+        final int size = array.size();
+
+        int position = 0;
+
+        for (final int key : keys) {
+
+            while ((position < size) && (array.keyAt(position) < key)) {
+
+                ++position;
+            }
+
+            final boolean isContained = (position < size) && (array.keyAt(position) == key);
+
+            if (isContained != isAll) {
+
+                return isContained;
+            }
+        }
+
+        return isAll;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than or
+     * equal to the passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int lowerBound(final SparseArray<?> array, final int key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) < key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than the
+     * passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int upperBound(final SparseArray<?> array, final int key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) <= key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
 }
\ No newline at end of file
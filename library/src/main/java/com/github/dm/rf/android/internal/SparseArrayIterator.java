@@ -57,6 +57,13 @@ class SparseArrayIterator<V> extends AbstractSparseIterator<SparseArrayEntry<V>>
         mSparseArray = array;
     }
 
+    public SparseArrayIterator(final SparseArray<V> array, final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
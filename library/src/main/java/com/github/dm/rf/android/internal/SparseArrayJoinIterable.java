@@ -0,0 +1,240 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import android.util.SparseArray;
+
+import com.github.dm.rf.android.entry.IntSparseObjectJoinEntry;
+import com.github.dm.rf.android.entry.SparseArrayEntry;
+
+/**
+ * Implementation of an iterable joining {@link SparseArrayEntry} elements with the ones of
+ * another {@link android.util.SparseArray} having the same key.
+ * <p/>
+ * When the joined iterable loops through the keys in order, the other collection is scanned only
+ * once (merge join), otherwise each key is searched by binary search.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <V> the element value type.
+ * @param <R> the other collection value type.
+ */
+class SparseArrayJoinIterable<V, R>
+        extends AbstractJoinIterable<SparseArrayEntry<V>, IntSparseObjectJoinEntry<V, R>> {
+
+    private final boolean mIsSorted;
+
+    private final SparseArray<R> mOther;
+
+    /**
+     * Creates a new join iterable.
+     *
+     * @param iterable the joined iterable.
+     * @param other    the other sparse collection.
+     * @param isSorted whether the joined iterable returns the keys in order.
+     * @param isInner  whether the elements whose key is not contained in the other collection
+     *                 must be skipped.
+     * @param isOuter  whether the elements of the other collection whose key is not returned by
+     *                 the joined iterable must be returned too.
+     */
+    public SparseArrayJoinIterable(final AbstractSparseIterable<SparseArrayEntry<V>> iterable,
+            final SparseArray<R> other, final boolean isSorted, final boolean isInner,
+            final boolean isOuter) {
+
+        super(iterable, isInner, isOuter);
+
+        mOther = other;
+        mIsSorted = isSorted;
+    }
+
+    private SparseArrayJoinIterable(final SparseArrayJoinIterable<V, R> other) {
+
+        super(other);
+
+        mOther = other.mOther;
+        mIsSorted = other.mIsSorted;
+    }
+
+    @Override
+    protected SparseArrayJoinIterable<V, R> copy() {
+
+        return new SparseArrayJoinIterable<V, R>(this);
+    }
+
+    @Override
+    protected SparseIterator<IntSparseObjectJoinEntry<V, R>> joinIterator(
+            final SparseIterator<SparseArrayEntry<V>> iterator, final int offset,
+            final boolean isDescending, final boolean isInner, final boolean isOuter,
+            final boolean isReverse) {
+
+        return new JoinIterator<V, R>(iterator, mOther, offset, mIsSorted, isDescending, isInner,
+                                      isOuter, isReverse);
+    }
+
+    private static class JoinEntry<V, R> implements IntSparseObjectJoinEntry<V, R> {
+
+        private final boolean mHasLeft;
+
+        private final boolean mHasRight;
+
+        private final int mKey;
+
+        private final V mLeftValue;
+
+        private final R mRightValue;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param key        the entry key.
+         * @param hasLeft    whether the entry has a left value.
+         * @param leftValue  the left value.
+         * @param hasRight   whether the entry has a right value.
+         * @param rightValue the right value.
+         */
+        public JoinEntry(final int key, final boolean hasLeft, final V leftValue,
+                final boolean hasRight, final R rightValue) {
+
+            mKey = key;
+            mHasLeft = hasLeft;
+            mLeftValue = leftValue;
+            mHasRight = hasRight;
+            mRightValue = rightValue;
+        }
+
+        @Override
+        public String toString() {
+
+            return mKey + "=[" + mLeftValue + ", " + mRightValue + "]";
+        }
+
+        @Override
+        public int getKey() {
+
+            return mKey;
+        }
+
+        @Override
+        public V getLeftValue() {
+
+            return mLeftValue;
+        }
+
+        @Override
+        public R getRightValue() {
+
+            return mRightValue;
+        }
+
+        @Override
+        public boolean hasLeftValue() {
+
+            return mHasLeft;
+        }
+
+        @Override
+        public boolean hasRightValue() {
+
+            return mHasRight;
+        }
+    }
+
+    private static class JoinIterator<V, R>
+            extends AbstractJoinIterator<SparseArrayEntry<V>, IntSparseObjectJoinEntry<V, R>> {
+
+        private final boolean mIsDescending;
+
+        private final boolean mIsSorted;
+
+        private final SparseArray<R> mOther;
+
+        private int mCursor;
+
+        public JoinIterator(final SparseIterator<SparseArrayEntry<V>> iterator,
+                final SparseArray<R> other, final int offset, final boolean isSorted,
+                final boolean isDescending, final boolean isInner, final boolean isOuter,
+                final boolean isReverse) {
+
+            super(iterator, other.size(), offset, isInner, isOuter, isReverse);
+
+            mOther = other;
+            mIsSorted = isSorted;
+            mIsDescending = isDescending;
+            mCursor = (isDescending) ? other.size() - 1 : 0;
+        }
+
+        @Override
+        protected int find(final SparseArrayEntry<V> element) {
+
+            final SparseArray<R> other = mOther;
+
+            final int key = element.getKey();
+
+            if (!mIsSorted) {
+
+                return other.indexOfKey(key);
+            }
+
+            int cursor = mCursor;
+
+            if (mIsDescending) {
+
+                while ((cursor >= 0) && (other.keyAt(cursor) > key)) {
+
+                    --cursor;
+                }
+
+                mCursor = cursor;
+
+                return ((cursor >= 0) && (other.keyAt(cursor) == key)) ? cursor : -1;
+            }
+
+            final int size = other.size();
+
+            while ((cursor < size) && (other.keyAt(cursor) < key)) {
+
+                ++cursor;
+            }
+
+            mCursor = cursor;
+
+            return ((cursor < size) && (other.keyAt(cursor) == key)) ? cursor : -1;
+        }
+
+        @Override
+        protected IntSparseObjectJoinEntry<V, R> leftEntry(final SparseArrayEntry<V> element,
+                final int position) {
+
+            final boolean hasRight = (position >= 0);
+
+            return new JoinEntry<V, R>(element.getKey(), true, element.getValue(), hasRight,
+                    (hasRight) ? mOther.valueAt(position) : null);
+        }
+
+        @Override
+        protected void resetSearch() {
+
+            mCursor = (mIsDescending) ? mOther.size() - 1 : 0;
+        }
+
+        @Override
+        protected IntSparseObjectJoinEntry<V, R> rightEntry(final int position) {
+
+            final SparseArray<R> other = mOther;
+
+            return new JoinEntry<V, R>(other.keyAt(position), false, null, true,
+                    other.valueAt(position));
+        }
+    }
+}
\ No newline at end of file
@@ -48,6 +48,13 @@ class SparseArrayReverseIterator<V> extends AbstractReverseSparseIterator<Sparse
         mSparseArray = array;
     }
 
+    public SparseArrayReverseIterator(final SparseArray<V> array, final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
@@ -20,7 +20,6 @@ import com.github.dm.rf.android.filter.SparseBooleanArrayFilterBuilder;
 import com.github.dm.rf.android.iterator.SparseBooleanArrayIterable;
 import com.github.dm.rf.android.translator.ToBooleanTranslator;
 import com.github.dm.rf.android.translator.ToIntTranslator;
-import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.translator.Translators;
 
 import java.util.Collection;
@@ -43,9 +42,17 @@ class SparseBooleanArrayFilterBuilderImpl
     @Override
     public SparseBooleanArrayIterable key(final int key) {
 
-        final ToIntTranslator<SparseBooleanArrayEntry> translator = Translators.intKey();
+        final Filter<SparseBooleanArrayEntry> filter =
+                new IntKeyRangeFilter<SparseBooleanArrayEntry>(key, key, null);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public SparseBooleanArrayIterable keyRange(final int lowKey, final int highKey) {
 
-        final Filter<SparseBooleanArrayEntry> filter = Filters.matching(translator, key);
+        final Filter<SparseBooleanArrayEntry> filter =
+                new IntKeyRangeFilter<SparseBooleanArrayEntry>(lowKey, highKey, null);
 
         return super.matching(filter);
     }
@@ -55,7 +62,8 @@ class SparseBooleanArrayFilterBuilderImpl
 
         final ToIntTranslator<SparseBooleanArrayEntry> translator = Translators.intKey();
 
-        final Filter<SparseBooleanArrayEntry> filter = Filters.containedIn(translator, keys);
+        final Filter<SparseBooleanArrayEntry> filter =
+                IntKeyRangeFilter.keys(Filters.containedIn(translator, keys), keys);
 
         return super.matching(filter);
     }
@@ -63,21 +71,13 @@ class SparseBooleanArrayFilterBuilderImpl
     @Override
     public SparseBooleanArrayIterable keys(final Collection<Integer> keys) {
 
-        final Translator<SparseBooleanArrayEntry, ?> translator = Translators.intKeyObject();
-
-        final Filter<SparseBooleanArrayEntry> filter = Filters.containedIn(translator, keys);
-
-        return super.matching(filter);
+        return keys(SortedKeys.fromNonNullIntegers(keys));
     }
 
     @Override
     public SparseBooleanArrayIterable keys(final Iterable<Integer> keys) {
 
-        final Translator<SparseBooleanArrayEntry, ?> translator = Translators.intKeyObject();
-
-        final Filter<SparseBooleanArrayEntry> filter = Filters.containedIn(translator, keys);
-
-        return super.matching(filter);
+        return keys(SortedKeys.fromNonNullIntegers(keys));
     }
 
     @Override
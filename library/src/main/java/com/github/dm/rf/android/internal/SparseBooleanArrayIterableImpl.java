@@ -20,16 +20,20 @@ import android.util.SparseBooleanArray;
 import com.github.dm.rf.android.entry.IntSparseBooleanEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseBooleanEntry;
 import com.github.dm.rf.android.entry.SparseBooleanArrayEntry;
+import com.github.dm.rf.android.filter.AdvancedFilter;
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.SparseBooleanArrayFilterBuilder;
 import com.github.dm.rf.android.iterator.BooleanSparseIterable;
 import com.github.dm.rf.android.iterator.IntSparseIterable;
 import com.github.dm.rf.android.iterator.SparseBooleanArrayIterable;
+import com.github.dm.rf.android.iterator.SparseDiff;
 import com.github.dm.rf.android.translator.BooleanTranslator;
 import com.github.dm.rf.android.translator.FullBooleanTranslator;
 import com.github.dm.rf.android.translator.FullIntTranslator;
 import com.github.dm.rf.android.translator.IntTranslator;
-import com.github.dm.rf.android.translator.Translator;
+import com.github.dm.rf.android.translator.ToBooleanTranslator;
+import com.github.dm.rf.android.translator.ToIntTranslator;
 import com.github.dm.rf.android.translator.Translators;
 
 import java.lang.reflect.Array;
@@ -39,6 +43,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of a {@link SparseBooleanArrayIterable}.
@@ -84,6 +89,11 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
     @Override
     public boolean containsAllKeys(final int... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), true);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -98,6 +108,11 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
     @Override
     public boolean containsAllKeys(final Iterable<Integer> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromIntegers(keys), true);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -140,6 +155,11 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
     @Override
     public boolean containsAnyKey(final int... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), false);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -154,6 +174,11 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
     @Override
     public boolean containsAnyKey(final Iterable<Integer> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromIntegers(keys), false);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -205,6 +230,59 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
         return firstPositionOfValue(value) >= 0;
     }
 
+    @Override
+    public SparseDiff<SparseBooleanArray> diff(final SparseBooleanArray other) {
+
+        final SparseIterator<SparseBooleanArrayEntry> iterator = sortedIterator();
+
+        final SparseBooleanArray added = new SparseBooleanArray();
+        final SparseBooleanArray changed = new SparseBooleanArray();
+        final SparseBooleanArray removed = new SparseBooleanArray();
+
+        final int otherSize = other.size();
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final SparseBooleanArrayEntry entry = iterator.next();
+
+            final int key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                added.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                final boolean value = other.valueAt(position);
+
+                if (entry.getValue() != value) {
+
+                    changed.append(key, value);
+                }
+
+                ++position;
+
+            } else {
+
+                removed.append(key, entry.getValue());
+            }
+        }
+
+        while (position < otherSize) {
+
+            added.append(other.keyAt(position), other.valueAt(position));
+
+            ++position;
+        }
+
+        return new Diff(added, changed, removed);
+    }
+
     @Override
     public SparseBooleanArrayIterable fill(final Map<? super Integer, ? super Boolean> map) {
 
@@ -316,6 +394,11 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
     @Override
     public int indexOfKey(final int key) {
 
+        if (isSeekable()) {
+
+            return Math.max(mArray.indexOfKey(key), -1);
+        }
+
         for (final SparseBooleanArrayEntry entry : this) {
 
             if (entry.getKey() == key) {
@@ -327,6 +410,12 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
         return -1;
     }
 
+    @Override
+    public SparseBooleanArray intersect(final SparseBooleanArray other) {
+
+        return merge(other, false, true, false);
+    }
+
     @Override
     public boolean isEqualTo(final SparseBooleanArray array) {
 
@@ -379,12 +468,26 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
             sKeyTranslator = new KeyTranslator();
         }
 
-        return toIntegers(sKeyTranslator);
+        return toIntValues(sKeyTranslator);
     }
 
     @Override
     public int positionOfKey(final int key) {
 
+        if (isSeekable()) {
+
+            final SparseBooleanArray array = mArray;
+
+            final int index = array.indexOfKey(key);
+
+            if (index < 0) {
+
+                return -1;
+            }
+
+            return isReversed() ? (array.size() - 1 - index) : index;
+        }
+
         int i = 0;
 
         for (final SparseBooleanArrayEntry entry : this) {
@@ -414,16 +517,57 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
     @Override
     public SparseBooleanArrayIterable replaceValues(final BooleanTranslator translator) {
 
-        final SparseBooleanArray array = mArray;
-
         for (final SparseBooleanArrayEntry entry : this) {
 
-            array.append(entry.getKey(), translator.translate(entry.getValue()));
+            entry.setValue(translator.translate(entry.getValue()));
         }
 
         return this;
     }
 
+    @Override
+    public SparseBooleanArrayIterable snapshot() {
+
+        final SparseBooleanArray array = mArray;
+
+        if (array == null) {
+
+            final SparseBooleanArray copy = new SparseBooleanArray();
+
+            for (final SparseBooleanArrayEntry entry : this) {
+
+                copy.append(entry.getKey(), entry.getValue());
+            }
+
+            return new SparseBooleanArrayIterableImpl(copy);
+        }
+
+        final int[] positions = filteredPositions();
+
+        final SparseBooleanArray copy = new SparseBooleanArray(positions.length);
+
+        for (final int position : positions) {
+
+            copy.append(array.keyAt(position), array.valueAt(position));
+        }
+
+        final SparseBooleanArrayIterableImpl snapshot = new SparseBooleanArrayIterableImpl(copy);
+
+        return isReversed() ? snapshot.reverse() : snapshot;
+    }
+
+    @Override
+    public SparseBooleanArray subtract(final SparseBooleanArray other) {
+
+        return merge(other, true, false, false);
+    }
+
+    @Override
+    public SparseBooleanArray symmetricDifference(final SparseBooleanArray other) {
+
+        return merge(other, true, false, true);
+    }
+
     @Override
     public <T> T[] toImmutableArray(final Class<T> type) {
 
@@ -519,6 +663,12 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
         return translate(Translators.intIdentity(), translator);
     }
 
+    @Override
+    public SparseBooleanArray union(final SparseBooleanArray other) {
+
+        return merge(other, true, true, true);
+    }
+
     @Override
     public BooleanSparseIterable values() {
 
@@ -527,7 +677,7 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
             sValueTranslator = new ValueTranslator();
         }
 
-        return toBooleans(sValueTranslator);
+        return toBooleanValues(sValueTranslator);
     }
 
     @Override
@@ -584,6 +734,24 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
         return this;
     }
 
+    @Override
+    public SparseBooleanArrayIterable parallelForEach(
+            final Action<SparseBooleanArrayEntry> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public SparseBooleanArrayIterable parallelForEach(final Action<SparseBooleanArrayEntry> action,
+            final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public SparseBooleanArrayIterable remove() {
 
@@ -608,10 +776,140 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
         return this;
     }
 
-    private static class KeyTranslator implements Translator<SparseBooleanArrayEntry, Integer> {
+    private static class Diff implements SparseDiff<SparseBooleanArray> {
+
+        private final SparseBooleanArray mAdded;
+
+        private final SparseBooleanArray mChanged;
+
+        private final SparseBooleanArray mRemoved;
+
+        public Diff(final SparseBooleanArray added, final SparseBooleanArray changed,
+                final SparseBooleanArray removed) {
+
+            mAdded = added;
+            mChanged = changed;
+            mRemoved = removed;
+        }
+
+        @Override
+        public SparseBooleanArray added() {
+
+            return mAdded;
+        }
+
+        @Override
+        public void applyTo(final SparseBooleanArray target) {
+
+            if (isEmpty()) {
+
+                return;
+            }
+
+            final SparseBooleanArray added = mAdded;
+            final SparseBooleanArray changed = mChanged;
+            final SparseBooleanArray removed = mRemoved;
+
+            final int size = target.size();
+            final int addedSize = added.size();
+            final int changedSize = changed.size();
+            final int removedSize = removed.size();
+
+            final SparseBooleanArray array = new SparseBooleanArray(size + addedSize);
+
+            int addedPosition = 0;
+            int changedPosition = 0;
+            int removedPosition = 0;
+
+            for (int i = 0; i < size; ++i) {
+
+                final int key = target.keyAt(i);
+
+                while ((addedPosition < addedSize) && (added.keyAt(addedPosition) < key)) {
+
+                    array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                    ++addedPosition;
+                }
+
+                if ((addedPosition < addedSize) && (added.keyAt(addedPosition) == key)) {
+
+                    array.append(key, added.valueAt(addedPosition));
+
+                    ++addedPosition;
+
+                    continue;
+                }
+
+                while ((removedPosition < removedSize) && (removed.keyAt(removedPosition) < key)) {
+
+                    ++removedPosition;
+                }
+
+                if ((removedPosition < removedSize) && (removed.keyAt(removedPosition) == key)) {
+
+                    ++removedPosition;
+
+                    continue;
+                }
+
+                while ((changedPosition < changedSize) && (changed.keyAt(changedPosition) < key)) {
+
+                    ++changedPosition;
+                }
+
+                if ((changedPosition < changedSize) && (changed.keyAt(changedPosition) == key)) {
+
+                    array.append(key, changed.valueAt(changedPosition));
+
+                    ++changedPosition;
+
+                } else {
+
+                    array.append(key, target.valueAt(i));
+                }
+            }
+
+            while (addedPosition < addedSize) {
+
+                array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                ++addedPosition;
+            }
+
+            target.clear();
+
+            final int arraySize = array.size();
+
+            for (int i = 0; i < arraySize; ++i) {
+
+                target.append(array.keyAt(i), array.valueAt(i));
+            }
+        }
+
+        @Override
+        public SparseBooleanArray changed() {
+
+            return mChanged;
+        }
+
+        @Override
+        public boolean isEmpty() {
+
+            return (mAdded.size() == 0) && (mChanged.size() == 0) && (mRemoved.size() == 0);
+        }
+
+        @Override
+        public SparseBooleanArray removed() {
+
+            return mRemoved;
+        }
+    }
+
+    private static class KeyTranslator implements ToIntTranslator<SparseBooleanArrayEntry> {
 
         @Override
-        public Integer translate(final SparseBooleanArrayEntry element) {
+        public int translate(final SparseBooleanArrayEntry element) {
 
             return element.getKey();
         }
@@ -692,12 +990,30 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
 
             mIterable.clearFilters();
         }
+
+        @Override
+        protected int[] rangeOf(final AdvancedFilter<SparseBooleanArrayEntry> filter) {
+
+            return null;
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return null;
+        }
     }
 
-    private static class ValueTranslator implements Translator<SparseBooleanArrayEntry, Boolean> {
+    private static class ValueTranslator implements ToBooleanTranslator<SparseBooleanArrayEntry> {
 
         @Override
-        public Boolean translate(final SparseBooleanArrayEntry element) {
+        public boolean translate(final SparseBooleanArrayEntry element) {
 
             return element.getValue();
         }
@@ -720,9 +1036,303 @@ class SparseBooleanArrayIterableImpl extends AbstractSparseIterable<SparseBoolea
         return new SparseBooleanArrayIterator(mArray);
     }
 
+    @Override
+    protected SparseIterator<SparseBooleanArrayEntry> createIterator(final boolean isReverse,
+            final int start, final int end) {
+
+        if (isReverse) {
+
+            return new SparseBooleanArrayReverseIterator(mArray, start, end);
+        }
+
+        return new SparseBooleanArrayIterator(mArray, start, end);
+    }
+
     @Override
     protected SparseIterator<SparseBooleanArrayEntry> rawIterator(final boolean isReverse) {
 
         return createIterator(isReverse);
     }
+
+    @Override
+    protected int[] rangeOf(final AdvancedFilter<SparseBooleanArrayEntry> filter) {
+
+        if (filter instanceof IntKeyRangeFilter) {
+
+            final IntKeyRangeFilter<?> keyFilter = (IntKeyRangeFilter<?>) filter;
+
+            final SparseBooleanArray array = mArray;
+
+            return new int[]{lowerBound(array, keyFilter.getLowKey()),
+                              upperBound(array, keyFilter.getHighKey())};
+        }
+
+        return null;
+    }
+
+    @Override
+    protected void removePositions(final int[] positions) {
+
+        final SparseBooleanArray array = mArray;
+
+        final int size = array.size();
+
+        final int count = positions.length;
+
+        if (count == size) {
+
+            array.clear();
+
+            return;
+        }
+
+        if (count == 1) {
+
+            array.delete(array.keyAt(positions[0]));
+
+            return;
+        }
+
+        final int length = size - count;
+
+        final int[] keys = new int[length];
+        final boolean[] values = new boolean[length];
+
+        int index = 0;
+        int removed = 0;
+
+        for (int i = 0; i < size; ++i) {
+
+            if ((removed < count) && (positions[removed] == i)) {
+
+                ++removed;
+
+                continue;
+            }
+
+            keys[index] = array.keyAt(i);
+            values[index] = array.valueAt(i);
+
+            ++index;
+        }
+
+        array.clear();
+
+        for (int i = 0; i < length; ++i) {
+
+            array.append(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    protected int[] splitRange() {
+
+        return new int[]{0, mArray.size()};
+    }
+
+    /**
+     * Merges the elements returned by this iterable with the ones of the specified sparse
+     * collection, into a new one.<br/>
+     * Both sets of keys are walked in ascending order, so that each element is visited only once,
+     * independently of the iteration order.
+     *
+     * @param other   the other sparse collection.
+     * @param isLeft  whether to retain the elements whose key is returned only by this iterable.
+     * @param isBoth  whether to retain the elements whose key is contained in both.
+     * @param isRight whether to retain the elements whose key is contained only in the other
+     *                collection.
+     * @return the new collection instance.
+     */
+    private SparseBooleanArray merge(final SparseBooleanArray other, final boolean isLeft,
+            final boolean isBoth, final boolean isRight) {
+
+        final SparseIterator<SparseBooleanArrayEntry> iterator = sortedIterator();
+
+        final int otherSize = other.size();
+
+        int size = (iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<SparseBooleanArrayEntry>) iterator).remaining() : 0;
+
+        if (isRight) {
+
+            size += otherSize;
+        }
+
+        final SparseBooleanArray array = new SparseBooleanArray(size);
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final SparseBooleanArrayEntry entry = iterator.next();
+
+            final int key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                if (isRight) {
+
+                    array.append(other.keyAt(position), other.valueAt(position));
+                }
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                if (isBoth) {
+
+                    array.append(key, entry.getValue());
+                }
+
+                ++position;
+
+            } else if (isLeft) {
+
+                array.append(key, entry.getValue());
+            }
+        }
+
+        if (isRight) {
+
+            while (position < otherSize) {
+
+                array.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * Returns an iterator looping through the elements returned by this iterable in ascending key
+     * order.
+     *
+     * @return the iterator instance.
+     */
+    private SparseIterator<SparseBooleanArrayEntry> sortedIterator() {
+
+        if (mArray == null) {
+
+            return new SparseBooleanArrayIterator(toSparseArray());
+        }
+
+        if (isReversed()) {
+
+            final SparseBooleanArrayIterableImpl iterable = copy();
+
+            iterable.reverse();
+
+            return iterable.iterator();
+        }
+
+        return iterator();
+    }
+
+    /**
+     * Checks if the keys can be directly looked up in the backing sparse collection, that is, they
+     * are not translated and no element is filtered out.
+     *
+     * @return whether the keys can be looked up.
+     */
+    private boolean isSeekable() {
+
+        return (mArray != null) && isUnfiltered();
+    }
+
+    /**
+     * Checks if the specified sorted keys are contained in the passed sparse collection, by
+     * merging them with the collection ones.
+     *
+     * @param array the sparse collection.
+     * @param keys  the sorted keys.
+     * @param isAll whether all the keys must be contained or just any of them.
+     * @return whether the keys are contained.
+     */
+    private static boolean containsKeys(final SparseBooleanArray array, final int[] keys,
+            final boolean isAll) {
+
+        final int size = array.size();
+
+        int position = 0;
+
+        for (final int key : keys) {
+
+            while ((position < size) && (array.keyAt(position) < key)) {
+
+                ++position;
+            }
+
+            final boolean isContained = (position < size) && (array.keyAt(position) == key);
+
+            if (isContained != isAll) {
+
+                return isContained;
+            }
+        }
+
+        return isAll;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than or
+     * equal to the passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int lowerBound(final SparseBooleanArray array, final int key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) < key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than the
+     * passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int upperBound(final SparseBooleanArray array, final int key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) <= key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
 }
\ No newline at end of file
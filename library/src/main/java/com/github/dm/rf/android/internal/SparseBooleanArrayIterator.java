@@ -52,6 +52,14 @@ class SparseBooleanArrayIterator extends AbstractSparseIterator<SparseBooleanArr
         mSparseArray = array;
     }
 
+    public SparseBooleanArrayIterator(final SparseBooleanArray array,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
@@ -44,6 +44,14 @@ class SparseBooleanArrayReverseIterator
         mSparseArray = array;
     }
 
+    public SparseBooleanArrayReverseIterator(final SparseBooleanArray array,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
@@ -19,7 +19,6 @@ import com.github.dm.rf.android.filter.Filters;
 import com.github.dm.rf.android.filter.SparseIntArrayFilterBuilder;
 import com.github.dm.rf.android.iterator.SparseIntArrayIterable;
 import com.github.dm.rf.android.translator.ToIntTranslator;
-import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.translator.Translators;
 
 import java.util.Collection;
@@ -42,9 +41,17 @@ class SparseIntArrayFilterBuilderImpl
     @Override
     public SparseIntArrayIterable key(final int key) {
 
-        final ToIntTranslator<SparseIntArrayEntry> translator = Translators.intKey();
+        final Filter<SparseIntArrayEntry> filter =
+                new IntKeyRangeFilter<SparseIntArrayEntry>(key, key, null);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public SparseIntArrayIterable keyRange(final int lowKey, final int highKey) {
 
-        final Filter<SparseIntArrayEntry> filter = Filters.matching(translator, key);
+        final Filter<SparseIntArrayEntry> filter =
+                new IntKeyRangeFilter<SparseIntArrayEntry>(lowKey, highKey, null);
 
         return super.matching(filter);
     }
@@ -54,7 +61,8 @@ class SparseIntArrayFilterBuilderImpl
 
         final ToIntTranslator<SparseIntArrayEntry> translator = Translators.intKey();
 
-        final Filter<SparseIntArrayEntry> filter = Filters.containedIn(translator, keys);
+        final Filter<SparseIntArrayEntry> filter =
+                IntKeyRangeFilter.keys(Filters.containedIn(translator, keys), keys);
 
         return super.matching(filter);
     }
@@ -62,21 +70,13 @@ class SparseIntArrayFilterBuilderImpl
     @Override
     public SparseIntArrayIterable keys(final Collection<Integer> keys) {
 
-        final Translator<SparseIntArrayEntry, ?> translator = Translators.intKeyObject();
-
-        final Filter<SparseIntArrayEntry> filter = Filters.containedIn(translator, keys);
-
-        return super.matching(filter);
+        return keys(SortedKeys.fromNonNullIntegers(keys));
     }
 
     @Override
     public SparseIntArrayIterable keys(final Iterable<Integer> keys) {
 
-        final Translator<SparseIntArrayEntry, ?> translator = Translators.intKeyObject();
-
-        final Filter<SparseIntArrayEntry> filter = Filters.containedIn(translator, keys);
-
-        return super.matching(filter);
+        return keys(SortedKeys.fromNonNullIntegers(keys));
     }
 
     @Override
@@ -102,20 +102,12 @@ class SparseIntArrayFilterBuilderImpl
     @Override
     public SparseIntArrayIterable values(final Collection<Integer> values) {
 
-        final Translator<SparseIntArrayEntry, ?> translator = Translators.intValueObject();
-
-        final Filter<SparseIntArrayEntry> filter = Filters.containedIn(translator, values);
-
-        return super.matching(filter);
+        return values(SortedKeys.fromNonNullIntegers(values));
     }
 
     @Override
     public SparseIntArrayIterable values(final Iterable<Integer> values) {
 
-        final Translator<SparseIntArrayEntry, ?> translator = Translators.intValueObject();
-
-        final Filter<SparseIntArrayEntry> filter = Filters.containedIn(translator, values);
-
-        return super.matching(filter);
+        return values(SortedKeys.fromNonNullIntegers(values));
     }
 }
\ No newline at end of file
@@ -18,15 +18,20 @@ import android.os.Parcelable;
 import android.util.SparseIntArray;
 
 import com.github.dm.rf.android.entry.IntSparseIntEntry;
+import com.github.dm.rf.android.entry.IntSparseIntJoinEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseIntEntry;
 import com.github.dm.rf.android.entry.SparseIntArrayEntry;
+import com.github.dm.rf.android.filter.AdvancedFilter;
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.SparseIntArrayFilterBuilder;
+import com.github.dm.rf.android.iterator.ElementSparseIterable;
 import com.github.dm.rf.android.iterator.IntSparseIterable;
+import com.github.dm.rf.android.iterator.SparseDiff;
 import com.github.dm.rf.android.iterator.SparseIntArrayIterable;
 import com.github.dm.rf.android.translator.FullIntTranslator;
 import com.github.dm.rf.android.translator.IntTranslator;
-import com.github.dm.rf.android.translator.Translator;
+import com.github.dm.rf.android.translator.ToIntTranslator;
 import com.github.dm.rf.android.translator.Translators;
 
 import java.lang.reflect.Array;
@@ -36,6 +41,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of a {@link SparseIntArrayIterable}.
@@ -81,6 +87,11 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
     @Override
     public boolean containsAllKeys(final int... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), true);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -95,6 +106,11 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
     @Override
     public boolean containsAllKeys(final Iterable<Integer> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromIntegers(keys), true);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -137,6 +153,11 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
     @Override
     public boolean containsAnyKey(final int... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), false);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -151,6 +172,11 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
     @Override
     public boolean containsAnyKey(final Iterable<Integer> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromIntegers(keys), false);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -202,6 +228,59 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
         return firstPositionOfValue(value) >= 0;
     }
 
+    @Override
+    public SparseDiff<SparseIntArray> diff(final SparseIntArray other) {
+
+        final SparseIterator<SparseIntArrayEntry> iterator = sortedIterator();
+
+        final SparseIntArray added = new SparseIntArray();
+        final SparseIntArray changed = new SparseIntArray();
+        final SparseIntArray removed = new SparseIntArray();
+
+        final int otherSize = other.size();
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final SparseIntArrayEntry entry = iterator.next();
+
+            final int key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                added.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                final int value = other.valueAt(position);
+
+                if (entry.getValue() != value) {
+
+                    changed.append(key, value);
+                }
+
+                ++position;
+
+            } else {
+
+                removed.append(key, entry.getValue());
+            }
+        }
+
+        while (position < otherSize) {
+
+            added.append(other.keyAt(position), other.valueAt(position));
+
+            ++position;
+        }
+
+        return new Diff(added, changed, removed);
+    }
+
     @Override
     public SparseIntArrayIterable fill(final Map<? super Integer, ? super Integer> map) {
 
@@ -310,9 +389,31 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
         return -1;
     }
 
+    @Override
+    public SparseIntArrayIterable forEachEntry(final EntryAction action) {
+
+        int count = 0;
+
+        final SparseIterator<SparseIntArrayEntry> iterator = iterator();
+
+        while (iterator.hasNext()) {
+
+            final SparseIntArrayEntry entry = iterator.next();
+
+            action.onNext(entry.getKey(), entry.getValue(), count++, iterator.originalIndex());
+        }
+
+        return this;
+    }
+
     @Override
     public int indexOfKey(final int key) {
 
+        if (isSeekable()) {
+
+            return Math.max(mArray.indexOfKey(key), -1);
+        }
+
         for (final SparseIntArrayEntry entry : this) {
 
             if (entry.getKey() == key) {
@@ -324,6 +425,12 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
         return -1;
     }
 
+    @Override
+    public SparseIntArray intersect(final SparseIntArray other) {
+
+        return merge(other, false, true, false);
+    }
+
     @Override
     public boolean isEqualTo(final SparseIntArray array) {
 
@@ -368,6 +475,12 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
         return (count == map.size());
     }
 
+    @Override
+    public ElementSparseIterable<IntSparseIntJoinEntry> join(final SparseIntArray other) {
+
+        return new SparseIntArrayJoinIterable(copy(), other, (mArray != null), true, false);
+    }
+
     @Override
     public IntSparseIterable keys() {
 
@@ -376,12 +489,38 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
             sKeyTranslator = new KeyTranslator();
         }
 
-        return toIntegers(sKeyTranslator);
+        return toIntValues(sKeyTranslator);
+    }
+
+    @Override
+    public ElementSparseIterable<IntSparseIntJoinEntry> leftJoin(final SparseIntArray other) {
+
+        return new SparseIntArrayJoinIterable(copy(), other, (mArray != null), false, false);
+    }
+
+    @Override
+    public ElementSparseIterable<IntSparseIntJoinEntry> outerJoin(final SparseIntArray other) {
+
+        return new SparseIntArrayJoinIterable(copy(), other, (mArray != null), false, true);
     }
 
     @Override
     public int positionOfKey(final int key) {
 
+        if (isSeekable()) {
+
+            final SparseIntArray array = mArray;
+
+            final int index = array.indexOfKey(key);
+
+            if (index < 0) {
+
+                return -1;
+            }
+
+            return isReversed() ? (array.size() - 1 - index) : index;
+        }
+
         int i = 0;
 
         for (final SparseIntArrayEntry entry : this) {
@@ -411,16 +550,57 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
     @Override
     public SparseIntArrayIterable replaceValues(final IntTranslator translator) {
 
-        final SparseIntArray array = mArray;
-
         for (final SparseIntArrayEntry entry : this) {
 
-            array.append(entry.getKey(), translator.translate(entry.getValue()));
+            entry.setValue(translator.translate(entry.getValue()));
         }
 
         return this;
     }
 
+    @Override
+    public SparseIntArrayIterable snapshot() {
+
+        final SparseIntArray array = mArray;
+
+        if (array == null) {
+
+            final SparseIntArray copy = new SparseIntArray();
+
+            for (final SparseIntArrayEntry entry : this) {
+
+                copy.append(entry.getKey(), entry.getValue());
+            }
+
+            return new SparseIntArrayIterableImpl(copy);
+        }
+
+        final int[] positions = filteredPositions();
+
+        final SparseIntArray copy = new SparseIntArray(positions.length);
+
+        for (final int position : positions) {
+
+            copy.append(array.keyAt(position), array.valueAt(position));
+        }
+
+        final SparseIntArrayIterableImpl snapshot = new SparseIntArrayIterableImpl(copy);
+
+        return isReversed() ? snapshot.reverse() : snapshot;
+    }
+
+    @Override
+    public SparseIntArray subtract(final SparseIntArray other) {
+
+        return merge(other, true, false, false);
+    }
+
+    @Override
+    public SparseIntArray symmetricDifference(final SparseIntArray other) {
+
+        return merge(other, true, false, true);
+    }
+
     @Override
     public <T> T[] toImmutableArray(final Class<T> type) {
 
@@ -516,6 +696,12 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
         return translate(Translators.intIdentity(), translator);
     }
 
+    @Override
+    public SparseIntArray union(final SparseIntArray other) {
+
+        return merge(other, true, true, true);
+    }
+
     @Override
     public IntSparseIterable values() {
 
@@ -524,7 +710,7 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
             sValueTranslator = new ValueTranslator();
         }
 
-        return toIntegers(sValueTranslator);
+        return toIntValues(sValueTranslator);
     }
 
     @Override
@@ -581,6 +767,23 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
         return this;
     }
 
+    @Override
+    public SparseIntArrayIterable parallelForEach(final Action<SparseIntArrayEntry> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public SparseIntArrayIterable parallelForEach(final Action<SparseIntArrayEntry> action,
+            final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public SparseIntArrayIterable remove() {
 
@@ -605,10 +808,140 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
         return this;
     }
 
-    private static class KeyTranslator implements Translator<SparseIntArrayEntry, Integer> {
+    private static class Diff implements SparseDiff<SparseIntArray> {
+
+        private final SparseIntArray mAdded;
+
+        private final SparseIntArray mChanged;
+
+        private final SparseIntArray mRemoved;
+
+        public Diff(final SparseIntArray added, final SparseIntArray changed,
+                final SparseIntArray removed) {
+
+            mAdded = added;
+            mChanged = changed;
+            mRemoved = removed;
+        }
+
+        @Override
+        public SparseIntArray added() {
+
+            return mAdded;
+        }
+
+        @Override
+        public void applyTo(final SparseIntArray target) {
+
+            if (isEmpty()) {
+
+                return;
+            }
+
+            final SparseIntArray added = mAdded;
+            final SparseIntArray changed = mChanged;
+            final SparseIntArray removed = mRemoved;
+
+            final int size = target.size();
+            final int addedSize = added.size();
+            final int changedSize = changed.size();
+            final int removedSize = removed.size();
+
+            final SparseIntArray array = new SparseIntArray(size + addedSize);
+
+            int addedPosition = 0;
+            int changedPosition = 0;
+            int removedPosition = 0;
+
+            for (int i = 0; i < size; ++i) {
+
+                final int key = target.keyAt(i);
+
+                while ((addedPosition < addedSize) && (added.keyAt(addedPosition) < key)) {
+
+                    array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                    ++addedPosition;
+                }
+
+                if ((addedPosition < addedSize) && (added.keyAt(addedPosition) == key)) {
+
+                    array.append(key, added.valueAt(addedPosition));
+
+                    ++addedPosition;
+
+                    continue;
+                }
+
+                while ((removedPosition < removedSize) && (removed.keyAt(removedPosition) < key)) {
+
+                    ++removedPosition;
+                }
+
+                if ((removedPosition < removedSize) && (removed.keyAt(removedPosition) == key)) {
+
+                    ++removedPosition;
+
+                    continue;
+                }
+
+                while ((changedPosition < changedSize) && (changed.keyAt(changedPosition) < key)) {
+
+                    ++changedPosition;
+                }
+
+                if ((changedPosition < changedSize) && (changed.keyAt(changedPosition) == key)) {
+
+                    array.append(key, changed.valueAt(changedPosition));
+
+                    ++changedPosition;
+
+                } else {
+
+                    array.append(key, target.valueAt(i));
+                }
+            }
+
+            while (addedPosition < addedSize) {
+
+                array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                ++addedPosition;
+            }
+
+            target.clear();
+
+            final int arraySize = array.size();
+
+            for (int i = 0; i < arraySize; ++i) {
+
+                target.append(array.keyAt(i), array.valueAt(i));
+            }
+        }
+
+        @Override
+        public SparseIntArray changed() {
+
+            return mChanged;
+        }
+
+        @Override
+        public boolean isEmpty() {
+
+            return (mAdded.size() == 0) && (mChanged.size() == 0) && (mRemoved.size() == 0);
+        }
+
+        @Override
+        public SparseIntArray removed() {
+
+            return mRemoved;
+        }
+    }
+
+    private static class KeyTranslator implements ToIntTranslator<SparseIntArrayEntry> {
 
         @Override
-        public Integer translate(final SparseIntArrayEntry element) {
+        public int translate(final SparseIntArrayEntry element) {
 
             return element.getKey();
         }
@@ -683,12 +1016,30 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
 
             mIterable.clearFilters();
         }
+
+        @Override
+        protected int[] rangeOf(final AdvancedFilter<SparseIntArrayEntry> filter) {
+
+            return null;
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return null;
+        }
     }
 
-    private static class ValueTranslator implements Translator<SparseIntArrayEntry, Integer> {
+    private static class ValueTranslator implements ToIntTranslator<SparseIntArrayEntry> {
 
         @Override
-        public Integer translate(final SparseIntArrayEntry element) {
+        public int translate(final SparseIntArrayEntry element) {
 
             return element.getValue();
         }
@@ -712,9 +1063,303 @@ class SparseIntArrayIterableImpl extends AbstractSparseIterable<SparseIntArrayEn
         return new SparseIntArrayIterator(mArray);
     }
 
+    @Override
+    protected SparseIterator<SparseIntArrayEntry> createIterator(final boolean isReverse,
+            final int start, final int end) {
+
+        if (isReverse) {
+
+            return new SparseIntArrayReverseIterator(mArray, start, end);
+        }
+
+        return new SparseIntArrayIterator(mArray, start, end);
+    }
+
     @Override
     protected SparseIterator<SparseIntArrayEntry> rawIterator(final boolean isReverse) {
 
         return createIterator(isReverse);
     }
+
+    @Override
+    protected int[] rangeOf(final AdvancedFilter<SparseIntArrayEntry> filter) {
+
+        if (filter instanceof IntKeyRangeFilter) {
+
+            final IntKeyRangeFilter<?> keyFilter = (IntKeyRangeFilter<?>) filter;
+
+            final SparseIntArray array = mArray;
+
+            return new int[]{lowerBound(array, keyFilter.getLowKey()),
+                              upperBound(array, keyFilter.getHighKey())};
+        }
+
+        return null;
+    }
+
+    @Override
+    protected void removePositions(final int[] positions) {
+
+        final SparseIntArray array = mArray;
+
+        final int size = array.size();
+
+        final int count = positions.length;
+
+        if (count == size) {
+
+            array.clear();
+
+            return;
+        }
+
+        if (count == 1) {
+
+            array.removeAt(positions[0]);
+
+            return;
+        }
+
+        final int length = size - count;
+
+        final int[] keys = new int[length];
+        final int[] values = new int[length];
+
+        int index = 0;
+        int removed = 0;
+
+        for (int i = 0; i < size; ++i) {
+
+            if ((removed < count) && (positions[removed] == i)) {
+
+                ++removed;
+
+                continue;
+            }
+
+            keys[index] = array.keyAt(i);
+            values[index] = array.valueAt(i);
+
+            ++index;
+        }
+
+        array.clear();
+
+        for (int i = 0; i < length; ++i) {
+
+            array.append(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    protected int[] splitRange() {
+
+        return new int[]{0, mArray.size()};
+    }
+
+    /**
+     * Merges the elements returned by this iterable with the ones of the specified sparse
+     * collection, into a new one.<br/>
+     * Both sets of keys are walked in ascending order, so that each element is visited only once,
+     * independently of the iteration order.
+     *
+     * @param other   the other sparse collection.
+     * @param isLeft  whether to retain the elements whose key is returned only by this iterable.
+     * @param isBoth  whether to retain the elements whose key is contained in both.
+     * @param isRight whether to retain the elements whose key is contained only in the other
+     *                collection.
+     * @return the new collection instance.
+     */
+    private SparseIntArray merge(final SparseIntArray other, final boolean isLeft,
+            final boolean isBoth, final boolean isRight) {
+
+        final SparseIterator<SparseIntArrayEntry> iterator = sortedIterator();
+
+        final int otherSize = other.size();
+
+        int size = (iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<SparseIntArrayEntry>) iterator).remaining() : 0;
+
+        if (isRight) {
+
+            size += otherSize;
+        }
+
+        final SparseIntArray array = new SparseIntArray(size);
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final SparseIntArrayEntry entry = iterator.next();
+
+            final int key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                if (isRight) {
+
+                    array.append(other.keyAt(position), other.valueAt(position));
+                }
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                if (isBoth) {
+
+                    array.append(key, entry.getValue());
+                }
+
+                ++position;
+
+            } else if (isLeft) {
+
+                array.append(key, entry.getValue());
+            }
+        }
+
+        if (isRight) {
+
+            while (position < otherSize) {
+
+                array.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * Returns an iterator looping through the elements returned by this iterable in ascending key
+     * order.
+     *
+     * @return the iterator instance.
+     */
+    private SparseIterator<SparseIntArrayEntry> sortedIterator() {
+
+        if (mArray == null) {
+
+            return new SparseIntArrayIterator(toSparseArray());
+        }
+
+        if (isReversed()) {
+
+            final SparseIntArrayIterableImpl iterable = copy();
+
+            iterable.reverse();
+
+            return iterable.iterator();
+        }
+
+        return iterator();
+    }
+
+    /**
+     * Checks if the keys can be directly looked up in the backing sparse collection, that is, they
+     * are not translated and no element is filtered out.
+     *
+     * @return whether the keys can be looked up.
+     */
+    private boolean isSeekable() {
+
+        return (mArray != null) && isUnfiltered();
+    }
+
+    /**
+     * Checks if the specified sorted keys are contained in the passed sparse collection, by
+     * merging them with the collection ones.
+     *
+     * @param array the sparse collection.
+     * @param keys  the sorted keys.
+     * @param isAll whether all the keys must be contained or just any of them.
+     * @return whether the keys are contained.
+     */
+    private static boolean containsKeys(final SparseIntArray array, final int[] keys,
+            final boolean isAll) {
+
+        final int size = array.size();
+
+        int position = 0;
+
+        for (final int key : keys) {
+
+            while ((position < size) && (array.keyAt(position) < key)) {
+
+                ++position;
+            }
+
+            final boolean isContained = (position < size) && (array.keyAt(position) == key);
+
+            if (isContained != isAll) {
+
+                return isContained;
+            }
+        }
+
+        return isAll;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than or
+     * equal to the passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int lowerBound(final SparseIntArray array, final int key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) < key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than the
+     * passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int upperBound(final SparseIntArray array, final int key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) <= key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
 }
\ No newline at end of file
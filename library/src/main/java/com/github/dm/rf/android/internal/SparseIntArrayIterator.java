@@ -52,6 +52,13 @@ class SparseIntArrayIterator extends AbstractSparseIterator<SparseIntArrayEntry>
         mSparseArray = array;
     }
 
+    public SparseIntArrayIterator(final SparseIntArray array, final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
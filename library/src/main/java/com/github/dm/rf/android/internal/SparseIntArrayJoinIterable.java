@@ -0,0 +1,237 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import android.util.SparseIntArray;
+
+import com.github.dm.rf.android.entry.IntSparseIntJoinEntry;
+import com.github.dm.rf.android.entry.SparseIntArrayEntry;
+
+/**
+ * Implementation of an iterable joining {@link SparseIntArrayEntry} elements with the ones of
+ * another {@link android.util.SparseIntArray} having the same key.
+ * <p/>
+ * When the joined iterable loops through the keys in order, the other collection is scanned only
+ * once (merge join), otherwise each key is searched by binary search.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+class SparseIntArrayJoinIterable
+        extends AbstractJoinIterable<SparseIntArrayEntry, IntSparseIntJoinEntry> {
+
+    private final boolean mIsSorted;
+
+    private final SparseIntArray mOther;
+
+    /**
+     * Creates a new join iterable.
+     *
+     * @param iterable the joined iterable.
+     * @param other    the other sparse collection.
+     * @param isSorted whether the joined iterable returns the keys in order.
+     * @param isInner  whether the elements whose key is not contained in the other collection
+     *                 must be skipped.
+     * @param isOuter  whether the elements of the other collection whose key is not returned by
+     *                 the joined iterable must be returned too.
+     */
+    public SparseIntArrayJoinIterable(final AbstractSparseIterable<SparseIntArrayEntry> iterable,
+            final SparseIntArray other, final boolean isSorted, final boolean isInner,
+            final boolean isOuter) {
+
+        super(iterable, isInner, isOuter);
+
+        mOther = other;
+        mIsSorted = isSorted;
+    }
+
+    private SparseIntArrayJoinIterable(final SparseIntArrayJoinIterable other) {
+
+        super(other);
+
+        mOther = other.mOther;
+        mIsSorted = other.mIsSorted;
+    }
+
+    @Override
+    protected SparseIntArrayJoinIterable copy() {
+
+        return new SparseIntArrayJoinIterable(this);
+    }
+
+    @Override
+    protected SparseIterator<IntSparseIntJoinEntry> joinIterator(
+            final SparseIterator<SparseIntArrayEntry> iterator, final int offset,
+            final boolean isDescending, final boolean isInner, final boolean isOuter,
+            final boolean isReverse) {
+
+        return new JoinIterator(iterator, mOther, offset, mIsSorted, isDescending, isInner, isOuter,
+                                 isReverse);
+    }
+
+    private static class JoinEntry implements IntSparseIntJoinEntry {
+
+        private final boolean mHasLeft;
+
+        private final boolean mHasRight;
+
+        private final int mKey;
+
+        private final int mLeftValue;
+
+        private final int mRightValue;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param key        the entry key.
+         * @param hasLeft    whether the entry has a left value.
+         * @param leftValue  the left value.
+         * @param hasRight   whether the entry has a right value.
+         * @param rightValue the right value.
+         */
+        public JoinEntry(final int key, final boolean hasLeft, final int leftValue,
+                final boolean hasRight, final int rightValue) {
+
+            mKey = key;
+            mHasLeft = hasLeft;
+            mLeftValue = leftValue;
+            mHasRight = hasRight;
+            mRightValue = rightValue;
+        }
+
+        @Override
+        public String toString() {
+
+            return mKey + "=[" + mLeftValue + ", " + mRightValue + "]";
+        }
+
+        @Override
+        public int getKey() {
+
+            return mKey;
+        }
+
+        @Override
+        public int getLeftValue() {
+
+            return mLeftValue;
+        }
+
+        @Override
+        public int getRightValue() {
+
+            return mRightValue;
+        }
+
+        @Override
+        public boolean hasLeftValue() {
+
+            return mHasLeft;
+        }
+
+        @Override
+        public boolean hasRightValue() {
+
+            return mHasRight;
+        }
+    }
+
+    private static class JoinIterator
+            extends AbstractJoinIterator<SparseIntArrayEntry, IntSparseIntJoinEntry> {
+
+        private final boolean mIsDescending;
+
+        private final boolean mIsSorted;
+
+        private final SparseIntArray mOther;
+
+        private int mCursor;
+
+        public JoinIterator(final SparseIterator<SparseIntArrayEntry> iterator,
+                final SparseIntArray other, final int offset, final boolean isSorted,
+                final boolean isDescending, final boolean isInner, final boolean isOuter,
+                final boolean isReverse) {
+
+            super(iterator, other.size(), offset, isInner, isOuter, isReverse);
+
+            mOther = other;
+            mIsSorted = isSorted;
+            mIsDescending = isDescending;
+            mCursor = (isDescending) ? other.size() - 1 : 0;
+        }
+
+        @Override
+        protected int find(final SparseIntArrayEntry element) {
+
+            final SparseIntArray other = mOther;
+
+            final int key = element.getKey();
+
+            if (!mIsSorted) {
+
+                return other.indexOfKey(key);
+            }
+
+            int cursor = mCursor;
+
+            if (mIsDescending) {
+
+                while ((cursor >= 0) && (other.keyAt(cursor) > key)) {
+
+                    --cursor;
+                }
+
+                mCursor = cursor;
+
+                return ((cursor >= 0) && (other.keyAt(cursor) == key)) ? cursor : -1;
+            }
+
+            final int size = other.size();
+
+            while ((cursor < size) && (other.keyAt(cursor) < key)) {
+
+                ++cursor;
+            }
+
+            mCursor = cursor;
+
+            return ((cursor < size) && (other.keyAt(cursor) == key)) ? cursor : -1;
+        }
+
+        @Override
+        protected IntSparseIntJoinEntry leftEntry(final SparseIntArrayEntry element,
+                final int position) {
+
+            final boolean hasRight = (position >= 0);
+
+            return new JoinEntry(element.getKey(), true, element.getValue(), hasRight,
+                    (hasRight) ? mOther.valueAt(position) : 0);
+        }
+
+        @Override
+        protected void resetSearch() {
+
+            mCursor = (mIsDescending) ? mOther.size() - 1 : 0;
+        }
+
+        @Override
+        protected IntSparseIntJoinEntry rightEntry(final int position) {
+
+            final SparseIntArray other = mOther;
+
+            return new JoinEntry(other.keyAt(position), false, 0, true,
+                    other.valueAt(position));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.internal;
+
+import android.util.SparseIntArray;
+
+import com.github.dm.rf.android.entry.IntSparseIntEntry;
+import com.github.dm.rf.android.entry.SparseEntries;
+import com.github.dm.rf.android.translator.IntConflictResolver;
+
+/**
+ * Implementation of an iterable looping through the union of several
+ * {@link android.util.SparseIntArray} collections in key order.
+ * <p/>
+ * The returned entries are immutable copies, and the removal of elements is not supported.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+class SparseIntArrayMergeIterable extends ElementSparseIterableImpl<IntSparseIntEntry> {
+
+    private final SparseIntArray[] mArrays;
+
+    private final IntConflictResolver mResolver;
+
+    /**
+     * Creates a new merge iterable.
+     *
+     * @param arrays   the sparse collections to merge.
+     * @param resolver the resolver of the values associated with the same key, or null to keep
+     *                 the value of the first collection.
+     */
+    public SparseIntArrayMergeIterable(final SparseIntArray[] arrays,
+            final IntConflictResolver resolver) {
+
+        mArrays = arrays;
+        mResolver = resolver;
+    }
+
+    private SparseIntArrayMergeIterable(final SparseIntArrayMergeIterable other) {
+
+        super(other);
+
+        mArrays = other.mArrays;
+        mResolver = other.mResolver;
+    }
+
+    @Override
+    protected SparseIntArrayMergeIterable copy() {
+
+        return new SparseIntArrayMergeIterable(this);
+    }
+
+    @Override
+    protected SparseIterator<IntSparseIntEntry> createIterator(final boolean isReverse) {
+
+        return new MergeIterator(mArrays, mResolver, isReverse);
+    }
+
+    @Override
+    protected SparseIterator<IntSparseIntEntry> rawIterator(final boolean isReverse) {
+
+        return createIterator(isReverse);
+    }
+
+    @Override
+    protected void removePositions(final int[] positions) {
+
+        throw new UnsupportedOperationException();
+    }
+
+    private static class MergeIterator extends AbstractMergeIterator<IntSparseIntEntry> {
+
+        private final SparseIntArray[] mArrays;
+
+        private final IntConflictResolver mResolver;
+
+        private int mKey;
+
+        private int mValue;
+
+        public MergeIterator(final SparseIntArray[] arrays, final IntConflictResolver resolver,
+                final boolean isReverse) {
+
+            super(sizesOf(arrays), isReverse);
+
+            mArrays = arrays;
+            mResolver = resolver;
+        }
+
+        @Override
+        protected int compareKeys(final int array, final int position, final int other,
+                final int otherPosition) {
+
+            final SparseIntArray[] arrays = mArrays;
+
+            final int key = arrays[array].keyAt(position);
+            final int otherKey = arrays[other].keyAt(otherPosition);
+
+            return (key < otherKey) ? -1 : ((key == otherKey) ? 0 : 1);
+        }
+
+        @Override
+        protected IntSparseIntEntry getElement() {
+
+            return SparseEntries.entry(mKey, mValue);
+        }
+
+        @Override
+        protected void mergeElement(final int array, final int position) {
+
+            final IntConflictResolver resolver = mResolver;
+
+            if (resolver != null) {
+
+                mValue = resolver.resolve(mValue, mArrays[array].valueAt(position));
+            }
+        }
+
+        @Override
+        protected void setElement(final int array, final int position) {
+
+            final SparseIntArray sparseArray = mArrays[array];
+
+            mKey = sparseArray.keyAt(position);
+            mValue = sparseArray.valueAt(position);
+        }
+
+        private static int[] sizesOf(final SparseIntArray[] arrays) {
+
+            final int length = arrays.length;
+
+            final int[] sizes = new int[length];
+
+            for (int i = 0; i < length; ++i) {
+
+                sizes[i] = arrays[i].size();
+            }
+
+            return sizes;
+        }
+    }
+}
\ No newline at end of file
@@ -43,6 +43,14 @@ class SparseIntArrayReverseIterator extends AbstractReverseSparseIterator<Sparse
         mSparseArray = array;
     }
 
+    public SparseIntArrayReverseIterator(final SparseIntArray array,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
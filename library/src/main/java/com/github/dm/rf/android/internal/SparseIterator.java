@@ -28,4 +28,13 @@ interface SparseIterator<E> extends FilterIterator<E> {
      * Resets this iterator so that it goes back to the first element.
      */
     void reset();
+
+    /**
+     * Skips the specified number of elements, so that the next call to {@link #next()} will return
+     * the element following them.
+     *
+     * @param count the number of elements to skip.
+     * @return the number of elements actually skipped.
+     */
+    int skip(int count);
 }
\ No newline at end of file
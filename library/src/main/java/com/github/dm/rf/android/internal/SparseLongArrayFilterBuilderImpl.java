@@ -20,7 +20,6 @@ import com.github.dm.rf.android.filter.SparseLongArrayFilterBuilder;
 import com.github.dm.rf.android.iterator.SparseLongArrayIterable;
 import com.github.dm.rf.android.translator.ToIntTranslator;
 import com.github.dm.rf.android.translator.ToLongTranslator;
-import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.translator.Translators;
 
 import java.util.Collection;
@@ -43,9 +42,17 @@ class SparseLongArrayFilterBuilderImpl
     @Override
     public SparseLongArrayIterable key(final int key) {
 
-        final ToIntTranslator<SparseLongArrayEntry> translator = Translators.intKey();
+        final Filter<SparseLongArrayEntry> filter =
+                new IntKeyRangeFilter<SparseLongArrayEntry>(key, key, null);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public SparseLongArrayIterable keyRange(final int lowKey, final int highKey) {
 
-        final Filter<SparseLongArrayEntry> filter = Filters.matching(translator, key);
+        final Filter<SparseLongArrayEntry> filter =
+                new IntKeyRangeFilter<SparseLongArrayEntry>(lowKey, highKey, null);
 
         return super.matching(filter);
     }
@@ -55,7 +62,8 @@ class SparseLongArrayFilterBuilderImpl
 
         final ToIntTranslator<SparseLongArrayEntry> translator = Translators.intKey();
 
-        final Filter<SparseLongArrayEntry> filter = Filters.containedIn(translator, keys);
+        final Filter<SparseLongArrayEntry> filter =
+                IntKeyRangeFilter.keys(Filters.containedIn(translator, keys), keys);
 
         return super.matching(filter);
     }
@@ -63,21 +71,13 @@ class SparseLongArrayFilterBuilderImpl
     @Override
     public SparseLongArrayIterable keys(final Collection<Integer> keys) {
 
-        final Translator<SparseLongArrayEntry, ?> translator = Translators.intKeyObject();
-
-        final Filter<SparseLongArrayEntry> filter = Filters.containedIn(translator, keys);
-
-        return super.matching(filter);
+        return keys(SortedKeys.fromNonNullIntegers(keys));
     }
 
     @Override
     public SparseLongArrayIterable keys(final Iterable<Integer> keys) {
 
-        final Translator<SparseLongArrayEntry, ?> translator = Translators.intKeyObject();
-
-        final Filter<SparseLongArrayEntry> filter = Filters.containedIn(translator, keys);
-
-        return super.matching(filter);
+        return keys(SortedKeys.fromNonNullIntegers(keys));
     }
 
     @Override
@@ -103,20 +103,12 @@ class SparseLongArrayFilterBuilderImpl
     @Override
     public SparseLongArrayIterable values(final Collection<Long> values) {
 
-        final Translator<SparseLongArrayEntry, ?> translator = Translators.longValueObject();
-
-        final Filter<SparseLongArrayEntry> filter = Filters.containedIn(translator, values);
-
-        return super.matching(filter);
+        return values(SortedKeys.fromNonNullLongs(values));
     }
 
     @Override
     public SparseLongArrayIterable values(final Iterable<Long> values) {
 
-        final Translator<SparseLongArrayEntry, ?> translator = Translators.longValueObject();
-
-        final Filter<SparseLongArrayEntry> filter = Filters.containedIn(translator, values);
-
-        return super.matching(filter);
+        return values(SortedKeys.fromNonNullLongs(values));
     }
 }
\ No newline at end of file
@@ -21,16 +21,20 @@ import android.util.SparseLongArray;
 import com.github.dm.rf.android.entry.IntSparseLongEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseLongEntry;
 import com.github.dm.rf.android.entry.SparseLongArrayEntry;
+import com.github.dm.rf.android.filter.AdvancedFilter;
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.SparseLongArrayFilterBuilder;
 import com.github.dm.rf.android.iterator.IntSparseIterable;
 import com.github.dm.rf.android.iterator.LongSparseIterable;
+import com.github.dm.rf.android.iterator.SparseDiff;
 import com.github.dm.rf.android.iterator.SparseLongArrayIterable;
 import com.github.dm.rf.android.translator.FullIntTranslator;
 import com.github.dm.rf.android.translator.FullLongTranslator;
 import com.github.dm.rf.android.translator.IntTranslator;
 import com.github.dm.rf.android.translator.LongTranslator;
-import com.github.dm.rf.android.translator.Translator;
+import com.github.dm.rf.android.translator.ToIntTranslator;
+import com.github.dm.rf.android.translator.ToLongTranslator;
 import com.github.dm.rf.android.translator.Translators;
 
 import java.lang.reflect.Array;
@@ -40,6 +44,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of a {@link SparseLongArrayIterable}.
@@ -86,6 +91,11 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
     @Override
     public boolean containsAllKeys(final int... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), true);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -100,6 +110,11 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
     @Override
     public boolean containsAllKeys(final Iterable<Integer> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromIntegers(keys), true);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -142,6 +157,11 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
     @Override
     public boolean containsAnyKey(final int... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), false);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -156,6 +176,11 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
     @Override
     public boolean containsAnyKey(final Iterable<Integer> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromIntegers(keys), false);
+        }
+
         for (final int key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -207,6 +232,59 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
         return firstPositionOfValue(value) >= 0;
     }
 
+    @Override
+    public SparseDiff<SparseLongArray> diff(final SparseLongArray other) {
+
+        final SparseIterator<SparseLongArrayEntry> iterator = sortedIterator();
+
+        final SparseLongArray added = new SparseLongArray();
+        final SparseLongArray changed = new SparseLongArray();
+        final SparseLongArray removed = new SparseLongArray();
+
+        final int otherSize = other.size();
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final SparseLongArrayEntry entry = iterator.next();
+
+            final int key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                added.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                final long value = other.valueAt(position);
+
+                if (entry.getValue() != value) {
+
+                    changed.append(key, value);
+                }
+
+                ++position;
+
+            } else {
+
+                removed.append(key, entry.getValue());
+            }
+        }
+
+        while (position < otherSize) {
+
+            added.append(other.keyAt(position), other.valueAt(position));
+
+            ++position;
+        }
+
+        return new Diff(added, changed, removed);
+    }
+
     @Override
     public SparseLongArrayIterable fill(final Map<? super Integer, ? super Long> map) {
 
@@ -318,6 +396,11 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
     @Override
     public int indexOfKey(final int key) {
 
+        if (isSeekable()) {
+
+            return Math.max(mArray.indexOfKey(key), -1);
+        }
+
         for (final SparseLongArrayEntry entry : this) {
 
             if (entry.getKey() == key) {
@@ -329,6 +412,12 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
         return -1;
     }
 
+    @Override
+    public SparseLongArray intersect(final SparseLongArray other) {
+
+        return merge(other, false, true, false);
+    }
+
     @Override
     public boolean isEqualTo(final SparseLongArray array) {
 
@@ -381,12 +470,26 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
             sKeyTranslator = new KeyTranslator();
         }
 
-        return toIntegers(sKeyTranslator);
+        return toIntValues(sKeyTranslator);
     }
 
     @Override
     public int positionOfKey(final int key) {
 
+        if (isSeekable()) {
+
+            final SparseLongArray array = mArray;
+
+            final int index = array.indexOfKey(key);
+
+            if (index < 0) {
+
+                return -1;
+            }
+
+            return isReversed() ? (array.size() - 1 - index) : index;
+        }
+
         int i = 0;
 
         for (final SparseLongArrayEntry entry : this) {
@@ -416,16 +519,57 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
     @Override
     public SparseLongArrayIterable replaceValues(final LongTranslator translator) {
 
-        final SparseLongArray array = mArray;
-
         for (final SparseLongArrayEntry entry : this) {
 
-            array.append(entry.getKey(), translator.translate(entry.getValue()));
+            entry.setValue(translator.translate(entry.getValue()));
         }
 
         return this;
     }
 
+    @Override
+    public SparseLongArrayIterable snapshot() {
+
+        final SparseLongArray array = mArray;
+
+        if (array == null) {
+
+            final SparseLongArray copy = new SparseLongArray();
+
+            for (final SparseLongArrayEntry entry : this) {
+
+                copy.append(entry.getKey(), entry.getValue());
+            }
+
+            return new SparseLongArrayIterableImpl(copy);
+        }
+
+        final int[] positions = filteredPositions();
+
+        final SparseLongArray copy = new SparseLongArray(positions.length);
+
+        for (final int position : positions) {
+
+            copy.append(array.keyAt(position), array.valueAt(position));
+        }
+
+        final SparseLongArrayIterableImpl snapshot = new SparseLongArrayIterableImpl(copy);
+
+        return isReversed() ? snapshot.reverse() : snapshot;
+    }
+
+    @Override
+    public SparseLongArray subtract(final SparseLongArray other) {
+
+        return merge(other, true, false, false);
+    }
+
+    @Override
+    public SparseLongArray symmetricDifference(final SparseLongArray other) {
+
+        return merge(other, true, false, true);
+    }
+
     @Override
     public <T> T[] toImmutableArray(final Class<T> type) {
 
@@ -521,6 +665,12 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
         return translate(Translators.intIdentity(), translator);
     }
 
+    @Override
+    public SparseLongArray union(final SparseLongArray other) {
+
+        return merge(other, true, true, true);
+    }
+
     @Override
     public LongSparseIterable values() {
 
@@ -529,7 +679,7 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
             sValueTranslator = new ValueTranslator();
         }
 
-        return toLongs(sValueTranslator);
+        return toLongValues(sValueTranslator);
     }
 
     @Override
@@ -586,6 +736,23 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
         return this;
     }
 
+    @Override
+    public SparseLongArrayIterable parallelForEach(final Action<SparseLongArrayEntry> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public SparseLongArrayIterable parallelForEach(final Action<SparseLongArrayEntry> action,
+            final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public SparseLongArrayIterable remove() {
 
@@ -610,10 +777,140 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
         return this;
     }
 
-    private static class KeyTranslator implements Translator<SparseLongArrayEntry, Integer> {
+    private static class Diff implements SparseDiff<SparseLongArray> {
+
+        private final SparseLongArray mAdded;
+
+        private final SparseLongArray mChanged;
+
+        private final SparseLongArray mRemoved;
+
+        public Diff(final SparseLongArray added, final SparseLongArray changed,
+                final SparseLongArray removed) {
+
+            mAdded = added;
+            mChanged = changed;
+            mRemoved = removed;
+        }
+
+        @Override
+        public SparseLongArray added() {
+
+            return mAdded;
+        }
+
+        @Override
+        public void applyTo(final SparseLongArray target) {
+
+            if (isEmpty()) {
+
+                return;
+            }
+
+            final SparseLongArray added = mAdded;
+            final SparseLongArray changed = mChanged;
+            final SparseLongArray removed = mRemoved;
+
+            final int size = target.size();
+            final int addedSize = added.size();
+            final int changedSize = changed.size();
+            final int removedSize = removed.size();
+
+            final SparseLongArray array = new SparseLongArray(size + addedSize);
+
+            int addedPosition = 0;
+            int changedPosition = 0;
+            int removedPosition = 0;
+
+            for (int i = 0; i < size; ++i) {
+
+                final int key = target.keyAt(i);
+
+                while ((addedPosition < addedSize) && (added.keyAt(addedPosition) < key)) {
+
+                    array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                    ++addedPosition;
+                }
+
+                if ((addedPosition < addedSize) && (added.keyAt(addedPosition) == key)) {
+
+                    array.append(key, added.valueAt(addedPosition));
+
+                    ++addedPosition;
+
+                    continue;
+                }
+
+                while ((removedPosition < removedSize) && (removed.keyAt(removedPosition) < key)) {
+
+                    ++removedPosition;
+                }
+
+                if ((removedPosition < removedSize) && (removed.keyAt(removedPosition) == key)) {
+
+                    ++removedPosition;
+
+                    continue;
+                }
+
+                while ((changedPosition < changedSize) && (changed.keyAt(changedPosition) < key)) {
+
+                    ++changedPosition;
+                }
+
+                if ((changedPosition < changedSize) && (changed.keyAt(changedPosition) == key)) {
+
+                    array.append(key, changed.valueAt(changedPosition));
+
+                    ++changedPosition;
+
+                } else {
+
+                    array.append(key, target.valueAt(i));
+                }
+            }
+
+            while (addedPosition < addedSize) {
+
+                array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                ++addedPosition;
+            }
+
+            target.clear();
+
+            final int arraySize = array.size();
+
+            for (int i = 0; i < arraySize; ++i) {
+
+                target.append(array.keyAt(i), array.valueAt(i));
+            }
+        }
+
+        @Override
+        public SparseLongArray changed() {
+
+            return mChanged;
+        }
+
+        @Override
+        public boolean isEmpty() {
+
+            return (mAdded.size() == 0) && (mChanged.size() == 0) && (mRemoved.size() == 0);
+        }
+
+        @Override
+        public SparseLongArray removed() {
+
+            return mRemoved;
+        }
+    }
+
+    private static class KeyTranslator implements ToIntTranslator<SparseLongArrayEntry> {
 
         @Override
-        public Integer translate(final SparseLongArrayEntry element) {
+        public int translate(final SparseLongArrayEntry element) {
 
             return element.getKey();
         }
@@ -690,12 +987,30 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
 
             mIterable.clearFilters();
         }
+
+        @Override
+        protected int[] rangeOf(final AdvancedFilter<SparseLongArrayEntry> filter) {
+
+            return null;
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return null;
+        }
     }
 
-    private static class ValueTranslator implements Translator<SparseLongArrayEntry, Long> {
+    private static class ValueTranslator implements ToLongTranslator<SparseLongArrayEntry> {
 
         @Override
-        public Long translate(final SparseLongArrayEntry element) {
+        public long translate(final SparseLongArrayEntry element) {
 
             return element.getValue();
         }
@@ -718,9 +1033,303 @@ class SparseLongArrayIterableImpl extends AbstractSparseIterable<SparseLongArray
         return new SparseLongArrayIterator(mArray);
     }
 
+    @Override
+    protected SparseIterator<SparseLongArrayEntry> createIterator(final boolean isReverse,
+            final int start, final int end) {
+
+        if (isReverse) {
+
+            return new SparseLongArrayReverseIterator(mArray, start, end);
+        }
+
+        return new SparseLongArrayIterator(mArray, start, end);
+    }
+
     @Override
     protected SparseIterator<SparseLongArrayEntry> rawIterator(final boolean isReverse) {
 
         return createIterator(isReverse);
     }
+
+    @Override
+    protected int[] rangeOf(final AdvancedFilter<SparseLongArrayEntry> filter) {
+
+        if (filter instanceof IntKeyRangeFilter) {
+
+            final IntKeyRangeFilter<?> keyFilter = (IntKeyRangeFilter<?>) filter;
+
+            final SparseLongArray array = mArray;
+
+            return new int[]{lowerBound(array, keyFilter.getLowKey()),
+                              upperBound(array, keyFilter.getHighKey())};
+        }
+
+        return null;
+    }
+
+    @Override
+    protected void removePositions(final int[] positions) {
+
+        final SparseLongArray array = mArray;
+
+        final int size = array.size();
+
+        final int count = positions.length;
+
+        if (count == size) {
+
+            array.clear();
+
+            return;
+        }
+
+        if (count == 1) {
+
+            array.removeAt(positions[0]);
+
+            return;
+        }
+
+        final int length = size - count;
+
+        final int[] keys = new int[length];
+        final long[] values = new long[length];
+
+        int index = 0;
+        int removed = 0;
+
+        for (int i = 0; i < size; ++i) {
+
+            if ((removed < count) && (positions[removed] == i)) {
+
+                ++removed;
+
+                continue;
+            }
+
+            keys[index] = array.keyAt(i);
+            values[index] = array.valueAt(i);
+
+            ++index;
+        }
+
+        array.clear();
+
+        for (int i = 0; i < length; ++i) {
+
+            array.append(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    protected int[] splitRange() {
+
+        return new int[]{0, mArray.size()};
+    }
+
+    /**
+     * Merges the elements returned by this iterable with the ones of the specified sparse
+     * collection, into a new one.<br/>
+     * Both sets of keys are walked in ascending order, so that each element is visited only once,
+     * independently of the iteration order.
+     *
+     * @param other   the other sparse collection.
+     * @param isLeft  whether to retain the elements whose key is returned only by this iterable.
+     * @param isBoth  whether to retain the elements whose key is contained in both.
+     * @param isRight whether to retain the elements whose key is contained only in the other
+     *                collection.
+     * @return the new collection instance.
+     */
+    private SparseLongArray merge(final SparseLongArray other, final boolean isLeft,
+            final boolean isBoth, final boolean isRight) {
+
+        final SparseIterator<SparseLongArrayEntry> iterator = sortedIterator();
+
+        final int otherSize = other.size();
+
+        int size = (iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<SparseLongArrayEntry>) iterator).remaining() : 0;
+
+        if (isRight) {
+
+            size += otherSize;
+        }
+
+        final SparseLongArray array = new SparseLongArray(size);
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final SparseLongArrayEntry entry = iterator.next();
+
+            final int key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                if (isRight) {
+
+                    array.append(other.keyAt(position), other.valueAt(position));
+                }
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                if (isBoth) {
+
+                    array.append(key, entry.getValue());
+                }
+
+                ++position;
+
+            } else if (isLeft) {
+
+                array.append(key, entry.getValue());
+            }
+        }
+
+        if (isRight) {
+
+            while (position < otherSize) {
+
+                array.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * Returns an iterator looping through the elements returned by this iterable in ascending key
+     * order.
+     *
+     * @return the iterator instance.
+     */
+    private SparseIterator<SparseLongArrayEntry> sortedIterator() {
+
+        if (mArray == null) {
+
+            return new SparseLongArrayIterator(toSparseArray());
+        }
+
+        if (isReversed()) {
+
+            final SparseLongArrayIterableImpl iterable = copy();
+
+            iterable.reverse();
+
+            return iterable.iterator();
+        }
+
+        return iterator();
+    }
+
+    /**
+     * Checks if the keys can be directly looked up in the backing sparse collection, that is, they
+     * are not translated and no element is filtered out.
+     *
+     * @return whether the keys can be looked up.
+     */
+    private boolean isSeekable() {
+
+        return (mArray != null) && isUnfiltered();
+    }
+
+    /**
+     * Checks if the specified sorted keys are contained in the passed sparse collection, by
+     * merging them with the collection ones.
+     *
+     * @param array the sparse collection.
+     * @param keys  the sorted keys.
+     * @param isAll whether all the keys must be contained or just any of them.
+     * @return whether the keys are contained.
+     */
+    private static boolean containsKeys(final SparseLongArray array, final int[] keys,
+            final boolean isAll) {
+
+        final int size = array.size();
+
+        int position = 0;
+
+        for (final int key : keys) {
+
+            while ((position < size) && (array.keyAt(position) < key)) {
+
+                ++position;
+            }
+
+            final boolean isContained = (position < size) && (array.keyAt(position) == key);
+
+            if (isContained != isAll) {
+
+                return isContained;
+            }
+        }
+
+        return isAll;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than or
+     * equal to the passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int lowerBound(final SparseLongArray array, final int key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) < key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than the
+     * passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int upperBound(final SparseLongArray array, final int key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) <= key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
 }
\ No newline at end of file
@@ -54,6 +54,13 @@ class SparseLongArrayIterator extends AbstractSparseIterator<SparseLongArrayEntr
         mSparseArray = array;
     }
 
+    public SparseLongArrayIterator(final SparseLongArray array, final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
@@ -45,6 +45,14 @@ class SparseLongArrayReverseIterator extends AbstractReverseSparseIterator<Spars
         mSparseArray = array;
     }
 
+    public SparseLongArrayReverseIterator(final SparseLongArray array,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
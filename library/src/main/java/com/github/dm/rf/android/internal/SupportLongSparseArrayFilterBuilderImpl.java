@@ -45,9 +45,17 @@ class SupportLongSparseArrayFilterBuilderImpl<V>
     @Override
     public SupportLongSparseArrayIterable<V> key(final long key) {
 
-        final ToLongTranslator<LongSparseArrayEntry<V>> translator = Translators.longKey();
+        final Filter<LongSparseArrayEntry<V>> filter =
+                new LongKeyRangeFilter<LongSparseArrayEntry<V>>(key, key, null);
+
+        return super.matching(filter);
+    }
+
+    @Override
+    public SupportLongSparseArrayIterable<V> keyRange(final long lowKey, final long highKey) {
 
-        final Filter<LongSparseArrayEntry<V>> filter = Filters.matching(translator, key);
+        final Filter<LongSparseArrayEntry<V>> filter =
+                new LongKeyRangeFilter<LongSparseArrayEntry<V>>(lowKey, highKey, null);
 
         return super.matching(filter);
     }
@@ -57,7 +65,8 @@ class SupportLongSparseArrayFilterBuilderImpl<V>
 
         final ToLongTranslator<LongSparseArrayEntry<V>> translator = Translators.longKey();
 
-        final Filter<LongSparseArrayEntry<V>> filter = Filters.containedIn(translator, keys);
+        final Filter<LongSparseArrayEntry<V>> filter =
+                LongKeyRangeFilter.keys(Filters.containedIn(translator, keys), keys);
 
         return super.matching(filter);
     }
@@ -65,21 +74,13 @@ class SupportLongSparseArrayFilterBuilderImpl<V>
     @Override
     public SupportLongSparseArrayIterable<V> keys(final Collection<Long> keys) {
 
-        final Translator<LongSparseArrayEntry<V>, ?> translator = Translators.longKeyObject();
-
-        final Filter<LongSparseArrayEntry<V>> filter = Filters.containedIn(translator, keys);
-
-        return super.matching(filter);
+        return keys(SortedKeys.fromNonNullLongs(keys));
     }
 
     @Override
     public SupportLongSparseArrayIterable<V> keys(final Iterable<Long> keys) {
 
-        final Translator<LongSparseArrayEntry<V>, ?> translator = Translators.longKeyObject();
-
-        final Filter<LongSparseArrayEntry<V>> filter = Filters.containedIn(translator, keys);
-
-        return super.matching(filter);
+        return keys(SortedKeys.fromNonNullLongs(keys));
     }
 
     @Override
@@ -20,14 +20,18 @@ import android.support.v4.util.LongSparseArray;
 import com.github.dm.rf.android.entry.LongSparseArrayEntry;
 import com.github.dm.rf.android.entry.LongSparseObjectEntry;
 import com.github.dm.rf.android.entry.ParcelableLongSparseObjectEntry;
+import com.github.dm.rf.android.filter.AdvancedFilter;
+import com.github.dm.rf.android.filter.AdvancedFilter.SizedFilterIterator;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.SupportLongSparseArrayFilterBuilder;
 import com.github.dm.rf.android.iterator.ElementSparseIterable;
 import com.github.dm.rf.android.iterator.LongSparseIterable;
+import com.github.dm.rf.android.iterator.SparseDiff;
 import com.github.dm.rf.android.iterator.SupportLongSparseArrayIterable;
 import com.github.dm.rf.android.translator.FullLongTranslator;
 import com.github.dm.rf.android.translator.FullTranslator;
 import com.github.dm.rf.android.translator.LongTranslator;
+import com.github.dm.rf.android.translator.ToLongTranslator;
 import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.translator.Translators;
 
@@ -38,6 +42,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of a {@link SupportLongSparseArrayIterable}.
@@ -55,7 +60,7 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
 
     private SupportLongSparseArrayFilterBuilderImpl<V> mInclusionBuilder;
 
-    private Translator<LongSparseArrayEntry<V>, Long> mKeyTranslator;
+    private ToLongTranslator<LongSparseArrayEntry<V>> mKeyTranslator;
 
     private Translator<LongSparseArrayEntry<V>, V> mValueTranslator;
 
@@ -85,6 +90,11 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
     @Override
     public boolean containsAllKeys(final long... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), true);
+        }
+
         for (final long key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -99,6 +109,11 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
     @Override
     public boolean containsAllKeys(final Iterable<Long> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromLongs(keys), true);
+        }
+
         for (final long key : keys) {
 
             if (positionOfKey(key) < 0) {
@@ -141,6 +156,11 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
     @Override
     public boolean containsAnyKey(final long... keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.from(keys), false);
+        }
+
         for (final long key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -155,6 +175,11 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
     @Override
     public boolean containsAnyKey(final Iterable<Long> keys) {
 
+        if (isSeekable()) {
+
+            return containsKeys(mArray, SortedKeys.fromLongs(keys), false);
+        }
+
         for (final long key : keys) {
 
             if (positionOfKey(key) >= 0) {
@@ -206,6 +231,60 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
         return firstPositionOfValue(value) >= 0;
     }
 
+    @Override
+    public SparseDiff<LongSparseArray<V>> diff(final LongSparseArray<V> other) {
+
+        final SparseIterator<LongSparseArrayEntry<V>> iterator = sortedIterator();
+
+        final LongSparseArray<V> added = new LongSparseArray<V>();
+        final LongSparseArray<V> changed = new LongSparseArray<V>();
+        final LongSparseArray<V> removed = new LongSparseArray<V>();
+
+        final int otherSize = other.size();
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final LongSparseArrayEntry<V> entry = iterator.next();
+
+            final long key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                added.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                final V value = other.valueAt(position);
+
+                if ((value == null) ? (entry.getValue() != null)
+                        : !value.equals(entry.getValue())) {
+
+                    changed.append(key, value);
+                }
+
+                ++position;
+
+            } else {
+
+                removed.append(key, entry.getValue());
+            }
+        }
+
+        while (position < otherSize) {
+
+            added.append(other.keyAt(position), other.valueAt(position));
+
+            ++position;
+        }
+
+        return new Diff<V>(added, changed, removed);
+    }
+
     @Override
     public SupportLongSparseArrayIterable<V> fill(final Map<? super Long, ? super V> map) {
 
@@ -347,6 +426,11 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
     @Override
     public int indexOfKey(final long key) {
 
+        if (isSeekable()) {
+
+            return Math.max(mArray.indexOfKey(key), -1);
+        }
+
         for (final LongSparseArrayEntry<V> entry : this) {
 
             if (entry.getKey() == key) {
@@ -358,6 +442,12 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
         return -1;
     }
 
+    @Override
+    public LongSparseArray<V> intersect(final LongSparseArray<V> other) {
+
+        return merge(other, false, true, false);
+    }
+
     @Override
     public boolean isEqualTo(final LongSparseArray<?> array) {
 
@@ -417,22 +507,36 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
 
         if (mKeyTranslator == null) {
 
-            mKeyTranslator = new Translator<LongSparseArrayEntry<V>, Long>() {
+            mKeyTranslator = new ToLongTranslator<LongSparseArrayEntry<V>>() {
 
                 @Override
-                public Long translate(final LongSparseArrayEntry<V> element) {
+                public long translate(final LongSparseArrayEntry<V> element) {
 
                     return element.getKey();
                 }
             };
         }
 
-        return toLongs(mKeyTranslator);
+        return toLongValues(mKeyTranslator);
     }
 
     @Override
     public int positionOfKey(final long key) {
 
+        if (isSeekable()) {
+
+            final LongSparseArray<V> array = mArray;
+
+            final int index = array.indexOfKey(key);
+
+            if (index < 0) {
+
+                return -1;
+            }
+
+            return isReversed() ? (array.size() - 1 - index) : index;
+        }
+
         int i = 0;
 
         for (final LongSparseArrayEntry<V> entry : this) {
@@ -462,16 +566,58 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
     @Override
     public SupportLongSparseArrayIterable<V> replaceValues(final Translator<V, V> translator) {
 
-        final LongSparseArray<V> array = mArray;
-
         for (final LongSparseArrayEntry<V> entry : this) {
 
-            array.append(entry.getKey(), translator.translate(entry.getValue()));
+            entry.setValue(translator.translate(entry.getValue()));
         }
 
         return this;
     }
 
+    @Override
+    public SupportLongSparseArrayIterable<V> snapshot() {
+
+        final LongSparseArray<V> array = mArray;
+
+        if (array == null) {
+
+            final LongSparseArray<V> copy = new LongSparseArray<V>();
+
+            for (final LongSparseArrayEntry<V> entry : this) {
+
+                copy.append(entry.getKey(), entry.getValue());
+            }
+
+            return new SupportLongSparseArrayIterableImpl<V>(copy);
+        }
+
+        final int[] positions = filteredPositions();
+
+        final LongSparseArray<V> copy = new LongSparseArray<V>(positions.length);
+
+        for (final int position : positions) {
+
+            copy.append(array.keyAt(position), array.valueAt(position));
+        }
+
+        final SupportLongSparseArrayIterableImpl<V> snapshot =
+                new SupportLongSparseArrayIterableImpl<V>(copy);
+
+        return isReversed() ? snapshot.reverse() : snapshot;
+    }
+
+    @Override
+    public LongSparseArray<V> subtract(final LongSparseArray<V> other) {
+
+        return merge(other, true, false, false);
+    }
+
+    @Override
+    public LongSparseArray<V> symmetricDifference(final LongSparseArray<V> other) {
+
+        return merge(other, true, false, true);
+    }
+
     @Override
     public <T> T[] toImmutableArray(final Class<T> type) {
 
@@ -568,6 +714,12 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
         return translate(Translators.longIdentity(), translator);
     }
 
+    @Override
+    public LongSparseArray<V> union(final LongSparseArray<V> other) {
+
+        return merge(other, true, true, true);
+    }
+
     @Override
     public ElementSparseIterable<V> values() {
 
@@ -641,6 +793,24 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
         return this;
     }
 
+    @Override
+    public SupportLongSparseArrayIterable<V> parallelForEach(
+            final Action<LongSparseArrayEntry<V>> action) {
+
+        super.parallelForEach(action);
+
+        return this;
+    }
+
+    @Override
+    public SupportLongSparseArrayIterable<V> parallelForEach(
+            final Action<LongSparseArrayEntry<V>> action, final Executor executor) {
+
+        super.parallelForEach(action, executor);
+
+        return this;
+    }
+
     @Override
     public SupportLongSparseArrayIterable<V> remove() {
 
@@ -665,6 +835,136 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
         return this;
     }
 
+    private static class Diff<V> implements SparseDiff<LongSparseArray<V>> {
+
+        private final LongSparseArray<V> mAdded;
+
+        private final LongSparseArray<V> mChanged;
+
+        private final LongSparseArray<V> mRemoved;
+
+        public Diff(final LongSparseArray<V> added, final LongSparseArray<V> changed,
+                final LongSparseArray<V> removed) {
+
+            mAdded = added;
+            mChanged = changed;
+            mRemoved = removed;
+        }
+
+        @Override
+        public LongSparseArray<V> added() {
+
+            return mAdded;
+        }
+
+        @Override
+        public void applyTo(final LongSparseArray<V> target) {
+
+            if (isEmpty()) {
+
+                return;
+            }
+
+            final LongSparseArray<V> added = mAdded;
+            final LongSparseArray<V> changed = mChanged;
+            final LongSparseArray<V> removed = mRemoved;
+
+            final int size = target.size();
+            final int addedSize = added.size();
+            final int changedSize = changed.size();
+            final int removedSize = removed.size();
+
+            final LongSparseArray<V> array = new LongSparseArray<V>(size + addedSize);
+
+            int addedPosition = 0;
+            int changedPosition = 0;
+            int removedPosition = 0;
+
+            for (int i = 0; i < size; ++i) {
+
+                final long key = target.keyAt(i);
+
+                while ((addedPosition < addedSize) && (added.keyAt(addedPosition) < key)) {
+
+                    array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                    ++addedPosition;
+                }
+
+                if ((addedPosition < addedSize) && (added.keyAt(addedPosition) == key)) {
+
+                    array.append(key, added.valueAt(addedPosition));
+
+                    ++addedPosition;
+
+                    continue;
+                }
+
+                while ((removedPosition < removedSize) && (removed.keyAt(removedPosition) < key)) {
+
+                    ++removedPosition;
+                }
+
+                if ((removedPosition < removedSize) && (removed.keyAt(removedPosition) == key)) {
+
+                    ++removedPosition;
+
+                    continue;
+                }
+
+                while ((changedPosition < changedSize) && (changed.keyAt(changedPosition) < key)) {
+
+                    ++changedPosition;
+                }
+
+                if ((changedPosition < changedSize) && (changed.keyAt(changedPosition) == key)) {
+
+                    array.append(key, changed.valueAt(changedPosition));
+
+                    ++changedPosition;
+
+                } else {
+
+                    array.append(key, target.valueAt(i));
+                }
+            }
+
+            while (addedPosition < addedSize) {
+
+                array.append(added.keyAt(addedPosition), added.valueAt(addedPosition));
+
+                ++addedPosition;
+            }
+
+            target.clear();
+
+            final int arraySize = array.size();
+
+            for (int i = 0; i < arraySize; ++i) {
+
+                target.append(array.keyAt(i), array.valueAt(i));
+            }
+        }
+
+        @Override
+        public LongSparseArray<V> changed() {
+
+            return mChanged;
+        }
+
+        @Override
+        public boolean isEmpty() {
+
+            return (mAdded.size() == 0) && (mChanged.size() == 0) && (mRemoved.size() == 0);
+        }
+
+        @Override
+        public LongSparseArray<V> removed() {
+
+            return mRemoved;
+        }
+    }
+
     private static class TranslatedSupportLongSparseArrayIterableImpl<T, V>
             extends SupportLongSparseArrayIterableImpl<T> {
 
@@ -741,6 +1041,24 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
 
             mIterable.clearFilters();
         }
+
+        @Override
+        protected int[] rangeOf(final AdvancedFilter<LongSparseArrayEntry<T>> filter) {
+
+            return null;
+        }
+
+        @Override
+        protected void removePositions(final int[] positions) {
+
+            mIterable.removePositions(positions);
+        }
+
+        @Override
+        protected int[] splitRange() {
+
+            return null;
+        }
     }
 
     @Override
@@ -760,9 +1078,304 @@ class SupportLongSparseArrayIterableImpl<V> extends AbstractSparseIterable<LongS
         return new SupportLongSparseArrayIterator<V>(mArray);
     }
 
+    @Override
+    protected SparseIterator<LongSparseArrayEntry<V>> createIterator(final boolean isReverse,
+            final int start, final int end) {
+
+        if (isReverse) {
+
+            return new SupportLongSparseArrayReverseIterator<V>(mArray, start, end);
+        }
+
+        return new SupportLongSparseArrayIterator<V>(mArray, start, end);
+    }
+
     @Override
     protected SparseIterator<LongSparseArrayEntry<V>> rawIterator(final boolean isReverse) {
 
         return createIterator(isReverse);
     }
+
+    @Override
+    protected int[] rangeOf(final AdvancedFilter<LongSparseArrayEntry<V>> filter) {
+
+        if (filter instanceof LongKeyRangeFilter) {
+
+            final LongKeyRangeFilter<?> keyFilter = (LongKeyRangeFilter<?>) filter;
+
+            final LongSparseArray<V> array = mArray;
+
+            return new int[]{lowerBound(array, keyFilter.getLowKey()),
+                              upperBound(array, keyFilter.getHighKey())};
+        }
+
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void removePositions(final int[] positions) {
+
+        final LongSparseArray<V> array = mArray;
+
+        final int size = array.size();
+
+        final int count = positions.length;
+
+        if (count == size) {
+
+            array.clear();
+
+            return;
+        }
+
+        if (count == 1) {
+
+            array.removeAt(positions[0]);
+
+            return;
+        }
+
+        final int length = size - count;
+
+        final long[] keys = new long[length];
+        final Object[] values = new Object[length];
+
+        int index = 0;
+        int removed = 0;
+
+        for (int i = 0; i < size; ++i) {
+
+            if ((removed < count) && (positions[removed] == i)) {
+
+                ++removed;
+
+                continue;
+            }
+
+            keys[index] = array.keyAt(i);
+            values[index] = array.valueAt(i);
+
+            ++index;
+        }
+
+        array.clear();
+
+        for (int i = 0; i < length; ++i) {
+
+            array.append(keys[i], (V) values[i]);
+        }
+    }
+
+    @Override
+    protected int[] splitRange() {
+
+        return new int[]{0, mArray.size()};
+    }
+
+    /**
+     * Merges the elements returned by this iterable with the ones of the specified sparse
+     * collection, into a new one.<br/>
+     * Both sets of keys are walked in ascending order, so that each element is visited only once,
+     * independently of the iteration order.
+     *
+     * @param other   the other sparse collection.
+     * @param isLeft  whether to retain the elements whose key is returned only by this iterable.
+     * @param isBoth  whether to retain the elements whose key is contained in both.
+     * @param isRight whether to retain the elements whose key is contained only in the other
+     *                collection.
+     * @return the new collection instance.
+     */
+    private LongSparseArray<V> merge(final LongSparseArray<V> other, final boolean isLeft,
+            final boolean isBoth, final boolean isRight) {
+
+        final SparseIterator<LongSparseArrayEntry<V>> iterator = sortedIterator();
+
+        final int otherSize = other.size();
+
+        int size = (iterator instanceof SizedFilterIterator)
+                ? ((SizedFilterIterator<LongSparseArrayEntry<V>>) iterator).remaining() : 0;
+
+        if (isRight) {
+
+            size += otherSize;
+        }
+
+        final LongSparseArray<V> array = new LongSparseArray<V>(size);
+
+        int position = 0;
+
+        while (iterator.hasNext()) {
+
+            final LongSparseArrayEntry<V> entry = iterator.next();
+
+            final long key = entry.getKey();
+
+            while ((position < otherSize) && (other.keyAt(position) < key)) {
+
+                if (isRight) {
+
+                    array.append(other.keyAt(position), other.valueAt(position));
+                }
+
+                ++position;
+            }
+
+            if ((position < otherSize) && (other.keyAt(position) == key)) {
+
+                if (isBoth) {
+
+                    array.append(key, entry.getValue());
+                }
+
+                ++position;
+
+            } else if (isLeft) {
+
+                array.append(key, entry.getValue());
+            }
+        }
+
+        if (isRight) {
+
+            while (position < otherSize) {
+
+                array.append(other.keyAt(position), other.valueAt(position));
+
+                ++position;
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * Returns an iterator looping through the elements returned by this iterable in ascending key
+     * order.
+     *
+     * @return the iterator instance.
+     */
+    private SparseIterator<LongSparseArrayEntry<V>> sortedIterator() {
+
+        if (mArray == null) {
+
+            return new SupportLongSparseArrayIterator<V>(toSparseArray());
+        }
+
+        if (isReversed()) {
+
+            final SupportLongSparseArrayIterableImpl<V> iterable = copy();
+
+            iterable.reverse();
+
+            return iterable.iterator();
+        }
+
+        return iterator();
+    }
+
+    /**
+     * Checks if the keys can be directly looked up in the backing sparse collection, that is, they
+     * are not translated and no element is filtered out.
+     *
+     * @return whether the keys can be looked up.
+     */
+    private boolean isSeekable() {
+
+        return (mArray != null) && isUnfiltered();
+    }
+
+    /**
+     * Checks if the specified sorted keys are contained in the passed sparse collection, by
+     * merging them with the collection ones.
+     *
+     * @param array the sparse collection.
+     * @param keys  the sorted keys.
+     * @param isAll whether all the keys must be contained or just any of them.
+     * @return whether the keys are contained.
+     */
+    private static boolean containsKeys(final LongSparseArray<?> array, final long[] keys,
+            final boolean isAll) {
+
+        final int size = array.size();
+
+        int position = 0;
+
+        for (final long key : keys) {
+
+            while ((position < size) && (array.keyAt(position) < key)) {
+
+                ++position;
+            }
+
+            final boolean isContained = (position < size) && (array.keyAt(position) == key);
+
+            if (isContained != isAll) {
+
+                return isContained;
+            }
+        }
+
+        return isAll;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than or
+     * equal to the passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int lowerBound(final LongSparseArray<?> array, final long key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) < key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the position of the first key, in the specified sparse collection, greater than the
+     * passed one.
+     *
+     * @param array the sparse collection.
+     * @param key   the key.
+     * @return the position.
+     */
+    private static int upperBound(final LongSparseArray<?> array, final long key) {
+
+        int low = 0;
+        int high = array.size();
+
+        while (low < high) {
+
+            final int mid = (low + high) >>> 1;
+
+            if (array.keyAt(mid) <= key) {
+
+                low = mid + 1;
+
+            } else {
+
+                high = mid;
+            }
+        }
+
+        return low;
+    }
 }
\ No newline at end of file
@@ -54,6 +54,14 @@ class SupportLongSparseArrayIterator<V> extends AbstractSparseIterator<LongSpars
         mSparseArray = array;
     }
 
+    public SupportLongSparseArrayIterator(final LongSparseArray<V> array,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
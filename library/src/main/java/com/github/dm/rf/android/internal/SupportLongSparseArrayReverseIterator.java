@@ -46,6 +46,14 @@ class SupportLongSparseArrayReverseIterator<E>
         mSparseArray = array;
     }
 
+    public SupportLongSparseArrayReverseIterator(final LongSparseArray<E> array,
+            final int start, final int end) {
+
+        super(start, end);
+
+        mSparseArray = array;
+    }
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object o) {
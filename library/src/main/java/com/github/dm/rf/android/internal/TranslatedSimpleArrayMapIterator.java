@@ -118,4 +118,10 @@ class TranslatedSimpleArrayMapIterator<TK, K, TV, V>
 
         mIterator.reset();
     }
+
+    @Override
+    public int skip(final int count) {
+
+        return mIterator.skip(count);
+    }
 }
\ No newline at end of file
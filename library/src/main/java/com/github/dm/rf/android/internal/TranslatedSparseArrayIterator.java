@@ -116,4 +116,10 @@ class TranslatedSparseArrayIterator<TV, V>
 
         mIterator.reset();
     }
+
+    @Override
+    public int skip(final int count) {
+
+        return mIterator.skip(count);
+    }
 }
\ No newline at end of file
@@ -114,4 +114,10 @@ class TranslatedSparseBooleanArrayIterator
 
         mIterator.reset();
     }
+
+    @Override
+    public int skip(final int count) {
+
+        return mIterator.skip(count);
+    }
 }
\ No newline at end of file
@@ -112,4 +112,10 @@ class TranslatedSparseIntArrayIterator
 
         mIterator.reset();
     }
+
+    @Override
+    public int skip(final int count) {
+
+        return mIterator.skip(count);
+    }
 }
\ No newline at end of file
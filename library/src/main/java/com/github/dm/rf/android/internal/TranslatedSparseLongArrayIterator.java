@@ -113,4 +113,10 @@ class TranslatedSparseLongArrayIterator
 
         mIterator.reset();
     }
+
+    @Override
+    public int skip(final int count) {
+
+        return mIterator.skip(count);
+    }
 }
\ No newline at end of file
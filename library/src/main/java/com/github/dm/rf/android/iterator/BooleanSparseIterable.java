@@ -17,6 +17,7 @@ import com.github.dm.rf.android.filter.BooleanFilterBuilder;
 import com.github.dm.rf.android.filter.Filter;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link ElementSparseIterable} one by adding specific methods handling
@@ -44,6 +45,12 @@ public interface BooleanSparseIterable extends ElementSparseIterable<Boolean> {
     @Override
     public BooleanSparseIterable only(Filter<Boolean> filter);
 
+    @Override
+    public BooleanSparseIterable parallelForEach(Action<Boolean> action);
+
+    @Override
+    public BooleanSparseIterable parallelForEach(Action<Boolean> action, Executor executor);
+
     @Override
     public BooleanSparseIterable remove();
 
@@ -53,6 +60,28 @@ public interface BooleanSparseIterable extends ElementSparseIterable<Boolean> {
     @Override
     public BooleanSparseIterable reverse();
 
+    /**
+     * Checks if any of the elements returned by this iterable satisfies the specified condition.
+     * <p/>
+     * Note that the elements are passed to the condition as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param condition the condition to check.
+     * @return whether the condition is satisfied by at least one element.
+     */
+    public boolean anyBoolean(BooleanCondition condition);
+
+    /**
+     * Checks if all the elements returned by this iterable satisfy the specified condition.
+     * <p/>
+     * Note that the elements are passed to the condition as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param condition the condition to check.
+     * @return whether the condition is satisfied by all the elements.
+     */
+    public boolean eachBoolean(BooleanCondition condition);
+
     @Override
     public BooleanSparseIterable fill(Collection<? super Boolean> collection);
 
@@ -81,6 +110,17 @@ public interface BooleanSparseIterable extends ElementSparseIterable<Boolean> {
      */
     public BooleanSparseIterable fill(boolean[] array, int offset);
 
+    /**
+     * Applies the specified action to each element returned by this iterable.
+     * <p/>
+     * Note that the elements are passed to the action as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param action the action to apply.
+     * @return this iterable.
+     */
+    public BooleanSparseIterable forEachBoolean(BooleanAction action);
+
     /**
      * Creates and returns a new array filled with the elements returned by this iterable, in the
      * iteration order.
@@ -88,4 +128,35 @@ public interface BooleanSparseIterable extends ElementSparseIterable<Boolean> {
      * @return the new array.
      */
     public boolean[] toArray();
+
+    /**
+     * This interface defines an action to be applied to the iterable boolean elements.
+     */
+    public interface BooleanAction {
+
+        /**
+         * This function will be called for each element returned by the iterable.
+         *
+         * @param element the element value.
+         * @param count   the number of element iterated until now.
+         * @param index   the index of the element in the sparse collection.
+         */
+        public void onNext(boolean element, int count, int index);
+    }
+
+    /**
+     * This interface defines a condition to be applied to the iterable boolean elements.
+     */
+    public interface BooleanCondition {
+
+        /**
+         * This function will be called for each element returned by the iterable.
+         *
+         * @param element the element value.
+         * @param count   the number of element iterated until now.
+         * @param index   the index of the element in the sparse collection.
+         * @return whether the condition is satisfied.
+         */
+        public boolean onNext(boolean element, int count, int index);
+    }
 }
\ No newline at end of file
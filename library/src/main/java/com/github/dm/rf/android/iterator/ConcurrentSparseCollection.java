@@ -0,0 +1,75 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.iterator;
+
+/**
+ * This interface defines a sparse collection which can be safely shared among several threads.
+ * <p/>
+ * Each operation is passed a new iterable wrapping the sparse collection, so that no filter is
+ * shared among threads, and it is executed while holding a lock. Read operations can run
+ * concurrently with each other, while write operations are exclusive, so that a bulk removal or
+ * update acquires the lock only once for all the elements.
+ * <p/>
+ * Note that neither the iterable nor any of its iterators must be retained outside of the
+ * operation, since they would be no more protected by the lock. Note also that a write operation
+ * can be nested inside another write operation and a read operation inside any other one, while
+ * nesting a write operation inside a read one will cause a deadlock.
+ * <p/>
+ * The wrapped sparse collection must not be modified outside of the write operations, since some
+ * collections, like {@link android.util.SparseArray}, delay the removal of their elements and
+ * compact their internal arrays the next time they are accessed, even by a read operation.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <I> the iterable type.
+ */
+public interface ConcurrentSparseCollection<I extends SparseIterable<?>> {
+
+    /**
+     * Performs the specified operation while holding the read lock.<br/>
+     * The operation must not modify the sparse collection.
+     *
+     * @param operation the operation to perform.
+     * @param <R>       the result type.
+     * @return the operation result.
+     */
+    public <R> R read(Operation<? super I, R> operation);
+
+    /**
+     * Performs the specified operation while holding the write lock.
+     *
+     * @param operation the operation to perform.
+     * @param <R>       the result type.
+     * @return the operation result.
+     */
+    public <R> R write(Operation<? super I, R> operation);
+
+    /**
+     * This interface defines an operation performed on the iterable wrapping the sparse
+     * collection.
+     *
+     * @param <I> the iterable type.
+     * @param <R> the result type.
+     */
+    public interface Operation<I, R> {
+
+        /**
+         * Performs the operation.
+         *
+         * @param iterable the iterable wrapping the sparse collection.
+         * @return the operation result.
+         */
+        public R perform(I iterable);
+    }
+}
\ No newline at end of file
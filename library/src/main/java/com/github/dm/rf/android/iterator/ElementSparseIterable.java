@@ -13,12 +13,19 @@
  */
 package com.github.dm.rf.android.iterator;
 
+import android.support.v4.util.SimpleArrayMap;
+import android.util.SparseArray;
+
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.FilterBuilder;
+import com.github.dm.rf.android.translator.ToIntTranslator;
 import com.github.dm.rf.android.translator.Translator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link SparseIterable} one by adding specific methods handling
@@ -48,6 +55,12 @@ public interface ElementSparseIterable<E> extends SparseIterable<E> {
     @Override
     public ElementSparseIterable<E> only(Filter<E> filter);
 
+    @Override
+    public ElementSparseIterable<E> parallelForEach(Action<E> action);
+
+    @Override
+    public ElementSparseIterable<E> parallelForEach(Action<E> action, Executor executor);
+
     @Override
     public ElementSparseIterable<E> remove();
 
@@ -57,6 +70,34 @@ public interface ElementSparseIterable<E> extends SparseIterable<E> {
     @Override
     public ElementSparseIterable<E> reverse();
 
+    /**
+     * Returns a list view of the elements returned by this iterable.
+     * <p/>
+     * No element is copied: the list reflects the current content of the backing sparse
+     * collection, filtered as this iterable is at the moment of the call. The size and the
+     * positional access are computed in constant time when no filter is installed, while they
+     * require an iteration through the elements otherwise.<br/>
+     * The view is meant to pass the elements to code accepting standard collections, and does not
+     * support adding or replacing elements. Note that the elements removed through the view
+     * iterator are removed from the backing collection as well.
+     *
+     * @return the list view.
+     */
+    public List<E> asList();
+
+    /**
+     * Returns the specified number of smallest elements returned by this iterable, sorted in
+     * ascending order based on the specified comparator.
+     * <p/>
+     * The elements are selected in a single pass through a bounded heap, so that the whole
+     * collection is neither copied nor sorted.
+     *
+     * @param k          the maximum number of elements to return.
+     * @param comparator the comparator defining the elements order.
+     * @return the new list.
+     */
+    public ArrayList<E> bottomK(int k, Comparator<? super E> comparator);
+
     /**
      * Fills the specified collection with the elements returned by this iterable, in the iteration
      * order.
@@ -99,6 +140,33 @@ public interface ElementSparseIterable<E> extends SparseIterable<E> {
      */
     public <T> ElementSparseIterable<E> fill(T[] array, int offset);
 
+    /**
+     * Groups the elements returned by this iterable, in the iteration order, based on the int key
+     * computed by the specified translator.
+     * <p/>
+     * Note that the elements are stored as they are returned by the iterator, so that, in case the
+     * iterator reuses the same instance, an immutable copy should be returned by translating them
+     * first.
+     *
+     * @param keyTranslator the translator computing the group key.
+     * @return the sparse collection of the groups.
+     */
+    public SparseArray<ArrayList<E>> groupBy(ToIntTranslator<E> keyTranslator);
+
+    /**
+     * Groups the elements returned by this iterable, in the iteration order, based on the key
+     * computed by the specified translator.
+     * <p/>
+     * Note that the elements are stored as they are returned by the iterator, so that, in case the
+     * iterator reuses the same instance, an immutable copy should be returned by translating them
+     * first.
+     *
+     * @param keyTranslator the translator computing the group key.
+     * @param <K>           the group key type.
+     * @return the map of the groups.
+     */
+    public <K> SimpleArrayMap<K, ArrayList<E>> groupBy(Translator<E, K> keyTranslator);
+
     /**
      * Creates and returns a new array filled with the elements returned by this iterable, in the
      * iteration order.
@@ -120,6 +188,19 @@ public interface ElementSparseIterable<E> extends SparseIterable<E> {
      */
     public ArrayList<E> toList();
 
+    /**
+     * Returns the specified number of greatest elements returned by this iterable, sorted in
+     * descending order based on the specified comparator.
+     * <p/>
+     * The elements are selected in a single pass through a bounded heap, so that the whole
+     * collection is neither copied nor sorted.
+     *
+     * @param k          the maximum number of elements to return.
+     * @param comparator the comparator defining the elements order.
+     * @return the new list.
+     */
+    public ArrayList<E> topK(int k, Comparator<? super E> comparator);
+
     /**
      * Returns a new iterable whose elements are the same as this ones but translated through the
      * specified translator.
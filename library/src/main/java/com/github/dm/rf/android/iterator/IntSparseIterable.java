@@ -13,10 +13,13 @@
  */
 package com.github.dm.rf.android.iterator;
 
+import android.util.SparseIntArray;
+
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.IntFilterBuilder;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link ElementSparseIterable} one by adding specific methods handling
@@ -44,6 +47,12 @@ public interface IntSparseIterable extends ElementSparseIterable<Integer> {
     @Override
     public IntSparseIterable only(Filter<Integer> filter);
 
+    @Override
+    public IntSparseIterable parallelForEach(Action<Integer> action);
+
+    @Override
+    public IntSparseIterable parallelForEach(Action<Integer> action, Executor executor);
+
     @Override
     public IntSparseIterable remove();
 
@@ -53,6 +62,50 @@ public interface IntSparseIterable extends ElementSparseIterable<Integer> {
     @Override
     public IntSparseIterable reverse();
 
+    /**
+     * Checks if any of the elements returned by this iterable satisfies the specified condition.
+     * <p/>
+     * Note that the elements are passed to the condition as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param condition the condition to check.
+     * @return whether the condition is satisfied by at least one element.
+     */
+    public boolean anyInt(IntCondition condition);
+
+    /**
+     * Computes the arithmetic mean of the elements returned by this iterable.
+     * <p/>
+     * Note that the elements are read as primitive values in a single pass, so that no boxing is
+     * performed when possible.
+     *
+     * @return the average, or {@link java.lang.Double#NaN} if no element is returned.
+     */
+    public double average();
+
+    /**
+     * Returns the specified number of smallest elements returned by this iterable, sorted in
+     * ascending order.
+     * <p/>
+     * The elements are selected in a single pass through a bounded heap, so that the whole
+     * collection is neither copied nor sorted.
+     *
+     * @param k the maximum number of elements to return.
+     * @return the new array.
+     */
+    public int[] bottomK(int k);
+
+    /**
+     * Checks if all the elements returned by this iterable satisfy the specified condition.
+     * <p/>
+     * Note that the elements are passed to the condition as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param condition the condition to check.
+     * @return whether the condition is satisfied by all the elements.
+     */
+    public boolean eachInt(IntCondition condition);
+
     @Override
     public IntSparseIterable fill(Collection<? super Integer> collection);
 
@@ -81,6 +134,77 @@ public interface IntSparseIterable extends ElementSparseIterable<Integer> {
      */
     public IntSparseIterable fill(int[] array, int offset);
 
+    /**
+     * Applies the specified action to each element returned by this iterable.
+     * <p/>
+     * Note that the elements are passed to the action as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param action the action to apply.
+     * @return this iterable.
+     */
+    public IntSparseIterable forEachInt(IntAction action);
+
+    /**
+     * Counts the occurrences of each of the elements returned by this iterable.
+     * <p/>
+     * Note that the elements are read as primitive values, so that no boxing is performed when
+     * possible.
+     *
+     * @return the sparse collection mapping each element to the number of its occurrences.
+     */
+    public SparseIntArray histogram();
+
+    /**
+     * Returns the greatest of the elements returned by this iterable.
+     *
+     * @return the maximum value.
+     * @throws java.util.NoSuchElementException if no element is returned.
+     */
+    public int max();
+
+    /**
+     * Returns the smallest of the elements returned by this iterable.
+     *
+     * @return the minimum value.
+     * @throws java.util.NoSuchElementException if no element is returned.
+     */
+    public int min();
+
+    /**
+     * Combines the elements returned by this iterable, in the iteration order, by means of the
+     * specified reducer, starting from the passed initial value.
+     * <p/>
+     * Note that the elements are passed to the reducer as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param initialValue the initial value.
+     * @param reducer      the reducer instance.
+     * @return the reduced value.
+     */
+    public int reduce(int initialValue, IntReducer reducer);
+
+    /**
+     * Computes the sum of the elements returned by this iterable.
+     * <p/>
+     * Note that the sum is computed as a long value, so that it cannot overflow.
+     *
+     * @return the sum.
+     */
+    public long sum();
+
+    /**
+     * Returns the specified number of greatest elements returned by this iterable, sorted in
+     * descending order.
+     * <p/>
+     * The elements are selected in a single pass through a bounded heap, so that the whole
+     * collection is neither copied nor sorted.
+     *
+     * @param k the maximum number of elements to return.
+     * @return the new array.
+     */
+    public int[] topK(int k);
+
     /**
      * Creates and returns a new array filled with the elements returned by this iterable, in the
      * iteration order.
@@ -88,4 +212,50 @@ public interface IntSparseIterable extends ElementSparseIterable<Integer> {
      * @return the new array.
      */
     public int[] toArray();
+
+    /**
+     * This interface defines an action to be applied to the iterable int elements.
+     */
+    public interface IntAction {
+
+        /**
+         * This function will be called for each element returned by the iterable.
+         *
+         * @param element the element value.
+         * @param count   the number of element iterated until now.
+         * @param index   the index of the element in the sparse collection.
+         */
+        public void onNext(int element, int count, int index);
+    }
+
+    /**
+     * This interface defines a condition to be applied to the iterable int elements.
+     */
+    public interface IntCondition {
+
+        /**
+         * This function will be called for each element returned by the iterable.
+         *
+         * @param element the element value.
+         * @param count   the number of element iterated until now.
+         * @param index   the index of the element in the sparse collection.
+         * @return whether the condition is satisfied.
+         */
+        public boolean onNext(int element, int count, int index);
+    }
+
+    /**
+     * This interface defines a reducer of the iterable int elements.
+     */
+    public interface IntReducer {
+
+        /**
+         * This function will be called for each element returned by the iterable.
+         *
+         * @param value   the value reduced so far.
+         * @param element the element value.
+         * @return the new reduced value.
+         */
+        public int reduce(int value, int element);
+    }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import android.util.LongSparseArray;
 
 import com.github.dm.rf.android.entry.LongSparseArrayEntry;
 import com.github.dm.rf.android.entry.LongSparseObjectEntry;
+import com.github.dm.rf.android.entry.LongSparseObjectJoinEntry;
 import com.github.dm.rf.android.entry.ParcelableLongSparseObjectEntry;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.LongSparseArrayFilterBuilder;
@@ -29,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.SortedMap;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link SparseIterable} one by adding specific methods handling
@@ -67,6 +69,13 @@ public interface LongSparseArrayIterable<V> extends SparseIterable<LongSparseArr
     @Override
     public LongSparseArrayIterable<V> only(Filter<LongSparseArrayEntry<V>> filter);
 
+    @Override
+    public LongSparseArrayIterable<V> parallelForEach(Action<LongSparseArrayEntry<V>> action);
+
+    @Override
+    public LongSparseArrayIterable<V> parallelForEach(Action<LongSparseArrayEntry<V>> action,
+            Executor executor);
+
     @Override
     public LongSparseArrayIterable<V> remove();
 
@@ -160,6 +169,17 @@ public interface LongSparseArrayIterable<V> extends SparseIterable<LongSparseArr
      */
     public boolean containsValue(Object value);
 
+    /**
+     * Computes the changes turning the elements returned by this iterable into the ones of the
+     * specified sparse collection.
+     * <p/>
+     * Since the keys are sorted, the two collections are compared in a single merge pass.
+     *
+     * @param other the sparse collection to compare.
+     * @return the change set.
+     */
+    public SparseDiff<LongSparseArray<V>> diff(LongSparseArray<V> other);
+
     /**
      * Fills the specified map with the elements returned by this iterable, in the iteration
      * order.
@@ -285,6 +305,15 @@ public interface LongSparseArrayIterable<V> extends SparseIterable<LongSparseArr
      */
     public int indexOfKey(long key);
 
+    /**
+     * Returns a new {@link android.util.LongSparseArray} collection filled with the elements
+     * returned by this iterable whose keys are also contained in the specified sparse collection.
+     *
+     * @param other the sparse collection to intersect.
+     * @return the new collection instance.
+     */
+    public LongSparseArray<V> intersect(LongSparseArray<V> other);
+
     /**
      * Checks if all and only the elements returned by the this iterable are contained in the
      * specified sparse collection.
@@ -303,6 +332,22 @@ public interface LongSparseArrayIterable<V> extends SparseIterable<LongSparseArr
      */
     boolean isEqualTo(Map<?, ?> map);
 
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * Only the keys contained in both the collections are returned (inner join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @param <R>   the other collection value type.
+     * @return the iterable of the joined entries.
+     */
+    public <R> ElementSparseIterable<LongSparseObjectJoinEntry<V, R>> join(
+            LongSparseArray<R> other);
+
     /**
      * Returns this iterable elements keys as a
      * {@link LongSparseIterable} object.
@@ -314,6 +359,41 @@ public interface LongSparseArrayIterable<V> extends SparseIterable<LongSparseArr
      */
     public LongSparseIterable keys();
 
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * All the elements returned by this iterable are returned, even if their key is not
+     * contained in the other collection (left join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @param <R>   the other collection value type.
+     * @return the iterable of the joined entries.
+     */
+    public <R> ElementSparseIterable<LongSparseObjectJoinEntry<V, R>> leftJoin(
+            LongSparseArray<R> other);
+
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * All the elements returned by this iterable are returned, followed by the elements of the
+     * other collection whose key is not returned by this iterable, in the collection order
+     * (full outer join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @param <R>   the other collection value type.
+     * @return the iterable of the joined entries.
+     */
+    public <R> ElementSparseIterable<LongSparseObjectJoinEntry<V, R>> outerJoin(
+            LongSparseArray<R> other);
+
     /**
      * Finds the position of the specified key in the iteration order.
      * <p/>
@@ -346,6 +426,40 @@ public interface LongSparseArrayIterable<V> extends SparseIterable<LongSparseArr
      */
     public LongSparseArrayIterable<V> replaceValues(Translator<V, V> translator);
 
+    /**
+     * Returns a new iterable wrapping a copy of the elements matching the filters installed on
+     * this iterable, taken at the moment of the call.
+     * <p/>
+     * The returned iterable loops through the elements in the same order, but it shares no filter
+     * with this one, so that the two can be safely used at the same time, even while the original
+     * sparse array is being modified.<br/>
+     * Note that the copy must be taken while no other thread is modifying the sparse array, for
+     * example inside a {@link ConcurrentSparseCollection} read operation.<br/>
+     * The elements removed through the returned iterable are removed only from the copy.
+     *
+     * @return the new iterable.
+     */
+    public LongSparseArrayIterable<V> snapshot();
+
+    /**
+     * Returns a new {@link android.util.LongSparseArray} collection filled with the elements
+     * returned by this iterable whose keys are not contained in the specified sparse collection.
+     *
+     * @param other the sparse collection to subtract.
+     * @return the new collection instance.
+     */
+    public LongSparseArray<V> subtract(LongSparseArray<V> other);
+
+    /**
+     * Returns a new {@link android.util.LongSparseArray} collection filled with the elements
+     * returned by this iterable whose keys are not contained in the specified sparse collection,
+     * and with the elements of the latter whose keys are not returned by this iterable.
+     *
+     * @param other the other sparse collection.
+     * @return the new collection instance.
+     */
+    public LongSparseArray<V> symmetricDifference(LongSparseArray<V> other);
+
     /**
      * Creates and returns a new array filled with an immutable copy of the elements returned by
      * this iterable, in the iteration order.
@@ -456,6 +570,18 @@ public interface LongSparseArrayIterable<V> extends SparseIterable<LongSparseArr
      */
     public <T> LongSparseArrayIterable<T> translateValues(Translator<V, T> valueTranslator);
 
+    /**
+     * Returns a new {@link android.util.LongSparseArray} collection filled with the elements
+     * returned by this iterable, and with the elements of the specified sparse collection whose
+     * keys are not returned by this iterable.
+     * <p/>
+     * Note that, when a key is contained in both, the value returned by this iterable is retained.
+     *
+     * @param other the sparse collection to unite.
+     * @return the new collection instance.
+     */
+    public LongSparseArray<V> union(LongSparseArray<V> other);
+
     /**
      * Returns this iterable elements values as a
      * {@link ElementSparseIterable} object.
@@ -17,6 +17,7 @@ import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.LongFilterBuilder;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link ElementSparseIterable} one by adding specific methods handling
@@ -44,6 +45,12 @@ public interface LongSparseIterable extends ElementSparseIterable<Long> {
     @Override
     public LongSparseIterable only(Filter<Long> filter);
 
+    @Override
+    public LongSparseIterable parallelForEach(Action<Long> action);
+
+    @Override
+    public LongSparseIterable parallelForEach(Action<Long> action, Executor executor);
+
     @Override
     public LongSparseIterable remove();
 
@@ -53,6 +60,50 @@ public interface LongSparseIterable extends ElementSparseIterable<Long> {
     @Override
     public LongSparseIterable reverse();
 
+    /**
+     * Checks if any of the elements returned by this iterable satisfies the specified condition.
+     * <p/>
+     * Note that the elements are passed to the condition as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param condition the condition to check.
+     * @return whether the condition is satisfied by at least one element.
+     */
+    public boolean anyLong(LongCondition condition);
+
+    /**
+     * Computes the arithmetic mean of the elements returned by this iterable.
+     * <p/>
+     * Note that the elements are read as primitive values in a single pass, so that no boxing is
+     * performed when possible.
+     *
+     * @return the average, or {@link java.lang.Double#NaN} if no element is returned.
+     */
+    public double average();
+
+    /**
+     * Returns the specified number of smallest elements returned by this iterable, sorted in
+     * ascending order.
+     * <p/>
+     * The elements are selected in a single pass through a bounded heap, so that the whole
+     * collection is neither copied nor sorted.
+     *
+     * @param k the maximum number of elements to return.
+     * @return the new array.
+     */
+    public long[] bottomK(int k);
+
+    /**
+     * Checks if all the elements returned by this iterable satisfy the specified condition.
+     * <p/>
+     * Note that the elements are passed to the condition as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param condition the condition to check.
+     * @return whether the condition is satisfied by all the elements.
+     */
+    public boolean eachLong(LongCondition condition);
+
     @Override
     public LongSparseIterable fill(Collection<? super Long> collection);
 
@@ -81,6 +132,67 @@ public interface LongSparseIterable extends ElementSparseIterable<Long> {
      */
     public LongSparseIterable fill(long[] array, int offset);
 
+    /**
+     * Applies the specified action to each element returned by this iterable.
+     * <p/>
+     * Note that the elements are passed to the action as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param action the action to apply.
+     * @return this iterable.
+     */
+    public LongSparseIterable forEachLong(LongAction action);
+
+    /**
+     * Returns the greatest of the elements returned by this iterable.
+     *
+     * @return the maximum value.
+     * @throws java.util.NoSuchElementException if no element is returned.
+     */
+    public long max();
+
+    /**
+     * Returns the smallest of the elements returned by this iterable.
+     *
+     * @return the minimum value.
+     * @throws java.util.NoSuchElementException if no element is returned.
+     */
+    public long min();
+
+    /**
+     * Combines the elements returned by this iterable, in the iteration order, by means of the
+     * specified reducer, starting from the passed initial value.
+     * <p/>
+     * Note that the elements are passed to the reducer as primitive values, so that no boxing is
+     * performed when possible.
+     *
+     * @param initialValue the initial value.
+     * @param reducer      the reducer instance.
+     * @return the reduced value.
+     */
+    public long reduce(long initialValue, LongReducer reducer);
+
+    /**
+     * Computes the sum of the elements returned by this iterable.
+     * <p/>
+     * Note that, in case of overflow, the result wraps around as in the Java arithmetic.
+     *
+     * @return the sum.
+     */
+    public long sum();
+
+    /**
+     * Returns the specified number of greatest elements returned by this iterable, sorted in
+     * descending order.
+     * <p/>
+     * The elements are selected in a single pass through a bounded heap, so that the whole
+     * collection is neither copied nor sorted.
+     *
+     * @param k the maximum number of elements to return.
+     * @return the new array.
+     */
+    public long[] topK(int k);
+
     /**
      * Creates and returns a new array filled with the elements returned by this iterable, in the
      * iteration order.
@@ -88,4 +200,50 @@ public interface LongSparseIterable extends ElementSparseIterable<Long> {
      * @return the new array.
      */
     public long[] toArray();
+
+    /**
+     * This interface defines an action to be applied to the iterable long elements.
+     */
+    public interface LongAction {
+
+        /**
+         * This function will be called for each element returned by the iterable.
+         *
+         * @param element the element value.
+         * @param count   the number of element iterated until now.
+         * @param index   the index of the element in the sparse collection.
+         */
+        public void onNext(long element, int count, int index);
+    }
+
+    /**
+     * This interface defines a condition to be applied to the iterable long elements.
+     */
+    public interface LongCondition {
+
+        /**
+         * This function will be called for each element returned by the iterable.
+         *
+         * @param element the element value.
+         * @param count   the number of element iterated until now.
+         * @param index   the index of the element in the sparse collection.
+         * @return whether the condition is satisfied.
+         */
+        public boolean onNext(long element, int count, int index);
+    }
+
+    /**
+     * This interface defines a reducer of the iterable long elements.
+     */
+    public interface LongReducer {
+
+        /**
+         * This function will be called for each element returned by the iterable.
+         *
+         * @param value   the value reduced so far.
+         * @param element the element value.
+         * @return the new reduced value.
+         */
+        public long reduce(long value, long element);
+    }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import android.os.Parcelable;
 import android.support.v4.util.SimpleArrayMap;
 
 import com.github.dm.rf.android.entry.ObjectSparseObjectEntry;
+import com.github.dm.rf.android.entry.ObjectSparseObjectJoinEntry;
 import com.github.dm.rf.android.entry.ParcelableObjectSparseObjectEntry;
 import com.github.dm.rf.android.entry.SimpleArrayMapEntry;
 import com.github.dm.rf.android.filter.Filter;
@@ -27,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.SortedMap;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link SparseIterable} one by adding specific methods handling
@@ -57,6 +59,13 @@ public interface SimpleArrayMapIterable<K, V> extends SparseIterable<SimpleArray
     @Override
     public SimpleArrayMapIterable<K, V> only(Filter<SimpleArrayMapEntry<K, V>> filter);
 
+    @Override
+    public SimpleArrayMapIterable<K, V> parallelForEach(Action<SimpleArrayMapEntry<K, V>> action);
+
+    @Override
+    public SimpleArrayMapIterable<K, V> parallelForEach(Action<SimpleArrayMapEntry<K,
+            V>> action, Executor executor);
+
     @Override
     public SimpleArrayMapIterable<K, V> remove();
 
@@ -150,6 +159,17 @@ public interface SimpleArrayMapIterable<K, V> extends SparseIterable<SimpleArray
      */
     public boolean containsValue(Object value);
 
+    /**
+     * Computes the changes turning the elements returned by this iterable into the ones of the
+     * specified sparse collection.
+     * <p/>
+     * Since the map keys are ordered by hash code, each key is looked up in the other map.
+     *
+     * @param other the sparse collection to compare.
+     * @return the change set.
+     */
+    public SparseDiff<SimpleArrayMap<K, V>> diff(SimpleArrayMap<K, V> other);
+
     /**
      * Fills the specified map with the elements returned by this iterable, in the iteration
      * order.
@@ -294,6 +314,22 @@ public interface SimpleArrayMapIterable<K, V> extends SparseIterable<SimpleArray
      */
     boolean isEqualTo(Map<?, ?> map);
 
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * Only the keys contained in both the collections are returned (inner join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @param <R>   the other collection value type.
+     * @return the iterable of the joined entries.
+     */
+    public <R> ElementSparseIterable<ObjectSparseObjectJoinEntry<K, V, R>> join(
+            SimpleArrayMap<K, R> other);
+
     /**
      * Returns this iterable elements keys as a
      * {@link ElementSparseIterable} object.
@@ -305,6 +341,41 @@ public interface SimpleArrayMapIterable<K, V> extends SparseIterable<SimpleArray
      */
     public ElementSparseIterable<K> keys();
 
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * All the elements returned by this iterable are returned, even if their key is not
+     * contained in the other collection (left join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @param <R>   the other collection value type.
+     * @return the iterable of the joined entries.
+     */
+    public <R> ElementSparseIterable<ObjectSparseObjectJoinEntry<K, V, R>> leftJoin(
+            SimpleArrayMap<K, R> other);
+
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * All the elements returned by this iterable are returned, followed by the elements of the
+     * other collection whose key is not returned by this iterable, in the collection order
+     * (full outer join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @param <R>   the other collection value type.
+     * @return the iterable of the joined entries.
+     */
+    public <R> ElementSparseIterable<ObjectSparseObjectJoinEntry<K, V, R>> outerJoin(
+            SimpleArrayMap<K, R> other);
+
     /**
      * Finds the position of the specified key in the iteration order.
      * <p/>
@@ -337,6 +408,21 @@ public interface SimpleArrayMapIterable<K, V> extends SparseIterable<SimpleArray
      */
     public SimpleArrayMapIterable<K, V> replaceValues(Translator<V, V> translator);
 
+    /**
+     * Returns a new iterable wrapping a copy of the elements matching the filters installed on
+     * this iterable, taken at the moment of the call.
+     * <p/>
+     * The returned iterable loops through the elements in the same order, but it shares no filter
+     * with this one, so that the two can be safely used at the same time, even while the original
+     * array map is being modified.<br/>
+     * Note that the copy must be taken while no other thread is modifying the array map, for
+     * example inside a {@link ConcurrentSparseCollection} read operation.<br/>
+     * The elements removed through the returned iterable are removed only from the copy.
+     *
+     * @return the new iterable.
+     */
+    public SimpleArrayMapIterable<K, V> snapshot();
+
     /**
      * Creates and returns a new array filled with an immutable copy of the elements returned by
      * this iterable, in the iteration order.
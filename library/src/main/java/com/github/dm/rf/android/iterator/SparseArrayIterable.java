@@ -17,17 +17,20 @@ import android.os.Parcelable;
 import android.util.SparseArray;
 
 import com.github.dm.rf.android.entry.IntSparseObjectEntry;
+import com.github.dm.rf.android.entry.IntSparseObjectJoinEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseObjectEntry;
 import com.github.dm.rf.android.entry.SparseArrayEntry;
 import com.github.dm.rf.android.filter.Filter;
 import com.github.dm.rf.android.filter.SparseArrayFilterBuilder;
 import com.github.dm.rf.android.translator.IntTranslator;
+import com.github.dm.rf.android.translator.ToIntTranslator;
 import com.github.dm.rf.android.translator.Translator;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.SortedMap;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link SparseIterable} one by adding specific methods handling
@@ -65,6 +68,13 @@ public interface SparseArrayIterable<V> extends SparseIterable<SparseArrayEntry<
     @Override
     public SparseArrayIterable<V> only(Filter<SparseArrayEntry<V>> filter);
 
+    @Override
+    public SparseArrayIterable<V> parallelForEach(Action<SparseArrayEntry<V>> action);
+
+    @Override
+    public SparseArrayIterable<V> parallelForEach(Action<SparseArrayEntry<V>> action,
+            Executor executor);
+
     @Override
     public SparseArrayIterable<V> remove();
 
@@ -158,6 +168,17 @@ public interface SparseArrayIterable<V> extends SparseIterable<SparseArrayEntry<
      */
     public boolean containsValue(Object value);
 
+    /**
+     * Computes the changes turning the elements returned by this iterable into the ones of the
+     * specified sparse collection.
+     * <p/>
+     * Since the keys are sorted, the two collections are compared in a single merge pass.
+     *
+     * @param other the sparse collection to compare.
+     * @return the change set.
+     */
+    public SparseDiff<SparseArray<V>> diff(SparseArray<V> other);
+
     /**
      * Fills the specified map with the elements returned by this iterable, in the iteration
      * order.
@@ -275,6 +296,15 @@ public interface SparseArrayIterable<V> extends SparseIterable<SparseArrayEntry<
      */
     public int firstPositionOfValue(Object value);
 
+    /**
+     * Groups the values of the elements returned by this iterable, in the iteration order, based
+     * on the int key computed by the specified translator.
+     *
+     * @param keyTranslator the translator computing the group key.
+     * @return the sparse collection of the groups.
+     */
+    public SparseArray<ArrayList<V>> groupBy(ToIntTranslator<V> keyTranslator);
+
     /**
      * Finds the index of the specified key in the iteration order.
      *
@@ -283,6 +313,15 @@ public interface SparseArrayIterable<V> extends SparseIterable<SparseArrayEntry<
      */
     public int indexOfKey(int key);
 
+    /**
+     * Returns a new {@link android.util.SparseArray} collection filled with the elements returned
+     * by this iterable whose keys are also contained in the specified sparse collection.
+     *
+     * @param other the sparse collection to intersect.
+     * @return the new collection instance.
+     */
+    public SparseArray<V> intersect(SparseArray<V> other);
+
     /**
      * Checks if all and only the elements returned by the this iterable are contained in the
      * specified sparse collection.
@@ -301,6 +340,21 @@ public interface SparseArrayIterable<V> extends SparseIterable<SparseArrayEntry<
      */
     boolean isEqualTo(Map<?, ?> map);
 
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * Only the keys contained in both the collections are returned (inner join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @param <R>   the other collection value type.
+     * @return the iterable of the joined entries.
+     */
+    public <R> ElementSparseIterable<IntSparseObjectJoinEntry<V, R>> join(SparseArray<R> other);
+
     /**
      * Returns this iterable elements keys as a
      * {@link IntSparseIterable} object.
@@ -312,6 +366,40 @@ public interface SparseArrayIterable<V> extends SparseIterable<SparseArrayEntry<
      */
     public IntSparseIterable keys();
 
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * All the elements returned by this iterable are returned, even if their key is not
+     * contained in the other collection (left join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @param <R>   the other collection value type.
+     * @return the iterable of the joined entries.
+     */
+    public <R> ElementSparseIterable<IntSparseObjectJoinEntry<V, R>> leftJoin(SparseArray<R> other);
+
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * All the elements returned by this iterable are returned, followed by the elements of the
+     * other collection whose key is not returned by this iterable, in the collection order
+     * (full outer join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @param <R>   the other collection value type.
+     * @return the iterable of the joined entries.
+     */
+    public <R> ElementSparseIterable<IntSparseObjectJoinEntry<V, R>> outerJoin(
+            SparseArray<R> other);
+
     /**
      * Finds the position of the specified key in the iteration order.
      * <p/>
@@ -344,6 +432,40 @@ public interface SparseArrayIterable<V> extends SparseIterable<SparseArrayEntry<
      */
     public SparseArrayIterable<V> replaceValues(Translator<V, V> translator);
 
+    /**
+     * Returns a new iterable wrapping a copy of the elements matching the filters installed on
+     * this iterable, taken at the moment of the call.
+     * <p/>
+     * The returned iterable loops through the elements in the same order, but it shares no filter
+     * with this one, so that the two can be safely used at the same time, even while the original
+     * sparse array is being modified.<br/>
+     * Note that the copy must be taken while no other thread is modifying the sparse array, for
+     * example inside a {@link ConcurrentSparseCollection} read operation.<br/>
+     * The elements removed through the returned iterable are removed only from the copy.
+     *
+     * @return the new iterable.
+     */
+    public SparseArrayIterable<V> snapshot();
+
+    /**
+     * Returns a new {@link android.util.SparseArray} collection filled with the elements returned
+     * by this iterable whose keys are not contained in the specified sparse collection.
+     *
+     * @param other the sparse collection to subtract.
+     * @return the new collection instance.
+     */
+    public SparseArray<V> subtract(SparseArray<V> other);
+
+    /**
+     * Returns a new {@link android.util.SparseArray} collection filled with the elements returned
+     * by this iterable whose keys are not contained in the specified sparse collection, and with
+     * the elements of the latter whose keys are not returned by this iterable.
+     *
+     * @param other the other sparse collection.
+     * @return the new collection instance.
+     */
+    public SparseArray<V> symmetricDifference(SparseArray<V> other);
+
     /**
      * Creates and returns a new array filled with an immutable copy of the elements returned by
      * this iterable, in the iteration order.
@@ -454,6 +576,18 @@ public interface SparseArrayIterable<V> extends SparseIterable<SparseArrayEntry<
      */
     public <T> SparseArrayIterable<T> translateValues(Translator<V, T> valueTranslator);
 
+    /**
+     * Returns a new {@link android.util.SparseArray} collection filled with the elements returned
+     * by this iterable, and with the elements of the specified sparse collection whose keys are not
+     * returned by this iterable.
+     * <p/>
+     * Note that, when a key is contained in both, the value returned by this iterable is retained.
+     *
+     * @param other the sparse collection to unite.
+     * @return the new collection instance.
+     */
+    public SparseArray<V> union(SparseArray<V> other);
+
     /**
      * Returns this iterable elements values as a
      * {@link ElementSparseIterable} object.
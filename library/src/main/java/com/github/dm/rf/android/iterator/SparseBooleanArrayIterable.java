@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.SortedMap;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link SparseIterable} one by adding specific methods handling
@@ -63,6 +64,13 @@ public interface SparseBooleanArrayIterable extends SparseIterable<SparseBoolean
     @Override
     public SparseBooleanArrayIterable only(Filter<SparseBooleanArrayEntry> filter);
 
+    @Override
+    public SparseBooleanArrayIterable parallelForEach(Action<SparseBooleanArrayEntry> action);
+
+    @Override
+    public SparseBooleanArrayIterable parallelForEach(Action<SparseBooleanArrayEntry> action,
+            Executor executor);
+
     @Override
     public SparseBooleanArrayIterable remove();
 
@@ -156,6 +164,17 @@ public interface SparseBooleanArrayIterable extends SparseIterable<SparseBoolean
      */
     public boolean containsValue(boolean value);
 
+    /**
+     * Computes the changes turning the elements returned by this iterable into the ones of the
+     * specified sparse collection.
+     * <p/>
+     * Since the keys are sorted, the two collections are compared in a single merge pass.
+     *
+     * @param other the sparse collection to compare.
+     * @return the change set.
+     */
+    public SparseDiff<SparseBooleanArray> diff(SparseBooleanArray other);
+
     /**
      * Fills the specified map with the elements returned by this iterable, in the iteration
      * order.
@@ -281,6 +300,15 @@ public interface SparseBooleanArrayIterable extends SparseIterable<SparseBoolean
      */
     public int indexOfKey(int key);
 
+    /**
+     * Returns a new {@link android.util.SparseBooleanArray} collection filled with the elements
+     * returned by this iterable whose keys are also contained in the specified sparse collection.
+     *
+     * @param other the sparse collection to intersect.
+     * @return the new collection instance.
+     */
+    public SparseBooleanArray intersect(SparseBooleanArray other);
+
     /**
      * Checks if all and only the elements returned by the this iterable are contained in the
      * specified sparse collection.
@@ -342,6 +370,40 @@ public interface SparseBooleanArrayIterable extends SparseIterable<SparseBoolean
      */
     public SparseBooleanArrayIterable replaceValues(BooleanTranslator translator);
 
+    /**
+     * Returns a new iterable wrapping a copy of the elements matching the filters installed on
+     * this iterable, taken at the moment of the call.
+     * <p/>
+     * The returned iterable loops through the elements in the same order, but it shares no filter
+     * with this one, so that the two can be safely used at the same time, even while the original
+     * sparse array is being modified.<br/>
+     * Note that the copy must be taken while no other thread is modifying the sparse array, for
+     * example inside a {@link ConcurrentSparseCollection} read operation.<br/>
+     * The elements removed through the returned iterable are removed only from the copy.
+     *
+     * @return the new iterable.
+     */
+    public SparseBooleanArrayIterable snapshot();
+
+    /**
+     * Returns a new {@link android.util.SparseBooleanArray} collection filled with the elements
+     * returned by this iterable whose keys are not contained in the specified sparse collection.
+     *
+     * @param other the sparse collection to subtract.
+     * @return the new collection instance.
+     */
+    public SparseBooleanArray subtract(SparseBooleanArray other);
+
+    /**
+     * Returns a new {@link android.util.SparseBooleanArray} collection filled with the elements
+     * returned by this iterable whose keys are not contained in the specified sparse collection,
+     * and with the elements of the latter whose keys are not returned by this iterable.
+     *
+     * @param other the other sparse collection.
+     * @return the new collection instance.
+     */
+    public SparseBooleanArray symmetricDifference(SparseBooleanArray other);
+
     /**
      * Creates and returns a new array filled with an immutable copy of the elements returned by
      * this iterable, in the iteration order.
@@ -450,6 +512,18 @@ public interface SparseBooleanArrayIterable extends SparseIterable<SparseBoolean
      */
     public SparseBooleanArrayIterable translateValues(BooleanTranslator valueTranslator);
 
+    /**
+     * Returns a new {@link android.util.SparseBooleanArray} collection filled with the elements
+     * returned by this iterable, and with the elements of the specified sparse collection whose
+     * keys are not returned by this iterable.
+     * <p/>
+     * Note that, when a key is contained in both, the value returned by this iterable is retained.
+     *
+     * @param other the sparse collection to unite.
+     * @return the new collection instance.
+     */
+    public SparseBooleanArray union(SparseBooleanArray other);
+
     /**
      * Returns this iterable elements values as a
      * {@link BooleanSparseIterable} object.
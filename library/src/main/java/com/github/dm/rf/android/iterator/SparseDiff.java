@@ -0,0 +1,70 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.iterator;
+
+/**
+ * This interface defines the set of changes turning the elements returned by a sparse iterable
+ * into the ones of another sparse collection.
+ * <p/>
+ * The changes are stored into three sparse collections of the same type as the compared one,
+ * respectively containing the added elements, the elements whose value has changed and the removed
+ * ones.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ *
+ * @param <C> the sparse collection type.
+ */
+public interface SparseDiff<C> {
+
+    /**
+     * Returns the elements of the other collection whose key is not returned by the iterable.
+     *
+     * @return the added elements.
+     */
+    public C added();
+
+    /**
+     * Applies the changes to the specified sparse collection.
+     * <p/>
+     * The added elements are put into the collection, while the removed ones are deleted from it.
+     * The changed values are applied only to the keys already contained in the collection.
+     *
+     * @param target the sparse collection to modify.
+     */
+    public void applyTo(C target);
+
+    /**
+     * Returns the elements of the other collection whose key is also returned by the iterable but
+     * whose value is different.
+     *
+     * @return the changed elements.
+     */
+    public C changed();
+
+    /**
+     * Checks if there is no change at all, that is, the iterable and the other collection contain
+     * the same elements.
+     *
+     * @return whether the change set is empty.
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns the elements returned by the iterable whose key is not contained in the other
+     * collection.
+     *
+     * @return the removed elements.
+     */
+    public C removed();
+}
\ No newline at end of file
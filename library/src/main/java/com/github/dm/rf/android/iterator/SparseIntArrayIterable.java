@@ -17,6 +17,7 @@ import android.os.Parcelable;
 import android.util.SparseIntArray;
 
 import com.github.dm.rf.android.entry.IntSparseIntEntry;
+import com.github.dm.rf.android.entry.IntSparseIntJoinEntry;
 import com.github.dm.rf.android.entry.ParcelableIntSparseIntEntry;
 import com.github.dm.rf.android.entry.SparseIntArrayEntry;
 import com.github.dm.rf.android.filter.Filter;
@@ -27,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.SortedMap;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link SparseIterable} one by adding specific methods handling
@@ -62,6 +64,13 @@ public interface SparseIntArrayIterable extends SparseIterable<SparseIntArrayEnt
     @Override
     public SparseIntArrayIterable only(Filter<SparseIntArrayEntry> filter);
 
+    @Override
+    public SparseIntArrayIterable parallelForEach(Action<SparseIntArrayEntry> action);
+
+    @Override
+    public SparseIntArrayIterable parallelForEach(Action<SparseIntArrayEntry> action,
+            Executor executor);
+
     @Override
     public SparseIntArrayIterable remove();
 
@@ -155,6 +164,17 @@ public interface SparseIntArrayIterable extends SparseIterable<SparseIntArrayEnt
      */
     public boolean containsValue(int value);
 
+    /**
+     * Computes the changes turning the elements returned by this iterable into the ones of the
+     * specified sparse collection.
+     * <p/>
+     * Since the keys are sorted, the two collections are compared in a single merge pass.
+     *
+     * @param other the sparse collection to compare.
+     * @return the change set.
+     */
+    public SparseDiff<SparseIntArray> diff(SparseIntArray other);
+
     /**
      * Fills the specified map with the elements returned by this iterable, in the iteration
      * order.
@@ -271,6 +291,17 @@ public interface SparseIntArrayIterable extends SparseIterable<SparseIntArrayEnt
      */
     public int firstPositionOfValue(int value);
 
+    /**
+     * Applies the specified action to each entry returned by this iterable.
+     * <p/>
+     * Note that the entry keys and values are passed to the action as primitive values, so that no
+     * object is created during the iteration.
+     *
+     * @param action the action to apply.
+     * @return this iterable.
+     */
+    public SparseIntArrayIterable forEachEntry(EntryAction action);
+
     /**
      * Finds the index of the specified key in the iteration order.
      *
@@ -279,6 +310,15 @@ public interface SparseIntArrayIterable extends SparseIterable<SparseIntArrayEnt
      */
     public int indexOfKey(int key);
 
+    /**
+     * Returns a new {@link android.util.SparseIntArray} collection filled with the elements
+     * returned by this iterable whose keys are also contained in the specified sparse collection.
+     *
+     * @param other the sparse collection to intersect.
+     * @return the new collection instance.
+     */
+    public SparseIntArray intersect(SparseIntArray other);
+
     /**
      * Checks if all and only the elements returned by the this iterable are contained in the
      * specified sparse collection.
@@ -297,6 +337,20 @@ public interface SparseIntArrayIterable extends SparseIterable<SparseIntArrayEnt
      */
     boolean isEqualTo(Map<?, ?> map);
 
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * Only the keys contained in both the collections are returned (inner join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @return the iterable of the joined entries.
+     */
+    public ElementSparseIterable<IntSparseIntJoinEntry> join(SparseIntArray other);
+
     /**
      * Returns this iterable elements keys as a
      * {@link IntSparseIterable} object.
@@ -308,6 +362,37 @@ public interface SparseIntArrayIterable extends SparseIterable<SparseIntArrayEnt
      */
     public IntSparseIterable keys();
 
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * All the elements returned by this iterable are returned, even if their key is not
+     * contained in the other collection (left join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @return the iterable of the joined entries.
+     */
+    public ElementSparseIterable<IntSparseIntJoinEntry> leftJoin(SparseIntArray other);
+
+    /**
+     * Returns an iterable joining the elements returned by this iterable with the ones of the
+     * specified sparse collection having the same key.
+     * <p/>
+     * All the elements returned by this iterable are returned, followed by the elements of the
+     * other collection whose key is not returned by this iterable, in the collection order
+     * (full outer join).
+     * <p/>
+     * The returned entries are read only and are filled by the iterator at each step, so they
+     * must not be retained across iterations.
+     *
+     * @param other the sparse collection to join.
+     * @return the iterable of the joined entries.
+     */
+    public ElementSparseIterable<IntSparseIntJoinEntry> outerJoin(SparseIntArray other);
+
     /**
      * Finds the position of the specified key in the iteration order.
      * <p/>
@@ -340,6 +425,40 @@ public interface SparseIntArrayIterable extends SparseIterable<SparseIntArrayEnt
      */
     public SparseIntArrayIterable replaceValues(IntTranslator translator);
 
+    /**
+     * Returns a new iterable wrapping a copy of the elements matching the filters installed on
+     * this iterable, taken at the moment of the call.
+     * <p/>
+     * The returned iterable loops through the elements in the same order, but it shares no filter
+     * with this one, so that the two can be safely used at the same time, even while the original
+     * sparse array is being modified.<br/>
+     * Note that the copy must be taken while no other thread is modifying the sparse array, for
+     * example inside a {@link ConcurrentSparseCollection} read operation.<br/>
+     * The elements removed through the returned iterable are removed only from the copy.
+     *
+     * @return the new iterable.
+     */
+    public SparseIntArrayIterable snapshot();
+
+    /**
+     * Returns a new {@link android.util.SparseIntArray} collection filled with the elements
+     * returned by this iterable whose keys are not contained in the specified sparse collection.
+     *
+     * @param other the sparse collection to subtract.
+     * @return the new collection instance.
+     */
+    public SparseIntArray subtract(SparseIntArray other);
+
+    /**
+     * Returns a new {@link android.util.SparseIntArray} collection filled with the elements
+     * returned by this iterable whose keys are not contained in the specified sparse collection,
+     * and with the elements of the latter whose keys are not returned by this iterable.
+     *
+     * @param other the other sparse collection.
+     * @return the new collection instance.
+     */
+    public SparseIntArray symmetricDifference(SparseIntArray other);
+
     /**
      * Creates and returns a new array filled with an immutable copy of the elements returned by
      * this iterable, in the iteration order.
@@ -448,6 +567,18 @@ public interface SparseIntArrayIterable extends SparseIterable<SparseIntArrayEnt
      */
     public SparseIntArrayIterable translateValues(IntTranslator valueTranslator);
 
+    /**
+     * Returns a new {@link android.util.SparseIntArray} collection filled with the elements
+     * returned by this iterable, and with the elements of the specified sparse collection whose
+     * keys are not returned by this iterable.
+     * <p/>
+     * Note that, when a key is contained in both, the value returned by this iterable is retained.
+     *
+     * @param other the sparse collection to unite.
+     * @return the new collection instance.
+     */
+    public SparseIntArray union(SparseIntArray other);
+
     /**
      * Returns this iterable elements values as a
      * {@link IntSparseIterable} object.
@@ -458,4 +589,20 @@ public interface SparseIntArrayIterable extends SparseIterable<SparseIntArrayEnt
      * @return the values iterable.
      */
     public IntSparseIterable values();
+
+    /**
+     * This interface defines an action to be applied to the iterable entries.
+     */
+    public interface EntryAction {
+
+        /**
+         * This function will be called for each entry returned by the iterable.
+         *
+         * @param key   the entry key.
+         * @param value the entry value.
+         * @param count the number of entries iterated until now.
+         * @param index the index of the entry in the sparse collection.
+         */
+        public void onNext(int key, int value, int count, int index);
+    }
 }
\ No newline at end of file
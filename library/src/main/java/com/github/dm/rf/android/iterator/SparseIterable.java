@@ -20,6 +20,7 @@ import com.github.dm.rf.android.translator.Translator;
 import com.github.dm.rf.android.v18.SparseCollections;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 /**
  * This interface defines the base functionalities of an {@link java.lang.Iterable} wrapping an
@@ -106,6 +107,16 @@ public interface SparseIterable<E> extends Iterable<E> {
      */
     public boolean containsAny(Iterable<?> elements);
 
+    /**
+     * Returns the number of elements returned by the current filtered iterator.
+     * <p/>
+     * Note that, when no filter is applied, the count is directly read from the size of the
+     * backing sparse collection, without looping through the elements.
+     *
+     * @return the element count.
+     */
+    public int count();
+
     /**
      * Returns the total number of times an element equal to the specified one is encountered
      * during the iteration.
@@ -201,6 +212,82 @@ public interface SparseIterable<E> extends Iterable<E> {
      */
     public SparseIterable<E> only(Filter<E> filter);
 
+    /**
+     * Checks if any of the elements returned by this iterable satisfies the specified condition,
+     * by evaluating it in parallel on the default executor.
+     *
+     * @param condition the condition to verify.
+     * @return whether the condition is satisfied.
+     * @see #parallelAny(Condition, Executor)
+     */
+    public boolean parallelAny(Condition<E> condition);
+
+    /**
+     * Checks if any of the elements returned by this iterable satisfies the specified condition,
+     * by evaluating it in parallel.
+     * <p/>
+     * The positions of the backing sparse collection are split in chunks of contiguous elements,
+     * which are processed concurrently by the executor threads and by the calling thread, each
+     * one employing its own iterator. The iteration stops as soon as the condition is satisfied.
+     * <br/>
+     * When the backing collection cannot be split, or when a filter depends on the iteration
+     * order or count, the elements are iterated sequentially in the calling thread instead.
+     * <p/>
+     * Note that the condition must be thread safe, and that the count passed to it is the number
+     * of elements previously iterated inside the same chunk.
+     *
+     * @param condition the condition to verify.
+     * @param executor  the executor instance.
+     * @return whether the condition is satisfied.
+     */
+    public boolean parallelAny(Condition<E> condition, Executor executor);
+
+    /**
+     * Counts the elements returned by this iterable which satisfy the specified condition, by
+     * evaluating it in parallel on the default executor.
+     *
+     * @param condition the condition to verify.
+     * @return the number of elements satisfying the condition.
+     * @see #parallelCount(Condition, Executor)
+     */
+    public int parallelCount(Condition<E> condition);
+
+    /**
+     * Counts the elements returned by this iterable which satisfy the specified condition, by
+     * evaluating it in parallel.
+     * <p/>
+     * See {@link #parallelAny(Condition, Executor)} for the details about how the elements are
+     * split and processed.
+     *
+     * @param condition the condition to verify.
+     * @param executor  the executor instance.
+     * @return the number of elements satisfying the condition.
+     */
+    public int parallelCount(Condition<E> condition, Executor executor);
+
+    /**
+     * Applies the specified action to all the elements returned by this iterable, in parallel on
+     * the default executor.
+     *
+     * @param action the action to apply.
+     * @return this iterable.
+     * @see #parallelForEach(Action, Executor)
+     */
+    public SparseIterable<E> parallelForEach(Action<E> action);
+
+    /**
+     * Applies the specified action to all the elements returned by this iterable, in parallel.
+     * <p/>
+     * See {@link #parallelAny(Condition, Executor)} for the details about how the elements are
+     * split and processed. The method returns only after the action has been applied to all the
+     * elements, in no specific order.
+     *
+     * @param action   the action to apply.
+     * @param executor the executor instance.
+     * @return this iterable.
+     */
+    public SparseIterable<E> parallelForEach(Action<E> action, Executor executor);
+
     /**
      * Removes from the wrapped sparse collection all the elements returned by this iterable.
      *
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.SortedMap;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link SparseIterable} one by adding specific methods handling
@@ -65,6 +66,13 @@ public interface SparseLongArrayIterable extends SparseIterable<SparseLongArrayE
     @Override
     public SparseLongArrayIterable only(Filter<SparseLongArrayEntry> filter);
 
+    @Override
+    public SparseLongArrayIterable parallelForEach(Action<SparseLongArrayEntry> action);
+
+    @Override
+    public SparseLongArrayIterable parallelForEach(Action<SparseLongArrayEntry> action,
+            Executor executor);
+
     @Override
     public SparseLongArrayIterable remove();
 
@@ -158,6 +166,17 @@ public interface SparseLongArrayIterable extends SparseIterable<SparseLongArrayE
      */
     public boolean containsValue(long value);
 
+    /**
+     * Computes the changes turning the elements returned by this iterable into the ones of the
+     * specified sparse collection.
+     * <p/>
+     * Since the keys are sorted, the two collections are compared in a single merge pass.
+     *
+     * @param other the sparse collection to compare.
+     * @return the change set.
+     */
+    public SparseDiff<SparseLongArray> diff(SparseLongArray other);
+
     /**
      * Fills the specified map with the elements returned by this iterable, in the iteration
      * order.
@@ -282,6 +301,15 @@ public interface SparseLongArrayIterable extends SparseIterable<SparseLongArrayE
      */
     public int indexOfKey(int key);
 
+    /**
+     * Returns a new {@link android.util.SparseLongArray} collection filled with the elements
+     * returned by this iterable whose keys are also contained in the specified sparse collection.
+     *
+     * @param other the sparse collection to intersect.
+     * @return the new collection instance.
+     */
+    public SparseLongArray intersect(SparseLongArray other);
+
     /**
      * Checks if all and only the elements returned by the this iterable are contained in the
      * specified sparse collection.
@@ -343,6 +371,40 @@ public interface SparseLongArrayIterable extends SparseIterable<SparseLongArrayE
      */
     public SparseLongArrayIterable replaceValues(LongTranslator translator);
 
+    /**
+     * Returns a new iterable wrapping a copy of the elements matching the filters installed on
+     * this iterable, taken at the moment of the call.
+     * <p/>
+     * The returned iterable loops through the elements in the same order, but it shares no filter
+     * with this one, so that the two can be safely used at the same time, even while the original
+     * sparse array is being modified.<br/>
+     * Note that the copy must be taken while no other thread is modifying the sparse array, for
+     * example inside a {@link ConcurrentSparseCollection} read operation.<br/>
+     * The elements removed through the returned iterable are removed only from the copy.
+     *
+     * @return the new iterable.
+     */
+    public SparseLongArrayIterable snapshot();
+
+    /**
+     * Returns a new {@link android.util.SparseLongArray} collection filled with the elements
+     * returned by this iterable whose keys are not contained in the specified sparse collection.
+     *
+     * @param other the sparse collection to subtract.
+     * @return the new collection instance.
+     */
+    public SparseLongArray subtract(SparseLongArray other);
+
+    /**
+     * Returns a new {@link android.util.SparseLongArray} collection filled with the elements
+     * returned by this iterable whose keys are not contained in the specified sparse collection,
+     * and with the elements of the latter whose keys are not returned by this iterable.
+     *
+     * @param other the other sparse collection.
+     * @return the new collection instance.
+     */
+    public SparseLongArray symmetricDifference(SparseLongArray other);
+
     /**
      * Creates and returns a new array filled with an immutable copy of the elements returned by
      * this iterable, in the iteration order.
@@ -451,6 +513,18 @@ public interface SparseLongArrayIterable extends SparseIterable<SparseLongArrayE
      */
     public SparseLongArrayIterable translateValues(LongTranslator valueTranslator);
 
+    /**
+     * Returns a new {@link android.util.SparseLongArray} collection filled with the elements
+     * returned by this iterable, and with the elements of the specified sparse collection whose
+     * keys are not returned by this iterable.
+     * <p/>
+     * Note that, when a key is contained in both, the value returned by this iterable is retained.
+     *
+     * @param other the sparse collection to unite.
+     * @return the new collection instance.
+     */
+    public SparseLongArray union(SparseLongArray other);
+
     /**
      * Returns this iterable elements values as a
      * {@link LongSparseIterable} object.
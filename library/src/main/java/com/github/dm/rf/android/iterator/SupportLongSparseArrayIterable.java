@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.SortedMap;
+import java.util.concurrent.Executor;
 
 /**
  * This interface extends the {@link SparseIterable} one by adding specific methods handling
@@ -65,6 +66,14 @@ public interface SupportLongSparseArrayIterable<V> extends SparseIterable<LongSp
     @Override
     public SupportLongSparseArrayIterable<V> only(Filter<LongSparseArrayEntry<V>> filter);
 
+    @Override
+    public SupportLongSparseArrayIterable<V> parallelForEach(
+            Action<LongSparseArrayEntry<V>> action);
+
+    @Override
+    public SupportLongSparseArrayIterable<V> parallelForEach(Action<LongSparseArrayEntry<V>> action,
+            Executor executor);
+
     @Override
     public SupportLongSparseArrayIterable<V> remove();
 
@@ -158,6 +167,17 @@ public interface SupportLongSparseArrayIterable<V> extends SparseIterable<LongSp
      */
     public boolean containsValue(Object value);
 
+    /**
+     * Computes the changes turning the elements returned by this iterable into the ones of the
+     * specified sparse collection.
+     * <p/>
+     * Since the keys are sorted, the two collections are compared in a single merge pass.
+     *
+     * @param other the sparse collection to compare.
+     * @return the change set.
+     */
+    public SparseDiff<LongSparseArray<V>> diff(LongSparseArray<V> other);
+
     /**
      * Fills the specified map with the elements returned by this iterable, in the iteration
      * order.
@@ -284,6 +304,16 @@ public interface SupportLongSparseArrayIterable<V> extends SparseIterable<LongSp
      */
     public int indexOfKey(long key);
 
+    /**
+     * Returns a new {@link android.support.v4.util.LongSparseArray} collection filled with the
+     * elements returned by this iterable whose keys are also contained in the specified sparse
+     * collection.
+     *
+     * @param other the sparse collection to intersect.
+     * @return the new collection instance.
+     */
+    public LongSparseArray<V> intersect(LongSparseArray<V> other);
+
     /**
      * Checks if all and only the elements returned by the this iterable are contained in the
      * specified sparse collection.
@@ -345,6 +375,41 @@ public interface SupportLongSparseArrayIterable<V> extends SparseIterable<LongSp
      */
     public SupportLongSparseArrayIterable<V> replaceValues(Translator<V, V> translator);
 
+    /**
+     * Returns a new iterable wrapping a copy of the elements matching the filters installed on
+     * this iterable, taken at the moment of the call.
+     * <p/>
+     * The returned iterable loops through the elements in the same order, but it shares no filter
+     * with this one, so that the two can be safely used at the same time, even while the original
+     * sparse array is being modified.<br/>
+     * Note that the copy must be taken while no other thread is modifying the sparse array, for
+     * example inside a {@link ConcurrentSparseCollection} read operation.<br/>
+     * The elements removed through the returned iterable are removed only from the copy.
+     *
+     * @return the new iterable.
+     */
+    public SupportLongSparseArrayIterable<V> snapshot();
+
+    /**
+     * Returns a new {@link android.support.v4.util.LongSparseArray} collection filled with the
+     * elements returned by this iterable whose keys are not contained in the specified sparse
+     * collection.
+     *
+     * @param other the sparse collection to subtract.
+     * @return the new collection instance.
+     */
+    public LongSparseArray<V> subtract(LongSparseArray<V> other);
+
+    /**
+     * Returns a new {@link android.support.v4.util.LongSparseArray} collection filled with the
+     * elements returned by this iterable whose keys are not contained in the specified sparse
+     * collection, and with the elements of the latter whose keys are not returned by this iterable.
+     *
+     * @param other the other sparse collection.
+     * @return the new collection instance.
+     */
+    public LongSparseArray<V> symmetricDifference(LongSparseArray<V> other);
+
     /**
      * Creates and returns a new array filled with an immutable copy of the elements returned by
      * this iterable, in the iteration order.
@@ -455,6 +520,18 @@ public interface SupportLongSparseArrayIterable<V> extends SparseIterable<LongSp
      */
     public <T> SupportLongSparseArrayIterable<T> translateValues(Translator<V, T> valueTranslator);
 
+    /**
+     * Returns a new {@link android.support.v4.util.LongSparseArray} collection filled with the
+     * elements returned by this iterable, and with the elements of the specified sparse collection
+     * whose keys are not returned by this iterable.
+     * <p/>
+     * Note that, when a key is contained in both, the value returned by this iterable is retained.
+     *
+     * @param other the sparse collection to unite.
+     * @return the new collection instance.
+     */
+    public LongSparseArray<V> union(LongSparseArray<V> other);
+
     /**
      * Returns this iterable elements values as a
      * {@link ElementSparseIterable} object.
@@ -0,0 +1,32 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dm.rf.android.translator;
+
+/**
+ * This interface defines a resolver of the conflicts between int values associated with the same
+ * key in different collections.
+ * <p/>
+ * Created by davide-maestroni on 10/18/26.
+ */
+public interface IntConflictResolver {
+
+    /**
+     * Resolves the conflict between the specified values.
+     *
+     * @param value the value resolved so far.
+     * @param other the conflicting value.
+     * @return the resolved value.
+     */
+    public int resolve(int value, int other);
+}
\ No newline at end of file
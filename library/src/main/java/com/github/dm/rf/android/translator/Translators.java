@@ -17,8 +17,8 @@ import com.github.dm.rf.android.entry.IntSparseEntry;
 import com.github.dm.rf.android.entry.LongSparseEntry;
 import com.github.dm.rf.android.entry.ObjectSparseEntry;
 import com.github.dm.rf.android.entry.SparseBooleanArrayEntry;
-import com.github.dm.rf.android.entry.SparseIntArrayEntry;
-import com.github.dm.rf.android.entry.SparseLongArrayEntry;
+import com.github.dm.rf.android.entry.SparseIntEntry;
+import com.github.dm.rf.android.entry.SparseLongEntry;
 import com.github.dm.rf.android.entry.SparseObjectEntry;
 
 /**
@@ -46,17 +46,17 @@ public class Translators {
 
     private static volatile ToIntTranslator<IntSparseEntry> sIntKeyTranslator;
 
-    private static volatile Translator<SparseIntArrayEntry, ?> sIntValueObjectTranslator;
+    private static volatile Translator<SparseIntEntry, ?> sIntValueObjectTranslator;
 
-    private static volatile ToIntTranslator<SparseIntArrayEntry> sIntValueTranslator;
+    private static volatile ToIntTranslator<SparseIntEntry> sIntValueTranslator;
 
     private static volatile Translator<LongSparseEntry, ?> sLongKeyObjectTranslator;
 
     private static volatile ToLongTranslator<LongSparseEntry> sLongKeyTranslator;
 
-    private static volatile Translator<SparseLongArrayEntry, ?> sLongValueObjectTranslator;
+    private static volatile Translator<SparseLongEntry, ?> sLongValueObjectTranslator;
 
-    private static volatile ToLongTranslator<SparseLongArrayEntry> sLongValueTranslator;
+    private static volatile ToLongTranslator<SparseLongEntry> sLongValueTranslator;
 
     private static volatile Translator<ObjectSparseEntry<?>, ?> sObjectKeyTranslator;
 
@@ -391,19 +391,19 @@ public class Translators {
 
     /**
      * Returns a translator which extracts the int value from
-     * {@link SparseIntArrayEntry} elements.
+     * {@link SparseIntEntry} elements.
      *
      * @param <E> the element type.
      * @return the translator.
      */
-    public static <E extends SparseIntArrayEntry> ToIntTranslator<E> intValue() {
+    public static <E extends SparseIntEntry> ToIntTranslator<E> intValue() {
 
         if (sIntValueTranslator == null) {
 
-            sIntValueTranslator = new ToIntTranslator<SparseIntArrayEntry>() {
+            sIntValueTranslator = new ToIntTranslator<SparseIntEntry>() {
 
                 @Override
-                public int translate(final SparseIntArrayEntry element) {
+                public int translate(final SparseIntEntry element) {
 
                     return element.getValue();
                 }
@@ -416,19 +416,19 @@ public class Translators {
 
     /**
      * Returns a translator which extracts the int value as an object from
-     * {@link SparseIntArrayEntry} elements.
+     * {@link SparseIntEntry} elements.
      *
      * @param <E> the element type.
      * @return the translator.
      */
-    public static <E extends SparseIntArrayEntry> Translator<E, ?> intValueObject() {
+    public static <E extends SparseIntEntry> Translator<E, ?> intValueObject() {
 
         if (sIntValueObjectTranslator == null) {
 
-            sIntValueObjectTranslator = new Translator<SparseIntArrayEntry, Object>() {
+            sIntValueObjectTranslator = new Translator<SparseIntEntry, Object>() {
 
                 @Override
-                public Object translate(final SparseIntArrayEntry element) {
+                public Object translate(final SparseIntEntry element) {
 
                     return element.getValue();
                 }
@@ -520,19 +520,19 @@ public class Translators {
 
     /**
      * Returns a translator which extracts the long value from
-     * {@link SparseLongArrayEntry} elements.
+     * {@link SparseLongEntry} elements.
      *
      * @param <E> the element type.
      * @return the translator.
      */
-    public static <E extends SparseLongArrayEntry> ToLongTranslator<E> longValue() {
+    public static <E extends SparseLongEntry> ToLongTranslator<E> longValue() {
 
         if (sLongValueTranslator == null) {
 
-            sLongValueTranslator = new ToLongTranslator<SparseLongArrayEntry>() {
+            sLongValueTranslator = new ToLongTranslator<SparseLongEntry>() {
 
                 @Override
-                public long translate(final SparseLongArrayEntry element) {
+                public long translate(final SparseLongEntry element) {
 
                     return element.getValue();
                 }
@@ -545,19 +545,19 @@ public class Translators {
 
     /**
      * Returns a translator which extracts the long value as an object from
-     * {@link SparseLongArrayEntry} elements.
+     * {@link SparseLongEntry} elements.
      *
      * @param <E> the element type.
      * @return the translator.
      */
-    public static <E extends SparseLongArrayEntry> Translator<E, ?> longValueObject() {
+    public static <E extends SparseLongEntry> Translator<E, ?> longValueObject() {
 
         if (sLongValueObjectTranslator == null) {
 
-            sLongValueObjectTranslator = new Translator<SparseLongArrayEntry, Object>() {
+            sLongValueObjectTranslator = new Translator<SparseLongEntry, Object>() {
 
                 @Override
-                public Object translate(final SparseLongArrayEntry element) {
+                public Object translate(final SparseLongEntry element) {
 
                     return element.getValue();
                 }
@@ -43,6 +43,11 @@ public class BinarySearch {
 
         // Re-implementing binary search since it is not available in API level 8
 
+        if (count <= 0) {
+
+            return false;
+        }
+
         int parent = count;
 
         int current = parent >> 1;
@@ -75,4 +80,44 @@ public class BinarySearch {
 
         return true;
     }
+
+    /**
+     * Checks if the specified array contains the passed values in the first <code>count</code>
+     * elements.
+     * <p/>
+     * Note that the elements in the array must be sorted previously to call this method, otherwise
+     * unexpected results will be generated.
+     *
+     * @param array the array to analyze.
+     * @param count the max number of elements to analyze.
+     * @param value the value to search for.
+     * @return whether the value has been found in the first <code>count</code> elements.
+     */
+    public static boolean contains(final long[] array, final int count, final long value) {
+
+        int low = 0;
+        int high = count - 1;
+
+        while (low <= high) {
+
+            final int middle = (low + high) >>> 1;
+
+            final long match = array[middle];
+
+            if (match < value) {
+
+                low = middle + 1;
+
+            } else if (match > value) {
+
+                high = middle - 1;
+
+            } else {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
 }
\ No newline at end of file
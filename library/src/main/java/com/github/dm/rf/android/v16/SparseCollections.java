@@ -16,8 +16,12 @@ package com.github.dm.rf.android.v16;
 import android.annotation.TargetApi;
 import android.os.Build.VERSION_CODES;
 
+import com.github.dm.rf.android.entry.LongSparseObjectEntry;
 import com.github.dm.rf.android.internal.JellyBeanIterableFactory;
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection;
+import com.github.dm.rf.android.iterator.ElementSparseIterable;
 import com.github.dm.rf.android.iterator.LongSparseArrayIterable;
+import com.github.dm.rf.android.translator.ConflictResolver;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -44,6 +48,21 @@ public class SparseCollections extends com.github.dm.rf.android.v4.SparseCollect
 
     }
 
+    /**
+     * Wraps the specified {@link android.util.LongSparseArray} into a collection which can be
+     * safely shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @param <V>         the element value type.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static <V> ConcurrentSparseCollection<LongSparseArrayIterable<V>> concurrent(
+            final android.util.LongSparseArray<V> sparseArray) {
+
+        return JellyBeanIterableFactory.concurrent(sparseArray);
+    }
+
     /**
      * Wraps the specified {@link android.util.LongSparseArray} into an iterable.
      *
@@ -56,4 +75,47 @@ public class SparseCollections extends com.github.dm.rf.android.v4.SparseCollect
 
         return JellyBeanIterableFactory.create(sparseArray);
     }
+
+    /**
+     * Creates an iterable looping through the union of the specified
+     * {@link android.util.LongSparseArray} collections in key order, without copying their
+     * elements.
+     * <p/>
+     * When the same key is contained in more than one collection, the value of the first one is
+     * returned.
+     *
+     * @param sparseArrays the sparse arrays to merge.
+     * @param <V>          the element value type.
+     * @return the iterable instance.
+     */
+    public static <V> ElementSparseIterable<LongSparseObjectEntry<V>> merge(
+            final android.util.LongSparseArray<V>[] sparseArrays) {
+
+        return JellyBeanIterableFactory.merge(null, sparseArrays);
+    }
+
+    /**
+     * Creates an iterable looping through the union of the specified
+     * {@link android.util.LongSparseArray} collections in key order, without copying their
+     * elements.
+     * <p/>
+     * When the same key is contained in more than one collection, the values are passed to the
+     * specified resolver in the order the collections appear.
+     *
+     * @param resolver     the resolver of the values associated with the same key.
+     * @param sparseArrays the sparse arrays to merge.
+     * @param <V>          the element value type.
+     * @return the iterable instance.
+     */
+    public static <V> ElementSparseIterable<LongSparseObjectEntry<V>> merge(
+            final ConflictResolver<V> resolver,
+            final android.util.LongSparseArray<V>[] sparseArrays) {
+
+        if (resolver == null) {
+
+            throw new IllegalArgumentException();
+        }
+
+        return JellyBeanIterableFactory.merge(resolver, sparseArrays);
+    }
 }
\ No newline at end of file
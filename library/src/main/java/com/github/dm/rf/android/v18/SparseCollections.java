@@ -18,6 +18,7 @@ import android.os.Build.VERSION_CODES;
 import android.util.SparseLongArray;
 
 import com.github.dm.rf.android.internal.AndroidIterableFactory;
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection;
 import com.github.dm.rf.android.iterator.SparseLongArrayIterable;
 import com.github.dm.rf.android.iterator.SparseIterable;
 
@@ -152,6 +153,20 @@ public class SparseCollections extends com.github.dm.rf.android.v16.SparseCollec
 
     }
 
+    /**
+     * Wraps the specified {@link android.util.SparseLongArray} into a collection which can be
+     * safely shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static ConcurrentSparseCollection<SparseLongArrayIterable> concurrent(
+            final SparseLongArray sparseArray) {
+
+        return AndroidIterableFactory.concurrent(sparseArray);
+    }
+
     /**
      * Wraps the specified {@link android.util.SparseLongArray} into an iterable.
      *
@@ -20,13 +20,23 @@ import android.util.SparseArray;
 import android.util.SparseBooleanArray;
 import android.util.SparseIntArray;
 
+import com.github.dm.rf.android.collection.IntIntHashMap;
+import com.github.dm.rf.android.collection.LongLongHashMap;
+import com.github.dm.rf.android.entry.IntSparseIntEntry;
+import com.github.dm.rf.android.entry.IntSparseObjectEntry;
 import com.github.dm.rf.android.internal.CompatIterableFactory;
+import com.github.dm.rf.android.iterator.ConcurrentSparseCollection;
+import com.github.dm.rf.android.iterator.ElementSparseIterable;
+import com.github.dm.rf.android.iterator.IntIntHashMapIterable;
+import com.github.dm.rf.android.iterator.LongLongHashMapIterable;
 import com.github.dm.rf.android.iterator.SimpleArrayMapIterable;
 import com.github.dm.rf.android.iterator.SparseArrayCompatIterable;
 import com.github.dm.rf.android.iterator.SparseArrayIterable;
 import com.github.dm.rf.android.iterator.SparseBooleanArrayIterable;
 import com.github.dm.rf.android.iterator.SparseIntArrayIterable;
 import com.github.dm.rf.android.iterator.SupportLongSparseArrayIterable;
+import com.github.dm.rf.android.translator.ConflictResolver;
+import com.github.dm.rf.android.translator.IntConflictResolver;
 
 /**
  * This utility class creates objects wrapping an Android sparse collection, such as
@@ -44,6 +54,95 @@ public class SparseCollections {
 
     }
 
+    /**
+     * Wraps the specified {@link android.support.v4.util.SimpleArrayMap} into a collection which
+     * can be safely shared among several threads.
+     *
+     * @param arrayMap the array map to wrap.
+     * @param <K>      the element key type.
+     * @param <V>      the element value type.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static <K, V> ConcurrentSparseCollection<SimpleArrayMapIterable<K, V>> concurrent(
+            final SimpleArrayMap<K, V> arrayMap) {
+
+        return CompatIterableFactory.concurrent(arrayMap);
+    }
+
+    /**
+     * Wraps the specified {@link android.support.v4.util.LongSparseArray} into a collection which
+     * can be safely shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @param <V>         the element value type.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static <V> ConcurrentSparseCollection<SupportLongSparseArrayIterable<V>> concurrent(
+            final LongSparseArray<V> sparseArray) {
+
+        return CompatIterableFactory.concurrent(sparseArray);
+    }
+
+    /**
+     * Wraps the specified {@link android.util.SparseArray} into a collection which can be safely
+     * shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @param <V>         the element value type.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static <V> ConcurrentSparseCollection<SparseArrayIterable<V>> concurrent(
+            final SparseArray<V> sparseArray) {
+
+        return CompatIterableFactory.concurrent(sparseArray);
+    }
+
+    /**
+     * Wraps the specified {@link android.support.v4.util.SparseArrayCompat} into a collection which
+     * can be safely shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @param <V>         the element value type.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static <V> ConcurrentSparseCollection<SparseArrayCompatIterable<V>> concurrent(
+            final SparseArrayCompat<V> sparseArray) {
+
+        return CompatIterableFactory.concurrent(sparseArray);
+    }
+
+    /**
+     * Wraps the specified {@link android.util.SparseIntArray} into a collection which can be safely
+     * shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static ConcurrentSparseCollection<SparseIntArrayIterable> concurrent(
+            final SparseIntArray sparseArray) {
+
+        return CompatIterableFactory.concurrent(sparseArray);
+    }
+
+    /**
+     * Wraps the specified {@link android.util.SparseBooleanArray} into a collection which can be
+     * safely shared among several threads.
+     *
+     * @param sparseArray the sparse array to wrap.
+     * @return the concurrent collection instance.
+     * @see com.github.dm.rf.android.iterator.ConcurrentSparseCollection
+     */
+    public static ConcurrentSparseCollection<SparseBooleanArrayIterable> concurrent(
+            final SparseBooleanArray sparseArray) {
+
+        return CompatIterableFactory.concurrent(sparseArray);
+    }
+
     /**
      * Wraps the specified {@link android.support.v4.util.SimpleArrayMap} into an iterable.
      *
@@ -57,6 +156,36 @@ public class SparseCollections {
         return CompatIterableFactory.create(arrayMap);
     }
 
+    /**
+     * Wraps the specified {@link com.github.dm.rf.android.collection.IntIntHashMap} into an
+     * iterable.
+     * <p/>
+     * Note that the elements are iterated in insertion order, as modified by any removal, and not
+     * in key order.
+     *
+     * @param map the hash map to wrap.
+     * @return the iterable instance.
+     */
+    public static IntIntHashMapIterable iterate(final IntIntHashMap map) {
+
+        return CompatIterableFactory.create(map);
+    }
+
+    /**
+     * Wraps the specified {@link com.github.dm.rf.android.collection.LongLongHashMap} into an
+     * iterable.
+     * <p/>
+     * Note that the elements are iterated in insertion order, as modified by any removal, and not
+     * in key order.
+     *
+     * @param map the hash map to wrap.
+     * @return the iterable instance.
+     */
+    public static LongLongHashMapIterable iterate(final LongLongHashMap map) {
+
+        return CompatIterableFactory.create(map);
+    }
+
     /**
      * Wraps the specified {@link android.support.v4.util.LongSparseArray} into an iterable.
      *
@@ -115,4 +244,84 @@ public class SparseCollections {
 
         return CompatIterableFactory.create(sparseArray);
     }
+
+    /**
+     * Creates an iterable looping through the union of the specified
+     * {@link android.util.SparseArray} collections in key order, without copying their elements.
+     * <p/>
+     * When the same key is contained in more than one collection, the value of the first one is
+     * returned.
+     *
+     * @param sparseArrays the sparse arrays to merge.
+     * @param <V>          the element value type.
+     * @return the iterable instance.
+     */
+    public static <V> ElementSparseIterable<IntSparseObjectEntry<V>> merge(
+            final SparseArray<V>[] sparseArrays) {
+
+        return CompatIterableFactory.merge(null, sparseArrays);
+    }
+
+    /**
+     * Creates an iterable looping through the union of the specified
+     * {@link android.util.SparseArray} collections in key order, without copying their elements.
+     * <p/>
+     * When the same key is contained in more than one collection, the values are passed to the
+     * specified resolver in the order the collections appear.
+     *
+     * @param resolver     the resolver of the values associated with the same key.
+     * @param sparseArrays the sparse arrays to merge.
+     * @param <V>          the element value type.
+     * @return the iterable instance.
+     */
+    public static <V> ElementSparseIterable<IntSparseObjectEntry<V>> merge(
+            final ConflictResolver<V> resolver, final SparseArray<V>[] sparseArrays) {
+
+        if (resolver == null) {
+
+            throw new IllegalArgumentException();
+        }
+
+        return CompatIterableFactory.merge(resolver, sparseArrays);
+    }
+
+    /**
+     * Creates an iterable looping through the union of the specified
+     * {@link android.util.SparseIntArray} collections in key order, without copying their
+     * elements.
+     * <p/>
+     * When the same key is contained in more than one collection, the values are passed to the
+     * specified resolver in the order the collections appear.
+     *
+     * @param resolver     the resolver of the values associated with the same key.
+     * @param sparseArrays the sparse arrays to merge.
+     * @return the iterable instance.
+     */
+    public static ElementSparseIterable<IntSparseIntEntry> merge(
+            final IntConflictResolver resolver, final SparseIntArray... sparseArrays) {
+
+        if (resolver == null) {
+
+            throw new IllegalArgumentException();
+        }
+
+        return CompatIterableFactory.merge(resolver, sparseArrays);
+    }
+
+    /**
+     * Creates an iterable looping through the union of the specified
+     * {@link android.util.SparseIntArray} collections in key order, without copying their
+     * elements.
+     * <p/>
+     * When the same key is contained in more than one collection, the value of the first one is
+     * returned.
+     *
+     * @param sparseArrays the sparse arrays to merge.
+     * @return the iterable instance.
+     */
+    public static ElementSparseIterable<IntSparseIntEntry> merge(
+            final SparseIntArray... sparseArrays) {
+
+        return CompatIterableFactory.merge(null, sparseArrays);
+    }
 }
\ No newline at end of file